@@ -1,6 +1,7 @@
 plugins {
   id("org.springframework.boot") version "3.5.8"
   id("io.spring.dependency-management") version "1.1.7"
+  id("me.champeau.jmh") version "0.7.2"
   java
 }
 
@@ -93,3 +94,12 @@ dependencies {
 tasks.withType<Test> {
   useJUnitPlatform()
 }
+
+// Microbenchmarks (src/jmh): ./gradlew jmh
+jmh {
+  jmhVersion = "1.37"
+  fork = 1
+  warmupIterations = 3
+  iterations = 5
+  resultFormat = "JSON"
+}
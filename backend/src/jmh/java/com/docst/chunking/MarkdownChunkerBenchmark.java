@@ -0,0 +1,48 @@
+package com.docst.chunking;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 헤딩 하나로 이루어진 큰 문서(CHANGELOG 등)의 청킹 비용 벤치마크.
+ * 청킹이 섹션 크기에 선형이면 줄 수가 늘어난 만큼만 시간이 늘어난다 (줄당 시간이 일정).
+ * <pre>./gradlew jmh -Pjmh.includes=MarkdownChunkerBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MarkdownChunkerBenchmark {
+
+    /** 문서 줄 수 (빈 줄 제외) */
+    @Param({"1000", "5000", "20000"})
+    public int lines;
+
+    private MarkdownChunker chunker;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        chunker = new MarkdownChunker(new TokenCounter(), new ChunkingConfig());
+        content = changelog(lines);
+    }
+
+    @Benchmark
+    public List<ChunkResult> chunkSingleSection() {
+        return chunker.chunk(content);
+    }
+
+    /**
+     * 헤딩 하나 아래에 문단이 이어지는 변경 이력 문서를 만든다.
+     */
+    private static String changelog(int lines) {
+        StringBuilder builder = new StringBuilder("# Changelog\n\n");
+        for (int i = 0; i < lines; i++) {
+            builder.append("Release 1.").append(i / 20).append('.').append(i % 20)
+                    .append(": fixed sync of `docs/guide-").append(i)
+                    .append(".md` when the repository default branch changes (#").append(1000 + i).append(").\n\n");
+        }
+        return builder.toString();
+    }
+}
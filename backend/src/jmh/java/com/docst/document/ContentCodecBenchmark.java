@@ -0,0 +1,85 @@
+package com.docst.document;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문서 내용 읽기/쓰기 비용 벤치마크.
+ * 최신 버전 조회 시 추가되는 압축 해제 비용을 압축하지 않은 UTF-8 디코딩과 비교한다.
+ * <pre>./gradlew jmh -Pjmh.includes=ContentCodecBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentCodecBenchmark {
+
+    /** 문서 크기 (UTF-8 바이트, 근사값) */
+    @Param({"2048", "16384", "131072"})
+    public int size;
+
+    private String content;
+    private byte[] raw;
+    private ContentCodec.Encoded hot;
+    private ContentCodec.Encoded cold;
+
+    @Setup
+    public void setUp() {
+        content = markdown(size);
+        raw = content.getBytes(StandardCharsets.UTF_8);
+        hot = ContentCodec.encode(content, 6);
+        cold = ContentCodec.encode(content, 9);
+    }
+
+    @Benchmark
+    public String readRaw() {
+        return ContentCodec.decode(ContentCodec.RAW, raw, raw.length);
+    }
+
+    @Benchmark
+    public String readCompressed() {
+        return ContentCodec.decode(hot.codec(), hot.data(), hot.byteSize());
+    }
+
+    @Benchmark
+    public String readColdCompressed() {
+        return ContentCodec.decode(cold.codec(), cold.data(), cold.byteSize());
+    }
+
+    @Benchmark
+    public void write(Blackhole blackhole) {
+        blackhole.consume(ContentCodec.encode(content, 6));
+    }
+
+    @Benchmark
+    public void writeCold(Blackhole blackhole) {
+        blackhole.consume(ContentCodec.encode(content, 9));
+    }
+
+    /**
+     * 헤딩, 문단, 목록, 코드 블록, 표가 섞인 Markdown 문서를 만든다.
+     */
+    private static String markdown(int size) {
+        String[] words = {"동기화", "문서", "레포지토리", "임베딩", "검색", "설정", "프로젝트", "버전",
+                "sync", "document", "repository", "embedding", "search", "config", "the", "with", "for", "API"};
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder("# Benchmark Document\n\n");
+        int section = 0;
+        while (sb.length() < size) {
+            sb.append("## Section ").append(++section).append("\n\n");
+            for (int i = 0; i < 40; i++) {
+                sb.append(words[random.nextInt(words.length)]).append(i % 12 == 11 ? ".\n" : " ");
+            }
+            sb.append("\n\n- ").append(words[random.nextInt(words.length)])
+                    .append("\n- ").append(words[random.nextInt(words.length)]).append("\n\n");
+            sb.append("```java\n@Service\n@RequiredArgsConstructor\npublic class Service").append(section)
+                    .append(" {\n    private final Repository repository;\n}\n```\n\n");
+            sb.append("| 항목 | 설명 |\n|------|------|\n| ").append(words[random.nextInt(words.length)])
+                    .append(" | ").append(random.nextInt(1000)).append(" |\n\n");
+        }
+        return sb.toString();
+    }
+}
@@ -3,6 +3,7 @@ package com.docst.admin.api;
 import com.docst.admin.SystemConfig;
 import com.docst.admin.service.SystemConfigService;
 import com.docst.api.ApiModels;
+import com.docst.git.JGitCacheConfigurer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +22,7 @@ import java.util.List;
 public class AdminConfigController {
 
     private final SystemConfigService systemConfigService;
+    private final JGitCacheConfigurer jGitCacheConfigurer;
 
     /**
      * 모든 시스템 설정 조회.
@@ -77,6 +79,11 @@ public class AdminConfigController {
             systemConfigService.setConfig(key, request.configValue());
         }
 
+        // JGit 캐시 설정은 즉시 반영
+        if (JGitCacheConfigurer.isCacheKey(key)) {
+            jGitCacheConfigurer.apply();
+        }
+
         // 설명 업데이트 (있을 경우)
         if (request.description() != null) {
             systemConfigService.getConfig(key).ifPresent(config -> {
@@ -100,6 +107,7 @@ public class AdminConfigController {
     public ResponseEntity<String> refreshCache() {
         log.info("Refreshing system config cache");
         systemConfigService.refreshCache();
+        jGitCacheConfigurer.apply();
         return ResponseEntity.ok("Cache refreshed");
     }
 
@@ -69,6 +69,12 @@ public class SystemConfigService {
     public static final String RAG_HYBRID_VECTOR_WEIGHT = "rag.hybrid.vector-weight";
     public static final String RAG_HYBRID_GRAPH_WEIGHT = "rag.hybrid.graph-weight";
 
+    // Git (JGit WindowCache)
+    public static final String GIT_WINDOW_CACHE_PACKED_GIT_LIMIT_MB = "git.window-cache.packed-git-limit-mb";
+    public static final String GIT_WINDOW_CACHE_DELTA_BASE_CACHE_LIMIT_MB = "git.window-cache.delta-base-cache-limit-mb";
+    public static final String GIT_WINDOW_CACHE_STREAM_FILE_THRESHOLD_MB = "git.window-cache.stream-file-threshold-mb";
+    public static final String GIT_WINDOW_CACHE_PACKED_GIT_OPEN_FILES = "git.window-cache.packed-git-open-files";
+
     /**
      * 애플리케이션 시작 시 캐시 워밍업.
      */
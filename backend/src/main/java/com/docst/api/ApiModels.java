@@ -316,6 +316,8 @@ public final class ApiModels {
      * @param startedAt 시작 시각
      * @param finishedAt 종료 시각
      * @param createdAt 생성 시각
+     * @param reusedChunks 기존 벡터를 재사용한 청크 수
+     * @param embeddedChunks 임베딩 API로 보낸 청크 수
      */
     public record SyncJobResponse(
             UUID id,
@@ -326,7 +328,9 @@ public final class ApiModels {
             String errorMessage,
             Instant startedAt,
             Instant finishedAt,
-            Instant createdAt
+            Instant createdAt,
+            int reusedChunks,
+            int embeddedChunks
     ) {}
 
     /**
@@ -339,6 +343,40 @@ public final class ApiModels {
      */
     public record SyncRequest(String branch, SyncMode mode, String targetCommitSha, Boolean enableEmbedding) {}
 
+    /**
+     * 동기화 비용 추정 응답 (dry-run).
+     * FULL_SCAN을 실행했을 때 처리될 문서와 임베딩 비용을 아무것도 저장하지 않고 계산한 결과.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param branch 대상 브랜치
+     * @param commitSha 추정 기준 커밋 SHA
+     * @param totalDocuments 커밋의 문서 파일 수
+     * @param newDocuments 새로 추가될 문서 수
+     * @param changedDocuments 내용이 바뀌어 새 버전이 생성될 문서 수
+     * @param unchangedDocuments 변경 없어 건너뛸 문서 수
+     * @param deletedDocuments 커밋에 없어 삭제될 문서 수
+     * @param chunks 새로 생성될 청크 수
+     * @param reusableChunks 새 청크 중 같은 텍스트의 기존 벡터를 재사용할 청크 수 (임베딩 API로 보내지 않음)
+     * @param tokens 임베딩 API로 보낼 청크의 토큰 수 합계 (임베딩 입력 토큰)
+     * @param embeddingCalls 예상 임베딩 API 호출 수
+     * @param elapsedMillis 추정에 걸린 시간 (ms)
+     */
+    public record SyncEstimateResponse(
+            UUID repositoryId,
+            String branch,
+            String commitSha,
+            int totalDocuments,
+            int newDocuments,
+            int changedDocuments,
+            int unchangedDocuments,
+            int deletedDocuments,
+            long chunks,
+            long reusableChunks,
+            long tokens,
+            long embeddingCalls,
+            long elapsedMillis
+    ) {}
+
     /**
      * 동기화 모드.
      */
@@ -487,6 +525,27 @@ public final class ApiModels {
             boolean isDocument
     ) {}
 
+    /**
+     * 파일별 마지막 수정 커밋 응답.
+     *
+     * @param path 파일 경로
+     * @param sha 커밋 SHA (전체)
+     * @param shortSha 커밋 SHA (7자리)
+     * @param authorName 작성자 이름
+     * @param authorEmail 작성자 이메일
+     * @param committedAt 커밋 시각
+     * @param message 커밋 메시지
+     */
+    public record FileLastCommitResponse(
+            String path,
+            String sha,
+            String shortSha,
+            String authorName,
+            String authorEmail,
+            Instant committedAt,
+            String message
+    ) {}
+
     /**
      * 푸시되지 않은 커밋 목록 응답.
      *
@@ -691,6 +750,65 @@ public final class ApiModels {
             String errorMessage
     ) {}
 
+    /**
+     * 재임베딩 비용 추정 응답.
+     *
+     * @param projectId 프로젝트 ID
+     * @param totalVersions 재임베딩할 문서 버전 수
+     * @param chunks 재임베딩할 청크 수
+     * @param tokens 청크 토큰 수 합계 (임베딩 입력 토큰)
+     * @param embeddingCalls 예상 임베딩 API 호출 수
+     */
+    public record ReEmbeddingEstimateResponse(
+            UUID projectId,
+            long totalVersions,
+            long chunks,
+            long tokens,
+            long embeddingCalls
+    ) {}
+
+    /**
+     * 재청킹 트리거 응답.
+     *
+     * @param projectId 프로젝트 ID
+     * @param message 상태 메시지
+     * @param inProgress 진행 중 여부
+     */
+    public record ReChunkingTriggerResponse(
+            UUID projectId,
+            String message,
+            boolean inProgress
+    ) {}
+
+    /**
+     * 재청킹 상태 응답.
+     *
+     * @param projectId 프로젝트 ID
+     * @param inProgress 진행 중 여부
+     * @param totalVersions 총 문서 버전 수
+     * @param processedVersions 처리된 문서 버전 수
+     * @param progress 진행률 (0-100)
+     * @param changedVersions 청크가 바뀐 문서 버전 수
+     * @param keptChunks 유지된 청크 수 (기존 벡터 사용)
+     * @param insertedChunks 새로 생긴 청크 수 (임베딩 대기열에 추가)
+     * @param deletedChunks 삭제된 청크 수
+     * @param failedCount 실패한 문서 버전 수
+     * @param errorMessage 오류 메시지 (실패 시)
+     */
+    public record ReChunkingStatusResponse(
+            UUID projectId,
+            boolean inProgress,
+            int totalVersions,
+            int processedVersions,
+            double progress,
+            int changedVersions,
+            int keptChunks,
+            int insertedChunks,
+            int deletedChunks,
+            int failedCount,
+            String errorMessage
+    ) {}
+
     // ===== System Config (Phase 4-E, ADMIN only) =====
 
     /**
@@ -868,7 +986,11 @@ public final class ApiModels {
             List<String> excludePaths,
             boolean scanOpenApi,
             boolean scanSwagger,
-            List<String> customPatterns
+            List<String> customPatterns,
+            int syncParallelism,
+            int embeddingParallelism,
+            boolean recordIntermediateVersions,
+            int cloneDepth
     ) {
         public static RepositorySyncConfigResponse from(com.docst.gitrepo.RepositorySyncConfig config) {
             return new RepositorySyncConfigResponse(
@@ -877,7 +999,11 @@ public final class ApiModels {
                     config.getExcludePaths(),
                     config.scanOpenApi(),
                     config.scanSwagger(),
-                    config.getCustomPatterns()
+                    config.getCustomPatterns(),
+                    config.getSyncParallelism(),
+                    config.getEmbeddingParallelism(),
+                    config.isRecordIntermediateVersions(),
+                    config.getCloneDepth()
             );
         }
     }
@@ -891,7 +1017,11 @@ public final class ApiModels {
             List<String> excludePaths,
             Boolean scanOpenApi,
             Boolean scanSwagger,
-            List<String> customPatterns
+            List<String> customPatterns,
+            Integer syncParallelism,
+            Integer embeddingParallelism,
+            Boolean recordIntermediateVersions,
+            Integer cloneDepth
     ) {}
 
     /**
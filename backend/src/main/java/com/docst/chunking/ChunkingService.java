@@ -1,8 +1,14 @@
 package com.docst.chunking;
 
+import com.docst.document.ContentHash;
 import com.docst.document.DocChunk;
+import com.docst.document.repository.DocChunkBatchWriter;
+import com.docst.document.repository.DocChunkBatchWriter.ChunkRow;
 import com.docst.document.repository.DocChunkRepository;
+import com.docst.document.repository.DocChunkRepository.ChunkSource;
 import com.docst.document.DocumentVersion;
+import com.docst.document.service.ContentBlobService;
+import com.docst.git.DocumentAnalyzer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -10,7 +16,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 /**
  * 청킹 서비스.
@@ -21,8 +32,10 @@ import java.util.UUID;
 @Slf4j
 public class ChunkingService {
 
-    private final MarkdownChunker markdownChunker;
+    private final DocumentAnalyzer documentAnalyzer;
     private final DocChunkRepository docChunkRepository;
+    private final DocChunkBatchWriter docChunkBatchWriter;
+    private final ContentBlobService contentBlobService;
 
     /**
      * 문서 버전을 청킹하여 저장한다.
@@ -37,18 +50,40 @@ public class ChunkingService {
             throw new IllegalArgumentException("DocumentVersion cannot be null");
         }
 
-        String content = documentVersion.getContent();
+        String content = contentBlobService.getContent(documentVersion);
         if (content == null || content.isEmpty()) {
             log.debug("DocumentVersion {} has no content, skipping chunking", documentVersion.getId());
             return List.of();
         }
 
+        // Markdown 청킹 수행 (버전 저장 중 이미 분석한 내용이면 캐시된 결과 사용)
+        List<ChunkResult> chunkResults = documentAnalyzer.analyze(documentVersion.getContentHash(), content).chunks();
+        log.debug("Created {} chunks for DocumentVersion {}", chunkResults.size(), documentVersion.getId());
+
+        return saveChunks(documentVersion, chunkResults);
+    }
+
+    /**
+     * 미리 계산된 청킹 결과를 문서 버전의 청크로 저장한다.
+     * 동기화 파이프라인처럼 청킹을 다른 스레드에서 먼저 수행한 경우에 사용한다.
+     * 기존 청크가 있으면 삭제하고 새로 생성한다.
+     *
+     * @param documentVersion 문서 버전
+     * @param chunkResults    청킹 결과
+     * @return 저장된 청크 목록
+     */
+    @Transactional
+    public List<DocChunk> saveChunks(DocumentVersion documentVersion, List<ChunkResult> chunkResults) {
+        if (documentVersion == null) {
+            throw new IllegalArgumentException("DocumentVersion cannot be null");
+        }
+
         // 기존 청크 삭제
         deleteChunksByDocumentVersion(documentVersion.getId());
 
-        // Markdown 청킹 수행
-        List<ChunkResult> chunkResults = markdownChunker.chunk(content);
-        log.debug("Created {} chunks for DocumentVersion {}", chunkResults.size(), documentVersion.getId());
+        if (chunkResults == null || chunkResults.isEmpty()) {
+            return List.of();
+        }
 
         // DocChunk 엔티티 생성 및 저장
         List<DocChunk> chunks = new ArrayList<>();
@@ -71,6 +106,67 @@ public class ChunkingService {
         return savedChunks;
     }
 
+    /**
+     * 내용 해시별로 청크를 복사해 올 수 있는 문서 버전을 찾는다.
+     * 청킹 설정(docst.chunking.*)이 바뀌면 같은 내용이라도 청크가 달라지므로,
+     * 원본 버전의 청크가 이번 청킹 결과와 청크마다 내용 해시/헤딩 경로/토큰 수까지 같은 경우만 원본으로 사용한다.
+     *
+     * @param chunkResults 내용 해시 → 이번 청킹 결과
+     * @return 내용 해시 → 청크 원본 버전 (청크가 다르면 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, ChunkSource> findChunkSources(Map<String, List<ChunkResult>> chunkResults) {
+        if (chunkResults.isEmpty()) {
+            return Map.of();
+        }
+        List<ChunkSource> candidates = docChunkRepository.findChunkSources(chunkResults.keySet()).stream()
+            .filter(source -> source.getChunks() == chunkResults.get(source.getContentHash()).size())
+            .toList();
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, List<ChunkRow>> existing = docChunkBatchWriter.findChunks(
+            candidates.stream().map(ChunkSource::getVersionId).toList());
+        return candidates.stream()
+            .filter(source -> sameChunks(existing.getOrDefault(source.getVersionId(), List.of()),
+                chunkResults.get(source.getContentHash())))
+            .collect(Collectors.toMap(ChunkSource::getContentHash, source -> source));
+    }
+
+    /**
+     * 저장된 청크(인덱스 순)와 청킹 결과가 같은지 비교한다.
+     */
+    private static boolean sameChunks(List<ChunkRow> stored, List<ChunkResult> chunkResults) {
+        if (stored.size() != chunkResults.size()) {
+            return false;
+        }
+        for (int i = 0; i < stored.size(); i++) {
+            ChunkRow row = stored.get(i);
+            ChunkResult result = chunkResults.get(i);
+            if (row.tokenCount() != result.tokenCount()
+                || !Objects.equals(row.headingPath(), result.headingPath())
+                || !Objects.equals(row.contentHash(), ContentHash.hash(result.content()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 같은 내용을 가진 다른 문서 버전의 청크를 복사한다.
+     * 청크 텍스트와 토큰 수를 다시 계산하지 않으며, DB 안에서 한 번의 INSERT로 처리한다.
+     *
+     * @param source 청크 원본 버전
+     * @param targetVersionId 대상 문서 버전 ID (청크가 없어야 한다)
+     * @return 복사된 청크 수
+     */
+    @Transactional
+    public int copyChunks(ChunkSource source, UUID targetVersionId) {
+        int copied = docChunkRepository.copyChunks(source.getVersionId(), targetVersionId);
+        log.debug("Copied {} chunks from DocumentVersion {} to {}", copied, source.getVersionId(), targetVersionId);
+        return copied;
+    }
+
     /**
      * 문서 버전의 청크 목록을 조회한다.
      *
@@ -109,20 +205,43 @@ public class ChunkingService {
 
     /**
      * 여러 문서 버전을 일괄 청킹한다.
-     * 각 문서 버전마다 개별 트랜잭션으로 처리하여 일부 실패 시에도 나머지는 계속 진행한다.
+     * 청킹(CPU 작업)은 ForkJoin 공용 풀에서 병렬로 수행하고, 저장은 호출 스레드에서 버전 순서대로 수행한다.
+     * 각 문서 버전을 개별적으로 저장하여 일부 실패 시에도 나머지는 계속 진행한다.
      *
      * @param documentVersions 문서 버전 목록
      * @return 성공적으로 청킹된 문서 버전 ID 목록
      */
     public List<UUID> batchChunk(List<DocumentVersion> documentVersions) {
-        List<UUID> successIds = new ArrayList<>();
-
+        // 내용은 호출 스레드에서 읽고, 풀 스레드에는 문자열만 넘긴다
+        List<CompletableFuture<List<ChunkResult>>> chunking = new ArrayList<>(documentVersions.size());
         for (DocumentVersion version : documentVersions) {
+            CompletableFuture<List<ChunkResult>> future;
+            try {
+                String contentHash = version.getContentHash();
+                String content = contentBlobService.getContent(version);
+                future = content == null || content.isEmpty()
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.supplyAsync(() -> documentAnalyzer.analyze(contentHash, content).chunks());
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            chunking.add(future);
+        }
+
+        List<UUID> successIds = new ArrayList<>();
+        for (int i = 0; i < documentVersions.size(); i++) {
+            DocumentVersion version = documentVersions.get(i);
             try {
-                chunkAndSave(version);
+                List<ChunkResult> chunkResults = chunking.get(i).join();
+                if (chunkResults == null) {
+                    log.debug("DocumentVersion {} has no content, skipping chunking", version.getId());
+                } else {
+                    saveChunks(version, chunkResults);
+                }
                 successIds.add(version.getId());
             } catch (Exception e) {
-                log.error("Failed to chunk DocumentVersion {}: {}", version.getId(), e.getMessage(), e);
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.error("Failed to chunk DocumentVersion {}: {}", version.getId(), cause.getMessage(), cause);
                 // 개별 실패는 로그만 남기고 계속 진행
             }
         }
@@ -4,8 +4,6 @@ import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.ast.Document;
 import com.vladsch.flexmark.util.ast.Node;
 import com.vladsch.flexmark.ast.Heading;
-import com.vladsch.flexmark.ast.Paragraph;
-import com.vladsch.flexmark.util.sequence.BasedSequence;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -16,11 +14,17 @@ import java.util.Stack;
 /**
  * Markdown 청킹 처리기.
  * Flexmark AST를 활용하여 Markdown 문서를 헤딩 기반으로 청크로 분할한다.
+ * 최상위 블록마다 토큰 수를 한 번만 계산하고, 청크/병합/오버랩의 토큰 수는 블록 토큰 수와 구분자 토큰 수의 합으로 구한다.
+ * 커지는 청크 문자열을 매번 다시 토큰화하지 않으므로 섹션 크기에 선형 시간이 걸린다.
+ * 블록 경계에서 토큰이 합쳐지는 경우가 있어 합계는 청크 전체를 토큰화한 값과 몇 토큰 다를 수 있다.
  */
 @Component
 @RequiredArgsConstructor
 public class MarkdownChunker {
 
+    /** 청크 안의 블록 구분자 */
+    private static final String BLOCK_SEPARATOR = "\n\n";
+
     private final TokenCounter tokenCounter;
     private final ChunkingConfig config;
     private final Parser markdownParser = Parser.builder().build();
@@ -35,19 +39,29 @@ public class MarkdownChunker {
         if (markdown == null || markdown.isEmpty()) {
             return List.of();
         }
+        return chunkDocument(markdownParser.parse(markdown));
+    }
 
-        Document document = markdownParser.parse(markdown);
+    /**
+     * 이미 파싱된 Markdown AST를 청크로 분할한다.
+     * 문서를 한 번만 파싱하여 청킹 외의 분석에도 사용하는 경우에 사용한다 ({@link com.docst.git.DocumentAnalyzer}).
+     *
+     * @param document Flexmark 문서 노드
+     * @return 청크 목록
+     */
+    public List<ChunkResult> chunkDocument(Document document) {
         List<ChunkResult> chunks = new ArrayList<>();
         Stack<String> headingStack = new Stack<>();
-        StringBuilder currentChunk = new StringBuilder();
+        ChunkBuffer currentChunk = new ChunkBuffer(tokenCounter.countTokens(BLOCK_SEPARATOR));
         String currentHeadingPath = "";
 
         for (Node node : document.getChildren()) {
+            Block block = toBlock(node);
             if (node instanceof Heading heading) {
                 // 현재 청크가 있으면 저장
-                if (currentChunk.length() > 0) {
-                    processChunk(currentChunk.toString(), currentHeadingPath, chunks);
-                    currentChunk.setLength(0);
+                if (!currentChunk.isEmpty()) {
+                    processChunk(currentChunk, currentHeadingPath, chunks);
+                    currentChunk.clear();
                 }
 
                 // 헤딩 스택 업데이트
@@ -55,36 +69,41 @@ public class MarkdownChunker {
                 currentHeadingPath = buildHeadingPath(headingStack);
 
                 // 헤딩 텍스트 추가
-                currentChunk.append(node.getChars()).append("\n\n");
+                currentChunk.add(block);
 
             } else {
                 // 내용 추가
-                currentChunk.append(node.getChars()).append("\n\n");
+                currentChunk.add(block);
 
                 // 최대 토큰 수 초과 시 청크 분할
-                int tokenCount = tokenCounter.countTokens(currentChunk.toString());
-                if (tokenCount >= config.getMaxTokens()) {
-                    processChunk(currentChunk.toString(), currentHeadingPath, chunks);
-                    currentChunk.setLength(0);
-
-                    // 오버랩 적용: 마지막 청크의 끝부분을 다음 청크 시작에 포함
-                    if (!chunks.isEmpty()) {
-                        String lastChunk = chunks.get(chunks.size() - 1).content();
-                        String overlap = getOverlap(lastChunk);
-                        currentChunk.append(overlap);
-                    }
+                if (currentChunk.tokens() >= config.getMaxTokens()) {
+                    processChunk(currentChunk, currentHeadingPath, chunks);
+
+                    // 오버랩 적용: 저장한 청크의 마지막 블록들을 다음 청크 시작에 포함
+                    currentChunk.retainOverlap(config.getOverlapTokens());
                 }
             }
         }
 
         // 마지막 청크 처리
-        if (currentChunk.length() > 0) {
-            processChunk(currentChunk.toString(), currentHeadingPath, chunks);
+        if (!currentChunk.isEmpty()) {
+            processChunk(currentChunk, currentHeadingPath, chunks);
         }
 
         return chunks;
     }
 
+    /**
+     * AST 노드를 토큰 수가 계산된 블록으로 변환한다.
+     *
+     * @param node 최상위 노드
+     * @return 블록
+     */
+    private Block toBlock(Node node) {
+        String text = node.getChars().toString().stripTrailing();
+        return new Block(text, tokenCounter.countTokens(text));
+    }
+
     /**
      * 헤딩 스택을 업데이트한다.
      *
@@ -149,28 +168,27 @@ public class MarkdownChunker {
     /**
      * 청크를 처리하여 결과 리스트에 추가한다.
      *
-     * @param content 청크 내용
+     * @param buffer 청크 블록
      * @param headingPath 헤딩 경로
      * @param chunks 결과 리스트
      */
-    private void processChunk(String content, String headingPath, List<ChunkResult> chunks) {
-        String trimmedContent = content.trim();
+    private void processChunk(ChunkBuffer buffer, String headingPath, List<ChunkResult> chunks) {
+        String trimmedContent = buffer.content();
         if (trimmedContent.isEmpty()) {
             return;
         }
 
-        int tokenCount = tokenCounter.countTokens(trimmedContent);
+        int tokenCount = buffer.tokens();
 
         // 최소 토큰 수 미만이고 이전 청크가 있으면 병합 고려
         if (tokenCount < config.getMinTokens() && !chunks.isEmpty()) {
             ChunkResult lastChunk = chunks.get(chunks.size() - 1);
-            String mergedContent = lastChunk.content() + "\n\n" + trimmedContent;
-            int mergedTokenCount = tokenCounter.countTokens(mergedContent);
+            int mergedTokenCount = lastChunk.tokenCount() + buffer.separatorTokens() + tokenCount;
 
             // 병합해도 최대 토큰 수를 넘지 않으면 병합
             if (mergedTokenCount <= config.getMaxTokens()) {
                 chunks.set(chunks.size() - 1, new ChunkResult(
-                        mergedContent,
+                        lastChunk.content() + BLOCK_SEPARATOR + trimmedContent,
                         lastChunk.headingPath(),
                         mergedTokenCount
                 ));
@@ -183,32 +201,89 @@ public class MarkdownChunker {
     }
 
     /**
-     * 마지막 청크에서 오버랩할 텍스트를 추출한다.
+     * 토큰 수가 계산된 최상위 블록.
      *
-     * @param lastChunk 마지막 청크
-     * @return 오버랩 텍스트
+     * @param text 블록 텍스트 (끝 공백 제외)
+     * @param tokens 토큰 수
      */
-    private String getOverlap(String lastChunk) {
-        int overlapTokens = config.getOverlapTokens();
-        if (overlapTokens <= 0) {
-            return "";
+    private record Block(String text, int tokens) {}
+
+    /**
+     * 작성 중인 청크. 블록 목록과 토큰 수 합계를 유지한다.
+     */
+    private static final class ChunkBuffer {
+
+        private final int separatorTokens;
+        private final List<Block> blocks = new ArrayList<>();
+        private int tokens;
+
+        ChunkBuffer(int separatorTokens) {
+            this.separatorTokens = separatorTokens;
         }
 
-        // 마지막 문단들을 가져와서 오버랩 토큰 수에 맞춤
-        String[] paragraphs = lastChunk.split("\n\n");
-        StringBuilder overlap = new StringBuilder();
+        void add(Block block) {
+            if (!blocks.isEmpty()) {
+                tokens += separatorTokens;
+            }
+            blocks.add(block);
+            tokens += block.tokens();
+        }
 
-        for (int i = paragraphs.length - 1; i >= 0; i--) {
-            String candidate = paragraphs[i] + "\n\n" + overlap;
-            int tokenCount = tokenCounter.countTokens(candidate);
+        boolean isEmpty() {
+            return blocks.isEmpty();
+        }
 
-            if (tokenCount <= overlapTokens) {
-                overlap.insert(0, paragraphs[i] + "\n\n");
-            } else {
-                break;
+        int tokens() {
+            return tokens;
+        }
+
+        int separatorTokens() {
+            return separatorTokens;
+        }
+
+        void clear() {
+            blocks.clear();
+            tokens = 0;
+        }
+
+        /**
+         * 블록을 구분자로 이어 청크 내용을 만든다.
+         */
+        String content() {
+            int length = 0;
+            for (Block block : blocks) {
+                length += block.text().length() + BLOCK_SEPARATOR.length();
+            }
+            StringBuilder content = new StringBuilder(length);
+            for (Block block : blocks) {
+                if (!content.isEmpty()) {
+                    content.append(BLOCK_SEPARATOR);
+                }
+                content.append(block.text());
             }
+            return content.toString().trim();
         }
 
-        return overlap.toString().trim();
+        /**
+         * 오버랩 토큰 수 이내의 마지막 블록들만 남긴다.
+         * 블록 토큰 수를 다시 사용하므로 오버랩 후보를 토큰화하지 않는다.
+         *
+         * @param overlapTokens 오버랩 토큰 수 (0 이하이면 모두 제거)
+         */
+        void retainOverlap(int overlapTokens) {
+            int from = blocks.size();
+            int retained = 0;
+            while (from > 0) {
+                int candidate = retained + blocks.get(from - 1).tokens() + separatorTokens;
+                if (candidate > overlapTokens) {
+                    break;
+                }
+                retained = candidate;
+                from--;
+            }
+            List<Block> overlap = new ArrayList<>(blocks.subList(from, blocks.size()));
+            clear();
+            overlap.forEach(this::add);
+        }
     }
 }
@@ -0,0 +1,373 @@
+package com.docst.chunking;
+
+import com.docst.document.ContentHash;
+import com.docst.document.repository.DocChunkBatchWriter;
+import com.docst.document.repository.DocChunkBatchWriter.ChunkRow;
+import com.docst.document.repository.DocChunkRepository;
+import com.docst.document.repository.DocChunkRepository.ChunkedVersion;
+import com.docst.document.service.ContentBlobService;
+import com.docst.embedding.DocstEmbeddingService;
+import com.docst.embedding.EmbeddingOutboxService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 재청킹 서비스.
+ * 청킹 설정(docst.chunking의 최대/최소/오버랩 토큰 수)을 바꾼 뒤 프로젝트의 청크를 새 설정으로 다시 만든다.
+ * <ul>
+ *   <li>순회: 청크가 있는 문서 버전을 ID 순 키셋 페이지로 조회하므로 버전 엔티티나 내용을 한꺼번에 로드하지 않는다.</li>
+ *   <li>청킹: 페이지의 내용 해시마다 한 번씩 ForkJoin 풀에서 병렬로 청킹한다 (같은 내용의 버전은 결과 공유).</li>
+ *   <li>저장: 버전의 기존 청크와 새 청크를 청크 내용 해시로 맞춰 보고, 바뀐 부분만 페이지당 한 트랜잭션의 JDBC 배치로 기록한다.
+ *       내용이 같은 청크는 ID를 유지한 채 위치만 옮기므로 벡터를 그대로 사용한다.</li>
+ *   <li>임베딩: 새로 생긴 청크만 임베딩 아웃박스에 추가한다. 워커는 같은 텍스트의 벡터가 프로젝트에 있으면 복사하므로,
+ *       경계가 실제로 바뀐 청크만 임베딩 API로 보낸다. 사라진 청크의 벡터는 커밋 후 삭제한다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class ReChunkingService {
+
+    /** 키셋 페이지네이션 시작 ID (가장 작은 UUID) */
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final DocChunkRepository docChunkRepository;
+    private final DocChunkBatchWriter docChunkBatchWriter;
+    private final ContentBlobService contentBlobService;
+    private final MarkdownChunker markdownChunker;
+    private final EmbeddingOutboxService embeddingOutboxService;
+    private final DocstEmbeddingService embeddingService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int pageSize;
+    private final int parallelism;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("re-chunk").factory());
+
+    // 프로젝트별 재청킹 진행 상태 추적
+    private final ConcurrentHashMap<UUID, ReChunkingStatus> statusMap = new ConcurrentHashMap<>();
+
+    /**
+     * ReChunkingService 생성자.
+     *
+     * @param pageSize 한 번에 조회/저장할 문서 버전 수
+     * @param parallelism 청킹 스레드 수 (0 이하이면 CPU 코어 수)
+     */
+    public ReChunkingService(DocChunkRepository docChunkRepository,
+                             DocChunkBatchWriter docChunkBatchWriter,
+                             ContentBlobService contentBlobService,
+                             MarkdownChunker markdownChunker,
+                             EmbeddingOutboxService embeddingOutboxService,
+                             DocstEmbeddingService embeddingService,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${docst.chunking.rechunk.page-size:200}") int pageSize,
+                             @Value("${docst.chunking.rechunk.parallelism:0}") int parallelism) {
+        this.docChunkRepository = docChunkRepository;
+        this.docChunkBatchWriter = docChunkBatchWriter;
+        this.contentBlobService = contentBlobService;
+        this.markdownChunker = markdownChunker;
+        this.embeddingOutboxService = embeddingOutboxService;
+        this.embeddingService = embeddingService;
+        this.transactionTemplate = transactionTemplate;
+        this.pageSize = Math.max(1, pageSize);
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 프로젝트의 모든 청크를 현재 청킹 설정으로 다시 만든다 (비동기).
+     * 작업은 전용 스레드에서 하나씩 실행되며, 진행 상태는 호출 즉시 등록된다.
+     *
+     * @param projectId 프로젝트 ID
+     * @return 재청킹 작업 Future
+     */
+    public CompletableFuture<ReChunkingResult> reChunkProjectAsync(UUID projectId) {
+        ReChunkingStatus status = new ReChunkingStatus(projectId);
+        ReChunkingStatus current = statusMap.compute(projectId,
+                (id, existing) -> existing != null && existing.isInProgress() ? existing : status);
+        if (current != status) {
+            log.warn("Re-chunking already in progress for project {}", projectId);
+            return CompletableFuture.completedFuture(
+                new ReChunkingResult(false, 0, 0, 0, 0, "Re-chunking already in progress")
+            );
+        }
+        return CompletableFuture.supplyAsync(() -> reChunkProject(projectId, status), jobExecutor);
+    }
+
+    /**
+     * 프로젝트를 재청킹한다. 작업 스레드에서 실행된다.
+     */
+    private ReChunkingResult reChunkProject(UUID projectId, ReChunkingStatus status) {
+        log.info("Starting re-chunking for project {} (page size: {}, parallelism: {})",
+            projectId, pageSize, parallelism);
+
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            status.setTotalVersions((int) docChunkRepository.countChunkedVersions(projectId));
+
+            UUID afterId = FIRST_ID;
+            List<ChunkedVersion> page;
+            while (!(page = docChunkRepository.findChunkedVersions(projectId, afterId, pageSize)).isEmpty()) {
+                reChunkPage(page, pool, status);
+                afterId = page.get(page.size() - 1).getVersionId();
+            }
+
+            status.complete();
+            log.info("Re-chunking completed for project {}: {} versions changed, {} chunks kept, "
+                    + "{} inserted, {} deleted, {} failures",
+                projectId, status.getChangedVersions(), status.getKeptChunks(), status.getInsertedChunks(),
+                status.getDeletedChunks(), status.getFailedCount());
+
+            return new ReChunkingResult(true, status.getChangedVersions(),
+                status.getInsertedChunks(), status.getDeletedChunks(), status.getFailedCount(), null);
+
+        } catch (Exception e) {
+            log.error("Re-chunking failed for project {}: {}", projectId, e.getMessage(), e);
+            status.fail(e.getMessage());
+            return new ReChunkingResult(false, 0, 0, 0, 0, e.getMessage());
+        }
+    }
+
+    /**
+     * 문서 버전 한 페이지를 재청킹한다.
+     * 청킹은 풀에서 병렬로, 비교와 저장은 호출 스레드에서 수행한다.
+     */
+    private void reChunkPage(List<ChunkedVersion> page, ForkJoinPool pool, ReChunkingStatus status) {
+        Map<String, ForkJoinTask<List<HashedChunk>>> chunking = new HashMap<>();
+        for (ChunkedVersion version : page) {
+            chunking.computeIfAbsent(version.getContentHash(), hash -> pool.submit(() -> chunk(hash)));
+        }
+        Map<UUID, List<ChunkRow>> existing = docChunkBatchWriter.findChunks(
+            page.stream().map(ChunkedVersion::getVersionId).toList());
+
+        List<ChunkPlan> plans = new ArrayList<>();
+        for (ChunkedVersion version : page) {
+            try {
+                List<HashedChunk> chunks = chunking.get(version.getContentHash()).join();
+                List<ChunkRow> current = existing.getOrDefault(version.getVersionId(), List.of());
+                ChunkPlan plan = plan(version, chunks, current);
+                status.addKeptChunks(current.size() - plan.deleted().size());
+                if (!plan.isEmpty()) {
+                    plans.add(plan);
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to re-chunk DocumentVersion {}: {}", version.getVersionId(), e.getMessage());
+                status.incrementFailed();
+            }
+        }
+
+        if (!plans.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(tx -> write(plans));
+            } catch (RuntimeException e) {
+                log.error("Failed to write re-chunked page ({} versions, first: {}): {}",
+                    plans.size(), plans.get(0).versionId(), e.getMessage(), e);
+                status.addFailed(plans.size());
+                status.addProcessedVersions(page.size());
+                return;
+            }
+
+            List<UUID> deleted = plans.stream().flatMap(plan -> plan.deleted().stream()).toList();
+            try {
+                embeddingService.deleteEmbeddings(deleted);
+            } catch (Exception e) {
+                // 청크가 없는 벡터는 검색 결과에서 제외되므로 로그만 남긴다
+                log.warn("Failed to delete embeddings of {} re-chunked chunks: {}", deleted.size(), e.getMessage());
+            }
+            status.addChanges(plans.size(),
+                plans.stream().mapToInt(plan -> plan.inserted().size()).sum(), deleted.size());
+        }
+        status.addProcessedVersions(page.size());
+    }
+
+    /**
+     * 내용 해시의 문서 내용을 청킹하고 청크마다 내용 해시를 계산한다. 풀 스레드에서 실행된다.
+     */
+    private List<HashedChunk> chunk(String contentHash) {
+        // 분석 캐시에는 이전 설정의 청크가 남아 있을 수 있으므로 캐시를 거치지 않고 청킹한다
+        List<ChunkResult> results = markdownChunker.chunk(contentBlobService.getContent(contentHash));
+        List<HashedChunk> chunks = new ArrayList<>(results.size());
+        for (ChunkResult result : results) {
+            chunks.add(new HashedChunk(result, ContentHash.hash(result.content())));
+        }
+        return chunks;
+    }
+
+    /**
+     * 기존 청크와 새 청크를 청크 내용 해시로 맞춰 보고 바꿀 내용을 계산한다.
+     * 같은 텍스트의 기존 청크는 ID를 유지하고(필요하면 위치만 이동), 맞는 기존 청크가 없는 청크만 새로 추가한다.
+     */
+    private ChunkPlan plan(ChunkedVersion version, List<HashedChunk> chunks, List<ChunkRow> existing) {
+        Map<String, Deque<ChunkRow>> reusable = new HashMap<>();
+        for (ChunkRow row : existing) {
+            reusable.computeIfAbsent(row.contentHash(), hash -> new ArrayDeque<>()).addLast(row);
+        }
+
+        UUID versionId = version.getVersionId();
+        List<ChunkRow> moved = new ArrayList<>();
+        List<ChunkRow> inserted = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            HashedChunk chunk = chunks.get(i);
+            ChunkResult result = chunk.result();
+            Deque<ChunkRow> candidates = reusable.get(chunk.contentHash());
+            ChunkRow kept = candidates != null ? candidates.pollFirst() : null;
+
+            if (kept == null) {
+                inserted.add(new ChunkRow(UUID.randomUUID(), versionId, i, result.headingPath(),
+                    result.content(), chunk.contentHash(), result.tokenCount()));
+            } else if (kept.chunkIndex() != i || kept.tokenCount() != result.tokenCount()
+                    || !Objects.equals(kept.headingPath(), result.headingPath())) {
+                moved.add(new ChunkRow(kept.id(), versionId, i, result.headingPath(),
+                    null, chunk.contentHash(), result.tokenCount()));
+            }
+        }
+
+        List<UUID> deleted = reusable.values().stream()
+            .flatMap(Collection::stream)
+            .map(ChunkRow::id)
+            .toList();
+        return new ChunkPlan(versionId, version.getRepositoryId(), moved, inserted, deleted);
+    }
+
+    /**
+     * 페이지의 변경 내용을 기록한다. 트랜잭션 안에서 호출된다.
+     */
+    private void write(List<ChunkPlan> plans) {
+        // 삭제 → 이동 → 추가 순서로 (document_version_id, chunk_index) 유니크 제약을 지킨다
+        docChunkBatchWriter.deleteChunks(plans.stream().flatMap(plan -> plan.deleted().stream()).toList());
+        docChunkBatchWriter.moveChunks(plans.stream().flatMap(plan -> plan.moved().stream()).toList());
+        List<ChunkRow> inserted = plans.stream().flatMap(plan -> plan.inserted().stream()).toList();
+        docChunkBatchWriter.insertChunks(inserted);
+
+        // 새 청크만 임베딩 대기열에 추가 (유지된 청크는 기존 벡터를 그대로 사용)
+        Map<UUID, List<UUID>> insertedByRepository = plans.stream()
+            .filter(plan -> !plan.inserted().isEmpty())
+            .collect(Collectors.groupingBy(ChunkPlan::repositoryId,
+                Collectors.flatMapping(plan -> plan.inserted().stream().map(ChunkRow::id), Collectors.toList())));
+        insertedByRepository.forEach((repositoryId, chunkIds) ->
+            embeddingOutboxService.enqueueChunks(chunkIds, repositoryId));
+    }
+
+    /**
+     * 프로젝트의 재청킹 진행 상태를 조회한다.
+     *
+     * @param projectId 프로젝트 ID
+     * @return 진행 상태 (없으면 null)
+     */
+    public ReChunkingStatus getStatus(UUID projectId) {
+        return statusMap.get(projectId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    /**
+     * 내용 해시를 계산한 청킹 결과.
+     */
+    private record HashedChunk(ChunkResult result, String contentHash) {}
+
+    /**
+     * 문서 버전 하나의 청크 변경 내용.
+     */
+    private record ChunkPlan(
+        UUID versionId,
+        UUID repositoryId,
+        List<ChunkRow> moved,
+        List<ChunkRow> inserted,
+        List<UUID> deleted
+    ) {
+        boolean isEmpty() {
+            return moved.isEmpty() && inserted.isEmpty() && deleted.isEmpty();
+        }
+    }
+
+    /**
+     * 재청킹 결과.
+     */
+    public record ReChunkingResult(
+        boolean success,
+        int changedVersions,
+        int insertedChunks,
+        int deletedChunks,
+        int failedCount,
+        String errorMessage
+    ) {}
+
+    /**
+     * 재청킹 진행 상태.
+     */
+    public static class ReChunkingStatus {
+        private final UUID projectId;
+        private volatile boolean inProgress = true;
+        private volatile int totalVersions = 0;
+        private final AtomicInteger processedVersions = new AtomicInteger(0);
+        private final AtomicInteger changedVersions = new AtomicInteger(0);
+        private final AtomicInteger keptChunks = new AtomicInteger(0);
+        private final AtomicInteger insertedChunks = new AtomicInteger(0);
+        private final AtomicInteger deletedChunks = new AtomicInteger(0);
+        private final AtomicInteger failedCount = new AtomicInteger(0);
+        private volatile String errorMessage;
+
+        public ReChunkingStatus(UUID projectId) {
+            this.projectId = projectId;
+        }
+
+        public UUID getProjectId() { return projectId; }
+        public boolean isInProgress() { return inProgress; }
+        public int getTotalVersions() { return totalVersions; }
+        public int getProcessedVersions() { return processedVersions.get(); }
+        public int getChangedVersions() { return changedVersions.get(); }
+        public int getKeptChunks() { return keptChunks.get(); }
+        public int getInsertedChunks() { return insertedChunks.get(); }
+        public int getDeletedChunks() { return deletedChunks.get(); }
+        public int getFailedCount() { return failedCount.get(); }
+        public String getErrorMessage() { return errorMessage; }
+
+        public double getProgress() {
+            if (totalVersions == 0) return 0;
+            return Math.min(100, (double) processedVersions.get() / totalVersions * 100);
+        }
+
+        void setTotalVersions(int count) { this.totalVersions = count; }
+        void addProcessedVersions(int count) { processedVersions.addAndGet(count); }
+        void addKeptChunks(int count) { keptChunks.addAndGet(count); }
+        void incrementFailed() { failedCount.incrementAndGet(); }
+        void addFailed(int count) { failedCount.addAndGet(count); }
+
+        void addChanges(int versions, int inserted, int deleted) {
+            changedVersions.addAndGet(versions);
+            insertedChunks.addAndGet(inserted);
+            deletedChunks.addAndGet(deleted);
+        }
+
+        void complete() {
+            this.inProgress = false;
+        }
+
+        void fail(String error) {
+            this.errorMessage = error;
+            this.inProgress = false;
+        }
+    }
+}
@@ -2,10 +2,14 @@ package com.docst.chunking;
 
 import com.knuddels.jtokkit.Encodings;
 import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingResult;
 import com.knuddels.jtokkit.api.EncodingRegistry;
 import com.knuddels.jtokkit.api.EncodingType;
+import com.knuddels.jtokkit.api.IntArrayList;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * 토큰 카운터.
  * tiktoken 호환 라이브러리인 jtokkit을 사용하여 텍스트의 토큰 수를 계산한다.
@@ -47,39 +51,41 @@ public class TokenCounter {
 
     /**
      * 텍스트를 최대 토큰 수로 잘라낸다.
+     * 최대 토큰 수까지만 인코딩하고 그 토큰을 디코딩하므로, 접두사를 반복해서 토큰화하지 않는다.
      *
      * @param text 텍스트
      * @param maxTokens 최대 토큰 수
-     * @return 잘라낸 텍스트
+     * @return 잘라낸 텍스트 (잘리지 않으면 원본 그대로)
      */
     public String truncate(String text, int maxTokens) {
         if (text == null || text.isEmpty()) {
             return text;
         }
-
-        int tokenCount = countTokens(text);
-        if (tokenCount <= maxTokens) {
-            return text;
+        if (maxTokens <= 0) {
+            return "";
         }
+        EncodingResult result = encoding.encode(text, maxTokens);
+        return result.isTruncated() ? decodeComplete(result.getTokens()) : text;
+    }
 
-        // 이진 탐색으로 적절한 길이 찾기
-        int left = 0;
-        int right = text.length();
-        String result = text;
-
-        while (left < right) {
-            int mid = (left + right + 1) / 2;
-            String substring = text.substring(0, mid);
-            int tokens = countTokens(substring);
-
-            if (tokens <= maxTokens) {
-                result = substring;
-                left = mid;
-            } else {
-                right = mid - 1;
+    /**
+     * 토큰을 디코딩하되 끝에서 잘린 UTF-8 문자는 버린다.
+     */
+    private String decodeComplete(IntArrayList tokens) {
+        byte[] bytes = encoding.decodeBytes(tokens);
+        int end = bytes.length;
+        // 마지막 문자의 시작 바이트를 찾아 필요한 바이트 수보다 적으면 제외한다
+        int lead = end - 1;
+        while (lead >= 0 && lead > end - 4 && (bytes[lead] & 0xC0) == 0x80) {
+            lead--;
+        }
+        if (lead >= 0) {
+            int b = bytes[lead] & 0xFF;
+            int needed = b < 0x80 ? 1 : b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : b >= 0xC0 ? 2 : 1;
+            if (end - lead < needed) {
+                end = lead;
             }
         }
-
-        return result;
+        return new String(bytes, 0, end, StandardCharsets.UTF_8);
     }
 }
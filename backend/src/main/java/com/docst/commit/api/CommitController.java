@@ -3,8 +3,10 @@ package com.docst.commit.api;
 import com.docst.api.ApiModels.ChangedFileResponse;
 import com.docst.api.ApiModels.CommitDetailResponse;
 import com.docst.api.ApiModels.CommitResponse;
+import com.docst.api.ApiModels.FileLastCommitResponse;
 import com.docst.commit.service.CommitService;
 import com.docst.git.GitCommitWalker;
+import com.docst.git.GitService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -128,6 +130,25 @@ public class CommitController {
                 .toList();
     }
 
+    /**
+     * 문서 파일별 마지막 수정 커밋을 조회한다.
+     *
+     * @param repoId 레포지토리 ID
+     * @param branch 브랜치명 (선택, null이면 기본 브랜치)
+     * @return 파일별 마지막 수정 커밋 목록 (경로순)
+     */
+    @Operation(summary = "문서별 마지막 수정 커밋 조회", description = "브랜치 최신 커밋 기준으로 각 문서 파일을 마지막으로 수정한 커밋을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @GetMapping("/last-modified")
+    public List<FileLastCommitResponse> getLastModified(
+            @Parameter(description = "레포지토리 ID") @PathVariable UUID repoId,
+            @Parameter(description = "브랜치명 (선택, null이면 기본 브랜치)") @RequestParam(required = false) String branch
+    ) {
+        return commitService.getLastCommitsForDocuments(repoId, branch).entrySet().stream()
+                .map(entry -> toFileLastCommitResponse(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
     /**
      * CommitInfo를 CommitResponse로 변환한다.
      */
@@ -146,6 +167,21 @@ public class CommitController {
         );
     }
 
+    /**
+     * 경로와 CommitInfo를 FileLastCommitResponse로 변환한다.
+     */
+    private FileLastCommitResponse toFileLastCommitResponse(String path, GitService.CommitInfo commitInfo) {
+        return new FileLastCommitResponse(
+                path,
+                commitInfo.sha(),
+                commitInfo.sha().substring(0, Math.min(7, commitInfo.sha().length())),
+                commitInfo.authorName(),
+                commitInfo.authorEmail(),
+                commitInfo.committedAt(),
+                commitInfo.message()
+        );
+    }
+
     /**
      * ChangedFile을 ChangedFileResponse로 변환한다.
      */
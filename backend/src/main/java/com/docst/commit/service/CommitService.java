@@ -5,6 +5,7 @@ import com.docst.git.GitCommitWalker;
 import com.docst.git.GitFileScanner;
 import com.docst.git.GitService;
 import com.docst.gitrepo.repository.RepositoryRepository;
+import com.docst.gitrepo.service.LastCommitIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.Git;
@@ -13,6 +14,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 /**
@@ -29,6 +32,7 @@ public class CommitService {
     private final GitService gitService;
     private final GitCommitWalker gitCommitWalker;
     private final GitFileScanner gitFileScanner;
+    private final LastCommitIndexService lastCommitIndexService;
 
     /**
      * 커밋 목록을 조회한다.
@@ -171,6 +175,40 @@ public class CommitService {
         }
     }
 
+    /**
+     * 브랜치 최신 커밋 기준으로 문서 파일별 마지막 수정 커밋을 조회한다.
+     * 마지막 수정 커밋 인덱스를 사용하므로 동기화 후에는 히스토리를 다시 순회하지 않는다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param branch 브랜치명 (null이면 기본 브랜치 사용)
+     * @return 경로 → 마지막 수정 커밋 (경로순 정렬)
+     * @throws IllegalArgumentException 레포지토리가 존재하지 않을 경우
+     * @throws RuntimeException Git 작업 실패 시
+     */
+    @Transactional
+    public Map<String, GitService.CommitInfo> getLastCommitsForDocuments(UUID repositoryId, String branch) {
+        Repository repo = repositoryRepository.findById(repositoryId)
+                .orElseThrow(() -> new IllegalArgumentException("Repository not found: " + repositoryId));
+
+        String targetBranch = branch != null ? branch : repo.getDefaultBranch();
+
+        try (Git git = gitService.cloneOrOpen(repo)) {
+            String latestCommit = gitService.getLatestCommitSha(git, targetBranch);
+            List<String> documentPaths = gitFileScanner.scanDocumentFiles(git, latestCommit, repo.getSyncConfig());
+
+            return new TreeMap<>(lastCommitIndexService.resolve(git, repositoryId, latestCommit, documentPaths));
+
+        } catch (IOException e) {
+            log.error("Failed to get last commits for repository {}: {}",
+                    repo.getFullName(), e.getMessage());
+            throw new RuntimeException("Failed to get last commits: " + e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("Unexpected error getting last commits for repository {}: {}",
+                    repo.getFullName(), e.getMessage());
+            throw new RuntimeException("Failed to get last commits: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 변경된 파일이 문서 파일인지 확인한다.
      *
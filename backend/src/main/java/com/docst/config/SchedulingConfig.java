@@ -0,0 +1,15 @@
+package com.docst.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정.
+ * Git 레포지토리 풀 정리 등 주기 작업을 위해 @Scheduled를 활성화한다.
+ * 스케줄러 스레드 수는 spring.task.scheduling.pool.size로 정한다. 스케줄러 스레드는 짧은 tick만 실행하고,
+ * 오래 걸리는 작업(임베딩 아웃박스 비우기, blob 재압축/정리)은 각 서비스의 전용 스레드로 넘긴다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
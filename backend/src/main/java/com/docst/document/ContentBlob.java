@@ -0,0 +1,60 @@
+package com.docst.document;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * 문서 내용 blob 엔티티.
+ * 내용 해시를 키로 문서 내용을 한 번만 저장한다. 같은 내용의 문서 버전은 모두 같은 blob을 참조한다.
+ * 내용은 {@link ContentCodec}으로 압축해 저장한다. 델타 blob은 기준 blob 체인이 있어야 복원되므로
+ * 내용은 {@link com.docst.document.service.ContentBlobService#getContent(String)}로 읽는다.
+ * 저장은 {@link com.docst.document.repository.ContentBlobRepository#insertIfAbsent}로만 하며,
+ * 이후에는 압축 레벨 변경 외에는 변경되지 않는다.
+ */
+@Entity
+@Table(name = "dm_blob")
+@Immutable
+@BatchSize(size = 64)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContentBlob {
+
+    /** 내용 해시 (UTF-8 SHA-256, base64url) */
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /** 압축된 내용 */
+    @Column(nullable = false)
+    private byte[] data;
+
+    /** 코덱 번호 ({@link ContentCodec}) */
+    @Column(nullable = false)
+    private short codec;
+
+    /** 압축 레벨 (0이면 아직 압축하지 않음) */
+    @Column(name = "compression_level", nullable = false)
+    private short compressionLevel;
+
+    /** 델타의 기준 blob 해시 (전체 내용이면 null) */
+    @Column(name = "base_hash", length = 64)
+    private String baseHash;
+
+    /** 이 blob을 기준으로 복원되는 델타 체인의 최대 길이 (전체 내용인 blob만 의미 있음) */
+    @Column(name = "delta_run", nullable = false)
+    private short deltaRun;
+
+    /** 내용 크기 (UTF-8 바이트) */
+    @Column(name = "byte_size", nullable = false)
+    private int byteSize;
+
+    /** 최초 저장 시각 */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
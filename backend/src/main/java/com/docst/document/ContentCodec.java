@@ -0,0 +1,322 @@
+package com.docst.document;
+
+import org.eclipse.jgit.diff.DiffAlgorithm;
+import org.eclipse.jgit.diff.Edit;
+import org.eclipse.jgit.diff.EditList;
+import org.eclipse.jgit.diff.RawText;
+import org.eclipse.jgit.diff.RawTextComparator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 문서 내용 압축 코덱.
+ * 내용을 Markdown 사전(preset dictionary)을 사용한 Deflate로 압축한다.
+ * 짧은 문서도 사전 덕분에 헤딩/코드 블록/표 같은 반복 구문을 처음부터 참조할 수 있다.
+ * <ul>
+ *   <li>{@link #RAW}: 압축하지 않은 UTF-8 (압축해도 작아지지 않는 내용, 마이그레이션 직후의 기존 내용)</li>
+ *   <li>{@link #DEFLATE_MARKDOWN_V1}: Deflate + blob/markdown-v1.dict 사전</li>
+ *   <li>{@link #DELTA}: 기준 내용(다음 버전)에 대한 줄 단위 델타 (복사/삽입 연산을 같은 사전으로 Deflate).
+ *       이 클래스는 델타를 만들고 적용만 하며, 기준 내용을 찾는 것은 호출자가 담당한다.</li>
+ * </ul>
+ * 저장된 데이터는 사전에 의존하므로 사전 파일은 변경하지 않는다. 사전을 바꾸려면 새 코덱 번호를 추가한다.
+ * Deflate는 압축 레벨과 무관하게 압축 해제 속도가 같으므로, 오래된 내용을 더 높은 레벨로 다시 압축해도 읽기 비용은 늘지 않는다.
+ */
+public final class ContentCodec {
+
+    /** 압축하지 않은 UTF-8 */
+    public static final int RAW = 0;
+
+    /** Deflate + Markdown 사전 v1 */
+    public static final int DEFLATE_MARKDOWN_V1 = 1;
+
+    /** 기준 내용에 대한 델타 */
+    public static final int DELTA = 2;
+
+    private static final byte OP_COPY = 1;
+    private static final byte OP_INSERT = 2;
+
+    private static final byte[] MARKDOWN_V1_DICTIONARY = loadDictionary("/blob/markdown-v1.dict");
+
+    private ContentCodec() {
+    }
+
+    /**
+     * 내용을 압축한다. 압축해도 작아지지 않으면 {@link #RAW}로 저장한다.
+     *
+     * @param content 문서 내용
+     * @param level Deflate 압축 레벨 (1~9)
+     * @return 압축 결과
+     */
+    public static Encoded encode(String content, int level) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        byte[] deflated = deflate(raw, level, raw.length);
+        if (deflated == null) {
+            return new Encoded(raw, RAW, level, raw.length);
+        }
+        return new Encoded(deflated, DEFLATE_MARKDOWN_V1, level, raw.length);
+    }
+
+    /**
+     * 기준 내용에 대한 델타로 내용을 압축한다.
+     * 줄 단위 diff(histogram)로 기준 내용의 구간 복사와 새 바이트 삽입 연산을 만든다.
+     *
+     * @param base 기준 내용
+     * @param content 압축할 내용
+     * @param level Deflate 압축 레벨 (1~9)
+     * @return 압축 결과 (델타가 원본보다 작지 않으면 null)
+     */
+    public static Encoded encodeDelta(String base, String content, int level) {
+        byte[] baseBytes = base.getBytes(StandardCharsets.UTF_8);
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        RawText baseText = new RawText(baseBytes);
+        RawText text = new RawText(raw);
+        EditList edits = DiffAlgorithm.getAlgorithm(DiffAlgorithm.SupportedAlgorithm.HISTOGRAM)
+                .diff(RawTextComparator.DEFAULT, baseText, text);
+
+        int[] baseLines = lineStarts(baseBytes);
+        int[] lines = lineStarts(raw);
+        ByteArrayOutputStream ops = new ByteArrayOutputStream();
+        int baseLine = 0;
+        for (Edit edit : edits) {
+            writeCopy(ops, baseLines, baseLine, edit.getBeginA());
+            writeInsert(ops, raw, lines, edit.getBeginB(), edit.getEndB());
+            baseLine = edit.getEndA();
+        }
+        writeCopy(ops, baseLines, baseLine, baseText.size());
+
+        byte[] deflated = deflate(ops.toByteArray(), level, raw.length);
+        return deflated != null ? new Encoded(deflated, DELTA, level, raw.length) : null;
+    }
+
+    /**
+     * 델타를 기준 내용에 적용해 내용을 복원한다.
+     *
+     * @param base 기준 내용
+     * @param data {@link #encodeDelta}로 압축한 델타
+     * @param byteSize 원본 UTF-8 크기
+     * @return 문서 내용
+     * @throws IllegalStateException 델타가 손상되었거나 기준 내용과 맞지 않는 경우
+     */
+    public static String applyDelta(String base, byte[] data, int byteSize) {
+        byte[] baseBytes = base.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer ops = ByteBuffer.wrap(inflate(data));
+        byte[] out = new byte[byteSize];
+        int position = 0;
+        try {
+            while (ops.hasRemaining()) {
+                byte op = ops.get();
+                if (op == OP_COPY) {
+                    int offset = readVarint(ops);
+                    int length = readVarint(ops);
+                    System.arraycopy(baseBytes, offset, out, position, length);
+                    position += length;
+                } else if (op == OP_INSERT) {
+                    int length = readVarint(ops);
+                    ops.get(out, position, length);
+                    position += length;
+                } else {
+                    throw new IllegalStateException("Corrupted delta: unknown op " + op);
+                }
+            }
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IllegalStateException("Corrupted delta or wrong base", e);
+        }
+        if (position != byteSize) {
+            throw new IllegalStateException("Corrupted delta: expected " + byteSize + " bytes, got " + position);
+        }
+        return new String(out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 저장된 데이터를 문서 내용으로 복원한다.
+     *
+     * @param codec 코덱 번호
+     * @param data 저장된 데이터
+     * @param byteSize 원본 UTF-8 크기
+     * @return 문서 내용
+     * @throws IllegalStateException 알 수 없는 코덱이거나 데이터가 손상된 경우
+     */
+    public static String decode(int codec, byte[] data, int byteSize) {
+        return switch (codec) {
+            case RAW -> new String(data, StandardCharsets.UTF_8);
+            case DEFLATE_MARKDOWN_V1 -> new String(inflate(data, byteSize), StandardCharsets.UTF_8);
+            case DELTA -> throw new IllegalStateException("Delta content needs its base: use applyDelta");
+            default -> throw new IllegalStateException("Unknown content codec: " + codec);
+        };
+    }
+
+    /**
+     * 사전을 사용해 압축한다.
+     *
+     * @return 압축 결과 (maxLength 이상이면 null)
+     */
+    private static byte[] deflate(byte[] input, int level, int maxLength) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setDictionary(MARKDOWN_V1_DICTIONARY);
+            deflater.setInput(input);
+            deflater.finish();
+            // maxLength 크기의 버퍼에 다 들어가지 않으면 압축할 이유가 없다
+            byte[] buffer = new byte[maxLength];
+            int length = deflater.deflate(buffer);
+            if (!deflater.finished() || length >= maxLength) {
+                return null;
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 크기를 모르는 데이터를 압축 해제한다.
+     */
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                if (inflater.needsDictionary()) {
+                    inflater.setDictionary(MARKDOWN_V1_DICTIONARY);
+                    continue;
+                }
+                int length = inflater.inflate(buffer);
+                if (length == 0 && inflater.needsInput()) {
+                    throw new IllegalStateException("Corrupted content: truncated data");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 원본 크기를 아는 데이터를 압축 해제한다. 결과 버퍼를 한 번만 할당한다.
+     */
+    private static byte[] inflate(byte[] data, int byteSize) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] out = new byte[byteSize];
+            int offset = 0;
+            while (!inflater.finished()) {
+                if (inflater.needsDictionary()) {
+                    inflater.setDictionary(MARKDOWN_V1_DICTIONARY);
+                    continue;
+                }
+                int length = inflater.inflate(out, offset, out.length - offset);
+                if (length == 0 && !inflater.finished() && !inflater.needsDictionary()) {
+                    throw new IllegalStateException("Corrupted content: size does not match " + byteSize + " bytes");
+                }
+                offset += length;
+            }
+            if (offset != byteSize) {
+                throw new IllegalStateException("Corrupted content: expected " + byteSize + " bytes, got " + offset);
+            }
+            return out;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 줄 시작 위치. RawText와 같은 기준으로 줄을 나누며, 마지막 원소는 전체 길이다.
+     */
+    private static int[] lineStarts(byte[] content) {
+        int[] starts = new int[16];
+        int count = 0;
+        if (content.length > 0) {
+            starts[count++] = 0;
+        }
+        for (int i = 0; i < content.length - 1; i++) {
+            if (content[i] == '\n') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+        starts = Arrays.copyOf(starts, count + 1);
+        starts[count] = content.length;
+        return starts;
+    }
+
+    private static void writeCopy(ByteArrayOutputStream ops, int[] baseLines, int fromLine, int toLine) {
+        int offset = baseLines[fromLine];
+        int length = baseLines[toLine] - offset;
+        if (length > 0) {
+            ops.write(OP_COPY);
+            writeVarint(ops, offset);
+            writeVarint(ops, length);
+        }
+    }
+
+    private static void writeInsert(ByteArrayOutputStream ops, byte[] content, int[] lines, int fromLine, int toLine) {
+        int offset = lines[fromLine];
+        int length = lines[toLine] - offset;
+        if (length > 0) {
+            ops.write(OP_INSERT);
+            writeVarint(ops, length);
+            ops.write(content, offset, length);
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Corrupted delta: varint too long");
+    }
+
+    private static byte[] loadDictionary(String resource) {
+        try (InputStream in = ContentCodec.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Content dictionary not found: " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 압축 결과.
+     *
+     * @param data 저장할 데이터
+     * @param codec 코덱 번호
+     * @param level 사용한 압축 레벨 (RAW로 저장된 경우에도 시도한 레벨)
+     * @param byteSize 원본 UTF-8 크기
+     */
+    public record Encoded(byte[] data, int codec, int level, int byteSize) {}
+}
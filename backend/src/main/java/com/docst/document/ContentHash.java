@@ -0,0 +1,33 @@
+package com.docst.document;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 내용 해시.
+ * 문서 내용 blob(dm_blob)의 키와 청크 내용 해시에 같은 해시를 사용한다.
+ */
+public final class ContentHash {
+
+    private ContentHash() {
+    }
+
+    /**
+     * 내용의 SHA-256 해시를 계산한다.
+     *
+     * @param content 내용
+     * @return base64url 해시 (내용이 null이면 null)
+     */
+    public static String hash(String content) {
+        if (content == null) return null;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+}
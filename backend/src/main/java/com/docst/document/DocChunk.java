@@ -43,6 +43,10 @@ public class DocChunk {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    /** 청크 내용 해시 (같은 텍스트의 청크끼리 임베딩 재사용) */
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
     /** 토큰 수 */
     @Column(name = "token_count", nullable = false)
     private int tokenCount;
@@ -63,6 +67,7 @@ public class DocChunk {
         this.documentVersion = documentVersion;
         this.chunkIndex = chunkIndex;
         this.content = content;
+        this.contentHash = ContentHash.hash(content);
         this.tokenCount = tokenCount;
         this.createdAt = Instant.now();
     }
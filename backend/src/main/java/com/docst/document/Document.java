@@ -52,6 +52,11 @@ public class Document {
     @Column(name = "latest_commit_sha")
     private String latestCommitSha;
 
+    /** 최신 동기화 내용의 Git blob ID (알 수 없으면 null, 변경 감지용) */
+    @Setter
+    @Column(name = "latest_blob_id")
+    private String latestBlobId;
+
     /** 삭제 여부 (소프트 삭제) */
     @Setter
     @Column(nullable = false)
@@ -91,6 +96,7 @@ public class Document {
         versions.add(version);
         version.setDocument(this);
         this.latestCommitSha = version.getCommitSha();
+        this.latestBlobId = version.getBlobId();
     }
 
     /** 문서 타입 */
@@ -11,7 +11,8 @@ import java.util.UUID;
 
 /**
  * 문서 버전 엔티티.
- * 특정 Git 커밋 시점의 문서 내용을 저장한다.
+ * 특정 Git 커밋 시점의 문서를 나타낸다. 내용은 내용 해시로 {@link ContentBlob}을 참조하며,
+ * {@link com.docst.document.service.ContentBlobService#getContent(DocumentVersion)}로 읽는다.
  */
 @Entity
 @Table(name = "dm_document_version", uniqueConstraints = {
@@ -51,13 +52,18 @@ public class DocumentVersion {
     @Column(columnDefinition = "TEXT")
     private String message;
 
-    /** 내용 해시 (중복 체크용) */
+    /** Git blob ID (Git 외부에서 생성된 버전이면 null) */
+    @Column(name = "blob_id")
+    private String blobId;
+
+    /** 내용 해시 (dm_blob 키, 내용이 없으면 null) */
     @Column(name = "content_hash")
     private String contentHash;
 
-    /** 문서 내용 */
-    @Column(columnDefinition = "TEXT")
-    private String content;
+    /** 문서 내용 blob (content_hash로 참조, 같은 내용의 버전끼리 공유) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_hash", referencedColumnName = "content_hash", insertable = false, updatable = false)
+    private ContentBlob blob;
 
     /** 레코드 생성 시각 */
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -74,4 +80,14 @@ public class DocumentVersion {
         this.commitSha = commitSha;
         this.createdAt = Instant.now();
     }
+
+    /**
+     * 내용 blob을 연결한다. 내용 해시도 함께 설정된다.
+     *
+     * @param blob 저장된 내용 blob
+     */
+    public void setBlob(ContentBlob blob) {
+        this.blob = blob;
+        this.contentHash = blob != null ? blob.getContentHash() : null;
+    }
 }
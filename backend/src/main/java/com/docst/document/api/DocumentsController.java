@@ -5,6 +5,8 @@ import com.docst.auth.SecurityUtils;
 import com.docst.auth.UserPrincipal;
 import com.docst.document.Document;
 import com.docst.document.DocumentVersion;
+import com.docst.document.repository.DocumentVersionRepository.VersionSummaryView;
+import com.docst.document.service.ContentBlobService;
 import com.docst.document.service.DocumentService;
 import com.docst.document.service.DocumentWriteService;
 import com.docst.mcp.McpModels.UpdateDocumentInput;
@@ -35,6 +37,7 @@ public class DocumentsController {
 
     private final DocumentService documentService;
     private final DocumentWriteService documentWriteService;
+    private final ContentBlobService contentBlobService;
 
     /**
      * 레포지토리의 문서 목록을 조회한다.
@@ -88,7 +91,7 @@ public class DocumentsController {
                 doc.getDocType().name(),
                 doc.getLatestCommitSha(),
                 doc.getCreatedAt(),
-                version != null ? version.getContent() : null,
+                version != null ? contentBlobService.getContent(version) : null,
                 version != null ? version.getAuthorName() : null,
                 version != null ? version.getAuthorEmail() : null,
                 version != null ? version.getCommittedAt() : null
@@ -224,8 +227,8 @@ public class DocumentsController {
         }
 
         String diff = buildUnifiedDiff(
-                fromVersion.get().getContent(),
-                toVersion.get().getContent(),
+                contentBlobService.getContent(fromVersion.get()),
+                contentBlobService.getContent(toVersion.get()),
                 from,
                 to
         );
@@ -278,12 +281,12 @@ public class DocumentsController {
     }
 
     /**
-     * DocumentVersion 엔티티를 요약 응답 DTO로 변환한다.
+     * 버전 요약 프로젝션을 요약 응답 DTO로 변환한다.
      */
-    private DocumentVersionResponse toVersionResponse(DocumentVersion version) {
+    private DocumentVersionResponse toVersionResponse(VersionSummaryView version) {
         return new DocumentVersionResponse(
                 version.getId(),
-                version.getDocument().getId(),
+                version.getDocumentId(),
                 version.getCommitSha(),
                 version.getAuthorName(),
                 version.getAuthorEmail(),
@@ -306,7 +309,7 @@ public class DocumentsController {
                 version.getCommittedAt(),
                 version.getMessage(),
                 version.getContentHash(),
-                version.getContent()
+                contentBlobService.getContent(version)
         );
     }
 }
@@ -0,0 +1,221 @@
+package com.docst.document.repository;
+
+import com.docst.document.ContentBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 문서 내용 blob 레포지토리.
+ */
+@Repository
+public interface ContentBlobRepository extends JpaRepository<ContentBlob, String> {
+
+    /**
+     * 내용 blob을 저장한다. 같은 해시의 blob이 이미 있으면 아무것도 하지 않는다.
+     * 여러 동기화가 같은 내용을 동시에 저장해도 충돌하지 않는다.
+     *
+     * @param contentHash 내용 해시
+     * @param data 압축된 내용
+     * @param codec 코덱 번호
+     * @param compressionLevel 압축 레벨
+     * @param byteSize 원본 UTF-8 크기
+     * @return 저장된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO dm_blob (content_hash, data, codec, compression_level, byte_size)
+        VALUES (:contentHash, :data, :codec, :compressionLevel, :byteSize)
+        ON CONFLICT (content_hash) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("contentHash") String contentHash,
+                       @Param("data") byte[] data,
+                       @Param("codec") int codec,
+                       @Param("compressionLevel") int compressionLevel,
+                       @Param("byteSize") int byteSize);
+
+    /**
+     * 다시 압축할 blob을 조회한다.
+     * 아직 압축하지 않은 blob, 어떤 문서의 최신 버전도 참조하지 않으면서 cold 레벨보다 낮게 압축된 blob,
+     * 다시 최신 버전이 된 델타 blob(전체 내용으로 되돌림)이 대상이다.
+     *
+     * @param coldLevel 오래된 내용의 압축 레벨
+     * @param limit 최대 개수
+     * @return 압축 대상 blob
+     */
+    @Query(value = """
+        SELECT b.content_hash AS contentHash, b.data AS data, CAST(b.codec AS integer) AS codec,
+               CAST(b.compression_level AS integer) AS compressionLevel,
+               b.byte_size AS byteSize, CAST(b.delta_run AS integer) AS deltaRun,
+               EXISTS (
+                   SELECT 1 FROM dm_document_version v
+                   JOIN dm_document d ON d.id = v.document_id AND d.latest_commit_sha = v.commit_sha
+                   WHERE v.content_hash = b.content_hash
+               ) AS latest
+        FROM dm_blob b
+        WHERE b.compression_level = 0
+           OR (b.compression_level < :coldLevel AND NOT EXISTS (
+                   SELECT 1 FROM dm_document_version v
+                   JOIN dm_document d ON d.id = v.document_id AND d.latest_commit_sha = v.commit_sha
+                   WHERE v.content_hash = b.content_hash))
+           OR (b.codec = 2 AND EXISTS (
+                   SELECT 1 FROM dm_document_version v
+                   JOIN dm_document d ON d.id = v.document_id AND d.latest_commit_sha = v.commit_sha
+                   WHERE v.content_hash = b.content_hash))
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<CompactionCandidate> findCompactionCandidates(@Param("coldLevel") int coldLevel, @Param("limit") int limit);
+
+    /**
+     * blob을 다시 압축한 결과(전체 내용)로 교체한다. 내용은 같으므로 해시는 바뀌지 않는다.
+     *
+     * @param contentHash 내용 해시
+     * @param data 압축된 내용
+     * @param codec 코덱 번호
+     * @param compressionLevel 압축 레벨
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE dm_blob SET data = :data, codec = :codec, compression_level = :compressionLevel, base_hash = NULL
+        WHERE content_hash = :contentHash
+        """, nativeQuery = true)
+    int updateEncoding(@Param("contentHash") String contentHash,
+                       @Param("data") byte[] data,
+                       @Param("codec") int codec,
+                       @Param("compressionLevel") int compressionLevel);
+
+    /**
+     * blob을 다른 blob에 대한 델타로 교체한다.
+     *
+     * @param contentHash 내용 해시
+     * @param data 압축된 델타
+     * @param compressionLevel 압축 레벨
+     * @param baseHash 기준 blob 해시
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE dm_blob SET data = :data, codec = 2, compression_level = :compressionLevel, base_hash = :baseHash
+        WHERE content_hash = :contentHash
+        """, nativeQuery = true)
+    int updateDelta(@Param("contentHash") String contentHash,
+                    @Param("data") byte[] data,
+                    @Param("compressionLevel") int compressionLevel,
+                    @Param("baseHash") String baseHash);
+
+    /**
+     * 전체 내용 blob의 델타 체인 길이를 기록한다.
+     *
+     * @param contentHash 내용 해시
+     * @param deltaRun 델타 체인 길이
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE dm_blob SET delta_run = :deltaRun WHERE content_hash = :contentHash", nativeQuery = true)
+    int updateDeltaRun(@Param("contentHash") String contentHash, @Param("deltaRun") int deltaRun);
+
+    /**
+     * blob 한 행을 조회한다. 델타 체인을 따라가지 않으므로 전체 내용 blob은 이 조회만으로 읽는다.
+     *
+     * @param contentHash 내용 해시
+     * @return blob (없으면 empty)
+     */
+    @Query(value = """
+        SELECT content_hash AS contentHash, base_hash AS baseHash, data AS data, CAST(codec AS integer) AS codec,
+               byte_size AS byteSize, CAST(delta_run AS integer) AS deltaRun
+        FROM dm_blob WHERE content_hash = :contentHash
+        """, nativeQuery = true)
+    Optional<ChainLink> findLink(@Param("contentHash") String contentHash);
+
+    /**
+     * blob에서 전체 내용 blob까지의 델타 체인을 조회한다.
+     *
+     * @param contentHash 내용 해시
+     * @return 전체 내용 blob부터 요청한 blob까지 (없으면 빈 목록)
+     */
+    @Query(value = """
+        WITH RECURSIVE chain AS (
+            SELECT content_hash, base_hash, data, codec, byte_size, delta_run, 0 AS depth
+            FROM dm_blob WHERE content_hash = :contentHash
+            UNION ALL
+            SELECT b.content_hash, b.base_hash, b.data, b.codec, b.byte_size, b.delta_run, c.depth + 1
+            FROM dm_blob b JOIN chain c ON b.content_hash = c.base_hash
+            WHERE c.depth < 1000
+        )
+        SELECT content_hash AS contentHash, base_hash AS baseHash, data AS data, CAST(codec AS integer) AS codec,
+               byte_size AS byteSize, CAST(delta_run AS integer) AS deltaRun
+        FROM chain
+        ORDER BY depth DESC
+        """, nativeQuery = true)
+    List<ChainLink> findChain(@Param("contentHash") String contentHash);
+
+    /**
+     * 같은 문서에서 내용이 다른 바로 다음 버전의 내용 해시를 조회한다 (델타의 기준).
+     * 여러 문서가 같은 내용을 가지면 가장 최근에 커밋된 버전의 문서를 기준으로 한다.
+     *
+     * @param contentHash 내용 해시
+     * @return 다음 버전의 내용 해시
+     */
+    @Query(value = """
+        SELECT n.content_hash
+        FROM dm_document_version v
+        JOIN LATERAL (
+            SELECT nv.content_hash FROM dm_document_version nv
+            WHERE nv.document_id = v.document_id
+              AND nv.committed_at > v.committed_at
+              AND nv.content_hash IS NOT NULL
+              AND nv.content_hash <> v.content_hash
+            ORDER BY nv.committed_at
+            LIMIT 1
+        ) n ON true
+        WHERE v.content_hash = :contentHash
+        ORDER BY v.committed_at DESC
+        LIMIT 1
+        """, nativeQuery = true)
+    Optional<String> findSuccessorHash(@Param("contentHash") String contentHash);
+
+    /**
+     * 어떤 문서 버전도 참조하지 않고 델타의 기준도 아닌 blob을 삭제한다.
+     *
+     * @return 삭제된 blob 수
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM dm_blob b
+        WHERE NOT EXISTS (SELECT 1 FROM dm_document_version v WHERE v.content_hash = b.content_hash)
+          AND NOT EXISTS (SELECT 1 FROM dm_blob d WHERE d.base_hash = b.content_hash)
+        """, nativeQuery = true)
+    int deleteUnreferenced();
+
+    /**
+     * 다시 압축할 blob.
+     */
+    interface CompactionCandidate {
+        String getContentHash();
+        byte[] getData();
+        int getCodec();
+        int getCompressionLevel();
+        int getByteSize();
+        int getDeltaRun();
+        /** 문서의 최신 버전이 참조하는지 여부 */
+        boolean getLatest();
+    }
+
+    /**
+     * 델타 체인의 한 단계.
+     */
+    interface ChainLink {
+        String getContentHash();
+        String getBaseHash();
+        byte[] getData();
+        int getCodec();
+        int getByteSize();
+        int getDeltaRun();
+    }
+}
@@ -0,0 +1,138 @@
+package com.docst.document.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 청크 일괄 쓰기 레포지토리.
+ * 재청킹처럼 많은 문서 버전의 청크를 한 번에 바꿀 때 JPA 엔티티 대신 JDBC 배치로 조회/삭제/이동/추가한다.
+ * 영속성 컨텍스트를 거치지 않으므로 호출자는 실행 전에 대기 중인 JPA 변경을 flush해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocChunkBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 문서 버전들의 청크를 조회한다. 청크 내용은 읽지 않는다.
+     *
+     * @param versionIds 문서 버전 ID 목록
+     * @return 문서 버전 ID → 청크 목록 (인덱스 순, 내용은 null)
+     */
+    public Map<UUID, List<ChunkRow>> findChunks(Collection<UUID> versionIds) {
+        Map<UUID, List<ChunkRow>> chunks = new HashMap<>();
+        if (versionIds.isEmpty()) {
+            return chunks;
+        }
+        jdbcTemplate.query("""
+                SELECT id, document_version_id, chunk_index, heading_path, content_hash, token_count
+                FROM dm_doc_chunk
+                WHERE document_version_id = ANY(?)
+                ORDER BY document_version_id, chunk_index
+                """,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", versionIds.toArray())),
+                rs -> {
+                    UUID versionId = rs.getObject("document_version_id", UUID.class);
+                    chunks.computeIfAbsent(versionId, id -> new ArrayList<>()).add(new ChunkRow(
+                            rs.getObject("id", UUID.class),
+                            versionId,
+                            rs.getInt("chunk_index"),
+                            rs.getString("heading_path"),
+                            null,
+                            rs.getString("content_hash"),
+                            rs.getInt("token_count")));
+                });
+        return chunks;
+    }
+
+    /**
+     * 청크를 삭제한다. 아웃박스 행은 FK(ON DELETE CASCADE)로 함께 삭제된다.
+     *
+     * @param ids 청크 ID 목록
+     * @return 삭제된 청크 수
+     */
+    public int deleteChunks(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("DELETE FROM dm_doc_chunk WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())));
+    }
+
+    /**
+     * 기존 청크의 위치(인덱스)와 헤딩 경로/토큰 수를 갱신한다. 청크 ID와 내용은 유지된다.
+     * (document_version_id, chunk_index) 유니크 제약을 피하도록 먼저 이동할 청크의 인덱스를 음수로 옮긴 뒤 새 인덱스를 기록한다.
+     *
+     * @param rows 갱신할 청크 (내용은 사용하지 않음)
+     */
+    public void moveChunks(List<ChunkRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE dm_doc_chunk SET chunk_index = -1 - chunk_index WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", rows.stream().map(ChunkRow::id).toArray())));
+        jdbcTemplate.batchUpdate("""
+                UPDATE dm_doc_chunk SET chunk_index = ?, heading_path = ?, token_count = ?
+                WHERE id = ?
+                """,
+                rows, rows.size(), (ps, row) -> {
+                    ps.setInt(1, row.chunkIndex());
+                    ps.setString(2, row.headingPath());
+                    ps.setInt(3, row.tokenCount());
+                    ps.setObject(4, row.id());
+                });
+    }
+
+    /**
+     * 청크를 일괄 추가한다.
+     *
+     * @param rows 추가할 청크 (미리 생성한 ID 사용)
+     */
+    public void insertChunks(List<ChunkRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO dm_doc_chunk (id, document_version_id, chunk_index, heading_path,
+                                          content, content_hash, token_count, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+                rows, rows.size(), (ps, row) -> {
+                    ps.setObject(1, row.id());
+                    ps.setObject(2, row.documentVersionId());
+                    ps.setInt(3, row.chunkIndex());
+                    ps.setString(4, row.headingPath());
+                    ps.setString(5, row.content());
+                    ps.setString(6, row.contentHash());
+                    ps.setInt(7, row.tokenCount());
+                    ps.setTimestamp(8, createdAt);
+                });
+    }
+
+    /**
+     * dm_doc_chunk 행.
+     *
+     * @param content 청크 내용 (조회/이동 시에는 null)
+     */
+    public record ChunkRow(
+            UUID id,
+            UUID documentVersionId,
+            int chunkIndex,
+            String headingPath,
+            String content,
+            String contentHash,
+            int tokenCount
+    ) {}
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -51,6 +52,22 @@ public interface DocChunkRepository extends JpaRepository<DocChunk, UUID> {
      */
     long countByDocumentVersionId(UUID documentVersionId);
 
+    /**
+     * ID 목록의 청크를 문서 버전/문서/레포지토리와 함께 조회한다.
+     * 임베딩 메타데이터 변환에 필요한 연관 엔티티를 한 번에 로드한다.
+     *
+     * @param ids 청크 ID 목록
+     * @return 청크 목록 (존재하지 않는 ID는 제외)
+     */
+    @Query("""
+        SELECT c FROM DocChunk c
+        JOIN FETCH c.documentVersion dv
+        JOIN FETCH dv.document d
+        JOIN FETCH d.repository r
+        WHERE c.id IN :ids
+        """)
+    List<DocChunk> findWithDocumentByIdIn(@Param("ids") Collection<UUID> ids);
+
     /**
      * 프로젝트의 모든 청크를 조회한다 (Phase 4-D-5).
      *
@@ -65,4 +82,211 @@ public interface DocChunkRepository extends JpaRepository<DocChunk, UUID> {
         WHERE r.project.id = :projectId
         """)
     List<DocChunk> findByProjectId(@Param("projectId") UUID projectId);
+
+    /**
+     * 프로젝트의 청크 수와 토큰 수 합계를 집계한다.
+     * 재임베딩 비용 추정에 사용하며, 청크 엔티티를 로드하지 않는다.
+     *
+     * @param projectId 프로젝트 ID
+     * @return 문서 버전 수, 청크 수, 토큰 수 합계
+     */
+    @Query("""
+        SELECT count(DISTINCT dv.id) AS versions, count(c) AS chunks, COALESCE(SUM(c.tokenCount), 0) AS tokens
+        FROM DocChunk c
+        JOIN c.documentVersion dv
+        JOIN dv.document d
+        JOIN d.repository r
+        WHERE r.project.id = :projectId
+        """)
+    ChunkStats statsByProjectId(@Param("projectId") UUID projectId);
+
+    /**
+     * 내용 해시별로 청크가 저장된 문서 버전 하나를 찾는다.
+     * 같은 내용의 새 버전은 이 버전의 청크를 복사해 다시 청킹하지 않는다.
+     *
+     * @param contentHashes 내용 해시 목록
+     * @return 내용 해시별 청크 원본 버전과 청크 수 (청크가 있는 버전이 없으면 제외)
+     */
+    @Query(value = """
+        SELECT DISTINCT ON (dv.content_hash)
+               dv.content_hash AS contentHash, dv.id AS versionId, c.chunks AS chunks
+        FROM dm_document_version dv
+        JOIN LATERAL (
+            SELECT count(*) AS chunks FROM dm_doc_chunk c WHERE c.document_version_id = dv.id
+        ) c ON c.chunks > 0
+        WHERE dv.content_hash IN (:contentHashes)
+        ORDER BY dv.content_hash, dv.created_at
+        """, nativeQuery = true)
+    List<ChunkSource> findChunkSources(@Param("contentHashes") Collection<String> contentHashes);
+
+    /**
+     * 원본 문서 버전의 청크를 대상 문서 버전으로 복사한다.
+     *
+     * @param sourceVersionId 원본 문서 버전 ID
+     * @param targetVersionId 대상 문서 버전 ID
+     * @return 복사된 청크 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO dm_doc_chunk (id, document_version_id, chunk_index, heading_path, content, content_hash, token_count, created_at)
+        SELECT gen_random_uuid(), :targetVersionId, chunk_index, heading_path, content, content_hash, token_count, now()
+        FROM dm_doc_chunk
+        WHERE document_version_id = :sourceVersionId
+        """, nativeQuery = true)
+    int copyChunks(@Param("sourceVersionId") UUID sourceVersionId, @Param("targetVersionId") UUID targetVersionId);
+
+    /**
+     * 같은 텍스트로 이미 임베딩된 청크를 찾는다.
+     * 같은 프로젝트(같은 임베딩 모델)에서 청크 내용 해시가 같고 임베딩 대기 중이 아닌 청크 중
+     * 가장 최근 청크(대개 같은 문서의 이전 버전)를 원본으로 사용한다.
+     * 문서가 바뀌어도 바뀌지 않은 청크는 위치(청크 인덱스)와 무관하게 재사용된다.
+     *
+     * @param ids 임베딩할 청크 ID 목록
+     * @return 청크별 임베딩 원본 청크 (원본이 없는 청크는 제외)
+     */
+    @Query(value = """
+        SELECT target.id AS targetId, source.id AS sourceId
+        FROM dm_doc_chunk target
+        JOIN dm_document_version tv ON tv.id = target.document_version_id
+        JOIN dm_document td ON td.id = tv.document_id
+        JOIN dm_repository tr ON tr.id = td.repository_id
+        JOIN LATERAL (
+            SELECT s.id FROM dm_doc_chunk s
+            JOIN dm_document_version sv ON sv.id = s.document_version_id
+            JOIN dm_document sd ON sd.id = sv.document_id
+            JOIN dm_repository sr ON sr.id = sd.repository_id
+            WHERE s.content_hash = target.content_hash
+              AND s.id <> target.id
+              AND sr.project_id = tr.project_id
+              AND NOT EXISTS (SELECT 1 FROM dm_embedding_outbox o WHERE o.doc_chunk_id = s.id)
+            ORDER BY s.created_at DESC
+            LIMIT 1
+        ) source ON true
+        WHERE target.id IN (:ids)
+        """, nativeQuery = true)
+    List<EmbeddingSource> findEmbeddingSources(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 문서 버전의 청크 중 같은 텍스트로 이미 임베딩된 청크가 있는 청크 수를 센다.
+     * {@link #findEmbeddingSources}와 같은 조건이며, 동기화 결과에 재사용 청크 수를 기록하는 데 사용한다.
+     *
+     * @param versionIds 문서 버전 ID 목록
+     * @return 임베딩을 재사용할 수 있는 청크 수
+     */
+    @Query(value = """
+        SELECT count(*)
+        FROM dm_doc_chunk target
+        JOIN dm_document_version tv ON tv.id = target.document_version_id
+        JOIN dm_document td ON td.id = tv.document_id
+        JOIN dm_repository tr ON tr.id = td.repository_id
+        WHERE target.document_version_id IN (:versionIds)
+          AND EXISTS (
+              SELECT 1 FROM dm_doc_chunk s
+              JOIN dm_document_version sv ON sv.id = s.document_version_id
+              JOIN dm_document sd ON sd.id = sv.document_id
+              JOIN dm_repository sr ON sr.id = sd.repository_id
+              WHERE s.content_hash = target.content_hash
+                AND s.id <> target.id
+                AND sr.project_id = tr.project_id
+                AND NOT EXISTS (SELECT 1 FROM dm_embedding_outbox o WHERE o.doc_chunk_id = s.id)
+          )
+        """, nativeQuery = true)
+    long countReusableChunks(@Param("versionIds") Collection<UUID> versionIds);
+
+    /**
+     * 내용 해시 중 레포지토리가 속한 프로젝트에 이미 임베딩된 청크가 있는 해시를 조회한다.
+     * {@link #countReusableChunks}와 같은 조건이며, 동기화 비용 추정에서 재사용될 청크를 제외하는 데 사용한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param contentHashes 청크 내용 해시 목록
+     * @return 기존 벡터를 재사용할 수 있는 내용 해시
+     */
+    @Query(value = """
+        SELECT DISTINCT s.content_hash
+        FROM dm_doc_chunk s
+        JOIN dm_document_version sv ON sv.id = s.document_version_id
+        JOIN dm_document sd ON sd.id = sv.document_id
+        JOIN dm_repository sr ON sr.id = sd.repository_id
+        WHERE s.content_hash IN (:contentHashes)
+          AND sr.project_id = (SELECT r.project_id FROM dm_repository r WHERE r.id = :repositoryId)
+          AND NOT EXISTS (SELECT 1 FROM dm_embedding_outbox o WHERE o.doc_chunk_id = s.id)
+        """, nativeQuery = true)
+    List<String> findEmbeddedContentHashes(@Param("repositoryId") UUID repositoryId,
+                                           @Param("contentHashes") Collection<String> contentHashes);
+
+    /**
+     * 프로젝트에서 청크가 있는 문서 버전을 ID 순으로 조회한다 (키셋 페이지네이션).
+     * 재청킹이 버전 엔티티나 내용을 한꺼번에 로드하지 않고 페이지 단위로 순회하는 데 사용한다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param afterId 이전 페이지의 마지막 문서 버전 ID (첫 페이지는 0 UUID)
+     * @param limit 최대 행 수
+     * @return 문서 버전 ID, 레포지토리 ID, 내용 해시
+     */
+    @Query(value = """
+        SELECT dv.id AS versionId, d.repository_id AS repositoryId, dv.content_hash AS contentHash
+        FROM dm_document_version dv
+        JOIN dm_document d ON d.id = dv.document_id
+        JOIN dm_repository r ON r.id = d.repository_id
+        WHERE r.project_id = :projectId
+          AND dv.id > :afterId
+          AND dv.content_hash IS NOT NULL
+          AND EXISTS (SELECT 1 FROM dm_doc_chunk c WHERE c.document_version_id = dv.id)
+        ORDER BY dv.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<ChunkedVersion> findChunkedVersions(@Param("projectId") UUID projectId,
+                                             @Param("afterId") UUID afterId,
+                                             @Param("limit") int limit);
+
+    /**
+     * 프로젝트에서 청크가 있는 문서 버전 수를 센다.
+     *
+     * @param projectId 프로젝트 ID
+     * @return 문서 버전 수
+     */
+    @Query(value = """
+        SELECT count(DISTINCT c.document_version_id)
+        FROM dm_doc_chunk c
+        JOIN dm_document_version dv ON dv.id = c.document_version_id
+        JOIN dm_document d ON d.id = dv.document_id
+        JOIN dm_repository r ON r.id = d.repository_id
+        WHERE r.project_id = :projectId
+        """, nativeQuery = true)
+    long countChunkedVersions(@Param("projectId") UUID projectId);
+
+    /**
+     * 청크가 있는 문서 버전.
+     */
+    interface ChunkedVersion {
+        UUID getVersionId();
+        UUID getRepositoryId();
+        String getContentHash();
+    }
+
+    /**
+     * 청크 원본 버전.
+     */
+    interface ChunkSource {
+        String getContentHash();
+        UUID getVersionId();
+        long getChunks();
+    }
+
+    /**
+     * 임베딩 원본 청크.
+     */
+    interface EmbeddingSource {
+        UUID getTargetId();
+        UUID getSourceId();
+    }
+
+    /**
+     * 청크 집계 결과.
+     */
+    interface ChunkStats {
+        long getVersions();
+        long getChunks();
+        long getTokens();
+    }
 }
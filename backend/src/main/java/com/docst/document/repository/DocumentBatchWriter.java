@@ -0,0 +1,219 @@
+package com.docst.document.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 문서/내용 blob/문서 버전 일괄 쓰기 레포지토리.
+ * 동기화 배치처럼 많은 문서를 한 번에 저장할 때 JPA의 문서당 조회/flush 대신
+ * 조회는 배치당 한 번, 쓰기는 JDBC 배치(INSERT ... ON CONFLICT)로 수행한다.
+ * 영속성 컨텍스트를 거치지 않으므로 호출자는 실행 전에 대기 중인 JPA 변경을 flush해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 경로 목록에 해당하는 기존 문서 ID를 조회한다 (삭제된 문서 포함).
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param paths 파일 경로 목록
+     * @return 경로 → 문서 ID
+     */
+    public Map<String, UUID> findDocumentIds(UUID repositoryId, Collection<String> paths) {
+        Map<String, UUID> ids = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, path FROM dm_document WHERE repository_id = ? AND path = ANY(?)",
+                ps -> {
+                    ps.setObject(1, repositoryId);
+                    ps.setArray(2, textArray(ps, paths));
+                },
+                rs -> {
+                    ids.put(rs.getString("path"), rs.getObject("id", UUID.class));
+                });
+        return ids;
+    }
+
+    /**
+     * 문서별로 같은 내용 해시의 버전이 이미 있는지 조회한다.
+     *
+     * @param contentHashes 문서 ID → 내용 해시
+     * @return 같은 해시의 버전이 이미 있는 문서 ID
+     */
+    public Set<UUID> findDocumentsWithContentHash(Map<UUID, String> contentHashes) {
+        Set<UUID> existing = new HashSet<>();
+        if (contentHashes.isEmpty()) {
+            return existing;
+        }
+        jdbcTemplate.query(
+                "SELECT document_id, content_hash FROM dm_document_version "
+                        + "WHERE document_id = ANY(?) AND content_hash = ANY(?)",
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("uuid", contentHashes.keySet().toArray()));
+                    ps.setArray(2, textArray(ps, contentHashes.values()));
+                },
+                rs -> {
+                    UUID documentId = rs.getObject("document_id", UUID.class);
+                    if (rs.getString("content_hash").equals(contentHashes.get(documentId))) {
+                        existing.add(documentId);
+                    }
+                });
+        return existing;
+    }
+
+    /**
+     * 문서를 일괄 생성하거나 갱신한다.
+     * 같은 경로의 문서가 있으면 제목/최신 커밋/최신 blob ID를 갱신하고 삭제 표시를 해제한다 (문서 타입과 ID는 유지).
+     *
+     * @param rows 저장할 문서 (새 문서는 미리 생성한 ID 사용)
+     */
+    public void upsertDocuments(List<DocumentRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO dm_document (id, repository_id, path, title, doc_type,
+                                         latest_commit_sha, latest_blob_id, deleted, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, false, ?)
+                ON CONFLICT (repository_id, path) DO UPDATE
+                SET title = EXCLUDED.title,
+                    latest_commit_sha = EXCLUDED.latest_commit_sha,
+                    latest_blob_id = EXCLUDED.latest_blob_id,
+                    deleted = false
+                """,
+                rows, rows.size(), (ps, row) -> {
+                    ps.setObject(1, row.id());
+                    ps.setObject(2, row.repositoryId());
+                    ps.setString(3, row.path());
+                    ps.setString(4, row.title());
+                    ps.setString(5, row.docType());
+                    ps.setString(6, row.latestCommitSha());
+                    ps.setString(7, row.latestBlobId());
+                    ps.setTimestamp(8, Timestamp.from(row.createdAt()));
+                });
+    }
+
+    /**
+     * 내용 blob을 일괄 저장한다. 같은 해시의 blob이 이미 있으면 건너뛴다.
+     *
+     * @param rows 저장할 blob (압축된 내용)
+     */
+    public void insertBlobs(List<BlobRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO dm_blob (content_hash, data, codec, compression_level, byte_size)
+                VALUES (?, ?, ?, ?, ?)
+                ON CONFLICT (content_hash) DO NOTHING
+                """,
+                rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, row.contentHash());
+                    ps.setBytes(2, row.data());
+                    ps.setShort(3, (short) row.codec());
+                    ps.setShort(4, (short) row.compressionLevel());
+                    ps.setInt(5, row.byteSize());
+                });
+    }
+
+    /**
+     * 문서 버전을 일괄 추가한다.
+     * 같은 문서에 같은 커밋의 버전이 이미 있으면 추가하지 않는다.
+     *
+     * @param rows 추가할 버전
+     * @return 실제로 추가된 버전 ID
+     */
+    public Set<UUID> insertVersions(List<VersionRow> rows) {
+        Set<UUID> inserted = new HashSet<>();
+        if (rows.isEmpty()) {
+            return inserted;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate("""
+                INSERT INTO dm_document_version (id, document_id, commit_sha, author_name, author_email,
+                                                 committed_at, message, blob_id, content_hash, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (document_id, commit_sha) DO NOTHING
+                """,
+                rows, rows.size(), (ps, row) -> {
+                    ps.setObject(1, row.id());
+                    ps.setObject(2, row.documentId());
+                    ps.setString(3, row.commitSha());
+                    ps.setString(4, row.authorName());
+                    ps.setString(5, row.authorEmail());
+                    ps.setTimestamp(6, row.committedAt() != null ? Timestamp.from(row.committedAt()) : null);
+                    ps.setString(7, row.message());
+                    ps.setString(8, row.blobId());
+                    ps.setString(9, row.contentHash());
+                    ps.setTimestamp(10, Timestamp.from(row.createdAt()));
+                });
+
+        for (int i = 0; i < rows.size(); i++) {
+            // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 추가된 것으로 본다
+            if (counts[0][i] != 0) {
+                inserted.add(rows.get(i).id());
+            }
+        }
+        return inserted;
+    }
+
+    private static Array textArray(PreparedStatement ps, Collection<String> values) throws SQLException {
+        return ps.getConnection().createArrayOf("text", values.toArray());
+    }
+
+    /**
+     * dm_document 행.
+     */
+    public record DocumentRow(
+            UUID id,
+            UUID repositoryId,
+            String path,
+            String title,
+            String docType,
+            String latestCommitSha,
+            String latestBlobId,
+            Instant createdAt
+    ) {}
+
+    /**
+     * dm_blob 행.
+     */
+    public record BlobRow(
+            String contentHash,
+            byte[] data,
+            int codec,
+            int compressionLevel,
+            int byteSize
+    ) {}
+
+    /**
+     * dm_document_version 행. 내용은 {@link #insertBlobs}로 먼저 저장하고 content_hash로 참조한다.
+     */
+    public record VersionRow(
+            UUID id,
+            UUID documentId,
+            String commitSha,
+            String authorName,
+            String authorEmail,
+            Instant committedAt,
+            String message,
+            String blobId,
+            String contentHash,
+            Instant createdAt
+    ) {}
+}
@@ -71,10 +71,29 @@ public interface DocumentRepository extends JpaRepository<Document, UUID> {
      */
     boolean existsByRepositoryIdAndPath(UUID repositoryId, String path);
 
+    /**
+     * 레포지토리의 삭제되지 않은 문서 경로와 최신 blob ID를 조회한다.
+     * FULL_SCAN에서 변경 없는 파일을 한 번의 쿼리로 걸러내기 위해 사용한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @return 경로/blob ID 목록 (blob ID를 알 수 없는 문서는 제외)
+     */
+    @Query("SELECT d.path AS path, d.latestBlobId AS latestBlobId FROM Document d " +
+           "WHERE d.repository.id = :repoId AND d.deleted = false AND d.latestBlobId IS NOT NULL")
+    List<PathBlobView> findLatestBlobIds(@Param("repoId") UUID repositoryId);
+
     /**
      * 삭제되지 않은 문서의 총 개수를 조회한다.
      *
      * @return 문서 개수
      */
     long countByDeletedFalse();
+
+    /**
+     * 문서 경로와 최신 blob ID 프로젝션.
+     */
+    interface PathBlobView {
+        String getPath();
+        String getLatestBlobId();
+    }
 }
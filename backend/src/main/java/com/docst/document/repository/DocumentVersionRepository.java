@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,12 +19,17 @@ import java.util.UUID;
 public interface DocumentVersionRepository extends JpaRepository<DocumentVersion, UUID> {
 
     /**
-     * 문서의 모든 버전을 최신순으로 조회한다.
+     * 문서의 모든 버전 요약을 최신순으로 조회한다.
+     * 커밋 정보만 조회하며 내용 blob은 읽지 않는다.
      *
      * @param documentId 문서 ID
-     * @return 버전 목록 (최신순)
+     * @return 버전 요약 목록 (최신순)
      */
-    List<DocumentVersion> findByDocumentIdOrderByCommittedAtDesc(UUID documentId);
+    @Query("SELECT dv.id AS id, dv.document.id AS documentId, dv.commitSha AS commitSha, " +
+           "dv.authorName AS authorName, dv.authorEmail AS authorEmail, dv.committedAt AS committedAt, " +
+           "dv.message AS message, dv.contentHash AS contentHash " +
+           "FROM DocumentVersion dv WHERE dv.document.id = :docId ORDER BY dv.committedAt DESC")
+    List<VersionSummaryView> findSummariesByDocumentId(@Param("docId") UUID documentId);
 
     /**
      * 문서의 특정 커밋 버전을 조회한다.
@@ -46,6 +52,7 @@ public interface DocumentVersionRepository extends JpaRepository<DocumentVersion
 
     /**
      * 프로젝트 내에서 키워드로 문서를 검색한다.
+     * 문서 내용은 압축되어 저장되므로 청크 내용에서 검색한다.
      *
      * @param projectId 프로젝트 ID
      * @param query 검색어
@@ -57,7 +64,11 @@ public interface DocumentVersionRepository extends JpaRepository<DocumentVersion
         JOIN dm_document d ON d.id = dv.document_id
         JOIN dm_repository r ON r.id = d.repository_id
         WHERE r.project_id = :projectId
-          AND dv.content ILIKE '%' || :query || '%'
+          AND EXISTS (
+              SELECT 1 FROM dm_doc_chunk c
+              WHERE c.document_version_id = dv.id
+                AND c.content ILIKE '%' || :query || '%'
+          )
         ORDER BY dv.committed_at DESC
         LIMIT :limit
         """, nativeQuery = true)
@@ -89,4 +100,18 @@ public interface DocumentVersionRepository extends JpaRepository<DocumentVersion
         ORDER BY dv.committedAt DESC
         """)
     List<DocumentVersion> findByProjectId(@Param("projectId") UUID projectId);
+
+    /**
+     * 문서 버전 요약 프로젝션 (내용 제외).
+     */
+    interface VersionSummaryView {
+        UUID getId();
+        UUID getDocumentId();
+        String getCommitSha();
+        String getAuthorName();
+        String getAuthorEmail();
+        Instant getCommittedAt();
+        String getMessage();
+        String getContentHash();
+    }
 }
@@ -0,0 +1,386 @@
+package com.docst.document.service;
+
+import com.docst.document.ContentBlob;
+import com.docst.document.ContentCodec;
+import com.docst.document.ContentCodec.Encoded;
+import com.docst.document.ContentHash;
+import com.docst.document.DocumentVersion;
+import com.docst.document.repository.ContentBlobRepository;
+import com.docst.document.repository.ContentBlobRepository.ChainLink;
+import com.docst.document.repository.ContentBlobRepository.CompactionCandidate;
+import com.docst.document.repository.DocumentBatchWriter;
+import com.docst.document.repository.DocumentBatchWriter.BlobRow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 문서 내용 blob 서비스.
+ * 문서 내용을 내용 해시로 한 번만, 압축해서 저장하고 더 이상 참조되지 않는 blob을 주기적으로 정리한다.
+ * 새 내용은 빠른 레벨(docst.blob.compression-level)로 압축하고,
+ * 최신 버전에서 밀려난 내용은 주기적으로 더 높은 레벨(docst.blob.cold-compression-level)로 다시 압축한다.
+ * <p>
+ * docst.blob.delta.enabled이면 최신 버전에서 밀려난 내용을 같은 문서의 다음 버전에 대한 역방향 델타로 저장한다.
+ * 최신 버전은 항상 전체 내용으로 유지되며(다시 최신이 된 델타는 전체 내용으로 되돌림),
+ * 하나의 전체 내용 blob으로 복원되는 델타 체인이 docst.blob.delta.keyframe-interval을 넘으면 전체 내용(키프레임)으로 남긴다.
+ * 델타 복원 결과는 LRU(docst.blob.delta.cache-size)에 보관한다.
+ * <p>
+ * 재압축과 미참조 blob 정리는 blob 테이블 전체를 훑으므로 스케줄러 스레드가 아닌 전용 스레드에서 차례로 실행한다.
+ * 이전 실행이 끝나지 않았으면 이번 주기는 건너뛴다.
+ */
+@Service
+@Slf4j
+public class ContentBlobService {
+
+    private final ContentBlobRepository contentBlobRepository;
+    private final DocumentBatchWriter documentBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int compressionLevel;
+    private final int coldCompressionLevel;
+    private final int compactionBatchSize;
+    private final int compactionMaxBatches;
+    private final Duration compactionMaxDuration;
+    private final boolean deltaEnabled;
+    private final int keyframeInterval;
+
+    private final ExecutorService maintenanceExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("blob-maintenance").factory());
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final AtomicBoolean collecting = new AtomicBoolean();
+
+    /** 델타 체인에서 복원한 내용 (내용 해시 → 내용). 같은 해시의 내용은 바뀌지 않으므로 무효화가 필요 없다. */
+    private final Cache<String, String> materialized;
+
+    /**
+     * ContentBlobService 생성자.
+     *
+     * @param compressionLevel 새 내용의 압축 레벨
+     * @param coldCompressionLevel 최신 버전이 참조하지 않는 내용의 압축 레벨
+     * @param compactionBatchSize 재압축 시 한 트랜잭션에서 처리할 blob 수
+     * @param compactionMaxBatches 한 번의 재압축에서 처리할 최대 배치 수
+     * @param compactionMaxDuration 한 번의 재압축 실행 시간 상한
+     * @param deltaEnabled 오래된 내용을 델타로 저장할지 여부
+     * @param keyframeInterval 전체 내용 하나로 복원되는 최대 델타 수
+     * @param deltaCacheSize 델타 복원 결과 캐시 크기
+     */
+    public ContentBlobService(ContentBlobRepository contentBlobRepository,
+                              DocumentBatchWriter documentBatchWriter,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${docst.blob.compression-level:6}") int compressionLevel,
+                              @Value("${docst.blob.cold-compression-level:9}") int coldCompressionLevel,
+                              @Value("${docst.blob.compaction-batch-size:200}") int compactionBatchSize,
+                              @Value("${docst.blob.compaction-max-batches:500}") int compactionMaxBatches,
+                              @Value("${docst.blob.compaction-max-duration:30m}") Duration compactionMaxDuration,
+                              @Value("${docst.blob.delta.enabled:false}") boolean deltaEnabled,
+                              @Value("${docst.blob.delta.keyframe-interval:16}") int keyframeInterval,
+                              @Value("${docst.blob.delta.cache-size:64MB}") DataSize deltaCacheSize) {
+        this.contentBlobRepository = contentBlobRepository;
+        this.documentBatchWriter = documentBatchWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.compressionLevel = Math.clamp(compressionLevel, 1, 9);
+        this.coldCompressionLevel = Math.clamp(coldCompressionLevel, this.compressionLevel, 9);
+        this.compactionBatchSize = Math.max(1, compactionBatchSize);
+        this.compactionMaxBatches = Math.max(1, compactionMaxBatches);
+        this.compactionMaxDuration = compactionMaxDuration;
+        this.deltaEnabled = deltaEnabled;
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+        this.materialized = Caffeine.newBuilder()
+                .maximumWeight(deltaCacheSize.toBytes())
+                .weigher((String hash, String content) -> content.length() * 2)
+                .build();
+    }
+
+    /**
+     * 내용 해시의 문서 내용을 반환한다. 델타로 저장되어 있으면 전체 내용 blob부터 델타를 차례로 적용해 복원한다.
+     * 최신 버전을 포함한 전체 내용 blob은 행 하나만 조회하고, 델타 blob일 때만 기준 blob 체인을 조회한다.
+     *
+     * @param contentHash 내용 해시
+     * @return 문서 내용
+     * @throws IllegalArgumentException blob이 없는 경우
+     */
+    public String getContent(String contentHash) {
+        String cached = materialized.getIfPresent(contentHash);
+        if (cached != null) {
+            return cached;
+        }
+        ChainLink link = contentBlobRepository.findLink(contentHash)
+                .orElseThrow(() -> new IllegalArgumentException("Content blob not found: " + contentHash));
+        if (link.getCodec() != ContentCodec.DELTA) {
+            return ContentCodec.decode(link.getCodec(), link.getData(), link.getByteSize());
+        }
+        List<ChainLink> chain = new ArrayList<>(contentBlobRepository.findChain(link.getBaseHash()));
+        chain.add(link);
+        return materialize(chain);
+    }
+
+    /**
+     * 문서 버전의 내용을 반환한다.
+     *
+     * @param version 문서 버전
+     * @return 문서 내용 (내용이 없는 버전이면 null)
+     * @see #getContent(String)
+     */
+    public String getContent(DocumentVersion version) {
+        return version.getContentHash() != null ? getContent(version.getContentHash()) : null;
+    }
+
+    /**
+     * 델타 체인(전체 내용 blob부터)을 복원한다. 중간 단계의 내용도 캐시에 넣는다.
+     */
+    private String materialize(List<ChainLink> chain) {
+        String content = null;
+        for (ChainLink link : chain) {
+            String cached = materialized.getIfPresent(link.getContentHash());
+            if (cached != null) {
+                content = cached;
+            } else if (link.getCodec() == ContentCodec.DELTA) {
+                if (content == null) {
+                    throw new IllegalStateException("Delta chain has no full content: " + link.getContentHash());
+                }
+                content = ContentCodec.applyDelta(content, link.getData(), link.getByteSize());
+                materialized.put(link.getContentHash(), content);
+            } else {
+                content = ContentCodec.decode(link.getCodec(), link.getData(), link.getByteSize());
+            }
+        }
+        return content;
+    }
+
+    /**
+     * 내용을 저장하고 blob 참조를 반환한다. 같은 내용이 이미 저장되어 있으면 재사용한다.
+     * 반환되는 참조는 지연 로딩 프록시이므로 내용을 읽을 때만 조회한다.
+     *
+     * @param content 문서 내용
+     * @return 저장된 blob (내용이 null이면 null)
+     */
+    @Transactional
+    public ContentBlob store(String content) {
+        return store(ContentHash.hash(content), content);
+    }
+
+    /**
+     * 해시를 이미 계산한 내용을 저장한다.
+     *
+     * @param contentHash {@link ContentHash#hash(String)}로 계산한 내용 해시
+     * @param content 문서 내용
+     * @return 저장된 blob (내용이 null이면 null)
+     * @see #store(String)
+     */
+    @Transactional
+    public ContentBlob store(String contentHash, String content) {
+        if (content == null) {
+            return null;
+        }
+        Encoded encoded = ContentCodec.encode(content, compressionLevel);
+        contentBlobRepository.insertIfAbsent(contentHash, encoded.data(), encoded.codec(), encoded.level(),
+                encoded.byteSize());
+        return contentBlobRepository.getReferenceById(contentHash);
+    }
+
+    /**
+     * 여러 내용을 JDBC 배치로 저장한다. 같은 해시의 blob이 이미 있으면 건너뛴다.
+     *
+     * @param contents 내용 해시 → 문서 내용
+     */
+    @Transactional
+    public void storeAll(Map<String, String> contents) {
+        if (contents.isEmpty()) {
+            return;
+        }
+        List<BlobRow> rows = new ArrayList<>(contents.size());
+        contents.forEach((contentHash, content) -> {
+            Encoded encoded = ContentCodec.encode(content, compressionLevel);
+            rows.add(new BlobRow(contentHash, encoded.data(), encoded.codec(), encoded.level(), encoded.byteSize()));
+        });
+        documentBatchWriter.insertBlobs(rows);
+    }
+
+    /**
+     * 재압축 주기마다 전용 스레드에서 {@link #compact()}를 시작한다.
+     */
+    @Scheduled(cron = "${docst.blob.compaction-cron:0 0 4 * * *}")
+    public void scheduleCompaction() {
+        runMaintenance(compacting, "compaction", this::compact);
+    }
+
+    /**
+     * 정리 주기마다 전용 스레드에서 {@link #deleteUnreferenced()}를 시작한다.
+     */
+    @Scheduled(cron = "${docst.blob.gc-cron:0 30 3 * * *}")
+    public void scheduleGarbageCollection() {
+        runMaintenance(collecting, "garbage collection", this::deleteUnreferenced);
+    }
+
+    /**
+     * 관리 작업을 전용 스레드에 제출한다. 같은 작업이 실행 중이거나 대기 중이면 제출하지 않는다.
+     */
+    private void runMaintenance(AtomicBoolean running, String name, Runnable task) {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Content blob {} is still running, skipping this run", name);
+            return;
+        }
+        maintenanceExecutor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("Content blob {} failed", name, e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * 압축되지 않은 blob과 최신 버전에서 밀려난 blob을 다시 압축한다.
+     * 델타 저장이 켜져 있으면 최신 버전에서 밀려난 blob은 가능한 경우 델타로 저장하고,
+     * 다시 최신 버전이 된 델타 blob은 전체 내용으로 되돌린다.
+     * 배치마다 별도 트랜잭션으로 처리하므로 중간에 중단되어도 처리한 만큼은 남는다.
+     * 한 번의 실행은 docst.blob.compaction-max-batches 배치 또는 docst.blob.compaction-max-duration까지만 처리하고,
+     * 남은 blob은 다음 주기에 이어서 처리한다. 배치에서 바뀐 blob이 없으면 같은 후보가 다시 조회되므로 바로 멈춘다.
+     *
+     * @return 다시 압축한 blob 수
+     */
+    public int compact() {
+        long deadline = System.nanoTime() + compactionMaxDuration.toNanos();
+        int compacted = 0;
+        for (int batch = 0; batch < compactionMaxBatches && !Thread.currentThread().isInterrupted(); batch++) {
+            Integer count = transactionTemplate.execute(status -> compactBatch());
+            if (count == null || count == 0) {
+                break;
+            }
+            compacted += count;
+            if (System.nanoTime() - deadline >= 0) {
+                log.info("Blob compaction reached its time budget, continuing on the next run");
+                break;
+            }
+        }
+        if (compacted > 0) {
+            log.info("Recompressed {} content blobs", compacted);
+        }
+        return compacted;
+    }
+
+    /**
+     * 후보 blob 한 배치를 다시 압축한다. 이미 목표 레벨로 압축된 전체 내용 blob은 건너뛴다.
+     *
+     * @return 실제로 바뀐 blob 수
+     */
+    private int compactBatch() {
+        List<CompactionCandidate> candidates =
+                contentBlobRepository.findCompactionCandidates(coldCompressionLevel, compactionBatchSize);
+        int changed = 0;
+        for (CompactionCandidate candidate : candidates) {
+            if (candidate.getCodec() == ContentCodec.DELTA) {
+                restoreFullContent(candidate.getContentHash());
+                changed++;
+                continue;
+            }
+            int targetLevel = candidate.getLatest() ? compressionLevel : coldCompressionLevel;
+            boolean tryDelta = deltaEnabled && !candidate.getLatest();
+            if (!tryDelta && candidate.getCompressionLevel() == targetLevel) {
+                continue;
+            }
+            String content = ContentCodec.decode(candidate.getCodec(), candidate.getData(), candidate.getByteSize());
+            if (tryDelta && storeAsDelta(candidate.getContentHash(), content)) {
+                changed++;
+                continue;
+            }
+            if (candidate.getCompressionLevel() == targetLevel) {
+                continue;
+            }
+            Encoded encoded = ContentCodec.encode(content, targetLevel);
+            contentBlobRepository.updateEncoding(candidate.getContentHash(), encoded.data(), encoded.codec(),
+                    encoded.level());
+            changed++;
+        }
+        return changed;
+    }
+
+    /**
+     * 전체 내용 blob을 같은 문서의 다음 버전 내용에 대한 델타로 바꾼다.
+     * 다음 버전이 없거나, 체인이 순환하거나, 키프레임 간격을 넘거나, 델타가 더 작지 않으면 바꾸지 않는다.
+     *
+     * @return 델타로 저장했으면 true
+     */
+    private boolean storeAsDelta(String contentHash, String content) {
+        Optional<String> successor = contentBlobRepository.findSuccessorHash(contentHash);
+        if (successor.isEmpty()) {
+            return false;
+        }
+        List<ChainLink> baseChain = contentBlobRepository.findChain(successor.get());
+        if (baseChain.isEmpty() || baseChain.stream().anyMatch(link -> link.getContentHash().equals(contentHash))) {
+            return false;
+        }
+
+        // 이 blob으로 복원되던 델타들은 이제 기준 체인을 거쳐 기준 체인의 전체 내용 blob으로 복원된다
+        List<ChainLink> ownChain = contentBlobRepository.findChain(contentHash);
+        int run = ownChain.getLast().getDeltaRun() + baseChain.size();
+        if (run > keyframeInterval) {
+            return false;
+        }
+
+        String base = materialize(baseChain);
+        Encoded delta = ContentCodec.encodeDelta(base, content, coldCompressionLevel);
+        if (delta == null || delta.data().length >= ContentCodec.encode(content, coldCompressionLevel).data().length) {
+            return false;
+        }
+        if (!ContentCodec.applyDelta(base, delta.data(), delta.byteSize()).equals(content)) {
+            log.warn("Delta round trip failed for blob {}, keeping full content", contentHash);
+            return false;
+        }
+
+        ChainLink root = baseChain.getFirst();
+        contentBlobRepository.updateDelta(contentHash, delta.data(), coldCompressionLevel, successor.get());
+        contentBlobRepository.updateDeltaRun(root.getContentHash(), Math.max(root.getDeltaRun(), run));
+        return true;
+    }
+
+    /**
+     * 다시 최신 버전이 된 델타 blob을 전체 내용으로 되돌린다.
+     * 이 blob으로 복원되던 델타 체인의 길이는 알 수 없으므로 이전 체인의 길이를 상한으로 기록한다.
+     */
+    private void restoreFullContent(String contentHash) {
+        List<ChainLink> chain = contentBlobRepository.findChain(contentHash);
+        String content = materialize(chain);
+        Encoded encoded = ContentCodec.encode(content, compressionLevel);
+        contentBlobRepository.updateEncoding(contentHash, encoded.data(), encoded.codec(), encoded.level());
+        contentBlobRepository.updateDeltaRun(contentHash, chain.getFirst().getDeltaRun());
+    }
+
+    /**
+     * 어떤 문서 버전도 참조하지 않는 blob을 삭제한다.
+     * 레포지토리/프로젝트 삭제는 버전만 cascade로 지우므로 blob은 여기서 정리된다.
+     * 동시에 저장 중인 버전이 같은 blob을 참조하면 외래 키 때문에 이번 정리는 실패하고 다음 주기에 다시 시도한다.
+     */
+    public void deleteUnreferenced() {
+        Integer deleted = transactionTemplate.execute(status -> contentBlobRepository.deleteUnreferenced());
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} unreferenced content blobs", deleted);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 진행 중인 관리 작업을 중단한다. 커밋된 배치까지는 남는다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        maintenanceExecutor.shutdownNow();
+    }
+}
@@ -4,8 +4,8 @@ import com.docst.document.Document;
 import com.docst.document.DocumentLink;
 import com.docst.document.repository.DocumentLinkRepository;
 import com.docst.document.repository.DocumentRepository;
-import com.docst.git.LinkParser;
-import com.docst.git.LinkParser.ParsedLink;
+import com.docst.git.DocumentAnalyzer;
+import com.docst.git.DocumentAnalyzer.ParsedLink;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,7 +27,7 @@ public class DocumentLinkService {
 
     private final DocumentLinkRepository documentLinkRepository;
     private final DocumentRepository documentRepository;
-    private final LinkParser linkParser;
+    private final DocumentAnalyzer documentAnalyzer;
 
     /**
      * 문서에서 링크를 추출하고 저장한다.
@@ -43,8 +43,8 @@ public class DocumentLinkService {
         // 기존 링크 삭제
         documentLinkRepository.deleteBySourceDocumentId(document.getId());
 
-        // 링크 추출
-        List<ParsedLink> parsedLinks = linkParser.extractLinks(content);
+        // 링크 추출 (동기화 중 이미 분석한 내용이면 캐시된 결과 사용)
+        List<ParsedLink> parsedLinks = documentAnalyzer.analyze(content).links();
         if (parsedLinks.isEmpty()) {
             log.debug("No links found in document: {}", document.getPath());
             return;
@@ -54,15 +54,15 @@ public class DocumentLinkService {
         for (ParsedLink parsedLink : parsedLinks) {
             DocumentLink link = new DocumentLink(
                     document,
-                    parsedLink.getLinkText(),
-                    parsedLink.getLinkType(),
-                    parsedLink.getAnchorText(),
-                    parsedLink.getLineNumber()
+                    parsedLink.linkText(),
+                    parsedLink.linkType(),
+                    parsedLink.anchorText(),
+                    parsedLink.lineNumber()
             );
 
             // 내부 링크인 경우 목적지 문서 해결 시도
             if (link.isInternal()) {
-                Optional<Document> targetDoc = resolveTargetDocument(document, parsedLink.getLinkText());
+                Optional<Document> targetDoc = resolveTargetDocument(document, parsedLink.linkText());
                 targetDoc.ifPresent(link::setTargetDocument);
             }
 
@@ -1,24 +1,32 @@
 package com.docst.document.service;
 
+import com.docst.document.ContentHash;
 import com.docst.document.Document;
 import com.docst.document.Document.DocType;
 import com.docst.document.DocumentVersion;
+import com.docst.document.repository.DocumentBatchWriter;
+import com.docst.document.repository.DocumentBatchWriter.DocumentRow;
+import com.docst.document.repository.DocumentBatchWriter.VersionRow;
 import com.docst.document.repository.DocumentRepository;
 import com.docst.document.repository.DocumentVersionRepository;
+import com.docst.document.repository.DocumentVersionRepository.VersionSummaryView;
+import com.docst.git.DocumentAnalyzer;
 import com.docst.gitrepo.Repository;
 import com.docst.gitrepo.repository.RepositoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * 문서 서비스.
@@ -32,6 +40,9 @@ public class DocumentService {
     private final DocumentRepository documentRepository;
     private final DocumentVersionRepository documentVersionRepository;
     private final RepositoryRepository repositoryRepository;
+    private final DocumentBatchWriter documentBatchWriter;
+    private final ContentBlobService contentBlobService;
+    private final DocumentAnalyzer documentAnalyzer;
 
     /**
      * 레포지토리의 문서를 필터링하여 조회한다.
@@ -98,13 +109,13 @@ public class DocumentService {
     }
 
     /**
-     * 문서의 모든 버전을 조회한다.
+     * 문서의 모든 버전 요약을 조회한다. 버전 목록 표시용이므로 내용은 포함하지 않는다.
      *
      * @param documentId 문서 ID
-     * @return 버전 목록 (최신순)
+     * @return 버전 요약 목록 (최신순)
      */
-    public List<DocumentVersion> findVersions(UUID documentId) {
-        return documentVersionRepository.findByDocumentIdOrderByCommittedAtDesc(documentId);
+    public List<VersionSummaryView> findVersions(UUID documentId) {
+        return documentVersionRepository.findSummariesByDocumentId(documentId);
     }
 
     /**
@@ -118,10 +129,39 @@ public class DocumentService {
         return documentVersionRepository.findByDocumentIdAndCommitSha(documentId, commitSha);
     }
 
+    /**
+     * 레포지토리 문서의 경로별 최신 blob ID를 조회한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @return 경로 → blob ID (삭제된 문서와 blob ID를 알 수 없는 문서는 제외)
+     */
+    public Map<String, String> findLatestBlobIds(UUID repositoryId) {
+        Map<String, String> blobIds = new HashMap<>();
+        for (DocumentRepository.PathBlobView view : documentRepository.findLatestBlobIds(repositoryId)) {
+            blobIds.put(view.getPath(), view.getLatestBlobId());
+        }
+        return blobIds;
+    }
+
+    /**
+     * 문서를 생성하거나 업데이트한다.
+     * Git blob ID를 알 수 없는 경우(Git 외부 변경)에 사용한다.
+     *
+     * @see #upsertDocument(UUID, String, String, String, String, String, Instant, String, String)
+     */
+    @Transactional
+    public DocumentVersion upsertDocument(UUID repositoryId, String path, String commitSha,
+                                    String content, String authorName, String authorEmail,
+                                    Instant committedAt, String message) {
+        return upsertDocument(repositoryId, path, commitSha, content, authorName, authorEmail,
+                committedAt, message, null);
+    }
+
     /**
      * 문서를 생성하거나 업데이트한다.
      * 동일한 경로의 문서가 있으면 업데이트하고, 없으면 새로 생성한다.
      * 내용이 변경된 경우에만 새 버전을 추가한다.
+     * 문서의 최신 blob ID는 항상 전달된 값으로 갱신한다 (null이면 다음 FULL_SCAN에서 내용을 다시 비교).
      *
      * @param repositoryId 레포지토리 ID
      * @param path 파일 경로
@@ -131,19 +171,20 @@ public class DocumentService {
      * @param authorEmail 작성자 이메일
      * @param committedAt 커밋 시각
      * @param message 커밋 메시지
+     * @param blobId Git blob ID (알 수 없으면 null)
      * @return 새로 생성된 문서 버전 (기존과 동일한 내용이면 null)
      * @throws IllegalArgumentException 레포지토리가 존재하지 않을 경우
      */
     @Transactional
     public DocumentVersion upsertDocument(UUID repositoryId, String path, String commitSha,
                                     String content, String authorName, String authorEmail,
-                                    Instant committedAt, String message) {
+                                    Instant committedAt, String message, String blobId) {
         Repository repo = repositoryRepository.findById(repositoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Repository not found: " + repositoryId));
 
-        String title = extractTitle(path, content);
+        String contentHash = ContentHash.hash(content);
+        String title = extractTitle(path, contentHash, content);
         DocType docType = detectDocType(path);
-        String contentHash = hashContent(content);
 
         Document document = documentRepository.findByRepositoryIdAndPath(repositoryId, path)
                 .map(doc -> {
@@ -166,8 +207,8 @@ public class DocumentService {
             version.setAuthorEmail(authorEmail);
             version.setCommittedAt(committedAt);
             version.setMessage(message);
-            version.setContentHash(contentHash);
-            version.setContent(content);
+            version.setBlobId(blobId);
+            version.setBlob(contentBlobService.store(contentHash, content));
 
             // Explicitly save the version to avoid TransientObjectException
             // when subsequent queries trigger auto-flush
@@ -175,15 +216,164 @@ public class DocumentService {
 
             // Update document's latest commit SHA and add version to collection
             document.setLatestCommitSha(commitSha);
+            document.setLatestBlobId(blobId);
             document.getVersions().add(newVersion);
         } else {
             document.setLatestCommitSha(commitSha);
+            document.setLatestBlobId(blobId);
             documentRepository.save(document);
         }
 
         return newVersion;
     }
 
+    /**
+     * 여러 문서를 한 번에 생성하거나 업데이트한다.
+     * {@link #upsertDocument(UUID, String, String, String, String, String, Instant, String, String)}와 같은 규칙을 따르지만,
+     * 기존 문서와 내용 해시는 배치당 한 번씩 조회하고 문서/내용 blob/버전은 JDBC 배치로 저장하므로
+     * 문서 수와 무관하게 왕복 횟수가 일정하다. 동기화처럼 대량의 문서를 저장할 때 사용한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param upserts 저장할 문서 (같은 경로가 여러 번 있으면 마지막 항목 사용)
+     * @return 새 버전이 생성된 문서 (입력 순서, 기존과 동일한 내용의 문서는 제외)
+     * @throws IllegalArgumentException 레포지토리가 존재하지 않을 경우
+     */
+    @Transactional
+    public List<UpsertedDocument> upsertDocuments(UUID repositoryId, List<DocumentUpsert> upserts) {
+        if (upserts.isEmpty()) {
+            return List.of();
+        }
+        if (!repositoryRepository.existsById(repositoryId)) {
+            throw new IllegalArgumentException("Repository not found: " + repositoryId);
+        }
+
+        // JDBC로 직접 읽고 쓰므로 대기 중인 JPA 변경을 먼저 반영
+        documentRepository.flush();
+
+        Map<String, DocumentUpsert> byPath = new LinkedHashMap<>();
+        upserts.forEach(upsert -> byPath.put(upsert.path(), upsert));
+
+        Map<String, UUID> documentIds = new HashMap<>(documentBatchWriter.findDocumentIds(repositoryId, byPath.keySet()));
+        Map<UUID, String> contentHashes = new HashMap<>();
+        Instant now = Instant.now();
+
+        List<DocumentRow> documentRows = new ArrayList<>(byPath.size());
+        for (DocumentUpsert upsert : byPath.values()) {
+            UUID documentId = documentIds.computeIfAbsent(upsert.path(), path -> UUID.randomUUID());
+            String contentHash = ContentHash.hash(upsert.content());
+            documentRows.add(new DocumentRow(
+                    documentId,
+                    repositoryId,
+                    upsert.path(),
+                    extractTitle(upsert.path(), contentHash, upsert.content()),
+                    detectDocType(upsert.path()).name(),
+                    upsert.commitSha(),
+                    upsert.blobId(),
+                    now
+            ));
+            if (contentHash != null) {
+                contentHashes.put(documentId, contentHash);
+            }
+        }
+
+        Set<UUID> unchanged = documentBatchWriter.findDocumentsWithContentHash(contentHashes);
+        documentBatchWriter.upsertDocuments(documentRows);
+
+        List<VersionRow> versionRows = new ArrayList<>();
+        Map<String, String> blobs = new HashMap<>();
+        for (DocumentUpsert upsert : byPath.values()) {
+            UUID documentId = documentIds.get(upsert.path());
+            if (unchanged.contains(documentId)) {
+                continue;
+            }
+            String contentHash = contentHashes.get(documentId);
+            if (contentHash != null) {
+                blobs.put(contentHash, upsert.content());
+            }
+            versionRows.add(new VersionRow(
+                    UUID.randomUUID(),
+                    documentId,
+                    upsert.commitSha(),
+                    upsert.authorName(),
+                    upsert.authorEmail(),
+                    upsert.committedAt(),
+                    upsert.message(),
+                    upsert.blobId(),
+                    contentHash,
+                    now
+            ));
+        }
+        contentBlobService.storeAll(blobs);
+        Set<UUID> insertedVersions = documentBatchWriter.insertVersions(versionRows);
+
+        // 새 버전이 생긴 문서만 엔티티로 반환 (문서는 한 번에 조회, 버전은 프록시)
+        List<VersionRow> created = versionRows.stream()
+                .filter(row -> insertedVersions.contains(row.id()))
+                .toList();
+        Map<UUID, Document> documents = new HashMap<>();
+        documentRepository.findAllById(created.stream().map(VersionRow::documentId).toList())
+                .forEach(document -> documents.put(document.getId(), document));
+
+        List<UpsertedDocument> result = new ArrayList<>(created.size());
+        for (VersionRow row : created) {
+            Document document = documents.get(row.documentId());
+            result.add(new UpsertedDocument(document.getPath(), document,
+                    documentVersionRepository.getReferenceById(row.id()), row.contentHash()));
+        }
+        return result;
+    }
+
+    /**
+     * 과거 커밋 시점의 문서 버전을 한 번에 기록한다.
+     * 증분 동기화에서 중간 커밋 이력을 남기기 위해 사용하며,
+     * 문서의 제목/최신 커밋은 변경하지 않고 청킹/임베딩도 수행하지 않는다.
+     * 문서 ID는 배치당 한 번 조회하고 내용 blob/버전은 JDBC 배치로 저장한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param versions 기록할 버전 (경로, 커밋, 내용, 작성자 정보, blob ID)
+     * @return 기록된 버전 수 (문서가 없거나 이미 해당 커밋 버전이 있으면 제외)
+     */
+    @Transactional
+    public int recordHistoricalVersions(UUID repositoryId, List<DocumentUpsert> versions) {
+        if (versions.isEmpty()) {
+            return 0;
+        }
+
+        // JDBC로 직접 읽고 쓰므로 대기 중인 JPA 변경을 먼저 반영
+        documentRepository.flush();
+
+        Map<String, UUID> documentIds = documentBatchWriter.findDocumentIds(repositoryId,
+                versions.stream().map(DocumentUpsert::path).collect(Collectors.toSet()));
+        Instant now = Instant.now();
+
+        List<VersionRow> versionRows = new ArrayList<>(versions.size());
+        Map<String, String> blobs = new HashMap<>();
+        for (DocumentUpsert version : versions) {
+            UUID documentId = documentIds.get(version.path());
+            if (documentId == null) {
+                continue;
+            }
+            String contentHash = ContentHash.hash(version.content());
+            if (contentHash != null) {
+                blobs.put(contentHash, version.content());
+            }
+            versionRows.add(new VersionRow(
+                    UUID.randomUUID(),
+                    documentId,
+                    version.commitSha(),
+                    version.authorName(),
+                    version.authorEmail(),
+                    version.committedAt(),
+                    version.message(),
+                    version.blobId(),
+                    contentHash,
+                    now
+            ));
+        }
+        contentBlobService.storeAll(blobs);
+        return documentBatchWriter.insertVersions(versionRows).size();
+    }
+
     /**
      * 문서를 삭제 상태로 표시한다.
      *
@@ -202,17 +392,12 @@ public class DocumentService {
     /**
      * 문서 내용에서 제목을 추출한다.
      * 마크다운 h1 헤딩을 찾아 반환하고, 없으면 파일명을 반환한다.
+     * 동기화 준비 단계에서 이미 분석한 내용이면 분석 결과 캐시를 사용한다.
      */
-    private String extractTitle(String path, String content) {
-        // Try to extract title from markdown heading
-        if (content != null) {
-            String[] lines = content.split("\n");
-            for (String line : lines) {
-                String trimmed = line.trim();
-                if (trimmed.startsWith("# ")) {
-                    return trimmed.substring(2).trim();
-                }
-            }
+    private String extractTitle(String path, String contentHash, String content) {
+        String title = documentAnalyzer.analyze(contentHash, content).title();
+        if (title != null && !title.isEmpty()) {
+            return title;
         }
 
         // Fallback to filename
@@ -238,16 +423,40 @@ public class DocumentService {
     }
 
     /**
-     * 문서 내용의 SHA-256 해시를 계산한다.
+     * 일괄 저장할 문서.
+     *
+     * @param path 파일 경로
+     * @param commitSha 커밋 SHA
+     * @param content 문서 내용
+     * @param authorName 작성자 이름
+     * @param authorEmail 작성자 이메일
+     * @param committedAt 커밋 시각
+     * @param message 커밋 메시지
+     * @param blobId Git blob ID (알 수 없으면 null)
+     */
+    public record DocumentUpsert(
+            String path,
+            String commitSha,
+            String content,
+            String authorName,
+            String authorEmail,
+            Instant committedAt,
+            String message,
+            String blobId
+    ) {}
+
+    /**
+     * 새 버전이 생성된 문서.
+     *
+     * @param path 파일 경로
+     * @param document 문서 엔티티
+     * @param version 새로 생성된 문서 버전 (지연 로딩 프록시)
+     * @param contentHash 내용 해시 (내용이 없으면 null)
      */
-    private String hashContent(String content) {
-        if (content == null) return null;
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 not available", e);
-        }
-    }
+    public record UpsertedDocument(
+            String path,
+            Document document,
+            DocumentVersion version,
+            String contentHash
+    ) {}
 }
@@ -17,7 +17,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.file.Path;
 import java.util.UUID;
 
 /**
@@ -59,30 +58,27 @@ public class DocumentWriteService {
                 ProjectRole.EDITOR
         );
 
-        // 3. 로컬 경로 계산
-        Path localPath = gitWriteService.getLocalPath(repo);
-        Path filePath = localPath.resolve(input.path());
-
-        // 4. 파일 쓰기
-        try {
-            gitWriteService.writeFile(filePath, input.content());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
-        }
-
-        // 5. 커밋 (선택적)
+        // 3. 파일 쓰기 + 커밋 (선택적)
+        // bare 미러는 working tree가 없으므로 커밋 시 메모리에서 바로 커밋 객체를 만든다
         String commitSha = null;
         boolean committed = false;
 
-        if (Boolean.TRUE.equals(input.createCommit())) {
+        if (!Boolean.TRUE.equals(input.createCommit())) {
+            try {
+                gitWriteService.stageContent(repo, input.path(), input.content());
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
+            }
+        } else {
             try {
                 String message = input.message() != null && !input.message().isEmpty()
                         ? input.message()
                         : "Create " + input.path();
 
-                commitSha = gitWriteService.commitFile(
+                commitSha = gitWriteService.commitContent(
                         repo,
                         input.path(),
+                        input.content(),
                         message,
                         input.branch(),
                         username
@@ -91,7 +87,7 @@ public class DocumentWriteService {
                 committed = true;
                 log.info("Created commit for new document: {} ({})", input.path(), commitSha.substring(0, 8));
 
-                // 6. 동기화 (커밋한 경우)
+                // 4. 동기화 (커밋한 경우)
                 gitSyncService.syncRepository(
                         null, // jobId - 비동기 작업 아님
                         repo.getId(),
@@ -108,7 +104,7 @@ public class DocumentWriteService {
             }
         }
 
-        // 7. 문서 ID 조회 (동기화 후)
+        // 5. 문서 ID 조회 (동기화 후)
         UUID documentId = null;
         if (committed) {
             documentId = documentService.findByProjectId(repo.getProject().getId()).stream()
@@ -153,30 +149,27 @@ public class DocumentWriteService {
                 ProjectRole.EDITOR
         );
 
-        // 3. 로컬 경로 계산
-        Path localPath = gitWriteService.getLocalPath(repo);
-        Path filePath = localPath.resolve(doc.getPath());
-
-        // 4. 파일 쓰기
-        try {
-            gitWriteService.writeFile(filePath, input.content());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
-        }
-
-        // 5. 커밋 (선택적)
+        // 3. 파일 쓰기 + 커밋 (선택적)
+        // bare 미러는 working tree가 없으므로 커밋 시 메모리에서 바로 커밋 객체를 만든다
         String commitSha = null;
         boolean committed = false;
 
-        if (Boolean.TRUE.equals(input.createCommit())) {
+        if (!Boolean.TRUE.equals(input.createCommit())) {
+            try {
+                gitWriteService.stageContent(repo, doc.getPath(), input.content());
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to write file: " + e.getMessage(), e);
+            }
+        } else {
             try {
                 String message = input.message() != null && !input.message().isEmpty()
                         ? input.message()
                         : "Update " + doc.getPath();
 
-                commitSha = gitWriteService.commitFile(
+                commitSha = gitWriteService.commitContent(
                         repo,
                         doc.getPath(),
+                        input.content(),
                         message,
                         input.branch(),
                         username
@@ -185,7 +178,7 @@ public class DocumentWriteService {
                 committed = true;
                 log.info("Created commit for updated document: {} ({})", doc.getPath(), commitSha.substring(0, 8));
 
-                // 6. 동기화 (커밋한 경우)
+                // 4. 동기화 (커밋한 경우)
                 gitSyncService.syncRepository(
                         null, // jobId
                         repo.getId(),
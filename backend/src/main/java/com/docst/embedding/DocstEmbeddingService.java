@@ -6,6 +6,8 @@ import com.docst.document.DocumentVersion;
 import com.docst.rag.config.RagConfigService;
 import com.docst.rag.config.ResolvedRagConfig;
 import com.docst.admin.service.PgVectorDataSourceManager;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.document.Document;
@@ -16,10 +18,15 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -36,6 +43,7 @@ public class DocstEmbeddingService {
     private final DocChunkRepository docChunkRepository;
     private final DynamicEmbeddingClientFactory embeddingClientFactory;
     private final RagConfigService ragConfigService;
+    private final ObjectMapper objectMapper;
 
     /**
      * DocumentVersion의 모든 청크를 임베딩하여 VectorStore에 저장한다.
@@ -80,6 +88,48 @@ public class DocstEmbeddingService {
             return 0;
         }
 
+        return storeVectorDocuments(projectId, toVectorDocuments(chunks));
+    }
+
+    /**
+     * VectorStore(PgVector)가 활성화되어 있는지 확인한다.
+     *
+     * @return 활성화 여부
+     */
+    public boolean isVectorStoreEnabled() {
+        return pgVectorDataSourceManager.isEnabled();
+    }
+
+    /**
+     * DocChunk 목록을 Spring AI Document로 변환한다.
+     * 연관 엔티티(DocumentVersion, Document, Repository)에 접근하므로
+     * 청크를 저장한 영속성 컨텍스트(스레드) 안에서 호출해야 한다.
+     *
+     * @param chunks 청크 목록
+     * @return Spring AI Document 목록
+     */
+    public List<Document> toVectorDocuments(List<DocChunk> chunks) {
+        if (chunks == null || chunks.isEmpty()) {
+            return List.of();
+        }
+        return chunks.stream()
+            .map(this::convertToDocument)
+            .toList();
+    }
+
+    /**
+     * 변환이 끝난 Spring AI Document 목록을 임베딩하여 VectorStore에 저장한다.
+     * JPA 엔티티에 접근하지 않으므로 동기화 파이프라인의 임베딩 스레드에서 호출할 수 있다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param documents Spring AI Document 목록
+     * @return 임베딩된 문서 수
+     */
+    public int storeVectorDocuments(UUID projectId, List<Document> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return 0;
+        }
+
         // PgVector 활성화 여부 확인
         if (!pgVectorDataSourceManager.isEnabled()) {
             log.warn("PgVector is not enabled. Skipping embedding.");
@@ -109,11 +159,6 @@ public class DocstEmbeddingService {
             .vectorTableName(pgVectorDataSourceManager.getTableName())
             .build();
 
-        // DocChunk를 Spring AI Document로 변환
-        List<Document> documents = chunks.stream()
-            .map(this::convertToDocument)
-            .toList();
-
         // VectorStore에 저장 (자동으로 임베딩 생성됨)
         projectVectorStore.add(documents);
 
@@ -122,6 +167,62 @@ public class DocstEmbeddingService {
         return documents.size();
     }
 
+    /**
+     * 같은 내용의 다른 청크에서 임베딩 벡터를 복사해 VectorStore에 저장한다.
+     * 임베딩 API를 호출하지 않으며, 원본 벡터가 VectorStore에 없는 문서는 복사하지 않는다.
+     *
+     * @param documents Spring AI Document 목록
+     * @param sourceIds Document ID → 임베딩 원본 청크 ID
+     * @return 벡터가 복사된 Document ID 집합
+     */
+    public Set<String> copyEmbeddings(List<Document> documents, Map<String, String> sourceIds) {
+        if (documents == null || documents.isEmpty() || sourceIds.isEmpty()
+                || !pgVectorDataSourceManager.isEnabled()) {
+            return Set.of();
+        }
+
+        JdbcTemplate jdbcTemplate = pgVectorDataSourceManager.getOrCreateJdbcTemplate();
+        if (jdbcTemplate == null) {
+            return Set.of();
+        }
+
+        List<String> targetIds = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        for (Document document : documents) {
+            String sourceId = sourceIds.get(document.getId());
+            if (sourceId == null) {
+                continue;
+            }
+            try {
+                args.add(new Object[]{document.getId(), document.getText(),
+                        objectMapper.writeValueAsString(document.getMetadata()), sourceId});
+                targetIds.add(document.getId());
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to serialize metadata for {}: {}", document.getId(), e.getMessage());
+            }
+        }
+        if (args.isEmpty()) {
+            return Set.of();
+        }
+
+        String table = pgVectorDataSourceManager.getSchemaName() + "." + pgVectorDataSourceManager.getTableName();
+        int[] counts = jdbcTemplate.batchUpdate("""
+                INSERT INTO %s (id, content, metadata, embedding)
+                SELECT CAST(? AS uuid), ?, CAST(? AS json), embedding FROM %s WHERE id = CAST(? AS uuid)
+                ON CONFLICT (id) DO UPDATE
+                SET content = EXCLUDED.content, metadata = EXCLUDED.metadata, embedding = EXCLUDED.embedding
+                """.formatted(table, table), args);
+
+        Set<String> copied = new HashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                copied.add(targetIds.get(i));
+            }
+        }
+        log.debug("Copied {} of {} embeddings from chunks with the same content", copied.size(), args.size());
+        return copied;
+    }
+
     /**
      * DocChunk를 Spring AI Document로 변환한다.
      *
@@ -277,6 +378,31 @@ public class DocstEmbeddingService {
         return documentIds.size();
     }
 
+    /**
+     * 청크 ID 목록의 임베딩을 VectorStore에서 삭제한다.
+     * 청크 행이 이미 삭제된 뒤에도 호출할 수 있도록 DocChunk를 조회하지 않는다.
+     *
+     * @param chunkIds 청크 ID 목록
+     * @return 삭제된 임베딩 수
+     */
+    public int deleteEmbeddings(Collection<UUID> chunkIds) {
+        if (chunkIds.isEmpty() || !pgVectorDataSourceManager.isEnabled()) {
+            return 0;
+        }
+
+        JdbcTemplate jdbcTemplate = pgVectorDataSourceManager.getOrCreateJdbcTemplate();
+        if (jdbcTemplate == null) {
+            return 0;
+        }
+
+        String table = pgVectorDataSourceManager.getSchemaName() + "." + pgVectorDataSourceManager.getTableName();
+        int deleted = jdbcTemplate.update("DELETE FROM %s WHERE id = ANY(?)".formatted(table),
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", chunkIds.toArray())));
+
+        log.debug("Deleted {} embeddings from VectorStore for {} chunks", deleted, chunkIds.size());
+        return deleted;
+    }
+
     // ============================================================
     // Helper Methods
     // ============================================================
@@ -0,0 +1,59 @@
+package com.docst.embedding;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 임베딩 아웃박스 엔티티.
+ * 임베딩을 기다리는 청크 하나를 나타낸다. 워커가 점유하면 next_attempt_at을 lease 만료 시각으로 미루고,
+ * 성공하면 행을 삭제한다. 실패하면 backoff 후 다시 점유할 수 있다.
+ */
+@Entity
+@Table(name = "dm_embedding_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmbeddingOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 임베딩할 청크 ID */
+    @Column(name = "doc_chunk_id", nullable = false)
+    private UUID docChunkId;
+
+    /** 청크가 속한 레포지토리 ID */
+    @Column(name = "repository_id", nullable = false)
+    private UUID repositoryId;
+
+    /** 점유 횟수 */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 다시 점유할 수 있는 시각 */
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    /** 마지막 실패 메시지 */
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * 워커가 행을 점유한다. lease 동안 다른 워커는 이 행을 점유하지 않는다.
+     *
+     * @param lease 점유 유지 시간 (워커가 중단되면 이후 다시 처리됨)
+     */
+    public void lease(Duration lease) {
+        this.attempts++;
+        this.nextAttemptAt = Instant.now().plus(lease);
+    }
+}
@@ -0,0 +1,462 @@
+package com.docst.embedding;
+
+import com.docst.document.DocChunk;
+import com.docst.document.DocumentVersion;
+import com.docst.document.repository.DocChunkRepository;
+import com.docst.document.repository.DocChunkRepository.EmbeddingSource;
+import com.docst.embedding.repository.EmbeddingOutboxRepository;
+import com.docst.embedding.repository.EmbeddingOutboxRepository.OutboxStats;
+import com.docst.gitrepo.Repository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 임베딩 아웃박스 서비스.
+ * 동기화는 {@link #enqueue(DocumentVersion)}로 청크와 같은 트랜잭션에서 임베딩 대기 행만 기록하고,
+ * 워커가 아웃박스를 배치로 비우면서 VectorStore에 저장한다.
+ * 임베딩 API가 느리거나 장애가 나도 동기화는 기다리거나 실패하지 않는다.
+ * <ul>
+ *   <li>점유: FOR UPDATE SKIP LOCKED로 행을 잠그고 lease를 기록한 뒤 트랜잭션을 바로 끝낸다.
+ *       임베딩 요청 중에는 트랜잭션이나 잠금을 잡고 있지 않으며, 워커가 중단되면 lease 만료 후 다시 처리된다.</li>
+ *   <li>실패: 점유 횟수에 따라 지수 backoff 후 재시도한다. docst.embedding.outbox.max-attempts에 도달한 행은
+ *       더 이상 점유하지 않고 dead로 집계한다. dead 청크가 다시 추가되면 점유 횟수를 초기화해 다시 처리하고,
+ *       docst.embedding.outbox.dead-retention이 지난 dead 행은 삭제한다.</li>
+ *   <li>재사용: 같은 프로젝트에서 청크 내용 해시가 같은 청크가 이미 임베딩되어 있으면
+ *       임베딩 API를 호출하지 않고 VectorStore 안에서 벡터를 복사한다.
+ *       문서가 바뀌어도 바뀌지 않은 청크는 이전 버전의 벡터를 그대로 사용하고, 새로 생기거나 바뀐 청크만 임베딩한다.</li>
+ *   <li>메트릭: docst.embedding.outbox.pending, docst.embedding.outbox.dead,
+ *       docst.embedding.outbox.lag.seconds (가장 오래된 대기 행의 경과 시간)</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class EmbeddingOutboxService {
+
+    private final EmbeddingOutboxRepository outboxRepository;
+    private final DocChunkRepository docChunkRepository;
+    private final DocstEmbeddingService embeddingService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration deadRetention;
+
+    private final ExecutorService drainExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("embedding-outbox").factory());
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter embeddedCounter;
+    private final Counter failedCounter;
+    private final Counter reusedCounter;
+
+    /**
+     * EmbeddingOutboxService 생성자.
+     *
+     * @param batchSize 한 번에 점유할 최대 행 수
+     * @param maxAttempts 최대 점유 횟수
+     * @param lease 점유 유지 시간
+     * @param retryBackoff 첫 재시도까지의 시간 (이후 2배씩 증가)
+     * @param maxRetryBackoff 재시도 간격 상한
+     * @param deadRetention dead 행 보관 기간
+     */
+    public EmbeddingOutboxService(EmbeddingOutboxRepository outboxRepository,
+                                  DocChunkRepository docChunkRepository,
+                                  DocstEmbeddingService embeddingService,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${docst.embedding.outbox.batch-size:256}") int batchSize,
+                                  @Value("${docst.embedding.outbox.max-attempts:10}") int maxAttempts,
+                                  @Value("${docst.embedding.outbox.lease:5m}") Duration lease,
+                                  @Value("${docst.embedding.outbox.retry-backoff:30s}") Duration retryBackoff,
+                                  @Value("${docst.embedding.outbox.max-retry-backoff:1h}") Duration maxRetryBackoff,
+                                  @Value("${docst.embedding.outbox.dead-retention:7d}") Duration deadRetention) {
+        this.outboxRepository = outboxRepository;
+        this.docChunkRepository = docChunkRepository;
+        this.embeddingService = embeddingService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.deadRetention = deadRetention;
+
+        Gauge.builder("docst.embedding.outbox.pending", pending, AtomicLong::get)
+                .description("Chunks waiting to be embedded")
+                .register(meterRegistry);
+        Gauge.builder("docst.embedding.outbox.dead", dead, AtomicLong::get)
+                .description("Chunks that reached the maximum number of embedding attempts")
+                .register(meterRegistry);
+        Gauge.builder("docst.embedding.outbox.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest chunk waiting to be embedded")
+                .register(meterRegistry);
+        this.embeddedCounter = Counter.builder("docst.embedding.outbox.processed")
+                .tag("result", "embedded")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("docst.embedding.outbox.processed")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.reusedCounter = Counter.builder("docst.embedding.outbox.processed")
+                .tag("result", "reused")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 문서 버전의 청크를 임베딩 대기열에 추가한다.
+     * 청크를 저장한 트랜잭션 안에서 호출하며, 트랜잭션이 롤백되면 대기 행도 함께 롤백된다.
+     * VectorStore가 비활성화되어 있으면 추가하지 않는다.
+     *
+     * @param documentVersion 청크가 저장된 문서 버전
+     * @return 추가된 청크 수
+     */
+    public int enqueue(DocumentVersion documentVersion) {
+        return enqueue(documentVersion.getId(), documentVersion.getDocument().getRepository().getId());
+    }
+
+    /**
+     * 문서 버전의 청크를 임베딩 대기열에 추가한다. 엔티티를 로드하지 않고 ID만 사용한다.
+     *
+     * @param documentVersionId 청크가 저장된 문서 버전 ID
+     * @param repositoryId 레포지토리 ID
+     * @return 추가된 청크 수
+     * @see #enqueue(DocumentVersion)
+     */
+    public int enqueue(UUID documentVersionId, UUID repositoryId) {
+        if (!embeddingService.isVectorStoreEnabled()) {
+            return 0;
+        }
+        return outboxRepository.enqueueDocumentVersion(documentVersionId, repositoryId, maxAttempts);
+    }
+
+    /**
+     * 청크를 임베딩 대기열에 추가한다. 재청킹처럼 문서 버전의 일부 청크만 새로 생긴 경우에 사용한다.
+     *
+     * @param chunkIds 청크 ID 목록
+     * @param repositoryId 레포지토리 ID
+     * @return 추가된 청크 수
+     * @see #enqueue(DocumentVersion)
+     */
+    public int enqueueChunks(Collection<UUID> chunkIds, UUID repositoryId) {
+        if (chunkIds.isEmpty() || !embeddingService.isVectorStoreEnabled()) {
+            return 0;
+        }
+        return outboxRepository.enqueueChunks(chunkIds, repositoryId, maxAttempts);
+    }
+
+    /**
+     * 문서 버전들의 청크 중 기존 벡터를 재사용할 수 있는 청크 수를 센다.
+     * 청크를 아웃박스에 추가한 뒤 같은 트랜잭션에서 호출하며, 동기화 결과(재사용/임베딩 청크 수)에 사용한다.
+     * 워커는 처리 시점에 원본을 다시 찾으므로 실제 재사용 수는 이보다 많을 수 있다 (같은 배치의 청크끼리 재사용).
+     *
+     * @param documentVersionIds 문서 버전 ID 목록
+     * @return 재사용할 수 있는 청크 수
+     */
+    public int countReusable(Collection<UUID> documentVersionIds) {
+        if (documentVersionIds.isEmpty() || !embeddingService.isVectorStoreEnabled()) {
+            return 0;
+        }
+        return (int) docChunkRepository.countReusableChunks(documentVersionIds);
+    }
+
+    /**
+     * 주기적으로 메트릭을 갱신하고, 워커가 쉬고 있으면 아웃박스 비우기를 시작한다.
+     * 비우기는 전용 스레드에서 실행되므로 스케줄러 스레드는 임베딩 요청을 기다리지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${docst.embedding.outbox.poll-interval:2000}")
+    public void tick() {
+        refreshStats();
+        if (dead.get() > 0) {
+            purgeDead();
+        }
+        if (!embeddingService.isVectorStoreEnabled() || pending.get() == 0) {
+            return;
+        }
+        if (draining.compareAndSet(false, true)) {
+            drainExecutor.execute(() -> {
+                try {
+                    drain();
+                } catch (Exception e) {
+                    log.error("Embedding outbox drain failed", e);
+                } finally {
+                    draining.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 처리할 수 있는 행이 없을 때까지 배치 단위로 임베딩한다.
+     *
+     * @return 임베딩된 청크 수
+     */
+    public int drain() {
+        int embedded = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<EmbeddingOutbox> claimed = claim();
+            if (claimed.isEmpty()) {
+                break;
+            }
+            embedded += process(claimed);
+        }
+        return embedded;
+    }
+
+    /**
+     * 행을 잠그고 lease를 기록한 뒤 트랜잭션을 끝낸다.
+     */
+    private List<EmbeddingOutbox> claim() {
+        List<EmbeddingOutbox> claimed = transactionTemplate.execute(status -> {
+            List<EmbeddingOutbox> rows = outboxRepository.lockDue(maxAttempts, batchSize);
+            rows.forEach(row -> row.lease(lease));
+            return rows;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    /**
+     * 점유한 행을 레포지토리별로 묶어 임베딩한다.
+     * 레포지토리 동기화 설정의 embeddingParallelism만큼 나누어 동시에 요청한다.
+     *
+     * @return 임베딩된 청크 수
+     */
+    private int process(List<EmbeddingOutbox> claimed) {
+        Map<UUID, EmbeddingOutbox> byChunkId = claimed.stream()
+                .collect(Collectors.toMap(EmbeddingOutbox::getDocChunkId, row -> row));
+
+        // 엔티티 접근(메타데이터 변환)은 트랜잭션 안에서 끝내고, 임베딩 요청에는 변환된 문서만 넘긴다
+        List<RepositoryBatch> batches = transactionTemplate.execute(status -> toBatches(byChunkId));
+        if (batches == null) {
+            return 0;
+        }
+
+        // 그 사이 청크가 삭제된 행은 정리
+        Set<Long> found = new HashSet<>();
+        batches.forEach(batch -> batch.items().forEach(item -> found.add(item.outboxId())));
+        List<Long> orphaned = claimed.stream().map(EmbeddingOutbox::getId).filter(id -> !found.contains(id)).toList();
+        if (!orphaned.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(orphaned);
+        }
+
+        int embedded = 0;
+        for (RepositoryBatch batch : batches) {
+            embedded += embed(batch, byChunkId);
+        }
+        log.debug("Embedding outbox: embedded {} of {} claimed chunks", embedded, claimed.size());
+        return embedded;
+    }
+
+    private List<RepositoryBatch> toBatches(Map<UUID, EmbeddingOutbox> byChunkId) {
+        Map<UUID, UUID> sources = docChunkRepository.findEmbeddingSources(byChunkId.keySet()).stream()
+                .collect(Collectors.toMap(EmbeddingSource::getTargetId, EmbeddingSource::getSourceId));
+        Map<UUID, RepositoryBatch> batches = new LinkedHashMap<>();
+        for (DocChunk chunk : docChunkRepository.findWithDocumentByIdIn(byChunkId.keySet())) {
+            Repository repo = chunk.getDocumentVersion().getDocument().getRepository();
+            RepositoryBatch batch = batches.computeIfAbsent(repo.getId(), id -> new RepositoryBatch(
+                    repo.getProject().getId(), repo.getSyncConfig().getEmbeddingParallelism(), new ArrayList<>()));
+            Document document = embeddingService.toVectorDocuments(List.of(chunk)).getFirst();
+            UUID sourceId = sources.get(chunk.getId());
+            batch.items().add(new OutboxItem(byChunkId.get(chunk.getId()).getId(), document,
+                    sourceId != null ? sourceId.toString() : null));
+        }
+        return new ArrayList<>(batches.values());
+    }
+
+    /**
+     * 레포지토리 배치를 병렬도만큼 나누어 임베딩하고, 결과에 따라 행을 삭제하거나 재시도를 예약한다.
+     * 같은 내용의 청크가 이미 임베딩되어 있으면 벡터를 복사하고 나머지만 임베딩 API로 보낸다.
+     */
+    private int embed(RepositoryBatch batch, Map<UUID, EmbeddingOutbox> byChunkId) {
+        List<OutboxItem> remaining = reuse(batch.items());
+        List<List<OutboxItem>> slices = slice(remaining, batch.parallelism());
+        AtomicLong embedded = new AtomicLong(batch.items().size() - remaining.size());
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("embedding-outbox-", 0).factory())) {
+            for (List<OutboxItem> slice : slices) {
+                executor.execute(() -> {
+                    List<Long> ids = slice.stream().map(OutboxItem::outboxId).toList();
+                    try {
+                        List<Document> documents = slice.stream().map(OutboxItem::document).toList();
+                        int count = embeddingService.storeVectorDocuments(batch.projectId(), documents);
+                        if (count < documents.size()) {
+                            throw new IllegalStateException("Vector store unavailable");
+                        }
+                        outboxRepository.deleteAllByIdInBatch(ids);
+                        embedded.addAndGet(count);
+                        embeddedCounter.increment(count);
+                    } catch (Exception e) {
+                        failedCounter.increment(ids.size());
+                        scheduleRetry(ids, byChunkId, e);
+                    }
+                });
+            }
+        }
+        return (int) embedded.get();
+    }
+
+    /**
+     * 임베딩 원본이 있는 항목의 벡터를 복사하고 아웃박스 행을 삭제한다.
+     * 복사에 실패하거나 원본 벡터가 없는 항목은 임베딩 대상으로 남긴다.
+     *
+     * @return 임베딩 API로 보낼 항목
+     */
+    private List<OutboxItem> reuse(List<OutboxItem> items) {
+        Map<String, String> sourceIds = new HashMap<>();
+        items.forEach(item -> {
+            if (item.sourceId() != null) {
+                sourceIds.put(item.document().getId(), item.sourceId());
+            }
+        });
+        if (sourceIds.isEmpty()) {
+            return items;
+        }
+
+        Set<String> copied;
+        try {
+            copied = embeddingService.copyEmbeddings(items.stream().map(OutboxItem::document).toList(), sourceIds);
+        } catch (Exception e) {
+            log.warn("Failed to reuse embeddings, embedding {} chunks instead: {}", sourceIds.size(), e.getMessage());
+            return items;
+        }
+        if (copied.isEmpty()) {
+            return items;
+        }
+
+        List<OutboxItem> remaining = new ArrayList<>();
+        List<Long> reusedIds = new ArrayList<>();
+        for (OutboxItem item : items) {
+            if (copied.contains(item.document().getId())) {
+                reusedIds.add(item.outboxId());
+            } else {
+                remaining.add(item);
+            }
+        }
+        outboxRepository.deleteAllByIdInBatch(reusedIds);
+        reusedCounter.increment(reusedIds.size());
+        return remaining;
+    }
+
+    /**
+     * 실패한 행의 재시도 시각을 기록한다. 점유 횟수가 같은 행끼리 한 번에 갱신한다.
+     */
+    private void scheduleRetry(List<Long> ids, Map<UUID, EmbeddingOutbox> byChunkId, Exception error) {
+        Set<Long> failed = new HashSet<>(ids);
+        Map<Integer, List<Long>> byAttempts = byChunkId.values().stream()
+                .filter(row -> failed.contains(row.getId()))
+                .collect(Collectors.groupingBy(EmbeddingOutbox::getAttempts,
+                        Collectors.mapping(EmbeddingOutbox::getId, Collectors.toList())));
+
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        log.warn("Embedding failed for {} chunks, will retry: {}", ids.size(), message);
+        transactionTemplate.executeWithoutResult(status -> byAttempts.forEach((attempts, rowIds) ->
+                outboxRepository.markFailed(rowIds,
+                        Instant.now().plus(retryDelay(retryBackoff, maxRetryBackoff, attempts)), message)));
+    }
+
+    /**
+     * 보관 기간이 지난 dead 행을 삭제한다.
+     */
+    private void purgeDead() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxRepository.deleteDead(maxAttempts, Instant.now().minus(deadRetention)));
+            if (deleted != null && deleted > 0) {
+                dead.addAndGet(-deleted);
+                log.info("Deleted {} dead embedding outbox rows older than {}", deleted, deadRetention);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to delete dead embedding outbox rows: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 아웃박스 집계로 메트릭을 갱신한다.
+     */
+    private void refreshStats() {
+        try {
+            OutboxStats stats = outboxRepository.stats(maxAttempts);
+            pending.set(stats.getPending());
+            dead.set(stats.getDead());
+            lagSeconds.set(Math.round(stats.getOldestAgeSeconds()));
+        } catch (Exception e) {
+            log.debug("Failed to refresh embedding outbox stats: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 지연 시간. 점유 횟수마다 2배씩 늘리고 상한에서 멈춘다.
+     *
+     * @param base 첫 재시도 지연
+     * @param max 지연 상한
+     * @param attempts 점유 횟수 (1부터)
+     * @return 지연 시간
+     */
+    static Duration retryDelay(Duration base, Duration max, int attempts) {
+        long delay = base.toMillis() << Math.min(Math.max(0, attempts - 1), 20);
+        return Duration.ofMillis(Math.min(delay, max.toMillis()));
+    }
+
+    private static <T> List<List<T>> slice(List<T> items, int parallelism) {
+        int size = Math.max(1, (items.size() + parallelism - 1) / parallelism);
+        List<List<T>> slices = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            slices.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return slices;
+    }
+
+    /**
+     * 애플리케이션 종료 시 진행 중인 비우기를 중단한다. 점유한 행은 lease 만료 후 다시 처리된다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        drainExecutor.shutdownNow();
+    }
+
+    /**
+     * 레포지토리 단위 임베딩 배치.
+     *
+     * @param projectId 프로젝트 ID (임베딩 모델 결정)
+     * @param parallelism 동시 임베딩 요청 수
+     * @param items 임베딩할 항목
+     */
+    private record RepositoryBatch(UUID projectId, int parallelism, List<OutboxItem> items) {}
+
+    /**
+     * 아웃박스 행과 변환된 문서.
+     *
+     * @param sourceId 같은 내용으로 이미 임베딩된 청크 ID (없으면 null)
+     */
+    private record OutboxItem(Long outboxId, Document document, String sourceId) {}
+}
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -38,6 +39,10 @@ public class ReEmbeddingService {
     private final DynamicEmbeddingClientFactory embeddingClientFactory;
     private final RagConfigService ragConfigService;
 
+    /** 임베딩 API 요청 하나에 담기는 청크 수 (비용 추정용) */
+    @Value("${docst.embedding.batch-size:32}")
+    private int embeddingBatchSize;
+
     // 프로젝트별 재임베딩 진행 상태 추적
     private final ConcurrentHashMap<UUID, ReEmbeddingStatus> statusMap = new ConcurrentHashMap<>();
 
@@ -175,6 +180,21 @@ public class ReEmbeddingService {
             .build();
     }
 
+    /**
+     * 재임베딩 비용을 추정한다.
+     * 재임베딩과 같은 범위(프로젝트의 모든 문서 버전)의 청크를 집계만 하며, 청크를 로드하거나 임베딩하지 않는다.
+     *
+     * @param projectId 프로젝트 ID
+     * @return 추정 결과
+     */
+    @Transactional(readOnly = true)
+    public ReEmbeddingEstimate estimate(UUID projectId) {
+        DocChunkRepository.ChunkStats stats = docChunkRepository.statsByProjectId(projectId);
+        int batchSize = Math.max(1, embeddingBatchSize);
+        long calls = (stats.getChunks() + batchSize - 1) / batchSize;
+        return new ReEmbeddingEstimate(stats.getVersions(), stats.getChunks(), stats.getTokens(), calls);
+    }
+
     /**
      * 프로젝트의 재임베딩 진행 상태를 조회한다.
      *
@@ -195,6 +215,16 @@ public class ReEmbeddingService {
         String errorMessage
     ) {}
 
+    /**
+     * 재임베딩 비용 추정 결과.
+     */
+    public record ReEmbeddingEstimate(
+        long totalVersions,
+        long chunks,
+        long tokens,
+        long embeddingCalls
+    ) {}
+
     /**
      * 재임베딩 진행 상태.
      */
@@ -0,0 +1,132 @@
+package com.docst.embedding.repository;
+
+import com.docst.embedding.EmbeddingOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 임베딩 아웃박스 레포지토리.
+ */
+@Repository
+public interface EmbeddingOutboxRepository extends JpaRepository<EmbeddingOutbox, Long> {
+
+    /**
+     * 문서 버전의 모든 청크를 아웃박스에 추가한다.
+     * 같은 트랜잭션에서 저장한 청크를 읽도록 실행 전에 영속성 컨텍스트를 flush한다.
+     * 이미 대기 중인 청크는 그대로 두고, 최대 점유 횟수에 도달한(dead) 청크는 점유 횟수를 초기화해 다시 대기시킨다.
+     *
+     * @param documentVersionId 문서 버전 ID
+     * @param repositoryId 레포지토리 ID
+     * @param maxAttempts 최대 점유 횟수 (도달한 행은 다시 대기)
+     * @return 추가되거나 다시 대기하게 된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO dm_embedding_outbox (doc_chunk_id, repository_id)
+        SELECT c.id, :repositoryId FROM dm_doc_chunk c WHERE c.document_version_id = :documentVersionId
+        ON CONFLICT (doc_chunk_id) DO UPDATE
+            SET attempts = 0, next_attempt_at = now(), last_error = NULL, created_at = now()
+            WHERE dm_embedding_outbox.attempts >= :maxAttempts
+        """, nativeQuery = true)
+    int enqueueDocumentVersion(@Param("documentVersionId") UUID documentVersionId,
+                               @Param("repositoryId") UUID repositoryId,
+                               @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 청크 ID 목록의 청크를 아웃박스에 추가한다.
+     * dead 청크는 {@link #enqueueDocumentVersion}과 같이 다시 대기시킨다.
+     *
+     * @param chunkIds 청크 ID 목록
+     * @param repositoryId 레포지토리 ID
+     * @param maxAttempts 최대 점유 횟수 (도달한 행은 다시 대기)
+     * @return 추가되거나 다시 대기하게 된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO dm_embedding_outbox (doc_chunk_id, repository_id)
+        SELECT c.id, :repositoryId FROM dm_doc_chunk c WHERE c.id IN (:chunkIds)
+        ON CONFLICT (doc_chunk_id) DO UPDATE
+            SET attempts = 0, next_attempt_at = now(), last_error = NULL, created_at = now()
+            WHERE dm_embedding_outbox.attempts >= :maxAttempts
+        """, nativeQuery = true)
+    int enqueueChunks(@Param("chunkIds") Collection<UUID> chunkIds,
+                      @Param("repositoryId") UUID repositoryId,
+                      @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 처리할 수 있는 행을 잠그고 조회한다.
+     * 다른 워커가 잠근 행은 건너뛰므로 여러 워커(인스턴스)가 동시에 실행되어도 같은 행을 점유하지 않는다.
+     * 트랜잭션 안에서 호출하고, 같은 트랜잭션에서 {@link EmbeddingOutbox#lease}로 점유를 기록해야 한다.
+     *
+     * @param maxAttempts 최대 점유 횟수 (도달한 행은 제외)
+     * @param limit 최대 행 수
+     * @return 잠긴 행 목록 (오래된 순)
+     */
+    @Query(value = """
+        SELECT * FROM dm_embedding_outbox
+        WHERE next_attempt_at <= now() AND attempts < :maxAttempts
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<EmbeddingOutbox> lockDue(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    /**
+     * 실패한 행의 다음 시도 시각과 오류를 기록한다.
+     *
+     * @param ids 행 ID 목록
+     * @param nextAttemptAt 다음 시도 시각
+     * @param error 오류 메시지
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE EmbeddingOutbox o SET o.nextAttemptAt = :nextAttemptAt, o.lastError = :error WHERE o.id IN :ids")
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") Instant nextAttemptAt,
+                   @Param("error") String error);
+
+    /**
+     * 보관 기간이 지난 dead 행을 삭제한다. 삭제된 청크는 다음 동기화나 재청킹에서 다시 추가될 때까지 임베딩되지 않는다.
+     *
+     * @param maxAttempts 최대 점유 횟수 (도달한 행이 dead)
+     * @param before 마지막 실패 후 재시도 예정 시각이 이보다 이전인 행만 삭제
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM dm_embedding_outbox
+        WHERE attempts >= :maxAttempts AND next_attempt_at < :before
+        """, nativeQuery = true)
+    int deleteDead(@Param("maxAttempts") int maxAttempts, @Param("before") Instant before);
+
+    /**
+     * 아웃박스 상태를 집계한다.
+     *
+     * @param maxAttempts 최대 점유 횟수 (도달한 행은 dead로 집계)
+     * @return 대기/dead 행 수와 가장 오래된 대기 행의 경과 시간
+     */
+    @Query(value = """
+        SELECT count(*) FILTER (WHERE attempts < :maxAttempts) AS pending,
+               count(*) FILTER (WHERE attempts >= :maxAttempts) AS dead,
+               COALESCE(EXTRACT(EPOCH FROM now() - min(created_at) FILTER (WHERE attempts < :maxAttempts)), 0)
+                   AS oldestAgeSeconds
+        FROM dm_embedding_outbox
+        """, nativeQuery = true)
+    OutboxStats stats(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 아웃박스 집계 결과.
+     */
+    interface OutboxStats {
+        long getPending();
+        long getDead();
+        double getOldestAgeSeconds();
+    }
+}
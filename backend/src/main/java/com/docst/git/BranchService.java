@@ -5,7 +5,9 @@ import com.docst.gitrepo.repository.RepositoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -72,9 +74,20 @@ public class BranchService {
             .orElseThrow(() -> new IllegalArgumentException("Repository not found: " + repositoryId));
 
         try (Git git = gitService.cloneOrOpen(repo)) {
-            git.checkout()
-                .setName(branchName)
-                .call();
+            if (git.getRepository().isBare()) {
+                // bare 미러는 working tree가 없으므로 HEAD 참조만 전환
+                RefUpdate.Result result = git.getRepository()
+                    .updateRef(Constants.HEAD)
+                    .link(Constants.R_HEADS + branchName);
+                if (result != RefUpdate.Result.NEW && result != RefUpdate.Result.FORCED
+                        && result != RefUpdate.Result.NO_CHANGE) {
+                    throw new IllegalStateException("Failed to switch HEAD: " + result);
+                }
+            } else {
+                git.checkout()
+                    .setName(branchName)
+                    .call();
+            }
 
             log.info("Switched to branch: {}", branchName);
         } catch (Exception e) {
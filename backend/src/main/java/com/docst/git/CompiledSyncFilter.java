@@ -0,0 +1,281 @@
+package com.docst.git;
+
+import com.docst.gitrepo.RepositorySyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 컴파일된 동기화 경로 필터.
+ * {@link RepositorySyncConfig}의 확장자/포함 경로/제외 경로/패턴을 한 번만 컴파일하여 재사용한다.
+ * <ul>
+ *   <li>{@link #toTreeFilter()}: 제외 경로 하위 트리와 포함 경로 밖의 트리를 TreeWalk 단계에서 건너뛴다.</li>
+ *   <li>{@link #matches(String)}: 확장자는 문자열 비교로, 나머지 패턴은 하나로 합친 정규식으로 판정한다.</li>
+ * </ul>
+ * 경로 비교는 세그먼트 단위다. 제외 경로 "build"는 "build/x.md", "a/build/x.md"를 제외하지만
+ * "building.md"는 제외하지 않으며, 포함 경로 "docs"는 "docs2/"를 포함하지 않는다.
+ * 인스턴스는 불변이므로 여러 스레드에서 공유할 수 있다.
+ */
+@Slf4j
+public final class CompiledSyncFilter {
+
+    /** 설정이 없거나 패턴이 하나도 없을 때 사용하는 기본 확장자 */
+    private static final List<String> DEFAULT_EXTENSIONS = List.of("md", "adoc");
+
+    private static final String OPENAPI_PATTERN = ".*openapi\\.(?:yaml|yml|json)";
+    private static final String SWAGGER_PATTERN = ".*swagger\\.(?:yaml|yml|json)";
+
+    /** 커스텀 패턴 최대 길이 (ReDoS 방지) */
+    private static final int MAX_CUSTOM_PATTERN_LENGTH = 100;
+
+    private final List<String> excludePaths;
+    private final List<String> excludePrefixes;
+    private final List<String> excludeInfixes;
+    private final List<String> excludeSuffixes;
+    private final List<String> includePaths;
+    private final List<String> includePrefixes;
+    private final List<String> extensionSuffixes;
+    private final Pattern combinedPattern;
+    private final TreeFilter treeFilter;
+
+    private CompiledSyncFilter(List<String> excludePaths, List<String> includePaths,
+                               List<String> extensions, Pattern combinedPattern) {
+        this.excludePaths = excludePaths;
+        this.excludePrefixes = excludePaths.stream().map(p -> p + "/").toList();
+        this.excludeInfixes = excludePaths.stream().map(p -> "/" + p + "/").toList();
+        this.excludeSuffixes = excludePaths.stream().map(p -> "/" + p).toList();
+        this.includePaths = includePaths;
+        this.includePrefixes = includePaths.stream().map(p -> p + "/").toList();
+        this.extensionSuffixes = extensions.stream().map(ext -> "." + ext).toList();
+        this.combinedPattern = combinedPattern;
+        this.treeFilter = buildTreeFilter();
+    }
+
+    /**
+     * 동기화 설정을 컴파일한다.
+     * 잘못된 커스텀 패턴은 경고 로그를 남기고 제외한다.
+     *
+     * @param config 동기화 설정 (null이면 기본 문서 패턴, 경로 제한 없음)
+     * @return 컴파일된 필터
+     */
+    public static CompiledSyncFilter compile(RepositorySyncConfig config) {
+        if (config == null) {
+            return new CompiledSyncFilter(List.of(), List.of(), DEFAULT_EXTENSIONS,
+                    combine(List.of(OPENAPI_PATTERN, SWAGGER_PATTERN)));
+        }
+
+        List<String> extensions = config.getFileExtensions().stream()
+                .filter(ext -> ext != null && !ext.isBlank())
+                .map(ext -> ext.startsWith(".") ? ext.substring(1) : ext)
+                .toList();
+
+        List<String> patterns = new ArrayList<>();
+        if (config.scanOpenApi()) {
+            patterns.add(OPENAPI_PATTERN);
+        }
+        if (config.scanSwagger()) {
+            patterns.add(SWAGGER_PATTERN);
+        }
+        for (String customPattern : config.getCustomPatterns()) {
+            if (customPattern == null || customPattern.length() > MAX_CUSTOM_PATTERN_LENGTH) {
+                log.warn("Custom pattern ignored (null or too long): {}", customPattern);
+                continue;
+            }
+            try {
+                Pattern.compile(customPattern);
+                patterns.add(customPattern);
+            } catch (PatternSyntaxException e) {
+                log.warn("Invalid custom pattern ignored: {} - {}", customPattern, e.getMessage());
+            }
+        }
+
+        // 패턴이 없으면 기본 패턴 사용
+        if (extensions.isEmpty() && patterns.isEmpty()) {
+            extensions = DEFAULT_EXTENSIONS;
+            patterns = List.of(OPENAPI_PATTERN, SWAGGER_PATTERN);
+        }
+
+        return new CompiledSyncFilter(
+                normalizePaths(config.getExcludePaths()),
+                normalizePaths(config.getIncludePaths()),
+                extensions,
+                combine(patterns)
+        );
+    }
+
+    /**
+     * 경로가 문서 파일인지 판정한다.
+     *
+     * @param path 레포지토리 기준 파일 경로
+     * @return 제외되지 않고, 포함 범위 안에 있으며, 확장자 또는 패턴이 일치하면 true
+     */
+    public boolean matches(String path) {
+        if (path == null || isExcluded(path) || !isIncluded(path)) {
+            return false;
+        }
+        for (String suffix : extensionSuffixes) {
+            if (path.regionMatches(true, path.length() - suffix.length(), suffix, 0, suffix.length())) {
+                return true;
+            }
+        }
+        return combinedPattern != null && combinedPattern.matcher(path).matches();
+    }
+
+    /**
+     * 경로가 제외 경로 자체이거나 그 하위에 있는지 확인한다.
+     *
+     * @param path 파일 경로
+     * @return 제외 대상이면 true
+     */
+    public boolean isExcluded(String path) {
+        for (int i = 0; i < excludePaths.size(); i++) {
+            if (path.equals(excludePaths.get(i))
+                    || path.startsWith(excludePrefixes.get(i))
+                    || path.endsWith(excludeSuffixes.get(i))
+                    || path.contains(excludeInfixes.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 경로가 포함 경로 자체이거나 그 하위에 있는지 확인한다.
+     *
+     * @param path 파일 경로
+     * @return 포함 대상이면 true (포함 경로가 없으면 항상 true)
+     */
+    public boolean isIncluded(String path) {
+        if (includePaths.isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i < includePaths.size(); i++) {
+            if (path.equals(includePaths.get(i)) || path.startsWith(includePrefixes.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * TreeWalk용 필터를 반환한다.
+     * 제외 경로와 포함 범위 밖의 하위 트리에는 진입하지 않는다. 파일 판정은 {@link #matches(String)}로 한다.
+     *
+     * @return 트리 필터 (불변, 공유 가능)
+     */
+    public TreeFilter toTreeFilter() {
+        return treeFilter;
+    }
+
+    private TreeFilter buildTreeFilter() {
+        TreeFilter excludeFilter = excludePaths.isEmpty()
+                ? TreeFilter.ALL
+                : new ExcludedSubtreeFilter(excludePaths);
+        if (includePaths.isEmpty()) {
+            return excludeFilter;
+        }
+        TreeFilter includeFilter = PathFilterGroup.createFromStrings(includePaths);
+        return excludeFilter == TreeFilter.ALL
+                ? includeFilter
+                : AndTreeFilter.create(excludeFilter, includeFilter);
+    }
+
+    /**
+     * 경로 목록의 앞뒤 '/'를 제거하고 빈 값을 제외한다.
+     */
+    private static List<String> normalizePaths(List<String> paths) {
+        List<String> normalized = new ArrayList<>();
+        for (String path : paths) {
+            if (path == null) {
+                continue;
+            }
+            String trimmed = path.trim();
+            int start = 0;
+            int end = trimmed.length();
+            while (start < end && trimmed.charAt(start) == '/') {
+                start++;
+            }
+            while (end > start && trimmed.charAt(end - 1) == '/') {
+                end--;
+            }
+            if (start < end) {
+                normalized.add(trimmed.substring(start, end));
+            }
+        }
+        return List.copyOf(normalized);
+    }
+
+    /**
+     * 패턴 목록을 하나의 정규식으로 합친다.
+     */
+    private static Pattern combine(List<String> patterns) {
+        if (patterns.isEmpty()) {
+            return null;
+        }
+        StringBuilder combined = new StringBuilder();
+        for (String pattern : patterns) {
+            if (!combined.isEmpty()) {
+                combined.append('|');
+            }
+            combined.append("(?:").append(pattern).append(')');
+        }
+        return Pattern.compile(combined.toString(), Pattern.CASE_INSENSITIVE);
+    }
+
+    /**
+     * 제외 경로와 일치하는 하위 트리를 건너뛰는 필터.
+     * 원시 경로 바이트를 비교하므로 엔트리마다 문자열을 만들지 않는다.
+     */
+    private static final class ExcludedSubtreeFilter extends TreeFilter {
+
+        private final byte[][] names;
+        private final byte[][] slashNames;
+
+        private ExcludedSubtreeFilter(List<String> excludePaths) {
+            this.names = new byte[excludePaths.size()][];
+            this.slashNames = new byte[excludePaths.size()][];
+            for (int i = 0; i < excludePaths.size(); i++) {
+                names[i] = excludePaths.get(i).getBytes(StandardCharsets.UTF_8);
+                slashNames[i] = ("/" + excludePaths.get(i)).getBytes(StandardCharsets.UTF_8);
+            }
+        }
+
+        @Override
+        public boolean include(TreeWalk walker) {
+            if (!walker.isSubtree()) {
+                return true;
+            }
+            int pathLength = walker.getPathLength();
+            for (int i = 0; i < names.length; i++) {
+                if (walker.isPathSuffix(slashNames[i], slashNames[i].length)
+                        || (pathLength == names[i].length && walker.isPathSuffix(names[i], names[i].length))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean shouldBeRecursive() {
+            return false;
+        }
+
+        @Override
+        public TreeFilter clone() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "EXCLUDED_SUBTREES";
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.docst.git;
+
+import com.docst.chunking.ChunkResult;
+import com.docst.chunking.MarkdownChunker;
+import com.docst.document.DocumentLink.LinkType;
+import com.docst.document.ContentHash;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vladsch.flexmark.ast.Heading;
+import com.vladsch.flexmark.ast.Link;
+import com.vladsch.flexmark.ext.wikilink.WikiLink;
+import com.vladsch.flexmark.ext.wikilink.WikiLinkExtension;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.ast.Document;
+import com.vladsch.flexmark.util.ast.Node;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 문서 분석기.
+ * 마크다운 문서를 Flexmark AST로 한 번만 파싱하여 제목, 섹션, 링크, 청크를 함께 만든다.
+ * 결과는 내용 해시별로 캐시하므로, 동기화 준비 단계에서 분석한 문서를 저장 단계(제목, 링크)에서 다시 파싱하지 않는다.
+ * 같은 내용의 문서(브랜치, 포크, 되돌린 변경)도 한 번만 분석한다.
+ */
+@Slf4j
+@Component
+public class DocumentAnalyzer {
+
+    private static final DocumentAnalysis EMPTY = new DocumentAnalysis(null, List.of(), List.of(), List.of());
+
+    private final MarkdownChunker markdownChunker;
+    private final Parser parser;
+    private final Cache<String, DocumentAnalysis> analyses;
+
+    /**
+     * DocumentAnalyzer 생성자.
+     * Wiki 링크([[page]], [[page|text]])를 인식하도록 Flexmark 파서를 초기화한다.
+     *
+     * @param markdownChunker 청킹 처리기
+     * @param cacheSize 분석 결과 캐시 크기
+     */
+    public DocumentAnalyzer(MarkdownChunker markdownChunker,
+                            @Value("${docst.analysis.cache-size:32MB}") DataSize cacheSize) {
+        this.markdownChunker = markdownChunker;
+        MutableDataSet options = new MutableDataSet()
+                .set(Parser.EXTENSIONS, List.of(WikiLinkExtension.create()))
+                .set(WikiLinkExtension.LINK_FIRST, true);
+        this.parser = Parser.builder(options).build();
+        this.analyses = Caffeine.newBuilder()
+                .maximumWeight(cacheSize.toBytes())
+                .weigher((String hash, DocumentAnalysis analysis) -> analysis.weight())
+                .build();
+    }
+
+    /**
+     * 문서를 분석한다.
+     *
+     * @param content 마크다운 내용
+     * @return 분석 결과
+     */
+    public DocumentAnalysis analyze(String content) {
+        return analyze(ContentHash.hash(content), content);
+    }
+
+    /**
+     * 내용 해시를 이미 알고 있는 문서를 분석한다.
+     *
+     * @param contentHash 내용 해시 ({@link ContentHash#hash}, null이면 계산)
+     * @param content 마크다운 내용
+     * @return 분석 결과
+     */
+    public DocumentAnalysis analyze(String contentHash, String content) {
+        if (content == null || content.isEmpty()) {
+            return EMPTY;
+        }
+        if (contentHash == null) {
+            contentHash = ContentHash.hash(content);
+        }
+        DocumentAnalysis cached = analyses.getIfPresent(contentHash);
+        if (cached != null) {
+            return cached;
+        }
+        // 파싱 중에 캐시 잠금을 잡지 않도록 get(key, loader) 대신 분석 후 저장한다 (경합 시 중복 분석만 발생)
+        DocumentAnalysis analysis = parse(content);
+        analyses.put(contentHash, analysis);
+        return analysis;
+    }
+
+    /**
+     * 문서를 파싱하고 AST를 한 번 순회하여 분석 결과를 만든다.
+     */
+    private DocumentAnalysis parse(String content) {
+        Document document = parser.parse(content);
+        int[] lineStarts = lineStarts(content);
+
+        String title = null;
+        List<Section> sections = new ArrayList<>();
+        List<ParsedLink> links = new ArrayList<>();
+
+        Heading sectionHeading = null;
+        int sectionStart = 0;
+        for (Node node = document.getFirstChild(); node != null; node = node.getNext()) {
+            if (node instanceof Heading heading) {
+                addSection(sections, content, lineStarts, sectionHeading, sectionStart, heading.getStartOffset());
+                if (title == null && heading.getLevel() == 1) {
+                    title = heading.getText().toString().trim();
+                }
+                sectionHeading = heading;
+                sectionStart = heading.getEndOffset();
+            }
+            collectLinks(node, lineStarts, links);
+        }
+        addSection(sections, content, lineStarts, sectionHeading, sectionStart, content.length());
+
+        List<ChunkResult> chunks = markdownChunker.chunkDocument(document);
+        log.debug("Analyzed document: {} sections, {} links, {} chunks", sections.size(), links.size(), chunks.size());
+        return new DocumentAnalysis(title, List.copyOf(sections), List.copyOf(links), chunks);
+    }
+
+    /**
+     * 헤딩부터 다음 헤딩 전까지를 섹션으로 추가한다. 첫 헤딩 앞의 내용은 빈 헤딩(레벨 0) 섹션이 된다.
+     */
+    private void addSection(List<Section> sections, String content, int[] lineStarts,
+                            Heading heading, int start, int end) {
+        String body = content.substring(start, end).trim();
+        if (heading == null) {
+            if (!body.isEmpty()) {
+                sections.add(new Section("", 0, body, 0));
+            }
+            return;
+        }
+        sections.add(new Section(heading.getText().toString().trim(), heading.getLevel(), body,
+                lineOf(lineStarts, heading.getStartOffset()) - 1));
+    }
+
+    /**
+     * 블록의 하위 노드에서 링크를 수집한다. 코드 블록/코드 스팬 안의 링크 문법은 링크 노드가 되지 않으므로 제외된다.
+     */
+    private void collectLinks(Node block, int[] lineStarts, List<ParsedLink> links) {
+        Node node = block;
+        while (node != null) {
+            if (node instanceof WikiLink wikiLink) {
+                String target = wikiLink.getLink().toString().trim();
+                String anchorText = wikiLink.getText().isBlank() ? target : wikiLink.getText().toString().trim();
+                links.add(new ParsedLink(target, LinkType.WIKI, anchorText, lineOf(lineStarts, node.getStartOffset())));
+            } else if (node instanceof Link link && !link.getText().isBlank() && !link.getUrl().isBlank()) {
+                String url = link.getUrl().toString().trim();
+                links.add(new ParsedLink(url, linkType(url), link.getText().toString().trim(),
+                        lineOf(lineStarts, node.getStartOffset())));
+            }
+
+            // 깊이 우선 순회 (block 하위로 제한)
+            if (node.getFirstChild() != null) {
+                node = node.getFirstChild();
+                continue;
+            }
+            while (node != block && node.getNext() == null) {
+                node = node.getParent();
+            }
+            node = node == block ? null : node.getNext();
+        }
+    }
+
+    /**
+     * URL을 보고 링크 타입을 결정한다.
+     */
+    private LinkType linkType(String url) {
+        if (url.startsWith("http://") || url.startsWith("https://")) {
+            return LinkType.EXTERNAL;
+        } else if (url.startsWith("#")) {
+            return LinkType.ANCHOR;
+        } else {
+            // 상대 경로는 내부 링크
+            return LinkType.INTERNAL;
+        }
+    }
+
+    /**
+     * 줄 시작 위치 목록.
+     */
+    private static int[] lineStarts(String content) {
+        int[] starts = new int[64];
+        int count = 1;
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == '\n') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * 오프셋의 줄 번호 (1부터 시작).
+     */
+    private static int lineOf(int[] lineStarts, int offset) {
+        int index = Arrays.binarySearch(lineStarts, offset);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * 문서 분석 결과.
+     *
+     * @param title 첫 번째 H1 헤딩 텍스트 (없으면 null)
+     * @param sections 섹션 목록
+     * @param links 링크 목록
+     * @param chunks 청킹 결과
+     */
+    public record DocumentAnalysis(
+            String title,
+            List<Section> sections,
+            List<ParsedLink> links,
+            List<ChunkResult> chunks
+    ) {
+        /**
+         * 캐시 가중치 (문자열 크기 기준 대략적인 바이트 수).
+         */
+        int weight() {
+            long chars = 0;
+            for (Section section : sections) {
+                chars += section.content().length();
+            }
+            for (ChunkResult chunk : chunks) {
+                chars += chunk.content().length() + chunk.headingPath().length();
+            }
+            return (int) Math.min(Integer.MAX_VALUE, chars * 2 + links.size() * 64L);
+        }
+    }
+
+    /**
+     * 문서 섹션.
+     *
+     * @param heading 헤딩 텍스트
+     * @param level 헤딩 레벨 (1-6, 첫 헤딩 앞의 내용이면 0)
+     * @param content 섹션 내용
+     * @param startLine 시작 줄 번호 (0부터 시작)
+     */
+    public record Section(
+            String heading,
+            int level,
+            String content,
+            int startLine
+    ) {}
+
+    /**
+     * 파싱된 링크.
+     *
+     * @param linkText 링크 텍스트 (원본 URL 또는 페이지 이름)
+     * @param linkType 링크 타입
+     * @param anchorText 앵커 텍스트 (표시 텍스트)
+     * @param lineNumber 라인 번호 (1부터 시작)
+     */
+    public record ParsedLink(
+            String linkText,
+            LinkType linkType,
+            String anchorText,
+            int lineNumber
+    ) {}
+}
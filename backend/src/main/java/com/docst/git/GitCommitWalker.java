@@ -4,6 +4,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Ref;
@@ -12,13 +14,16 @@ import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.treewalk.CanonicalTreeParser;
 import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
 import org.eclipse.jgit.util.io.DisabledOutputStream;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Git 커밋 워커.
@@ -164,7 +169,7 @@ public class GitCommitWalker {
 
             // 첫 번째 부모와 비교
             RevCommit parent = revWalk.parseCommit(parents[0]);
-            changedFiles = diffCommits(repo, parent, commit);
+            changedFiles = diffCommits(repo, parent, commit, false);
 
         } catch (Exception e) {
             log.error("Failed to get changed files for commit {}: {}", commitSha, e.getMessage());
@@ -175,6 +180,50 @@ public class GitCommitWalker {
         return changedFiles;
     }
 
+    /**
+     * 커밋에서 추가/수정된 파일의 새 blob ID를 조회한다.
+     * 첫 번째 부모와 트리를 한 번 비교하며 (최초 커밋이면 모든 파일), 삭제된 파일은 제외한다.
+     * 호출자는 경로로 트리를 다시 찾지 않고 blob ID로 바로 내용을 읽을 수 있다.
+     *
+     * @param git Git 인스턴스
+     * @param commitSha 커밋 SHA
+     * @return 파일 경로 → 새 blob ID (트리 순서)
+     * @throws IOException I/O 오류 발생 시
+     */
+    public Map<String, ObjectId> getChangedBlobs(Git git, String commitSha) throws IOException {
+        Repository repo = git.getRepository();
+        Map<String, ObjectId> blobs = new LinkedHashMap<>();
+
+        try (RevWalk revWalk = new RevWalk(repo);
+             TreeWalk treeWalk = new TreeWalk(repo)) {
+            ObjectId commitId = repo.resolve(commitSha);
+            if (commitId == null) {
+                log.warn("Commit not found: {}", commitSha);
+                return blobs;
+            }
+
+            RevCommit commit = revWalk.parseCommit(commitId);
+            if (commit.getParentCount() > 0) {
+                treeWalk.addTree(revWalk.parseCommit(commit.getParent(0)).getTree());
+                treeWalk.setFilter(TreeFilter.ANY_DIFF);
+            }
+            int newTree = treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+
+            while (treeWalk.next()) {
+                FileMode mode = treeWalk.getFileMode(newTree);
+                if (mode.getObjectType() == Constants.OBJ_BLOB) {
+                    blobs.put(treeWalk.getPathString(), treeWalk.getObjectId(newTree));
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to get changed blobs for commit {}: {}", commitSha, e.getMessage());
+            throw new IOException("Failed to get changed blobs", e);
+        }
+
+        return blobs;
+    }
+
     /**
      * 두 커밋 간 변경된 파일 목록을 조회한다.
      *
@@ -200,7 +249,7 @@ public class GitCommitWalker {
             RevCommit fromCommit = revWalk.parseCommit(fromId);
             RevCommit toCommit = revWalk.parseCommit(toId);
 
-            changedFiles = diffCommits(repo, fromCommit, toCommit);
+            changedFiles = diffCommits(repo, fromCommit, toCommit, false);
 
         } catch (Exception e) {
             log.error("Failed to get changed files between {} and {}: {}",
@@ -213,6 +262,37 @@ public class GitCommitWalker {
         return changedFiles;
     }
 
+    /**
+     * 두 커밋 간 순 변경(net change) 파일 목록을 조회한다.
+     * 트리 diff를 한 번만 계산하므로 경로별 변경이 하나의 ADDED/MODIFIED/DELETED/RENAMED로 합쳐진다.
+     * 이름 변경 감지를 사용하여 이동된 파일을 RENAMED로 반환한다.
+     *
+     * @param git Git 인스턴스
+     * @param fromSha 시작 커밋 SHA
+     * @param toSha 종료 커밋 SHA
+     * @return 변경된 파일 목록
+     * @throws IOException I/O 오류 발생 시
+     */
+    public List<ChangedFile> getNetChangedFiles(Git git, String fromSha, String toSha) throws IOException {
+        Repository repo = git.getRepository();
+
+        try (RevWalk revWalk = new RevWalk(repo)) {
+            ObjectId fromId = repo.resolve(fromSha);
+            ObjectId toId = repo.resolve(toSha);
+
+            if (fromId == null || toId == null) {
+                throw new IOException("Commit not found: from=" + fromSha + ", to=" + toSha);
+            }
+
+            List<ChangedFile> changedFiles = diffCommits(
+                    repo, revWalk.parseCommit(fromId), revWalk.parseCommit(toId), true);
+
+            log.info("Found {} net changed files between {} and {}",
+                    changedFiles.size(), fromSha.substring(0, 7), toSha.substring(0, 7));
+            return changedFiles;
+        }
+    }
+
     /**
      * fromSha ~ toSha 사이의 모든 커밋을 순회한다.
      *
@@ -283,15 +363,18 @@ public class GitCommitWalker {
 
     /**
      * 두 커밋 간 diff를 계산한다.
+     *
+     * @param detectRenames 이름 변경 감지 여부
      */
-    private List<ChangedFile> diffCommits(Repository repo, RevCommit oldCommit, RevCommit newCommit)
-            throws IOException {
+    private List<ChangedFile> diffCommits(Repository repo, RevCommit oldCommit, RevCommit newCommit,
+                                          boolean detectRenames) throws IOException {
         List<ChangedFile> changedFiles = new ArrayList<>();
 
         try (ObjectReader reader = repo.newObjectReader();
              DiffFormatter diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
 
             diffFormatter.setRepository(repo);
+            diffFormatter.setDetectRenames(detectRenames);
 
             CanonicalTreeParser oldTreeIter = new CanonicalTreeParser();
             oldTreeIter.reset(reader, oldCommit.getTree());
@@ -1,6 +1,8 @@
 package com.docst.git;
 
 import com.docst.gitrepo.RepositorySyncConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.lib.ObjectId;
@@ -12,9 +14,10 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 /**
  * Git 파일 스캐너.
@@ -38,6 +41,17 @@ public class GitFileScanner {
             Pattern.compile(".*swagger\\.(yaml|yml|json)$", Pattern.CASE_INSENSITIVE)
     );
 
+    /** 설정이 없을 때 사용하는 기본 필터 */
+    private static final CompiledSyncFilter DEFAULT_FILTER = CompiledSyncFilter.compile(null);
+
+    /**
+     * 컴파일된 필터 캐시.
+     * 필터에 영향을 주는 설정 값을 키로 사용하므로 설정이 바뀌면 자연스럽게 새 필터가 만들어진다.
+     */
+    private final Cache<FilterKey, CompiledSyncFilter> filterCache = Caffeine.newBuilder()
+            .maximumSize(256)
+            .build();
+
     /**
      * 특정 커밋에서 문서 파일 목록을 스캔한다.
      *
@@ -165,134 +179,58 @@ public class GitFileScanner {
     // ===== Phase 12: 동적 Sync 설정 지원 메서드 =====
 
     /**
-     * RepositorySyncConfig에서 패턴 목록을 동적으로 생성한다.
+     * 동기화 설정을 컴파일된 필터로 변환한다.
+     * 같은 설정 값이면 캐시된 필터를 재사용하므로 정규식을 다시 컴파일하지 않는다.
      *
      * @param config 동기화 설정 (null이면 기본 패턴 사용)
-     * @return 컴파일된 패턴 목록
+     * @return 컴파일된 필터
      */
-    public List<Pattern> buildPatterns(RepositorySyncConfig config) {
+    public CompiledSyncFilter compileFilter(RepositorySyncConfig config) {
         if (config == null) {
-            return DOC_PATTERNS;
-        }
-
-        List<Pattern> patterns = new ArrayList<>();
-
-        // 1. 확장자 기반 패턴
-        for (String ext : config.getFileExtensions()) {
-            String escaped = Pattern.quote(ext);
-            patterns.add(Pattern.compile(".*\\." + escaped + "$", Pattern.CASE_INSENSITIVE));
-        }
-
-        // 2. OpenAPI 옵션
-        if (config.scanOpenApi()) {
-            patterns.add(Pattern.compile(".*openapi\\.(yaml|yml|json)$", Pattern.CASE_INSENSITIVE));
+            return DEFAULT_FILTER;
         }
-
-        // 3. Swagger 옵션
-        if (config.scanSwagger()) {
-            patterns.add(Pattern.compile(".*swagger\\.(yaml|yml|json)$", Pattern.CASE_INSENSITIVE));
-        }
-
-        // 4. 커스텀 패턴 (ReDoS 방지: 길이 제한)
-        for (String customPattern : config.getCustomPatterns()) {
-            if (customPattern == null || customPattern.length() > 100) {
-                log.warn("Custom pattern ignored (null or too long): {}", customPattern);
-                continue;
-            }
-            try {
-                patterns.add(Pattern.compile(customPattern, Pattern.CASE_INSENSITIVE));
-            } catch (PatternSyntaxException e) {
-                log.warn("Invalid custom pattern ignored: {} - {}", customPattern, e.getMessage());
-            }
-        }
-
-        // 패턴이 없으면 기본 패턴 사용
-        return patterns.isEmpty() ? DOC_PATTERNS : patterns;
+        return filterCache.get(FilterKey.of(config), key -> CompiledSyncFilter.compile(config));
     }
 
     /**
-     * 경로가 제외 대상인지 확인한다.
+     * 동적 설정을 사용하여 파일이 문서 파일인지 확인한다.
      *
      * @param path   파일 경로
      * @param config 동기화 설정
-     * @return 제외 대상이면 true
+     * @return 문서 파일이면 true
      */
-    public boolean isExcludedPath(String path, RepositorySyncConfig config) {
-        if (config == null) {
-            return false;
-        }
-
-        for (String excludePath : config.getExcludePaths()) {
-            // 경로 시작 또는 하위 경로 체크
-            if (path.startsWith(excludePath) || path.startsWith(excludePath + "/")
-                    || path.contains("/" + excludePath + "/") || path.contains("/" + excludePath)) {
-                return true;
-            }
-        }
-        return false;
+    public boolean isDocumentFile(String path, RepositorySyncConfig config) {
+        return compileFilter(config).matches(path);
     }
 
     /**
-     * 경로가 포함 대상인지 확인한다.
-     *
-     * @param path   파일 경로
-     * @param config 동기화 설정
-     * @return 포함 대상이면 true (빈 목록이면 모든 경로 허용)
-     */
-    public boolean isIncludedPath(String path, RepositorySyncConfig config) {
-        if (config == null || config.getIncludePaths().isEmpty()) {
-            return true;  // 빈 목록이면 모든 경로 포함
-        }
-
-        for (String includePath : config.getIncludePaths()) {
-            if (path.startsWith(includePath) || path.startsWith(includePath + "/")) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * 동적 설정을 사용하여 파일이 문서 파일인지 확인한다.
+     * 동적 설정을 사용하여 문서 파일을 스캔한다.
      *
-     * @param path     파일 경로
-     * @param patterns 패턴 목록
-     * @param config   동기화 설정
-     * @return 문서 파일이면 true
+     * @param git       Git 인스턴스
+     * @param commitSha 커밋 SHA
+     * @param config    동기화 설정
+     * @return 문서 파일 경로 목록
+     * @throws IOException I/O 오류 발생 시
      */
-    public boolean isDocumentFile(String path, List<Pattern> patterns, RepositorySyncConfig config) {
-        // 1. 제외 경로 체크
-        if (isExcludedPath(path, config)) {
-            return false;
-        }
-
-        // 2. 포함 경로 체크
-        if (!isIncludedPath(path, config)) {
-            return false;
-        }
-
-        // 3. 패턴 매칭
-        for (Pattern pattern : patterns) {
-            if (pattern.matcher(path).matches()) {
-                return true;
-            }
-        }
-        return false;
+    public List<String> scanDocumentFiles(Git git, String commitSha, RepositorySyncConfig config)
+            throws IOException {
+        return new ArrayList<>(scanDocumentBlobs(git, commitSha, config).keySet());
     }
 
     /**
-     * 동적 설정을 사용하여 문서 파일을 스캔한다.
+     * 동적 설정을 사용하여 문서 파일과 blob ID를 스캔한다.
+     * 트리 엔트리에서 blob ID를 바로 얻으므로 파일 내용은 읽지 않는다.
      *
      * @param git       Git 인스턴스
      * @param commitSha 커밋 SHA
      * @param config    동기화 설정
-     * @return 문서 파일 경로 목록
+     * @return 문서 파일 경로 → blob ID (트리 순서)
      * @throws IOException I/O 오류 발생 시
      */
-    public List<String> scanDocumentFiles(Git git, String commitSha, RepositorySyncConfig config)
+    public Map<String, String> scanDocumentBlobs(Git git, String commitSha, RepositorySyncConfig config)
             throws IOException {
-        List<String> documentPaths = new ArrayList<>();
-        List<Pattern> patterns = buildPatterns(config);
+        Map<String, String> documentPaths = new LinkedHashMap<>();
+        CompiledSyncFilter filter = compileFilter(config);
 
         try (RevWalk revWalk = new RevWalk(git.getRepository())) {
             ObjectId commitId = git.getRepository().resolve(commitSha);
@@ -307,11 +245,12 @@ public class GitFileScanner {
             try (TreeWalk treeWalk = new TreeWalk(git.getRepository())) {
                 treeWalk.addTree(tree);
                 treeWalk.setRecursive(true);
+                treeWalk.setFilter(filter.toTreeFilter());
 
                 while (treeWalk.next()) {
                     String path = treeWalk.getPathString();
-                    if (isDocumentFile(path, patterns, config)) {
-                        documentPaths.add(path);
+                    if (filter.matches(path)) {
+                        documentPaths.put(path, treeWalk.getObjectId(0).name());
                         log.debug("Found document: {}", path);
                     }
                 }
@@ -333,7 +272,7 @@ public class GitFileScanner {
     public List<GitCommitWalker.ChangedFile> filterDocumentFiles(
             List<GitCommitWalker.ChangedFile> changedFiles, RepositorySyncConfig config) {
         List<GitCommitWalker.ChangedFile> documentFiles = new ArrayList<>();
-        List<Pattern> patterns = buildPatterns(config);
+        CompiledSyncFilter filter = compileFilter(config);
 
         for (GitCommitWalker.ChangedFile file : changedFiles) {
             // DELETED가 아닌 파일은 path 체크, DELETED는 oldPath 체크
@@ -341,7 +280,7 @@ public class GitFileScanner {
                     ? file.oldPath()
                     : file.path();
 
-            if (isDocumentFile(pathToCheck, patterns, config)) {
+            if (filter.matches(pathToCheck)) {
                 documentFiles.add(file);
             }
         }
@@ -350,4 +289,27 @@ public class GitFileScanner {
                 documentFiles.size(), changedFiles.size());
         return documentFiles;
     }
+
+    /**
+     * 필터 캐시 키. 병렬도 등 필터와 무관한 설정 변경은 캐시를 무효화하지 않는다.
+     */
+    private record FilterKey(
+            List<String> fileExtensions,
+            List<String> includePaths,
+            List<String> excludePaths,
+            boolean scanOpenApi,
+            boolean scanSwagger,
+            List<String> customPatterns
+    ) {
+        static FilterKey of(RepositorySyncConfig config) {
+            return new FilterKey(
+                    List.copyOf(config.getFileExtensions()),
+                    List.copyOf(config.getIncludePaths()),
+                    List.copyOf(config.getExcludePaths()),
+                    config.scanOpenApi(),
+                    config.scanSwagger(),
+                    List.copyOf(config.getCustomPatterns())
+            );
+        }
+    }
 }
@@ -0,0 +1,259 @@
+package com.docst.git;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JGit 레포지토리 핸들 풀.
+ * 요청마다 {@code Git.open()}으로 레포지토리를 열고 닫으면 pack 인덱스와 설정 파일을 매번 다시 읽게 되므로,
+ * 레포지토리 ID별로 열린 {@link Repository}를 재사용한다.
+ * <ul>
+ *   <li>참조 카운트로 사용 중인 핸들은 닫지 않는다.</li>
+ *   <li>풀 크기를 초과하면 가장 오래 사용되지 않은 유휴 핸들부터 닫는다 (LRU).</li>
+ *   <li>유휴 시간이 docst.git.pool.idle-timeout을 넘은 핸들은 주기적으로 닫는다.</li>
+ *   <li>레포지토리 삭제 시 {@link #invalidate(UUID)}로 핸들을 제거한다. 사용 중이면 마지막 반환 시점에 닫는다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class GitRepositoryPool {
+
+    private final int maxSize;
+    private final Duration idleTimeout;
+
+    /** 접근 순서(LRU) 유지. 모든 접근은 this로 동기화한다. */
+    private final Map<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * GitRepositoryPool 생성자.
+     *
+     * @param maxSize 동시에 열어 둘 최대 레포지토리 수 (사용 중인 핸들은 초과 허용)
+     * @param idleTimeout 유휴 핸들을 닫기까지의 시간
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public GitRepositoryPool(@Value("${docst.git.pool.max-size:64}") int maxSize,
+                             @Value("${docst.git.pool.idle-timeout:10m}") Duration idleTimeout,
+                             MeterRegistry meterRegistry) {
+        this.maxSize = Math.max(1, maxSize);
+        this.idleTimeout = idleTimeout;
+        Gauge.builder("docst.git.pool.open", this, GitRepositoryPool::size)
+                .description("Number of JGit repositories held open by the pool")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레포지토리 핸들을 빌려온다.
+     * 반환된 Git을 close()하면 레포지토리는 닫히지 않고 풀로 반환된다.
+     * 레포지토리는 락 밖에서 열므로 느린 파일 시스템이 다른 레포지토리의 대여를 막지 않는다.
+     * 같은 레포지토리를 동시에 열면 먼저 등록된 핸들을 쓰고 나머지는 닫는다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param localDir 로컬 레포지토리 디렉토리 (working tree 또는 bare)
+     * @return 풀에 반환되는 Git 인스턴스
+     * @throws IOException 레포지토리를 열 수 없는 경우
+     */
+    public Git acquire(UUID repositoryId, File localDir) throws IOException {
+        synchronized (this) {
+            Entry entry = entries.get(repositoryId);
+            if (entry != null) {
+                return lease(entry);
+            }
+        }
+
+        Entry opened = new Entry(repositoryId, open(localDir));
+        Entry entry;
+        List<Entry> evicted = List.of();
+        Git git;
+        synchronized (this) {
+            entry = entries.putIfAbsent(repositoryId, opened);
+            if (entry == null) {
+                entry = opened;
+            }
+            git = lease(entry);
+            if (entry == opened) {
+                log.debug("Opened pooled repository: {} ({} open)", repositoryId, entries.size());
+                evicted = evictOverflow();
+            }
+        }
+
+        if (entry != opened) {
+            opened.repository.close();
+            log.debug("Discarded concurrently opened repository: {}", repositoryId);
+        }
+        evicted.forEach(this::close);
+        return git;
+    }
+
+    /**
+     * 레포지토리 핸들을 풀에서 제거한다.
+     * 사용 중이 아니면 즉시 닫고, 사용 중이면 마지막 반환 시점에 닫는다.
+     *
+     * @param repositoryId 레포지토리 ID
+     */
+    public synchronized void invalidate(UUID repositoryId) {
+        Entry entry = entries.remove(repositoryId);
+        if (entry == null) {
+            return;
+        }
+        entry.invalidated = true;
+        if (entry.refCount == 0) {
+            close(entry);
+        } else {
+            log.debug("Pooled repository {} invalidated while in use ({} leases)", repositoryId, entry.refCount);
+        }
+    }
+
+    /**
+     * 유휴 시간이 초과된 핸들을 닫는다.
+     */
+    @Scheduled(fixedDelayString = "${docst.git.pool.eviction-interval:60000}")
+    public void evictIdle() {
+        long threshold = System.nanoTime() - idleTimeout.toNanos();
+        List<Entry> evicted = new ArrayList<>();
+
+        synchronized (this) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.refCount == 0 && entry.lastAccessNanos - threshold <= 0) {
+                    iterator.remove();
+                    evicted.add(entry);
+                }
+            }
+        }
+
+        evicted.forEach(this::close);
+        if (!evicted.isEmpty()) {
+            log.debug("Evicted {} idle pooled repositories", evicted.size());
+        }
+    }
+
+    /**
+     * 현재 열려 있는 레포지토리 수.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 핸들을 닫는다.
+     */
+    @PreDestroy
+    public synchronized void closeAll() {
+        entries.values().forEach(this::close);
+        entries.clear();
+    }
+
+    /**
+     * 핸들의 참조 카운트를 올리고 풀에 반환되는 Git으로 감싼다. this로 동기화된 상태에서 호출한다.
+     */
+    private Git lease(Entry entry) {
+        entry.refCount++;
+        entry.lastAccessNanos = System.nanoTime();
+        return new PooledGit(this, entry);
+    }
+
+    /**
+     * 빌려간 핸들을 반환한다.
+     */
+    private synchronized void release(Entry entry) {
+        entry.refCount--;
+        entry.lastAccessNanos = System.nanoTime();
+        if (entry.refCount == 0 && entry.invalidated) {
+            close(entry);
+        }
+    }
+
+    /**
+     * 풀 크기를 초과하면 가장 오래된 유휴 핸들부터 풀에서 제거한다. 닫기는 호출자가 락 밖에서 한다.
+     * 모든 핸들이 사용 중이면 초과 상태를 유지하고 이후 반환/정리 시점에 줄어든다.
+     *
+     * @return 제거된 핸들
+     */
+    private List<Entry> evictOverflow() {
+        List<Entry> evicted = new ArrayList<>();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.refCount == 0) {
+                iterator.remove();
+                evicted.add(entry);
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * 로컬 디렉토리의 레포지토리를 연다. 락을 잡지 않은 상태에서 호출된다.
+     */
+    Repository open(File localDir) throws IOException {
+        File gitDir = new File(localDir, ".git");
+        return new FileRepositoryBuilder()
+                .setGitDir(gitDir.exists() ? gitDir : localDir)
+                .setMustExist(true)
+                .build();
+    }
+
+    private void close(Entry entry) {
+        entry.repository.close();
+        log.debug("Closed pooled repository: {}", entry.repositoryId);
+    }
+
+    /**
+     * 풀에 보관되는 레포지토리 핸들.
+     */
+    private static final class Entry {
+        private final UUID repositoryId;
+        private final Repository repository;
+        private int refCount;
+        private long lastAccessNanos;
+        private boolean invalidated;
+
+        private Entry(UUID repositoryId, Repository repository) {
+            this.repositoryId = repositoryId;
+            this.repository = repository;
+        }
+    }
+
+    /**
+     * close() 시 레포지토리를 닫지 않고 풀에 반환하는 Git.
+     * 여러 번 close()해도 한 번만 반환한다.
+     */
+    private static final class PooledGit extends Git {
+        private final GitRepositoryPool pool;
+        private final Entry entry;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PooledGit(GitRepositoryPool pool, Entry entry) {
+            super(entry.repository);
+            this.pool = pool;
+            this.entry = entry;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                pool.release(entry);
+            }
+        }
+    }
+}
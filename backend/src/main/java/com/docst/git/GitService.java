@@ -9,14 +9,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.LsRemoteCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ObjectLoader;
 import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.diff.DiffFormatter;
@@ -29,10 +32,13 @@ import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -46,6 +52,9 @@ public class GitService {
     private final RepositoryRepository repositoryRepository;
     private final CredentialService credentialService;
     private final Path gitRootPath;
+    private final boolean bareMirror;
+    private final GitTransferMetrics transferMetrics;
+    private final GitRepositoryPool repositoryPool;
 
     /**
      * GitService 생성자.
@@ -53,13 +62,22 @@ public class GitService {
      * @param repositoryRepository 레포지토리 리포지토리
      * @param credentialService 자격증명 서비스
      * @param gitRootPath Git 로컬 저장소 루트 경로
+     * @param bareMirror 새로 clone하는 레포지토리를 working tree 없는 bare 미러로 생성할지 여부
+     * @param transferMetrics clone/fetch 전송량 메트릭
+     * @param repositoryPool 열린 레포지토리 핸들 풀
      */
     public GitService(RepositoryRepository repositoryRepository,
                       CredentialService credentialService,
-                      @Value("${docst.git.root-path:/data/git}") String gitRootPath) {
+                      @Value("${docst.git.root-path:/data/git}") String gitRootPath,
+                      @Value("${docst.git.bare-mirror:false}") boolean bareMirror,
+                      GitTransferMetrics transferMetrics,
+                      GitRepositoryPool repositoryPool) {
         this.repositoryRepository = repositoryRepository;
         this.credentialService = credentialService;
         this.gitRootPath = Path.of(gitRootPath);
+        this.bareMirror = bareMirror;
+        this.transferMetrics = transferMetrics;
+        this.repositoryPool = repositoryPool;
     }
 
     /**
@@ -74,9 +92,13 @@ public class GitService {
 
     /**
      * 레포지토리를 clone하거나 이미 존재하면 open한다.
+     * 이미 존재하는 레포지토리는 생성 당시 형식(working tree 또는 bare)을 그대로 사용하고,
+     * 새로 clone할 때는 docst.git.bare-mirror 설정에 따라 bare 미러로 생성한다.
+     * 동기화 설정에 cloneDepth가 지정되어 있으면 해당 깊이까지만 히스토리를 가져온다(shallow clone).
+     * 반환된 Git은 {@link GitRepositoryPool}에서 빌려온 것이므로 close()해도 레포지토리는 닫히지 않고 풀로 반환된다.
      *
      * @param repo 레포지토리 엔티티
-     * @return Git 인스턴스
+     * @return Git 인스턴스 (사용 후 반드시 close)
      * @throws GitAPIException Git 작업 실패 시
      * @throws IOException I/O 오류 발생 시
      */
@@ -85,47 +107,151 @@ public class GitService {
         File localDir = localPath.toFile();
 
         if (localDir.exists() && new File(localDir, ".git").exists()) {
-            log.info("Opening existing repository: {}", localPath);
-            return Git.open(localDir);
+            log.debug("Opening existing repository: {}", localPath);
+            return repositoryPool.acquire(repo.getId(), localDir);
+        }
+
+        if (isBareRepositoryDir(localDir)) {
+            log.debug("Opening existing bare mirror: {}", localPath);
+            return repositoryPool.acquire(repo.getId(), localDir);
         }
 
         String cloneUrl = getCloneUrl(repo);
-        log.info("Cloning repository: {} to {}", cloneUrl, localPath);
+
+        if (bareMirror) {
+            initBareMirror(repo, cloneUrl, localDir);
+            return repositoryPool.acquire(repo.getId(), localDir);
+        }
+
+        int depth = repo.getSyncConfig().getCloneDepth();
+        log.info("Cloning repository: {} to {} (depth: {})", cloneUrl, localPath, depth > 0 ? depth : "full");
 
         CloneCommand cloneCommand = Git.cloneRepository()
                 .setURI(cloneUrl)
                 .setDirectory(localDir)
                 .setBare(false);
 
+        if (depth > 0) {
+            cloneCommand.setDepth(depth);
+        }
+
         // 자격증명 설정
         CredentialsProvider credProvider = getCredentialsProvider(repo);
         if (credProvider != null) {
             cloneCommand.setCredentialsProvider(credProvider);
         }
 
-        return cloneCommand.call();
+        long startedAt = System.nanoTime();
+        try (Git git = cloneCommand.call()) {
+            long bytes = transferMetrics.newPackBytes(git.getRepository(), Set.of());
+            transferMetrics.record("clone", bytes, Duration.ofNanos(System.nanoTime() - startedAt));
+            log.info("Cloned repository {} ({} bytes)", repo.getFullName(), bytes);
+        }
+        return repositoryPool.acquire(repo.getId(), localDir);
+    }
+
+    /**
+     * working tree 없는 bare 미러를 생성하고 원격 브랜치를 가져온다.
+     * 원격 브랜치는 refs/remotes/origin/* 로 가져오므로 로컬 브랜치(refs/heads/*)의
+     * push되지 않은 커밋이 fetch로 덮어써지지 않는다.
+     */
+    private void initBareMirror(Repository repo, String cloneUrl, File localDir) throws GitAPIException, IOException {
+        log.info("Creating bare mirror: {} at {}", cloneUrl, localDir);
+
+        try (Git git = Git.init()
+                .setBare(true)
+                .setDirectory(localDir)
+                .setInitialBranch(repo.getDefaultBranch())
+                .call()) {
+            git.remoteAdd()
+                    .setName("origin")
+                    .setUri(new URIish(cloneUrl))
+                    .call();
+            fetch(git, repo, repo.getDefaultBranch(), repo.getSyncConfig().getCloneDepth(), "clone");
+            alignWithRemote(git, repo.getDefaultBranch());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid clone URL: " + cloneUrl, e);
+        }
+    }
+
+    /**
+     * 디렉토리가 bare 레포지토리인지 확인한다.
+     */
+    private boolean isBareRepositoryDir(File dir) {
+        return new File(dir, "HEAD").isFile() && new File(dir, "objects").isDirectory();
     }
 
     /**
      * 원격 레포지토리에서 변경사항을 가져온다.
+     * shallow 레포지토리는 기존 shallow 경계 이후의 새 커밋만 가져온다.
      *
      * @param git Git 인스턴스
      * @param repo 레포지토리 엔티티 (자격증명 조회용)
      * @param branch 브랜치명
+     * @return 새로 받은 pack 파일의 바이트 수
      * @throws GitAPIException Git 작업 실패 시
      */
-    public void fetch(Git git, Repository repo, String branch) throws GitAPIException {
+    public long fetch(Git git, Repository repo, String branch) throws GitAPIException {
+        return fetch(git, repo, branch, 0, "fetch");
+    }
+
+    /**
+     * 원격 레포지토리에서 변경사항을 가져오고 전송량을 기록한다.
+     *
+     * @param depth 가져올 커밋 깊이 (0이면 제한 없음)
+     * @param operation 메트릭 태그 (clone, fetch)
+     */
+    private long fetch(Git git, Repository repo, String branch, int depth, String operation) throws GitAPIException {
         log.info("Fetching branch: {}", branch);
         FetchCommand fetchCommand = git.fetch()
                 .setRemote("origin");
 
+        if (depth > 0) {
+            fetchCommand.setDepth(depth);
+        }
+
         // 자격증명 설정
         CredentialsProvider credProvider = getCredentialsProvider(repo);
         if (credProvider != null) {
             fetchCommand.setCredentialsProvider(credProvider);
         }
 
+        Set<String> packsBefore = transferMetrics.packNames(git.getRepository());
+        long startedAt = System.nanoTime();
+
         fetchCommand.call();
+
+        long bytes = transferMetrics.newPackBytes(git.getRepository(), packsBefore);
+        transferMetrics.record(operation, bytes, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Fetched {} bytes for {} ({})", bytes, repo.getFullName(), branch);
+        return bytes;
+    }
+
+    /**
+     * 원격 브랜치의 최신 커밋 SHA를 조회한다 (ls-remote).
+     * 객체를 전송하지 않고 ref 광고만 받으므로 로컬 레포지토리 없이 변경 여부를 확인할 수 있다.
+     *
+     * @param repo 레포지토리 엔티티 (URL, 자격증명 조회용)
+     * @param branch 브랜치명
+     * @param timeoutSeconds 연결 타임아웃 (초)
+     * @return 원격 브랜치의 커밋 SHA (브랜치가 없으면 empty)
+     * @throws GitAPIException Git 작업 실패 시
+     */
+    public Optional<String> lsRemoteHead(Repository repo, String branch, int timeoutSeconds) throws GitAPIException {
+        LsRemoteCommand command = Git.lsRemoteRepository()
+                .setRemote(getCloneUrl(repo))
+                .setHeads(true)
+                .setTimeout(timeoutSeconds);
+
+        CredentialsProvider credProvider = getCredentialsProvider(repo);
+        if (credProvider != null) {
+            command.setCredentialsProvider(credProvider);
+        }
+
+        Ref ref = command.callAsMap().get("refs/heads/" + branch);
+        return Optional.ofNullable(ref)
+                .map(Ref::getObjectId)
+                .map(ObjectId::name);
     }
 
     /**
@@ -191,6 +317,50 @@ public class GitService {
                 .call();
     }
 
+    /**
+     * 로컬 브랜치를 fetch된 원격 브랜치에 맞춘다.
+     * working tree 레포지토리는 checkout 후 hard reset하고,
+     * bare 미러는 파일을 쓰지 않고 refs/heads/{branch} 참조만 원격 커밋으로 옮긴다.
+     *
+     * @param git Git 인스턴스
+     * @param branch 브랜치명
+     * @throws GitAPIException Git 작업 실패 시
+     * @throws IOException I/O 오류 발생 시
+     * @throws IllegalStateException push되지 않은 로컬 커밋이 있을 경우
+     */
+    public void alignWithRemote(Git git, String branch) throws GitAPIException, IOException {
+        if (!git.getRepository().isBare()) {
+            checkout(git, branch);
+            resetToRemote(git, branch);
+            return;
+        }
+
+        Ref remoteRef = git.getRepository().findRef("refs/remotes/origin/" + branch);
+        if (remoteRef == null) {
+            log.warn("Remote branch not found: origin/{}", branch);
+            return;
+        }
+
+        if (hasUnpushedCommits(git, branch)) {
+            throw new IllegalStateException(
+                    "Cannot sync: unpushed commits exist on branch '" + branch + "'. " +
+                    "Please push your changes first or discard them manually.");
+        }
+
+        RefUpdate refUpdate = git.getRepository().updateRef("refs/heads/" + branch);
+        refUpdate.setNewObjectId(remoteRef.getObjectId());
+        refUpdate.setForceUpdate(true);
+        refUpdate.setRefLogMessage("docst: align with origin/" + branch, false);
+
+        RefUpdate.Result result = refUpdate.update();
+        switch (result) {
+            case NEW, FORCED, FAST_FORWARD, NO_CHANGE ->
+                    log.info("Aligned bare branch {} to origin/{} ({})",
+                            branch, branch, remoteRef.getObjectId().getName().substring(0, 7));
+            default -> throw new IOException("Failed to update refs/heads/" + branch + ": " + result);
+        }
+    }
+
     /**
      * 로컬 브랜치에 push되지 않은 커밋이 있는지 확인한다.
      *
@@ -254,6 +424,23 @@ public class GitService {
      * @throws IOException I/O 오류 발생 시
      */
     public Optional<String> getFileContent(Git git, String commitSha, String path) throws IOException {
+        Optional<ObjectId> blobId = findBlobId(git, commitSha, path);
+        if (blobId.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(readBlob(git, blobId.get()));
+    }
+
+    /**
+     * 특정 커밋에서 파일의 blob ID를 조회한다. 내용은 읽지 않는다.
+     *
+     * @param git Git 인스턴스
+     * @param commitSha 커밋 SHA
+     * @param path 파일 경로
+     * @return blob ID (존재하지 않으면 empty)
+     * @throws IOException I/O 오류 발생 시
+     */
+    public Optional<ObjectId> findBlobId(Git git, String commitSha, String path) throws IOException {
         try (RevWalk revWalk = new RevWalk(git.getRepository())) {
             ObjectId commitId = git.getRepository().resolve(commitSha);
             if (commitId == null) {
@@ -271,15 +458,24 @@ public class GitService {
                 if (!treeWalk.next()) {
                     return Optional.empty();
                 }
-
-                ObjectId objectId = treeWalk.getObjectId(0);
-                ObjectLoader loader = git.getRepository().open(objectId);
-                byte[] bytes = loader.getBytes();
-                return Optional.of(new String(bytes, StandardCharsets.UTF_8));
+                return Optional.of(treeWalk.getObjectId(0));
             }
         }
     }
 
+    /**
+     * blob 내용을 UTF-8 문자열로 읽는다.
+     *
+     * @param git Git 인스턴스
+     * @param blobId blob ID
+     * @return 파일 내용
+     * @throws IOException I/O 오류 발생 시 (blob이 없으면 MissingObjectException)
+     */
+    public String readBlob(Git git, ObjectId blobId) throws IOException {
+        ObjectLoader loader = git.getRepository().open(blobId);
+        return new String(loader.getBytes(), StandardCharsets.UTF_8);
+    }
+
     /**
      * 커밋 정보를 조회한다.
      *
@@ -0,0 +1,108 @@
+package com.docst.git;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.lib.Repository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Git 전송량 메트릭.
+ * clone/fetch로 새로 생긴 pack 파일의 크기로 전송된 바이트 수를 계산하여 Micrometer로 기록한다.
+ * JGit FetchResult는 전송 바이트를 제공하지 않으므로, 받은 pack이 그대로 저장되는 pack 파일 크기를 근사치로 사용한다.
+ * object 저장소 전체가 아닌 pack 디렉토리 목록만 읽으므로 레포지토리 크기와 무관하게 비용이 일정하고,
+ * gc/repack으로 기존 pack이 줄어도 전송량이 음수가 되지 않는다 (loose object로 받는 dumb HTTP 전송은 집계하지 않음).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GitTransferMetrics {
+
+    private static final String PACK_SUFFIX = ".pack";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 레포지토리의 현재 pack 파일 이름을 조회한다. clone/fetch 전에 호출하여 {@link #newPackBytes}의 기준으로 사용한다.
+     *
+     * @param repository JGit 레포지토리
+     * @return pack 파일 이름 (조회 실패 시 빈 집합)
+     */
+    public Set<String> packNames(Repository repository) {
+        Set<String> names = new HashSet<>();
+        try (Stream<Path> files = listPacks(repository)) {
+            files.forEach(file -> names.add(file.getFileName().toString()));
+        } catch (IOException | java.io.UncheckedIOException e) {
+            log.debug("Failed to list pack files: {}", repository.getDirectory(), e);
+        }
+        return names;
+    }
+
+    /**
+     * 기준 시점 이후 새로 생긴 pack 파일의 크기 합을 계산한다.
+     *
+     * @param repository JGit 레포지토리
+     * @param before clone/fetch 전의 pack 파일 이름 ({@link #packNames})
+     * @return 바이트 수 (계산 실패 시 0)
+     */
+    public long newPackBytes(Repository repository, Set<String> before) {
+        try (Stream<Path> files = listPacks(repository)) {
+            return files.filter(file -> !before.contains(file.getFileName().toString()))
+                    .mapToLong(this::sizeOf)
+                    .sum();
+        } catch (IOException | java.io.UncheckedIOException e) {
+            log.debug("Failed to measure new pack files: {}", repository.getDirectory(), e);
+            return 0L;
+        }
+    }
+
+    private Stream<Path> listPacks(Repository repository) throws IOException {
+        Path packDir = repository.getDirectory().toPath().resolve("objects").resolve("pack");
+        if (!Files.isDirectory(packDir)) {
+            return Stream.empty();
+        }
+        return Files.list(packDir)
+                .filter(file -> file.getFileName().toString().endsWith(PACK_SUFFIX));
+    }
+
+    /**
+     * 전송 결과를 기록한다.
+     *
+     * @param operation 작업 종류 (clone, fetch)
+     * @param bytes 전송된 바이트 수
+     * @param elapsed 소요 시간
+     */
+    public void record(String operation, long bytes, Duration elapsed) {
+        DistributionSummary.builder("docst.git.transfer.bytes")
+                .description("Bytes of pack files received by a clone or fetch")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(Math.max(0L, bytes));
+
+        Timer.builder("docst.git.transfer.duration")
+                .description("Duration of clone and fetch operations")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(elapsed);
+    }
+
+    private long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            // gc 등으로 조회 중 삭제된 파일
+            return 0L;
+        }
+    }
+}
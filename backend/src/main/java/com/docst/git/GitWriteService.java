@@ -5,7 +5,21 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheBuilder;
+import org.eclipse.jgit.dircache.DirCacheEditor;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.transport.RefSpec;
 import org.springframework.stereotype.Service;
 
@@ -46,6 +60,140 @@ public class GitWriteService {
         log.info("Wrote file: {}", filePath);
     }
 
+    /**
+     * 파일 내용을 쓰고 커밋한다.
+     * working tree 레포지토리는 파일을 쓴 뒤 {@link #commitFile}로 커밋하고,
+     * bare 미러는 working tree 없이 blob/tree/commit 객체를 직접 만들어 브랜치 참조를 갱신한다.
+     *
+     * @param repo 레포지토리 엔티티
+     * @param relativePath 파일 상대 경로 (레포지토리 루트 기준)
+     * @param content 파일 내용
+     * @param message 커밋 메시지
+     * @param branch 대상 브랜치 (null이면 현재 브랜치)
+     * @param username 실제 작업 수행 사용자 (커밋 메시지에 포함)
+     * @return 생성된 커밋 SHA
+     * @throws GitAPIException Git 작업 실패 시
+     * @throws IOException I/O 오류 발생 시
+     */
+    public String commitContent(
+            Repository repo,
+            String relativePath,
+            String content,
+            String message,
+            String branch,
+            String username
+    ) throws GitAPIException, IOException {
+        try (Git git = gitService.cloneOrOpen(repo)) {
+            if (!git.getRepository().isBare()) {
+                writeFile(getLocalPath(repo).resolve(relativePath), content);
+                return commitFile(repo, relativePath, message, branch, username);
+            }
+
+            String commitSha = commitInMemory(git, relativePath, content, withUsername(message, username), branch);
+            log.info("Created commit: {} - {}", commitSha.substring(0, 8), message);
+            return commitSha;
+        }
+    }
+
+    /**
+     * 파일 내용을 커밋하지 않고 working tree에만 쓴다.
+     *
+     * @param repo 레포지토리 엔티티
+     * @param relativePath 파일 상대 경로 (레포지토리 루트 기준)
+     * @param content 파일 내용
+     * @throws GitAPIException Git 작업 실패 시
+     * @throws IOException 파일 쓰기 실패 시
+     * @throws IllegalStateException bare 미러 레포지토리인 경우 (working tree 없음)
+     */
+    public void stageContent(Repository repo, String relativePath, String content) throws GitAPIException, IOException {
+        try (Git git = gitService.cloneOrOpen(repo)) {
+            if (git.getRepository().isBare()) {
+                throw new IllegalStateException(
+                        "Uncommitted writes are not supported for bare mirror repositories: " + repo.getFullName());
+            }
+        }
+        writeFile(getLocalPath(repo).resolve(relativePath), content);
+    }
+
+    /**
+     * working tree 없이 메모리에서 커밋을 생성한다.
+     * 부모 커밋의 트리를 인메모리 인덱스로 읽어 대상 경로만 교체한 뒤 트리/커밋을 기록하고,
+     * 브랜치 참조를 부모 커밋 기준으로 compare-and-set 갱신한다.
+     */
+    private String commitInMemory(Git git, String relativePath, String content,
+                                  String commitMessage, String branch) throws IOException {
+        org.eclipse.jgit.lib.Repository repository = git.getRepository();
+        String targetBranch = branch != null && !branch.isEmpty() ? branch : repository.getBranch();
+        String refName = Constants.R_HEADS + targetBranch;
+
+        Ref ref = repository.exactRef(refName);
+        if (ref == null) {
+            ref = repository.exactRef(Constants.R_REMOTES + "origin/" + targetBranch);
+        }
+        ObjectId parentId = ref != null ? ref.getObjectId() : null;
+
+        try (ObjectInserter inserter = repository.newObjectInserter();
+             ObjectReader reader = inserter.newReader();
+             RevWalk revWalk = new RevWalk(reader)) {
+
+            ObjectId blobId = inserter.insert(Constants.OBJ_BLOB, content.getBytes(StandardCharsets.UTF_8));
+
+            // 부모 트리를 인메모리 인덱스로 읽고 대상 경로만 교체
+            DirCache index = DirCache.newInCore();
+            if (parentId != null) {
+                DirCacheBuilder builder = index.builder();
+                builder.addTree(new byte[0], DirCacheEntry.STAGE_0, reader, revWalk.parseCommit(parentId).getTree());
+                builder.finish();
+            }
+
+            DirCacheEditor editor = index.editor();
+            editor.add(new DirCacheEditor.PathEdit(relativePath) {
+                @Override
+                public void apply(DirCacheEntry entry) {
+                    entry.setFileMode(FileMode.REGULAR_FILE);
+                    entry.setObjectId(blobId);
+                }
+            });
+            editor.finish();
+
+            ObjectId treeId = index.writeTree(inserter);
+
+            PersonIdent bot = new PersonIdent("Docst Bot", "bot@docst.com");
+            CommitBuilder commitBuilder = new CommitBuilder();
+            commitBuilder.setTreeId(treeId);
+            if (parentId != null) {
+                commitBuilder.setParentId(parentId);
+            }
+            commitBuilder.setAuthor(bot);
+            commitBuilder.setCommitter(bot);
+            commitBuilder.setMessage(commitMessage);
+
+            ObjectId commitId = inserter.insert(commitBuilder);
+            inserter.flush();
+
+            RefUpdate refUpdate = repository.updateRef(refName);
+            refUpdate.setNewObjectId(commitId);
+            refUpdate.setExpectedOldObjectId(repository.exactRef(refName) != null ? parentId : ObjectId.zeroId());
+            refUpdate.setRefLogMessage("commit: " + commitMessage.lines().findFirst().orElse(""), false);
+
+            RefUpdate.Result result = refUpdate.update(revWalk);
+            if (result != RefUpdate.Result.NEW && result != RefUpdate.Result.FAST_FORWARD) {
+                throw new IOException("Failed to update " + refName + ": " + result);
+            }
+            return commitId.getName();
+        }
+    }
+
+    /**
+     * 커밋 메시지에 실제 작업 사용자를 덧붙인다.
+     */
+    private String withUsername(String message, String username) {
+        if (username != null && !username.isEmpty()) {
+            return message + "\n\nby @" + username;
+        }
+        return message;
+    }
+
     /**
      * 파일을 스테이징하고 커밋한다.
      * Bot이 커밋하되, 메시지에 실제 사용자를 명시한다.
@@ -81,10 +229,7 @@ public class GitWriteService {
                     .call();
 
             // 3. Commit
-            String commitMessage = message;
-            if (username != null && !username.isEmpty()) {
-                commitMessage = message + "\n\nby @" + username;
-            }
+            String commitMessage = withUsername(message, username);
 
             log.info("Committing file: {}", relativePath);
             RevCommit commit = git.commit()
@@ -0,0 +1,82 @@
+package com.docst.git;
+
+import com.docst.admin.service.SystemConfigService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.storage.file.WindowCacheConfig;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * JGit WindowCache 설정기.
+ * pack 파일 윈도우 캐시, delta base 캐시, 스트리밍 임계값을 {@link SystemConfigService}의
+ * git.window-cache.* 설정으로 적용한다. JGit 기본값(10MB)은 여러 레포지토리를 동시에 다루기에 작다.
+ * WindowCache는 JVM 전역이며 재설치 시 캐시가 비워지므로, 값이 바뀐 경우에만 다시 설치한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JGitCacheConfigurer {
+
+    private static final int MB = 1024 * 1024;
+
+    private final SystemConfigService systemConfigService;
+
+    /** 마지막으로 적용한 설정 (변경 감지용) */
+    private CacheSettings applied;
+
+    /**
+     * 애플리케이션 시작 시 설정을 적용한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        apply();
+    }
+
+    /**
+     * 현재 시스템 설정으로 WindowCache를 적용한다. 값이 바뀌지 않았으면 아무것도 하지 않는다.
+     */
+    public synchronized void apply() {
+        CacheSettings settings = new CacheSettings(
+                systemConfigService.getInt(SystemConfigService.GIT_WINDOW_CACHE_PACKED_GIT_LIMIT_MB, 256),
+                systemConfigService.getInt(SystemConfigService.GIT_WINDOW_CACHE_DELTA_BASE_CACHE_LIMIT_MB, 64),
+                systemConfigService.getInt(SystemConfigService.GIT_WINDOW_CACHE_STREAM_FILE_THRESHOLD_MB, 50),
+                systemConfigService.getInt(SystemConfigService.GIT_WINDOW_CACHE_PACKED_GIT_OPEN_FILES, 256)
+        );
+        if (settings.equals(applied)) {
+            return;
+        }
+
+        WindowCacheConfig config = new WindowCacheConfig();
+        config.setPackedGitLimit((long) settings.packedGitLimitMb() * MB);
+        config.setDeltaBaseCacheLimit(settings.deltaBaseCacheLimitMb() * MB);
+        config.setStreamFileThreshold(settings.streamFileThresholdMb() * MB);
+        config.setPackedGitOpenFiles(settings.packedGitOpenFiles());
+
+        try {
+            config.install();
+            applied = settings;
+            log.info("Applied JGit window cache: {}", settings);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid JGit window cache settings {}: {}", settings, e.getMessage());
+        }
+    }
+
+    /**
+     * 설정 키가 WindowCache 설정인지 확인한다.
+     *
+     * @param key 설정 키
+     * @return git.window-cache.* 키이면 true
+     */
+    public static boolean isCacheKey(String key) {
+        return key != null && key.startsWith("git.window-cache.");
+    }
+
+    private record CacheSettings(
+            int packedGitLimitMb,
+            int deltaBaseCacheLimitMb,
+            int streamFileThresholdMb,
+            int packedGitOpenFiles
+    ) {}
+}
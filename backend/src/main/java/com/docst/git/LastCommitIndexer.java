@@ -0,0 +1,125 @@
+package com.docst.git;
+
+import com.docst.git.GitService.CommitInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 경로별 마지막 수정 커밋 인덱서.
+ * 히스토리를 한 번만 순회하면서 여러 경로의 마지막 수정 커밋을 동시에 찾는다.
+ * 파일마다 {@link GitService#getLastCommitForFile}을 호출하는 O(파일 수 × 히스토리) 비용을
+ * O(히스토리) 한 번으로 줄인다.
+ */
+@Component
+@Slf4j
+public class LastCommitIndexer {
+
+    /**
+     * 지정한 경로들의 마지막 수정 커밋을 찾는다.
+     * {@link GitService#getLastCommitForFile}과 동일하게 각 커밋을 첫 번째 부모와 비교하며,
+     * 모든 경로를 찾으면 순회를 조기 종료한다.
+     *
+     * @param repository JGit 레포지토리
+     * @param tipCommitSha 순회 시작 커밋 SHA
+     * @param paths 대상 경로 목록
+     * @param stopAtCommitSha 이 커밋과 그 조상은 순회하지 않음 (null이면 전체 히스토리)
+     * @return 경로 → 마지막 수정 커밋 (범위 안에서 찾지 못한 경로는 포함되지 않음)
+     * @throws IOException I/O 오류 발생 시
+     */
+    public Map<String, CommitInfo> index(Repository repository, String tipCommitSha,
+                                         Collection<String> paths, String stopAtCommitSha) throws IOException {
+        Map<String, CommitInfo> result = new HashMap<>();
+        if (paths.isEmpty()) {
+            return result;
+        }
+
+        Set<String> remaining = new HashSet<>(paths);
+        int walked = 0;
+
+        try (RevWalk revWalk = new RevWalk(repository)) {
+            ObjectId tipId = repository.resolve(tipCommitSha);
+            if (tipId == null) {
+                return result;
+            }
+            revWalk.markStart(revWalk.parseCommit(tipId));
+
+            if (stopAtCommitSha != null) {
+                ObjectId stopId = repository.resolve(stopAtCommitSha);
+                if (stopId != null) {
+                    revWalk.markUninteresting(revWalk.parseCommit(stopId));
+                }
+            }
+
+            for (RevCommit commit : revWalk) {
+                walked++;
+                collectChangedPaths(repository, revWalk, commit, remaining, result);
+                if (remaining.isEmpty()) {
+                    break;
+                }
+            }
+        }
+
+        log.debug("Indexed last commits for {}/{} paths from {} ({} commits walked)",
+                result.size(), paths.size(), tipCommitSha.substring(0, Math.min(7, tipCommitSha.length())), walked);
+        return result;
+    }
+
+    /**
+     * 커밋에서 변경된 대상 경로를 찾아 결과에 기록하고 remaining에서 제거한다.
+     * 최초 커밋은 트리에 존재하는 모든 대상 경로를 변경된 것으로 본다.
+     */
+    private void collectChangedPaths(Repository repository, RevWalk revWalk, RevCommit commit,
+                                     Set<String> remaining, Map<String, CommitInfo> result) throws IOException {
+        CommitInfo commitInfo = null;
+
+        try (TreeWalk treeWalk = new TreeWalk(repository)) {
+            treeWalk.setRecursive(true);
+            TreeFilter pathFilter = PathFilterGroup.createFromStrings(remaining);
+
+            if (commit.getParentCount() == 0) {
+                treeWalk.addTree(commit.getTree());
+                treeWalk.setFilter(pathFilter);
+            } else {
+                RevCommit parent = revWalk.parseCommit(commit.getParent(0));
+                treeWalk.addTree(parent.getTree());
+                treeWalk.addTree(commit.getTree());
+                treeWalk.setFilter(AndTreeFilter.create(pathFilter, TreeFilter.ANY_DIFF));
+            }
+
+            while (treeWalk.next()) {
+                String path = treeWalk.getPathString();
+                if (remaining.remove(path)) {
+                    if (commitInfo == null) {
+                        commitInfo = toCommitInfo(commit);
+                    }
+                    result.put(path, commitInfo);
+                }
+            }
+        }
+    }
+
+    private CommitInfo toCommitInfo(RevCommit commit) {
+        return new CommitInfo(
+                commit.getName(),
+                commit.getAuthorIdent().getName(),
+                commit.getAuthorIdent().getEmailAddress(),
+                commit.getAuthorIdent().getWhenAsInstant(),
+                commit.getFullMessage()
+        );
+    }
+}
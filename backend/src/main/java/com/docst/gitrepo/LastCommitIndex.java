@@ -0,0 +1,94 @@
+package com.docst.gitrepo;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 경로별 마지막 수정 커밋 인덱스 엔티티.
+ * 특정 커밋 시점에서 각 문서 경로를 마지막으로 수정한 커밋을 저장한다.
+ * 커밋 정보는 SHA 기준으로 중복 제거하여 저장한다.
+ */
+@Entity
+@Table(name = "dm_last_commit_index",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"repository_id", "commit_sha"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LastCommitIndex {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /** 대상 레포지토리 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "repository_id", nullable = false)
+    private Repository repository;
+
+    /** 인덱스 기준 커밋 SHA */
+    @Column(name = "commit_sha", nullable = false)
+    private String commitSha;
+
+    /** 경로 → 마지막 수정 커밋 SHA */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "paths", columnDefinition = "jsonb", nullable = false)
+    private Map<String, String> paths = new HashMap<>();
+
+    /** 커밋 SHA → 커밋 정보 */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "commits", columnDefinition = "jsonb", nullable = false)
+    private Map<String, CommitEntry> commits = new HashMap<>();
+
+    /** 레코드 생성 시각 */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * 인덱스를 생성한다.
+     *
+     * @param repository 레포지토리
+     * @param commitSha 기준 커밋 SHA
+     * @param paths 경로 → 커밋 SHA
+     * @param commits 커밋 SHA → 커밋 정보
+     */
+    public LastCommitIndex(Repository repository, String commitSha,
+                           Map<String, String> paths, Map<String, CommitEntry> commits) {
+        this.repository = repository;
+        this.commitSha = commitSha;
+        this.paths = paths;
+        this.commits = commits;
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * 인덱스 내용을 교체한다.
+     */
+    public void replace(Map<String, String> paths, Map<String, CommitEntry> commits) {
+        this.paths = paths;
+        this.commits = commits;
+    }
+
+    /**
+     * 인덱스에 저장되는 커밋 정보.
+     *
+     * @param authorName 작성자 이름
+     * @param authorEmail 작성자 이메일
+     * @param committedAt 작성 시각
+     * @param message 커밋 메시지
+     */
+    public record CommitEntry(
+            String authorName,
+            String authorEmail,
+            Instant committedAt,
+            String message
+    ) implements Serializable {}
+}
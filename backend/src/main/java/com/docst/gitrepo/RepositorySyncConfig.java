@@ -13,6 +13,10 @@ import java.util.List;
  * @param scanOpenApi    OpenAPI 스펙 파일 스캔 여부 (*.openapi.yaml/yml/json)
  * @param scanSwagger    Swagger 스펙 파일 스캔 여부 (*.swagger.yaml/yml/json)
  * @param customPatterns 커스텀 정규식 패턴 목록
+ * @param syncParallelism      동기화 시 문서 읽기/파싱/청킹 병렬 작업 수 (null이면 기본값)
+ * @param embeddingParallelism 임베딩 아웃박스 워커의 레포지토리별 동시 임베딩 요청 수 (null이면 기본값)
+ * @param recordIntermediateVersions INCREMENTAL 시 중간 커밋의 문서 버전도 기록할지 여부 (청킹/임베딩 없음)
+ * @param cloneDepth     최초 clone 시 가져올 커밋 깊이 (null 또는 0 이하면 전체 히스토리)
  */
 public record RepositorySyncConfig(
     List<String> fileExtensions,
@@ -20,9 +24,25 @@ public record RepositorySyncConfig(
     List<String> excludePaths,
     boolean scanOpenApi,
     boolean scanSwagger,
-    List<String> customPatterns
+    List<String> customPatterns,
+    Integer syncParallelism,
+    Integer embeddingParallelism,
+    Boolean recordIntermediateVersions,
+    Integer cloneDepth
 ) implements Serializable {
 
+    /** 문서 처리 병렬도 기본값 */
+    public static final int DEFAULT_SYNC_PARALLELISM = 4;
+
+    /** 문서 처리 병렬도 상한 */
+    public static final int MAX_SYNC_PARALLELISM = 32;
+
+    /** 임베딩 병렬도 기본값 */
+    public static final int DEFAULT_EMBEDDING_PARALLELISM = 2;
+
+    /** 임베딩 병렬도 상한 (임베딩 API rate limit 보호) */
+    public static final int MAX_EMBEDDING_PARALLELISM = 8;
+
     /**
      * 기본 동기화 설정을 반환한다.
      */
@@ -33,7 +53,11 @@ public record RepositorySyncConfig(
             List.of(".git", "node_modules", "target", "build", ".gradle", "dist", "out"),
             true,   // OpenAPI 스캔
             true,   // Swagger 스캔
-            List.of()
+            List.of(),
+            DEFAULT_SYNC_PARALLELISM,
+            DEFAULT_EMBEDDING_PARALLELISM,
+            false,
+            null    // 전체 히스토리
         );
     }
 
@@ -64,4 +88,38 @@ public record RepositorySyncConfig(
     public List<String> getCustomPatterns() {
         return customPatterns != null ? customPatterns : List.of();
     }
+
+    /**
+     * 문서 처리 병렬도 반환 (1 ~ MAX_SYNC_PARALLELISM 범위로 보정).
+     */
+    public int getSyncParallelism() {
+        if (syncParallelism == null) {
+            return DEFAULT_SYNC_PARALLELISM;
+        }
+        return Math.max(1, Math.min(syncParallelism, MAX_SYNC_PARALLELISM));
+    }
+
+    /**
+     * 임베딩 병렬도 반환 (1 ~ MAX_EMBEDDING_PARALLELISM 범위로 보정).
+     */
+    public int getEmbeddingParallelism() {
+        if (embeddingParallelism == null) {
+            return DEFAULT_EMBEDDING_PARALLELISM;
+        }
+        return Math.max(1, Math.min(embeddingParallelism, MAX_EMBEDDING_PARALLELISM));
+    }
+
+    /**
+     * 중간 커밋 버전 기록 여부 반환 (null이면 false).
+     */
+    public boolean isRecordIntermediateVersions() {
+        return Boolean.TRUE.equals(recordIntermediateVersions);
+    }
+
+    /**
+     * clone 깊이 반환 (0이면 전체 히스토리).
+     */
+    public int getCloneDepth() {
+        return cloneDepth != null && cloneDepth > 0 ? cloneDepth : 0;
+    }
 }
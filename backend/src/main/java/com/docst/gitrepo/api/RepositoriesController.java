@@ -422,7 +422,11 @@ public class RepositoriesController {
                 request.excludePaths() != null ? request.excludePaths() : currentConfig.excludePaths(),
                 request.scanOpenApi() != null ? request.scanOpenApi() : currentConfig.scanOpenApi(),
                 request.scanSwagger() != null ? request.scanSwagger() : currentConfig.scanSwagger(),
-                request.customPatterns() != null ? request.customPatterns() : currentConfig.customPatterns()
+                request.customPatterns() != null ? request.customPatterns() : currentConfig.customPatterns(),
+                request.syncParallelism() != null ? request.syncParallelism() : currentConfig.syncParallelism(),
+                request.embeddingParallelism() != null ? request.embeddingParallelism() : currentConfig.embeddingParallelism(),
+                request.recordIntermediateVersions() != null ? request.recordIntermediateVersions() : currentConfig.recordIntermediateVersions(),
+                request.cloneDepth() != null ? request.cloneDepth() : currentConfig.cloneDepth()
         );
 
         return repositoryService.updateSyncConfig(repoId, newConfig)
@@ -0,0 +1,70 @@
+package com.docst.gitrepo.repository;
+
+import com.docst.gitrepo.LastCommitIndex;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 마지막 수정 커밋 인덱스 레포지토리.
+ */
+@org.springframework.stereotype.Repository
+public interface LastCommitIndexRepository extends JpaRepository<LastCommitIndex, UUID> {
+
+    /**
+     * 레포지토리와 커밋 SHA로 인덱스를 조회한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param commitSha 커밋 SHA
+     * @return 인덱스 (존재하지 않으면 empty)
+     */
+    Optional<LastCommitIndex> findByRepositoryIdAndCommitSha(UUID repositoryId, String commitSha);
+
+    /**
+     * 레포지토리의 가장 최근 인덱스를 조회한다.
+     * 증분 인덱싱의 시작점으로 사용한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @return 최근 인덱스 (존재하지 않으면 empty)
+     */
+    Optional<LastCommitIndex> findFirstByRepositoryIdOrderByCreatedAtDesc(UUID repositoryId);
+
+    /**
+     * 인덱스를 저장한다. 같은 (레포지토리, 커밋)의 인덱스가 이미 있으면 아무것도 하지 않는다.
+     * 동기화와 마지막 수정 커밋 조회 API가 같은 커밋의 인덱스를 동시에 만들어도 충돌하지 않는다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param commitSha 커밋 SHA
+     * @param paths 경로 → 커밋 SHA (JSON)
+     * @param commits 커밋 SHA → 커밋 정보 (JSON)
+     * @param createdAt 생성 시각
+     * @return 저장된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO dm_last_commit_index (repository_id, commit_sha, paths, commits, created_at)
+        VALUES (:repositoryId, :commitSha, CAST(:paths AS jsonb), CAST(:commits AS jsonb), :createdAt)
+        ON CONFLICT (repository_id, commit_sha) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("repositoryId") UUID repositoryId,
+                       @Param("commitSha") String commitSha,
+                       @Param("paths") String paths,
+                       @Param("commits") String commits,
+                       @Param("createdAt") Instant createdAt);
+
+    /**
+     * 기준 시각 이전에 생성된 레포지토리의 인덱스를 삭제한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param before 기준 시각
+     * @return 삭제된 인덱스 수
+     */
+    @Modifying
+    @Query("DELETE FROM LastCommitIndex i WHERE i.repository.id = :repositoryId AND i.createdAt < :before")
+    int deleteOlderThan(@Param("repositoryId") UUID repositoryId, @Param("before") Instant before);
+}
@@ -4,6 +4,7 @@ import com.docst.gitrepo.Repository;
 import com.docst.gitrepo.Repository.RepoProvider;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +34,14 @@ public interface RepositoryRepository extends JpaRepository<Repository, UUID> {
      */
     List<Repository> findByProjectIdAndActiveOrderByCreatedAt(UUID projectId, boolean active);
 
+    /**
+     * 활성화된 모든 레포지토리의 ID를 조회한다.
+     *
+     * @return 레포지토리 ID 목록
+     */
+    @Query("SELECT r.id FROM Repository r WHERE r.active = true")
+    List<UUID> findActiveIds();
+
     /**
      * 제공자와 외부 ID로 레포지토리를 조회한다.
      *
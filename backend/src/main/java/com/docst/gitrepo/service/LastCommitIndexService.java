@@ -0,0 +1,204 @@
+package com.docst.gitrepo.service;
+
+import com.docst.git.GitService.CommitInfo;
+import com.docst.git.LastCommitIndexer;
+import com.docst.gitrepo.LastCommitIndex;
+import com.docst.gitrepo.LastCommitIndex.CommitEntry;
+import com.docst.gitrepo.repository.LastCommitIndexRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 마지막 수정 커밋 인덱스 서비스.
+ * (레포지토리, 커밋) 단위로 경로별 마지막 수정 커밋 인덱스를 조회/생성/저장한다.
+ * 이전 인덱스의 커밋이 새 커밋의 조상이면 그 사이 커밋만 순회하여 인덱스를 확장한다.
+ * 새 인덱스는 이전 인덱스의 모든 경로를 이어받으므로, 변경 경로만 요청한 동기화 뒤에도 전체 경로를 담는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LastCommitIndexService {
+
+    private final LastCommitIndexer lastCommitIndexer;
+    private final LastCommitIndexRepository lastCommitIndexRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 커밋 시점에서 각 경로의 마지막 수정 커밋을 조회한다.
+     * 저장된 인덱스가 있으면 재사용하고, 없으면 생성하여 저장한다.
+     *
+     * @param git Git 인스턴스
+     * @param repositoryId 레포지토리 ID
+     * @param commitSha 기준 커밋 SHA
+     * @param paths 대상 경로 목록
+     * @return 경로 → 마지막 수정 커밋 (히스토리에서 찾지 못한 경로는 포함되지 않음)
+     * @throws IOException I/O 오류 발생 시
+     */
+    @Transactional
+    public Map<String, CommitInfo> resolve(Git git, UUID repositoryId, String commitSha,
+                                           Collection<String> paths) throws IOException {
+        Optional<LastCommitIndex> exact = lastCommitIndexRepository.findByRepositoryIdAndCommitSha(repositoryId, commitSha);
+        if (exact.isPresent()) {
+            return resolveFromExact(git, exact.get(), paths);
+        }
+
+        Map<String, String> pathMap = new HashMap<>();
+        Map<String, CommitEntry> commitMap = new HashMap<>();
+
+        // 이전 인덱스가 조상 커밋이면 그 사이 커밋만 순회
+        // 이전 인덱스의 경로도 함께 순회하여, 새 인덱스가 요청 경로뿐 아니라 이전 인덱스가 알던 모든 경로를 담도록 한다
+        Optional<LastCommitIndex> base = lastCommitIndexRepository.findFirstByRepositoryIdOrderByCreatedAtDesc(repositoryId);
+        if (base.isPresent() && isAncestor(git, base.get().getCommitSha(), commitSha)) {
+            LastCommitIndex baseIndex = base.get();
+            Set<String> targets = new HashSet<>(baseIndex.getPaths().keySet());
+            targets.addAll(paths);
+            Map<String, CommitInfo> changed =
+                    lastCommitIndexer.index(git.getRepository(), commitSha, targets, baseIndex.getCommitSha());
+
+            pathMap.putAll(baseIndex.getPaths());
+            commitMap.putAll(baseIndex.getCommits());
+            pathMap.putAll(toPathMap(changed));
+            commitMap.putAll(toCommitMap(changed));
+
+            log.debug("Extended last commit index from {} to {}: {} paths changed, {} reused",
+                    shortSha(baseIndex.getCommitSha()), shortSha(commitSha),
+                    changed.size(), pathMap.size() - changed.size());
+        }
+
+        Map<String, CommitInfo> resolved = lookup(pathMap, commitMap, paths);
+        List<String> missing = paths.stream()
+                .filter(path -> !resolved.containsKey(path))
+                .toList();
+        if (!missing.isEmpty()) {
+            Map<String, CommitInfo> found = lastCommitIndexer.index(git.getRepository(), commitSha, missing, null);
+            resolved.putAll(found);
+            pathMap.putAll(toPathMap(found));
+            commitMap.putAll(toCommitMap(found));
+        }
+
+        // 더 이상 어떤 경로도 가리키지 않는 커밋 정보는 저장하지 않는다
+        commitMap.keySet().retainAll(new HashSet<>(pathMap.values()));
+
+        // 같은 커밋을 동시에 처리한 쪽이 먼저 저장했으면 그 인덱스를 유지한다 (빠진 경로는 다음 조회에서 채운다)
+        int inserted = lastCommitIndexRepository.insertIfAbsent(repositoryId, commitSha,
+                toJson(pathMap), toJson(commitMap), Instant.now());
+        if (inserted == 0) {
+            log.debug("Last commit index for repository {} at {} was stored concurrently",
+                    repositoryId, shortSha(commitSha));
+        }
+
+        // 증분 확장의 시작점이 될 직전 인덱스만 남기고 정리
+        base.ifPresent(b -> lastCommitIndexRepository.deleteOlderThan(repositoryId, b.getCreatedAt()));
+
+        log.info("Built last commit index for repository {} at {} ({} paths)",
+                repositoryId, shortSha(commitSha), pathMap.size());
+        return resolved;
+    }
+
+    /**
+     * 같은 커밋의 인덱스가 있을 때 조회한다. 인덱스에 없는 경로만 추가로 순회한다.
+     */
+    private Map<String, CommitInfo> resolveFromExact(Git git, LastCommitIndex index,
+                                                     Collection<String> paths) throws IOException {
+        Map<String, CommitInfo> resolved = lookup(index.getPaths(), index.getCommits(), paths);
+        List<String> missing = paths.stream()
+                .filter(path -> !resolved.containsKey(path))
+                .toList();
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        Map<String, CommitInfo> found = lastCommitIndexer.index(git.getRepository(), index.getCommitSha(), missing, null);
+        if (!found.isEmpty()) {
+            Map<String, String> pathMap = new HashMap<>(index.getPaths());
+            Map<String, CommitEntry> commitMap = new HashMap<>(index.getCommits());
+            pathMap.putAll(toPathMap(found));
+            commitMap.putAll(toCommitMap(found));
+            index.replace(pathMap, commitMap);
+            resolved.putAll(found);
+        }
+        return resolved;
+    }
+
+    /**
+     * 인덱스 맵에서 경로들의 커밋 정보를 조회한다.
+     */
+    private Map<String, CommitInfo> lookup(Map<String, String> pathMap, Map<String, CommitEntry> commitMap,
+                                           Collection<String> paths) {
+        Map<String, CommitInfo> result = new HashMap<>();
+        for (String path : paths) {
+            String sha = pathMap.get(path);
+            if (sha == null) {
+                continue;
+            }
+            CommitEntry entry = commitMap.get(sha);
+            if (entry != null) {
+                result.put(path, new CommitInfo(sha, entry.authorName(), entry.authorEmail(),
+                        entry.committedAt(), entry.message()));
+            }
+        }
+        return result;
+    }
+
+    private String toJson(Map<String, ?> map) {
+        try {
+            return objectMapper.writeValueAsString(map);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize last commit index", e);
+        }
+    }
+
+    private Map<String, String> toPathMap(Map<String, CommitInfo> resolved) {
+        Map<String, String> pathMap = new HashMap<>();
+        resolved.forEach((path, info) -> pathMap.put(path, info.sha()));
+        return pathMap;
+    }
+
+    private Map<String, CommitEntry> toCommitMap(Map<String, CommitInfo> resolved) {
+        Map<String, CommitEntry> commitMap = new HashMap<>();
+        for (CommitInfo info : resolved.values()) {
+            commitMap.putIfAbsent(info.sha(),
+                    new CommitEntry(info.authorName(), info.authorEmail(), info.committedAt(), info.message()));
+        }
+        return commitMap;
+    }
+
+    /**
+     * ancestorSha가 commitSha의 조상(또는 동일 커밋)인지 확인한다.
+     * force push 등으로 이전 커밋을 찾을 수 없으면 false를 반환한다.
+     */
+    private boolean isAncestor(Git git, String ancestorSha, String commitSha) throws IOException {
+        try (RevWalk revWalk = new RevWalk(git.getRepository())) {
+            ObjectId ancestorId = git.getRepository().resolve(ancestorSha);
+            ObjectId commitId = git.getRepository().resolve(commitSha);
+            if (ancestorId == null || commitId == null) {
+                return false;
+            }
+            return revWalk.isMergedInto(revWalk.parseCommit(ancestorId), revWalk.parseCommit(commitId));
+        } catch (org.eclipse.jgit.errors.MissingObjectException e) {
+            return false;
+        }
+    }
+
+    private String shortSha(String sha) {
+        return sha.substring(0, Math.min(7, sha.length()));
+    }
+}
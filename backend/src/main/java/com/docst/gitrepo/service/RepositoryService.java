@@ -5,6 +5,7 @@ import com.docst.gitrepo.Repository;
 import com.docst.gitrepo.Repository.RepoProvider;
 import com.docst.gitrepo.RepositorySyncConfig;
 import com.docst.gitrepo.repository.RepositoryRepository;
+import com.docst.git.GitRepositoryPool;
 import com.docst.git.GitWriteService;
 import com.docst.project.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ public class RepositoryService {
     private final RepositoryRepository repositoryRepository;
     private final ProjectRepository projectRepository;
     private final GitWriteService gitWriteService;
+    private final GitRepositoryPool gitRepositoryPool;
 
     /**
      * 프로젝트에 속한 모든 레포지토리를 조회한다.
@@ -112,6 +114,7 @@ public class RepositoryService {
     @Transactional
     public void delete(UUID id) {
         repositoryRepository.deleteById(id);
+        gitRepositoryPool.invalidate(id);
     }
 
     /**
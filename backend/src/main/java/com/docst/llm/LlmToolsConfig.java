@@ -2,6 +2,7 @@ package com.docst.llm;
 
 import com.docst.document.Document;
 import com.docst.document.DocumentVersion;
+import com.docst.document.service.ContentBlobService;
 import com.docst.document.service.DocumentService;
 import com.docst.search.service.SearchService;
 import com.docst.search.service.SearchService.SearchResult;
@@ -39,6 +40,7 @@ import java.util.function.Function;
 public class LlmToolsConfig {
 
     private final DocumentService documentService;
+    private final ContentBlobService contentBlobService;
     private final SearchService searchService;
 
     /**
@@ -121,7 +123,7 @@ public class LlmToolsConfig {
                 doc.getId().toString(),
                 doc.getPath(),
                 doc.getTitle(),
-                latestVersion.getContent(),
+                contentBlobService.getContent(latestVersion),
                 latestVersion.getCommitSha()
             );
         };
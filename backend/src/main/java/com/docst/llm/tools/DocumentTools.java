@@ -2,6 +2,7 @@ package com.docst.llm.tools;
 
 import com.docst.document.Document;
 import com.docst.document.DocumentVersion;
+import com.docst.document.service.ContentBlobService;
 import com.docst.document.service.DocumentService;
 import com.docst.llm.CitationCollector;
 import com.docst.llm.model.Citation;
@@ -31,6 +32,7 @@ import java.util.UUID;
 public class DocumentTools {
 
     private final DocumentService documentService;
+    private final ContentBlobService contentBlobService;
     private final SearchService searchService;
     private final SemanticSearchService semanticSearchService;
     private final RagConfigService ragConfigService;
@@ -142,7 +144,7 @@ public class DocumentTools {
             doc.getId().toString(),
             doc.getPath(),
             doc.getTitle(),
-            latestVersion.getContent(),
+            contentBlobService.getContent(latestVersion),
             latestVersion.getCommitSha()
         );
     }
@@ -2,6 +2,7 @@ package com.docst.mcp.tools;
 
 import com.docst.auth.SecurityUtils;
 import com.docst.document.Document;
+import com.docst.document.service.ContentBlobService;
 import com.docst.document.service.DocumentService;
 import com.docst.mcp.McpModels.*;
 import com.docst.project.service.ProjectService;
@@ -37,6 +38,7 @@ import java.util.stream.Collectors;
 public class McpDocumentTools {
 
     private final DocumentService documentService;
+    private final ContentBlobService contentBlobService;
     private final SearchService searchService;
     private final SemanticSearchService semanticSearchService;
     private final HybridSearchService hybridSearchService;
@@ -50,12 +52,14 @@ public class McpDocumentTools {
     private static final double DEFAULT_VECTOR_WEIGHT = 0.6;
 
     public McpDocumentTools(DocumentService documentService,
+                           ContentBlobService contentBlobService,
                            SearchService searchService,
                            SemanticSearchService semanticSearchService,
                            HybridSearchService hybridSearchService,
                            ProjectService projectService,
                            List<RagSearchStrategy> strategies) {
         this.documentService = documentService;
+        this.contentBlobService = contentBlobService;
         this.searchService = searchService;
         this.semanticSearchService = semanticSearchService;
         this.hybridSearchService = hybridSearchService;
@@ -143,7 +147,7 @@ public class McpDocumentTools {
             doc.getTitle(),
             doc.getDocType().name(),
             ver.getCommitSha(),
-            ver.getContent(),
+            contentBlobService.getContent(ver),
             ver.getAuthorName(),
             ver.getCommittedAt()
         );
@@ -198,8 +202,8 @@ public class McpDocumentTools {
         }
 
         String diff = buildDiff(
-            fromOpt.get().getContent(),
-            toOpt.get().getContent(),
+            contentBlobService.getContent(fromOpt.get()),
+            contentBlobService.getContent(toOpt.get()),
             fromCommitSha,
             toCommitSha
         );
@@ -1,6 +1,8 @@
 package com.docst.rag.api;
 
 import com.docst.api.ApiModels.*;
+import com.docst.chunking.ReChunkingService;
+import com.docst.chunking.ReChunkingService.ReChunkingStatus;
 import com.docst.project.Project;
 import com.docst.embedding.ReEmbeddingService;
 import com.docst.embedding.ReEmbeddingService.ReEmbeddingStatus;
@@ -37,6 +39,7 @@ public class ProjectRagConfigController {
     private final RagConfigService ragConfigService;
     private final RagGlobalProperties globalProperties;
     private final ReEmbeddingService reEmbeddingService;
+    private final ReChunkingService reChunkingService;
 
     /**
      * 프로젝트 RAG 설정 조회.
@@ -272,6 +275,101 @@ public class ProjectRagConfigController {
         ));
     }
 
+    /**
+     * 재임베딩 비용 추정.
+     * 재임베딩을 시작하기 전에 처리할 청크/토큰 수와 임베딩 API 호출 수를 확인한다.
+     */
+    @Operation(
+            summary = "재임베딩 비용 추정",
+            description = "재임베딩 시 처리될 문서 버전/청크/토큰 수와 예상 임베딩 API 호출 수를 조회합니다. 아무것도 변경하지 않습니다."
+    )
+    @ApiResponse(responseCode = "200", description = "추정 성공")
+    @GetMapping("/re-embed/estimate")
+    public ResponseEntity<ReEmbeddingEstimateResponse> estimateReEmbedding(@PathVariable UUID projectId) {
+        projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+
+        ReEmbeddingService.ReEmbeddingEstimate estimate = reEmbeddingService.estimate(projectId);
+        return ResponseEntity.ok(new ReEmbeddingEstimateResponse(
+                projectId,
+                estimate.totalVersions(),
+                estimate.chunks(),
+                estimate.tokens(),
+                estimate.embeddingCalls()
+        ));
+    }
+
+    /**
+     * 프로젝트 재청킹 트리거.
+     * 현재 청킹 설정으로 모든 문서의 청크를 다시 만든다 (비동기).
+     */
+    @Operation(
+            summary = "재청킹 트리거",
+            description = "프로젝트의 모든 문서를 현재 청킹 설정으로 다시 청킹합니다. 청킹 설정 변경 후 호출하세요. "
+                    + "내용이 바뀐 청크만 다시 임베딩되며, 비동기로 실행됩니다."
+    )
+    @ApiResponse(responseCode = "202", description = "재청킹 시작됨")
+    @ApiResponse(responseCode = "409", description = "이미 재청킹 진행 중")
+    @PostMapping("/re-chunk")
+    public ResponseEntity<ReChunkingTriggerResponse> triggerReChunking(@PathVariable UUID projectId) {
+        // 프로젝트 존재 확인
+        projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found: " + projectId));
+
+        // 이미 진행 중인지 확인
+        ReChunkingStatus status = reChunkingService.getStatus(projectId);
+        if (status != null && status.isInProgress()) {
+            return ResponseEntity.status(409).body(new ReChunkingTriggerResponse(
+                    projectId,
+                    "Re-chunking already in progress",
+                    true
+            ));
+        }
+
+        // 비동기 재청킹 시작
+        reChunkingService.reChunkProjectAsync(projectId);
+
+        log.info("Re-chunking triggered for project {}", projectId);
+
+        return ResponseEntity.accepted().body(new ReChunkingTriggerResponse(
+                projectId,
+                "Re-chunking started",
+                true
+        ));
+    }
+
+    /**
+     * 재청킹 진행 상태 조회.
+     */
+    @Operation(
+            summary = "재청킹 상태 조회",
+            description = "프로젝트의 재청킹 진행 상태를 조회합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "상태 조회 성공")
+    @ApiResponse(responseCode = "404", description = "진행 중인 작업 없음")
+    @GetMapping("/re-chunk/status")
+    public ResponseEntity<ReChunkingStatusResponse> getReChunkingStatus(@PathVariable UUID projectId) {
+        ReChunkingStatus status = reChunkingService.getStatus(projectId);
+
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(new ReChunkingStatusResponse(
+                status.getProjectId(),
+                status.isInProgress(),
+                status.getTotalVersions(),
+                status.getProcessedVersions(),
+                status.getProgress(),
+                status.getChangedVersions(),
+                status.getKeptChunks(),
+                status.getInsertedChunks(),
+                status.getDeletedChunks(),
+                status.getFailedCount(),
+                status.getErrorMessage()
+        ));
+    }
+
     // ===== Helper methods =====
 
     private ProjectRagConfigResponse toResponse(UUID projectId, ResolvedRagConfig config, Instant updatedAt) {
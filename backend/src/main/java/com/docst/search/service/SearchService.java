@@ -4,6 +4,7 @@ import com.docst.document.Document;
 import com.docst.document.repository.DocumentRepository;
 import com.docst.document.DocumentVersion;
 import com.docst.document.repository.DocumentVersionRepository;
+import com.docst.document.service.ContentBlobService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +24,7 @@ public class SearchService {
 
     private final DocumentVersionRepository documentVersionRepository;
     private final DocumentRepository documentRepository;
+    private final ContentBlobService contentBlobService;
 
     /**
      * 키워드로 문서를 검색한다.
@@ -39,7 +41,7 @@ public class SearchService {
         return versions.stream()
                 .map(version -> {
                     Document doc = documentRepository.findById(version.getDocument().getId()).orElse(null);
-                    String snippet = buildSnippet(version.getContent(), query);
+                    String snippet = buildSnippet(contentBlobService.getContent(version), query);
                     return new SearchResult(
                             version.getDocument().getId(),
                             doc != null ? doc.getRepository().getId() : null,
@@ -2,6 +2,7 @@ package com.docst.search.service;
 
 import com.docst.admin.service.PgVectorDataSourceManager;
 import com.docst.admin.service.SystemConfigService;
+import com.docst.chunking.TokenCounter;
 import com.docst.document.DocChunk;
 import com.docst.document.repository.DocChunkRepository;
 import com.docst.document.Document;
@@ -42,6 +43,10 @@ public class SemanticSearchService {
     private final RagConfigService ragConfigService;
     private final DocChunkRepository docChunkRepository;
     private final SystemConfigService systemConfigService;
+    private final TokenCounter tokenCounter;
+
+    /** 스니펫 최대 토큰 수 (영문 기준 약 300자) */
+    private static final int SNIPPET_MAX_TOKENS = 80;
 
     // 프로젝트별 VectorStore 캐시 (projectId -> VectorStore)
     private final ConcurrentHashMap<UUID, VectorStore> vectorStoreCache = new ConcurrentHashMap<>();
@@ -174,11 +179,12 @@ public class SemanticSearchService {
                 : null;
             double score = distance != null ? (1.0 - distance / 2.0) : 0.5;
 
-            // 스니펫 생성 (청크 내용 일부)
+            // 스니펫 생성 (청크 내용 앞부분, 최대 토큰 수까지만 인코딩)
             String content = chunk.getContent();
-            String snippet = content.length() > 300
-                ? content.substring(0, 300) + "..."
-                : content;
+            String snippet = tokenCounter.truncate(content, SNIPPET_MAX_TOKENS);
+            if (snippet.length() < content.length()) {
+                snippet = snippet + "...";
+            }
 
             results.add(new SearchService.SearchResult(
                 doc.getId(),
@@ -0,0 +1,101 @@
+package com.docst.sync;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Push 웹훅 페이로드에서 얻은 변경 파일 목록.
+ * 커밋 순서대로 added/modified/removed를 누적하여 경로별 최종 상태(upsert 또는 삭제)만 남긴다.
+ * before..after 범위의 순 변경과 같으므로, 마지막 동기화 커밋이 before와 같으면 로컬 diff 계산을 생략할 수 있다.
+ *
+ * @param beforeSha push 이전 커밋 SHA
+ * @param afterSha push 이후 커밋 SHA
+ * @param upsertPaths 추가/수정된 경로
+ * @param deletedPaths 삭제된 경로
+ */
+public record PushChangeSet(
+        String beforeSha,
+        String afterSha,
+        List<String> upsertPaths,
+        List<String> deletedPaths
+) {
+
+    public PushChangeSet {
+        upsertPaths = List.copyOf(upsertPaths);
+        deletedPaths = List.copyOf(deletedPaths);
+    }
+
+    /**
+     * 바로 이어지는 push의 변경 목록을 합친다.
+     *
+     * @param next 다음 push의 변경 목록
+     * @return 합친 변경 목록 (next가 이 push에서 이어지지 않으면 null)
+     */
+    public PushChangeSet merge(PushChangeSet next) {
+        if (next == null || !afterSha.equals(next.beforeSha())) {
+            return null;
+        }
+        Builder builder = builder(beforeSha);
+        upsertPaths.forEach(builder::upsert);
+        deletedPaths.forEach(builder::delete);
+        next.upsertPaths().forEach(builder::upsert);
+        next.deletedPaths().forEach(builder::delete);
+        return builder.build(next.afterSha());
+    }
+
+    /**
+     * 변경 목록 빌더를 생성한다.
+     *
+     * @param beforeSha push 이전 커밋 SHA
+     * @return 빌더
+     */
+    public static Builder builder(String beforeSha) {
+        return new Builder(beforeSha);
+    }
+
+    /**
+     * 커밋 순서대로 경로 변경을 누적하는 빌더.
+     */
+    public static final class Builder {
+
+        private final String beforeSha;
+
+        /** 경로 → 삭제 여부 (마지막 변경이 우선) */
+        private final Map<String, Boolean> changes = new LinkedHashMap<>();
+
+        private Builder(String beforeSha) {
+            this.beforeSha = beforeSha;
+        }
+
+        /**
+         * 추가 또는 수정된 경로를 기록한다.
+         */
+        public Builder upsert(String path) {
+            changes.put(path, false);
+            return this;
+        }
+
+        /**
+         * 삭제된 경로를 기록한다.
+         */
+        public Builder delete(String path) {
+            changes.put(path, true);
+            return this;
+        }
+
+        /**
+         * 변경 목록을 생성한다.
+         *
+         * @param afterSha push 이후 커밋 SHA
+         * @return 경로별 최종 상태
+         */
+        public PushChangeSet build(String afterSha) {
+            List<String> upserts = new ArrayList<>();
+            List<String> deletes = new ArrayList<>();
+            changes.forEach((path, deleted) -> (deleted ? deletes : upserts).add(path));
+            return new PushChangeSet(beforeSha, afterSha, upserts, deletes);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.docst.sync;
+
+import com.docst.sync.SyncJob.SyncStage;
+
+import java.util.List;
+
+/**
+ * 동기화 작업 체크포인트.
+ * 재개된 작업은 체크포인트의 커밋을 그대로 동기화하고, 이미 커밋된 문서 경로 이후부터 처리한다.
+ *
+ * @param stage 마지막으로 도달한 단계
+ * @param commitSha 동기화 중이던 커밋 SHA
+ * @param lastPath 마지막으로 커밋된 문서 경로 (없으면 null)
+ */
+public record SyncCheckpoint(
+        SyncStage stage,
+        String commitSha,
+        String lastPath
+) {
+
+    /**
+     * 이미 처리된 경로를 제외한 나머지 경로를 반환한다.
+     * 경로 목록은 경로 순으로 정렬되어 처리되므로, 마지막 경로보다 뒤에 오는 경로만 남긴다.
+     * 목록을 만든 방식(push 페이로드, 로컬 diff)이 달라 마지막 경로가 목록에 없어도 같은 기준으로 자른다.
+     *
+     * @param paths 처리할 경로 목록 (경로 순으로 정렬)
+     * @return 남은 경로 목록
+     */
+    public List<String> remaining(List<String> paths) {
+        if (lastPath == null) {
+            return paths;
+        }
+        return paths.stream()
+                .filter(path -> path.compareTo(lastPath) > 0)
+                .toList();
+    }
+}
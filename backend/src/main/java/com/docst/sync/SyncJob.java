@@ -67,18 +67,50 @@ public class SyncJob {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
-    /** 진행률 추적용 - 전체 문서 수 */
-    @Transient
+    /** 진행률 - 전체 문서 수 (배치 커밋 시점에 기록) */
+    @Column(name = "total_documents", nullable = false)
     private int totalDocuments;
 
-    /** 진행률 추적용 - 처리된 문서 수 */
-    @Transient
+    /** 진행률 - 처리된 문서 수 (배치 커밋 시점에 기록) */
+    @Column(name = "processed_documents", nullable = false)
     private int processedDocuments;
 
-    /** 임베딩 생성 여부 (기본값: true) */
-    @Transient
+    /**
+     * 동기화 결과 - 같은 텍스트의 기존 벡터를 재사용할 청크 수 (배치 커밋 시점에 기록).
+     * 배치 트랜잭션의 JPQL 갱신으로만 누적하므로, 실행 시작 시 조회한 엔티티를 저장해도 덮어쓰지 않는다.
+     */
+    @Column(name = "reused_chunks", nullable = false, updatable = false)
+    private int reusedChunks;
+
+    /** 동기화 결과 - 임베딩 API로 보낼 청크 수 (배치 커밋 시점에 기록, reusedChunks와 같이 엔티티 저장 시 갱신하지 않음) */
+    @Column(name = "embedded_chunks", nullable = false, updatable = false)
+    private int embeddedChunks;
+
+    /** 임베딩 생성 여부 (기본값: true, 재개 시 동일하게 적용) */
+    @Column(name = "enable_embedding", nullable = false)
     private boolean enableEmbedding = true;
 
+    /** 체크포인트 - 마지막으로 도달한 단계 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "checkpoint_stage")
+    private SyncStage checkpointStage;
+
+    /** 체크포인트 - 동기화 중인 커밋 SHA */
+    @Column(name = "checkpoint_commit")
+    private String checkpointCommit;
+
+    /** 체크포인트 - 마지막으로 커밋된 문서 경로 */
+    @Column(name = "checkpoint_path", columnDefinition = "TEXT")
+    private String checkpointPath;
+
+    /** 체크포인트 기록 시각 */
+    @Column(name = "checkpoint_at")
+    private Instant checkpointAt;
+
+    /** 재시작 후 재개된 횟수 */
+    @Column(name = "resume_count", nullable = false)
+    private int resumeCount;
+
     /**
      * 동기화 작업 생성자.
      *
@@ -125,7 +157,21 @@ public class SyncJob {
      */
     public void start() {
         this.status = SyncStatus.RUNNING;
-        this.startedAt = Instant.now();
+        if (this.startedAt == null) {
+            this.startedAt = Instant.now();
+        }
+    }
+
+    /**
+     * 저장된 체크포인트를 반환한다.
+     *
+     * @return 체크포인트 (동기화 커밋이 기록되지 않았으면 null)
+     */
+    public SyncCheckpoint getCheckpoint() {
+        if (checkpointCommit == null || checkpointStage == null) {
+            return null;
+        }
+        return new SyncCheckpoint(checkpointStage, checkpointCommit, checkpointPath);
     }
 
     /**
@@ -137,6 +183,7 @@ public class SyncJob {
         this.status = SyncStatus.SUCCEEDED;
         this.lastSyncedCommit = lastCommit;
         this.finishedAt = Instant.now();
+        clearCheckpoint();
     }
 
     /**
@@ -148,6 +195,13 @@ public class SyncJob {
         this.status = SyncStatus.FAILED;
         this.errorMessage = errorMessage;
         this.finishedAt = Instant.now();
+        clearCheckpoint();
+    }
+
+    private void clearCheckpoint() {
+        this.checkpointStage = null;
+        this.checkpointCommit = null;
+        this.checkpointPath = null;
     }
 
     /**
@@ -161,6 +215,26 @@ public class SyncJob {
         this.processedDocuments = processed;
     }
 
+    /**
+     * 배치마다 누적된 청크 수를 엔티티에 반영한다.
+     * 컬럼은 엔티티 저장 시 갱신되지 않으므로 메모리 값만 DB와 맞춘다.
+     *
+     * @param reused 기존 벡터를 재사용한 청크 수
+     * @param embedded 임베딩 API로 보낸 청크 수
+     */
+    public void updateChunkCounts(int reused, int embedded) {
+        this.reusedChunks = reused;
+        this.embeddedChunks = embedded;
+    }
+
+    /** 동기화 진행 단계 (체크포인트용) */
+    public enum SyncStage {
+        /** 문서 추가/수정 처리 중 */
+        DOCUMENTS,
+        /** 삭제된 문서 처리 중 (INCREMENTAL) */
+        DELETIONS
+    }
+
     /** 동기화 작업 상태 */
     public enum SyncStatus {
         /** 대기 중 */
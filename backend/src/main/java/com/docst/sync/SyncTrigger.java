@@ -0,0 +1,16 @@
+package com.docst.sync;
+
+/**
+ * 동기화 작업을 시작시킨 주체.
+ * 작업 큐에서의 우선순위를 결정하며, 선언 순서가 곧 우선순위다 (앞일수록 먼저 실행).
+ */
+public enum SyncTrigger {
+    /** 재시작 후 재개된 작업 (이미 진행 중이던 작업이므로 가장 먼저 실행) */
+    RECOVERY,
+    /** Git push 웹훅 */
+    WEBHOOK,
+    /** 사용자/도구의 수동 요청 */
+    MANUAL,
+    /** 원격 변경 폴링 (신선도 유지용 백그라운드 작업) */
+    POLL
+}
@@ -1,9 +1,11 @@
 package com.docst.sync.api;
 
+import com.docst.api.ApiModels.SyncEstimateResponse;
 import com.docst.api.ApiModels.SyncJobResponse;
 import com.docst.api.ApiModels.SyncMode;
 import com.docst.api.ApiModels.SyncRequest;
 import com.docst.sync.SyncJob;
+import com.docst.sync.service.SyncCostEstimator;
 import com.docst.sync.service.SyncProgressTracker;
 import com.docst.sync.service.SyncService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +40,7 @@ public class SyncController {
 
     private final SyncService syncService;
     private final SyncProgressTracker progressTracker;
+    private final SyncCostEstimator syncCostEstimator;
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
 
     /**
@@ -63,6 +66,24 @@ public class SyncController {
         return ResponseEntity.accepted().body(toResponse(job));
     }
 
+    /**
+     * FULL_SCAN 동기화 비용을 추정한다 (dry-run).
+     * 문서 스캔, 변경 감지, 청킹만 수행하고 아무것도 저장하지 않는다.
+     *
+     * @param repoId 레포지토리 ID
+     * @param branch 대상 브랜치 (없으면 기본 브랜치)
+     * @return 처리될 문서 수와 예상 토큰/임베딩 호출 수
+     */
+    @Operation(summary = "동기화 비용 추정", description = "FULL_SCAN 시 새로 추가/변경/유지/삭제될 문서 수와 예상 임베딩 토큰 및 호출 수를 계산합니다. 아무것도 저장하지 않습니다.")
+    @ApiResponse(responseCode = "200", description = "추정 성공")
+    @GetMapping("/estimate")
+    public ResponseEntity<SyncEstimateResponse> estimate(
+            @Parameter(description = "레포지토리 ID") @PathVariable UUID repoId,
+            @Parameter(description = "대상 브랜치 (없으면 기본 브랜치)") @RequestParam(required = false) String branch
+    ) {
+        return ResponseEntity.ok(syncCostEstimator.estimate(repoId, branch));
+    }
+
     /**
      * 레포지토리의 가장 최근 동기화 상태를 조회한다.
      *
@@ -109,9 +130,12 @@ public class SyncController {
                         data.put("repositoryId", repoId.toString());
                         data.put("status", job.getStatus().name());
                         data.put("message", progress != null ? progress.getMessage() : getStatusMessage(job));
-                        data.put("totalDocs", progress != null ? progress.getTotalDocs() : 0);
-                        data.put("processedDocs", progress != null ? progress.getProcessedDocs() : 0);
-                        data.put("progress", progress != null ? progress.getProgressPercent() : 0);
+                        // 메모리 진행 상황이 없으면 마지막 배치 커밋 시점의 진행률 사용
+                        int totalDocs = progress != null ? progress.getTotalDocs() : job.getTotalDocuments();
+                        int processedDocs = progress != null ? progress.getProcessedDocs() : job.getProcessedDocuments();
+                        data.put("totalDocs", totalDocs);
+                        data.put("processedDocs", processedDocs);
+                        data.put("progress", totalDocs > 0 ? (int) ((processedDocs * 100.0) / totalDocs) : 0);
 
                         emitter.send(SseEmitter.event()
                                 .name("message")
@@ -166,7 +190,9 @@ public class SyncController {
                 job.getErrorMessage(),
                 job.getStartedAt(),
                 job.getFinishedAt(),
-                job.getCreatedAt()
+                job.getCreatedAt(),
+                job.getReusedChunks(),
+                job.getEmbeddedChunks()
         );
     }
 }
@@ -1,12 +1,17 @@
 package com.docst.sync.repository;
 
 import com.docst.sync.SyncJob;
+import com.docst.sync.SyncJob.SyncStage;
 import com.docst.sync.SyncJob.SyncStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -61,6 +66,15 @@ public interface SyncJobRepository extends JpaRepository<SyncJob, UUID> {
      */
     boolean existsByRepositoryIdAndStatus(UUID repositoryId, SyncStatus status);
 
+    /**
+     * 레포지토리에 주어진 상태 중 하나인 동기화 작업이 존재하는지 확인한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param statuses 작업 상태 목록
+     * @return 존재 여부
+     */
+    boolean existsByRepositoryIdAndStatusIn(UUID repositoryId, Collection<SyncStatus> statuses);
+
     /**
      * ID로 동기화 작업을 Repository와 함께 조회한다.
      * 비동기 컨텍스트에서 LazyInitializationException을 방지하기 위해 사용.
@@ -70,4 +84,86 @@ public interface SyncJobRepository extends JpaRepository<SyncJob, UUID> {
      */
     @Query("SELECT j FROM SyncJob j JOIN FETCH j.repository WHERE j.id = :jobId")
     Optional<SyncJob> findByIdWithRepository(@Param("jobId") UUID jobId);
+
+    /**
+     * 동기화 작업의 진행률과 마지막으로 커밋된 문서 경로를 기록한다.
+     * 엔티티를 로드하지 않고 갱신하므로 문서 배치 트랜잭션 안에서 호출한다.
+     *
+     * @param jobId 작업 ID
+     * @param total 전체 문서 수
+     * @param processed 처리된 문서 수
+     * @param lastPath 마지막으로 커밋된 문서 경로
+     * @param at 기록 시각
+     * @return 갱신된 행 수 (작업이 없으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SyncJob j SET j.totalDocuments = :total, j.processedDocuments = :processed, " +
+           "j.checkpointPath = :lastPath, j.checkpointAt = :at WHERE j.id = :jobId")
+    int updateProgress(@Param("jobId") UUID jobId, @Param("total") int total, @Param("processed") int processed,
+                       @Param("lastPath") String lastPath, @Param("at") Instant at);
+
+    /**
+     * 배치에서 임베딩을 예약한 청크 수를 누적한다.
+     * 배치와 같은 트랜잭션에서 호출하므로 롤백된 배치의 청크는 집계되지 않는다.
+     *
+     * @param jobId 작업 ID
+     * @param reused 기존 벡터를 재사용할 청크 수
+     * @param embedded 임베딩 API로 보낼 청크 수
+     * @return 갱신된 행 수 (작업이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE SyncJob j SET j.reusedChunks = j.reusedChunks + :reused, " +
+           "j.embeddedChunks = j.embeddedChunks + :embedded WHERE j.id = :jobId")
+    int addChunkCounts(@Param("jobId") UUID jobId, @Param("reused") int reused, @Param("embedded") int embedded);
+
+    /**
+     * 배치마다 누적된 재사용/임베딩 청크 수를 조회한다.
+     *
+     * @param jobId 작업 ID
+     * @return 청크 수 (작업이 없으면 empty)
+     */
+    @Query("SELECT j.reusedChunks AS reusedChunks, j.embeddedChunks AS embeddedChunks FROM SyncJob j WHERE j.id = :jobId")
+    Optional<ChunkCounts> findChunkCounts(@Param("jobId") UUID jobId);
+
+    /**
+     * 동기화 작업의 진행 단계와 대상 커밋을 기록한다.
+     * 단계가 바뀌면 경로 커서는 초기화된다.
+     *
+     * @param jobId 작업 ID
+     * @param stage 진행 단계
+     * @param commitSha 동기화 중인 커밋 SHA
+     * @param at 기록 시각
+     * @return 갱신된 행 수 (작업이 없으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SyncJob j SET j.checkpointStage = :stage, j.checkpointCommit = :commitSha, " +
+           "j.checkpointPath = CASE WHEN j.checkpointStage = :stage THEN j.checkpointPath ELSE NULL END, " +
+           "j.checkpointAt = :at WHERE j.id = :jobId")
+    int updateStage(@Param("jobId") UUID jobId, @Param("stage") SyncStage stage,
+                    @Param("commitSha") String commitSha, @Param("at") Instant at);
+
+    /**
+     * 재시작 후 남은 작업을 재개 대상으로 점유한다.
+     * 재개 횟수를 조건으로 갱신하므로 같은 작업을 두 번 점유하지 않는다.
+     *
+     * @param jobId 작업 ID
+     * @param expectedResumeCount 조회 시점의 재개 횟수
+     * @return 점유에 성공하면 1
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SyncJob j SET j.resumeCount = j.resumeCount + 1 " +
+           "WHERE j.id = :jobId AND j.resumeCount = :expectedResumeCount " +
+           "AND j.status IN (com.docst.sync.SyncJob.SyncStatus.PENDING, com.docst.sync.SyncJob.SyncStatus.RUNNING)")
+    int claimForResume(@Param("jobId") UUID jobId, @Param("expectedResumeCount") int expectedResumeCount);
+
+    /**
+     * 동기화 작업의 청크 수.
+     */
+    interface ChunkCounts {
+        int getReusedChunks();
+        int getEmbeddedChunks();
+    }
 }
@@ -0,0 +1,361 @@
+package com.docst.sync.service;
+
+import com.docst.chunking.ChunkResult;
+import com.docst.chunking.ChunkingService;
+import com.docst.document.repository.DocChunkRepository.ChunkSource;
+import com.docst.document.service.DocumentLinkService;
+import com.docst.document.service.DocumentService;
+import com.docst.document.service.DocumentService.DocumentUpsert;
+import com.docst.document.service.DocumentService.UpsertedDocument;
+import com.docst.embedding.EmbeddingOutboxService;
+import com.docst.git.DocumentAnalyzer;
+import com.docst.git.DocumentAnalyzer.DocumentAnalysis;
+import com.docst.git.GitService;
+import com.docst.git.GitService.CommitInfo;
+import com.docst.gitrepo.Repository;
+import com.docst.gitrepo.RepositorySyncConfig;
+import com.docst.sync.repository.SyncJobRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 문서 동기화 파이프라인.
+ * FULL_SCAN/INCREMENTAL 동기화에서 문서 처리를 세 단계로 나누어 수행한다.
+ * <ol>
+ *   <li>준비 단계: blob 읽기, 분석(제목/링크/청킹, {@link DocumentAnalyzer}로 한 번만 파싱) (가상 스레드, 병렬도 제한)</li>
+ *   <li>저장 단계: 문서/버전/청크/링크 저장 (호출 스레드 단일 writer, docst.sync.batch-size 문서마다 커밋).
+ *       문서와 버전은 {@link DocumentService#upsertDocuments}로 배치당 한 번에 저장한다.</li>
+ *   <li>임베딩 예약: 저장한 청크를 같은 배치 트랜잭션에서 임베딩 아웃박스에 추가.
+ *       기존 벡터를 재사용할 청크 수와 임베딩 API로 보낼 청크 수를 동기화 작업에 기록한다.</li>
+ * </ol>
+ * 준비 단계는 순서를 보존하는 슬라이딩 윈도우로 제출되므로 메모리에 올라가는 문서 수가 병렬도와 배치 크기로 제한된다.
+ * 임베딩은 {@link EmbeddingOutboxService} 워커가 별도로 처리하므로 동기화는 임베딩 API를 기다리지 않으며,
+ * 청크와 아웃박스 행이 함께 커밋되어 동기화가 끝난 뒤 프로세스가 중단되어도 임베딩이 누락되지 않는다.
+ * 배치마다 영속성 컨텍스트를 비우고 진행률을 기록하므로 레포지토리 크기와 무관하게 메모리가 일정하며,
+ * 실패 시 잃는 작업은 진행 중이던 배치 하나뿐이다. 배치가 롤백되면 체크포인트를 넘기지 않도록 작업을 실패시킨다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentSyncPipeline {
+
+    private final GitService gitService;
+    private final DocumentAnalyzer documentAnalyzer;
+    private final DocumentService documentService;
+    private final ChunkingService chunkingService;
+    private final EmbeddingOutboxService embeddingOutboxService;
+    private final DocumentLinkService documentLinkService;
+    private final SyncProgressTracker progressTracker;
+    private final SyncJobRepository syncJobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+
+    /** 한 트랜잭션에서 저장할 문서 수 */
+    @Value("${docst.sync.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 문서 경로 목록을 파이프라인으로 처리한다.
+     * 호출 스레드가 저장 단계를 담당하며, 문서를 배치 단위 트랜잭션으로 나누어 커밋한다.
+     * 호출자가 이미 트랜잭션을 열었다면 그 트랜잭션에 참여한다 (배치 커밋 없음).
+     *
+     * @param jobId 동기화 작업 ID (진행 상황 추적용, null 허용)
+     * @param git Git 인스턴스
+     * @param repo 레포지토리 엔티티
+     * @param paths 처리할 문서 경로 목록
+     * @param lastCommits 경로별 마지막 수정 커밋 ({@link com.docst.gitrepo.service.LastCommitIndexService})
+     * @param blobIds 경로별 blob ID (스캔에서 얻은 값, 없는 경로는 트리에서 조회)
+     * @param enableEmbedding 임베딩 예약 여부
+     * @return 새 버전이 생성된 문서 수
+     * @throws InterruptedException 대기 중 인터럽트 발생 시
+     */
+    public int run(UUID jobId, Git git, Repository repo, List<String> paths,
+                   Map<String, CommitInfo> lastCommits, Map<String, String> blobIds,
+                   boolean enableEmbedding) throws InterruptedException {
+        RepositorySyncConfig config = repo.getSyncConfig();
+        int parallelism = config.getSyncParallelism();
+
+        int documentsPerBatch = Math.max(1, batchSize);
+
+        log.info("Pipeline: processing {} documents (parallelism: {}, batch size: {})",
+                paths.size(), parallelism, documentsPerBatch);
+
+        int createdVersions = 0;
+        int enqueuedChunks = 0;
+        int reusedChunks = 0;
+        List<PreparedDocument> pending = new ArrayList<>(documentsPerBatch);
+
+        try (ExecutorService prepareExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("sync-prepare-", 0).factory())) {
+
+            Deque<Future<PreparedDocument>> window = new ArrayDeque<>(parallelism);
+            int nextToSubmit = 0;
+            TransactionStatus batch = null;
+
+            try {
+                for (int i = 0; i < paths.size(); i++) {
+                    // 윈도우를 병렬도만큼 채운다
+                    while (nextToSubmit < paths.size() && window.size() < parallelism) {
+                        String path = paths.get(nextToSubmit++);
+                        CommitInfo commitInfo = lastCommits.get(path);
+                        String blobId = blobIds.get(path);
+                        window.addLast(prepareExecutor.submit(() -> prepare(git, path, commitInfo, blobId)));
+                    }
+
+                    PreparedDocument prepared = awaitPrepared(window.removeFirst(), paths.get(i));
+                    if (prepared != null) {
+                        pending.add(prepared);
+                    }
+                    progressTracker.update(jobId, i + 1, paths.get(i));
+
+                    if ((i + 1) % documentsPerBatch == 0 || i + 1 == paths.size()) {
+                        batch = beginBatch();
+                        BatchResult result = writeBatch(repo, pending, enableEmbedding);
+                        createdVersions += result.createdVersions();
+                        enqueuedChunks += result.enqueuedChunks();
+                        reusedChunks += result.reusedChunks();
+                        recordChunkCounts(jobId, result);
+                        commitBatch(jobId, batch, paths.get(i));
+                        batch = null;
+                        pending.clear();
+                    }
+                }
+            } finally {
+                // 저장 단계 실패 시 진행 중인 배치를 롤백하고 남은 준비 작업 취소
+                if (batch != null && !batch.isCompleted()) {
+                    transactionManager.rollback(batch);
+                }
+                window.forEach(future -> future.cancel(true));
+            }
+        }
+
+        log.info("Pipeline: {} new versions, {} chunks queued for embedding ({} reuse existing vectors)",
+                createdVersions, enqueuedChunks, reusedChunks);
+        return createdVersions;
+    }
+
+    /**
+     * 준비 단계. DB에 접근하지 않으므로 임의의 스레드에서 실행할 수 있다.
+     *
+     * @return 준비된 문서 (파일을 찾을 수 없으면 null)
+     */
+    private PreparedDocument prepare(Git git, String path, CommitInfo actualCommitInfo, String knownBlobId)
+            throws Exception {
+        if (actualCommitInfo == null) {
+            log.warn("Could not find commit for file: {}", path);
+            return null;
+        }
+
+        Optional<ObjectId> blobId = knownBlobId != null
+                ? Optional.of(ObjectId.fromString(knownBlobId))
+                : gitService.findBlobId(git, actualCommitInfo.sha(), path);
+        if (blobId.isEmpty()) {
+            log.warn("Could not read file: {}", path);
+            return null;
+        }
+
+        String content = gitService.readBlob(git, blobId.get());
+        // 분석 결과는 내용 해시별로 캐시되어 저장 단계의 제목/링크 추출에서 다시 사용된다
+        DocumentAnalysis analysis = documentAnalyzer.analyze(content);
+
+        log.debug("Prepared file: {} | actual last commit: {} | title: {} | {} chunks",
+                path, actualCommitInfo.sha().substring(0, 7), analysis.title(), analysis.chunks().size());
+        return new PreparedDocument(path, actualCommitInfo, blobId.get().name(), content, analysis.chunks());
+    }
+
+    /**
+     * 준비 작업의 결과를 기다린다. 개별 문서 실패는 로그만 남기고 null을 반환한다.
+     */
+    private PreparedDocument awaitPrepared(Future<PreparedDocument> future, String path)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.error("Failed to process document: {}", path, e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * 문서 배치 트랜잭션을 시작한다.
+     */
+    private TransactionStatus beginBatch() {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setName("sync-batch");
+        return transactionManager.getTransaction(definition);
+    }
+
+    /**
+     * 배치의 재사용/임베딩 청크 수를 동기화 작업에 누적한다. 배치와 함께 커밋(또는 롤백)된다.
+     */
+    private void recordChunkCounts(UUID jobId, BatchResult result) {
+        if (jobId == null || result.enqueuedChunks() == 0) {
+            return;
+        }
+        syncJobRepository.addChunkCounts(jobId, result.reusedChunks(),
+                result.enqueuedChunks() - result.reusedChunks());
+    }
+
+    /**
+     * 진행률과 체크포인트(배치의 마지막 경로)를 기록하고 배치를 커밋한다.
+     * 체크포인트는 문서와 같은 트랜잭션으로 커밋되므로, 재개된 작업은 커서 다음 경로부터 처리하면 된다.
+     * 이 배치가 새로 시작한 트랜잭션이면 영속성 컨텍스트를 비워 저장한 엔티티가 메모리에 남지 않게 한다.
+     * <p>
+     * 배치 중 DB 오류로 트랜잭션이 rollback-only가 되었으면 배치를 롤백하고 파이프라인을 중단한다.
+     * 이후 배치를 계속 커밋하면 체크포인트가 롤백된 문서를 지나가고, INCREMENTAL 동기화는 완료된 커밋 이후의 변경만
+     * 다시 계산하므로 롤백된 문서가 다음 동기화에서도 누락된다. 작업이 실패하면 lastSyncedCommit이 그대로 남아
+     * 다음 동기화가 같은 범위를 다시 처리하고, 재개된 작업은 롤백된 배치 직전의 체크포인트부터 이어서 처리한다.
+     *
+     * @throws IllegalStateException 배치가 롤백된 경우
+     */
+    private void commitBatch(UUID jobId, TransactionStatus batch, String lastPath) {
+        if (batch.isRollbackOnly()) {
+            transactionManager.rollback(batch);
+            log.warn("Sync batch rolled back after a document failure (job: {}, last path: {})", jobId, lastPath);
+            throw new IllegalStateException("Sync batch rolled back after a document failure (last path: "
+                    + lastPath + ")");
+        }
+
+        SyncProgressTracker.Progress progress = progressTracker.getProgress(jobId);
+        if (progress != null) {
+            syncJobRepository.updateProgress(jobId, progress.getTotalDocs(), progress.getProcessedDocs(),
+                    lastPath, Instant.now());
+        }
+        if (batch.isNewTransaction()) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+        transactionManager.commit(batch);
+    }
+
+    /**
+     * 저장 단계. 호출 스레드(단일 writer)에서만 실행된다.
+     * 배치의 문서와 버전을 한 번에 저장한 뒤, 새 버전이 생긴 문서만 청크/링크를 저장하고 임베딩을 예약한다.
+     * 같은 내용(content hash)의 버전이 이번 청킹 결과와 같은 청크를 가지고 있으면 청킹 결과 대신 그 청크를 복사한다.
+     * 아웃박스 행은 배치 트랜잭션 안에서 추가되어 배치와 함께 커밋(또는 롤백)된다.
+     * 문서/버전 저장이 실패하면 트랜잭션이 rollback-only가 되어 {@link #commitBatch}에서 배치 전체가 롤백된다.
+     *
+     * @return 새 버전 수, 아웃박스에 추가된 청크 수, 그중 기존 벡터를 재사용할 청크 수
+     */
+    private BatchResult writeBatch(Repository repo, List<PreparedDocument> pending, boolean enableEmbedding) {
+        if (pending.isEmpty()) {
+            return new BatchResult(0, 0, 0);
+        }
+
+        Map<String, PreparedDocument> byPath = new HashMap<>();
+        List<DocumentUpsert> upserts = new ArrayList<>(pending.size());
+        for (PreparedDocument prepared : pending) {
+            CommitInfo commitInfo = prepared.commitInfo();
+            byPath.put(prepared.path(), prepared);
+            upserts.add(new DocumentUpsert(
+                    prepared.path(),
+                    commitInfo.sha(),  // 파일의 실제 마지막 커밋 사용
+                    prepared.content(),
+                    commitInfo.authorName(),
+                    commitInfo.authorEmail(),
+                    commitInfo.committedAt(),
+                    commitInfo.message(),
+                    prepared.blobId()
+            ));
+        }
+
+        List<UpsertedDocument> upserted;
+        try {
+            upserted = documentService.upsertDocuments(repo.getId(), upserts);
+        } catch (Exception e) {
+            log.error("Failed to write document batch ({} documents, first: {})",
+                    pending.size(), pending.getFirst().path(), e);
+            return new BatchResult(0, 0, 0);
+        }
+
+        // 같은 내용의 버전이 같은 청크를 가지고 있으면 청크를 복사한다 (브랜치/포크/되돌린 변경)
+        Map<String, List<ChunkResult>> chunksByHash = new HashMap<>();
+        upserted.forEach(document -> {
+            if (document.contentHash() != null) {
+                chunksByHash.putIfAbsent(document.contentHash(), byPath.get(document.path()).chunks());
+            }
+        });
+        Map<String, ChunkSource> chunkSources = chunkingService.findChunkSources(chunksByHash);
+
+        int enqueued = 0;
+        List<UUID> enqueuedVersionIds = new ArrayList<>();
+        for (UpsertedDocument document : upserted) {
+            PreparedDocument prepared = byPath.get(document.path());
+            try {
+                ChunkSource source = document.contentHash() != null ? chunkSources.get(document.contentHash()) : null;
+                if (source != null) {
+                    chunkingService.copyChunks(source, document.version().getId());
+                    log.debug("Reused chunks of version {} for {}", source.getVersionId(), document.path());
+                } else {
+                    chunkingService.saveChunks(document.version(), prepared.chunks());
+                    log.debug("Chunked document version: {} for {}", document.version().getId(), document.path());
+                }
+
+                if (enableEmbedding) {
+                    enqueued += embeddingOutboxService.enqueue(document.version().getId(), repo.getId());
+                    enqueuedVersionIds.add(document.version().getId());
+                }
+
+                documentLinkService.extractAndSaveLinks(document.document(), prepared.content());
+                log.debug("Extracted links for document: {}", document.path());
+            } catch (Exception e) {
+                log.error("Failed to chunk/enqueue/extract links for document: {}", document.path(), e);
+            }
+        }
+        int reused = 0;
+        try {
+            reused = embeddingOutboxService.countReusable(enqueuedVersionIds);
+        } catch (Exception e) {
+            log.warn("Failed to count reusable chunk embeddings: {}", e.getMessage());
+        }
+        return new BatchResult(upserted.size(), enqueued, reused);
+    }
+
+    /**
+     * 준비 단계 결과.
+     *
+     * @param path 문서 경로
+     * @param commitInfo 파일의 마지막 수정 커밋
+     * @param blobId 파일의 Git blob ID
+     * @param content 파일 내용
+     * @param chunks 청킹 결과
+     */
+    private record PreparedDocument(
+            String path,
+            CommitInfo commitInfo,
+            String blobId,
+            String content,
+            List<ChunkResult> chunks
+    ) {}
+
+    /**
+     * 배치 저장 결과.
+     *
+     * @param createdVersions 새 버전이 생성된 문서 수
+     * @param enqueuedChunks 아웃박스에 추가된 청크 수
+     * @param reusedChunks 아웃박스에 추가된 청크 중 기존 벡터를 재사용할 청크 수
+     */
+    private record BatchResult(int createdVersions, int enqueuedChunks, int reusedChunks) {}
+}
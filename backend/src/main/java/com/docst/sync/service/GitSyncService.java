@@ -1,27 +1,43 @@
 package com.docst.sync.service;
 
 import com.docst.api.ApiModels.SyncMode;
+import com.docst.chunking.ChunkingService;
+import com.docst.document.DocumentVersion;
 import com.docst.document.service.DocumentLinkService;
 import com.docst.document.service.DocumentService;
+import com.docst.document.service.DocumentService.DocumentUpsert;
+import com.docst.embedding.EmbeddingOutboxService;
 import com.docst.gitrepo.Repository;
+import com.docst.gitrepo.RepositorySyncConfig;
 import com.docst.gitrepo.repository.RepositoryRepository;
-import com.docst.git.DocumentParser;
+import com.docst.gitrepo.service.LastCommitIndexService;
+import com.docst.git.CompiledSyncFilter;
 import com.docst.git.GitCommitWalker;
 import com.docst.git.GitFileScanner;
 import com.docst.git.GitService;
 import com.docst.git.GitService.CommitInfo;
+import com.docst.sync.PushChangeSet;
+import com.docst.sync.SyncCheckpoint;
+import com.docst.sync.SyncJob.SyncStage;
+import com.docst.sync.repository.SyncJobRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -36,17 +52,26 @@ public class GitSyncService {
     private final GitService gitService;
     private final GitFileScanner gitFileScanner;
     private final GitCommitWalker gitCommitWalker;
-    private final DocumentParser documentParser;
     private final DocumentService documentService;
     private final RepositoryRepository repositoryRepository;
     private final SyncProgressTracker progressTracker;
-    private final com.docst.chunking.ChunkingService chunkingService;
-    private final com.docst.embedding.DocstEmbeddingService embeddingService;
+    private final ChunkingService chunkingService;
+    private final EmbeddingOutboxService embeddingOutboxService;
     private final DocumentLinkService documentLinkService;
+    private final DocumentSyncPipeline documentSyncPipeline;
+    private final LastCommitIndexService lastCommitIndexService;
+    private final TransactionTemplate transactionTemplate;
+    private final SyncJobRepository syncJobRepository;
+
+    /** 한 트랜잭션에서 저장할 문서 수 (중간 커밋 버전 기록에도 사용) */
+    @Value("${docst.sync.batch-size:100}")
+    private int batchSize;
 
     /**
      * 레포지토리를 동기화한다.
      * Git clone/fetch를 수행하고 문서 파일을 스캔하여 DB에 저장한다.
+     * 작업 전체를 하나의 트랜잭션으로 묶지 않는다. FULL_SCAN/INCREMENTAL 문서는
+     * {@link DocumentSyncPipeline}이 배치 단위로 커밋하므로 대형 레포지토리에서도 영속성 컨텍스트가 커지지 않는다.
      *
      * @param jobId 동기화 작업 ID
      * @param repositoryId 레포지토리 ID
@@ -59,10 +84,34 @@ public class GitSyncService {
      * @throws IllegalArgumentException 레포지토리가 존재하지 않을 경우
      * @throws RuntimeException Git 작업 실패 시
      */
-    @Transactional
     public String syncRepository(UUID jobId, UUID repositoryId, String branch,
                                   SyncMode mode, String targetCommitSha, String lastSyncedCommit,
                                   boolean enableEmbedding) {
+        return syncRepository(jobId, repositoryId, branch, mode, targetCommitSha, lastSyncedCommit,
+                enableEmbedding, null, null);
+    }
+
+    /**
+     * 체크포인트부터 레포지토리 동기화를 재개한다.
+     * 체크포인트의 커밋이 로컬에 있으면 fetch 없이 그 커밋을 그대로 동기화하여, 중단 전과 같은 스냅샷을 이어서 처리한다.
+     * <ul>
+     *   <li>FULL_SCAN: 이미 커밋된 문서는 blob ID가 같으므로 변경 감지 단계에서 자동으로 제외된다.</li>
+     *   <li>INCREMENTAL: 같은 순 변경 목록에서 체크포인트 경로 이후부터 처리하고, 삭제 단계였으면 삭제만 다시 수행한다.</li>
+     *   <li>SPECIFIC_COMMIT: 한 트랜잭션으로 처리되므로 처음부터 다시 수행한다.</li>
+     * </ul>
+     * 체크포인트 커밋을 찾을 수 없으면 (로컬 미러 삭제 등) 처음부터 동기화한다.
+     * <p>
+     * push 변경 목록이 주어지고 lastSyncedCommit..최신 커밋 범위와 정확히 일치하면
+     * INCREMENTAL 동기화는 로컬 diff 계산 없이 그 목록을 사용한다.
+     *
+     * @param checkpoint 재개할 체크포인트 (null이면 처음부터)
+     * @param pushChanges push 웹훅의 변경 목록 (없으면 null)
+     * @return 최신 커밋 SHA
+     * @see #syncRepository(UUID, UUID, String, SyncMode, String, String, boolean)
+     */
+    public String syncRepository(UUID jobId, UUID repositoryId, String branch,
+                                  SyncMode mode, String targetCommitSha, String lastSyncedCommit,
+                                  boolean enableEmbedding, SyncCheckpoint checkpoint, PushChangeSet pushChanges) {
         Repository repo = repositoryRepository.findWithCredentialById(repositoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Repository not found: " + repositoryId));
 
@@ -75,10 +124,13 @@ public class GitSyncService {
             repo.setLocalMirrorPath(localPath.toString());
             repositoryRepository.save(repo);
 
+            SyncCheckpoint resumeFrom = resolveCheckpoint(git, checkpoint);
+
             // 모드에 따라 적절한 동기화 메서드 호출
             return switch (syncMode) {
-                case FULL_SCAN -> syncFullScan(jobId, git, repo, branch, enableEmbedding);
-                case INCREMENTAL -> syncIncremental(jobId, git, repo, branch, lastSyncedCommit, enableEmbedding);
+                case FULL_SCAN -> syncFullScan(jobId, git, repo, branch, enableEmbedding, resumeFrom, null);
+                case INCREMENTAL -> syncIncremental(jobId, git, repo, branch, lastSyncedCommit, enableEmbedding,
+                        resumeFrom, pushChanges);
                 case SPECIFIC_COMMIT -> syncSpecificCommit(jobId, git, repo, targetCommitSha, enableEmbedding);
             };
 
@@ -88,62 +140,127 @@ public class GitSyncService {
         }
     }
 
+    /**
+     * 체크포인트의 커밋이 로컬 레포지토리에 있는지 확인한다.
+     *
+     * @return 재개 가능한 체크포인트 (없거나 커밋을 찾을 수 없으면 null)
+     */
+    private SyncCheckpoint resolveCheckpoint(Git git, SyncCheckpoint checkpoint) throws IOException {
+        if (checkpoint == null) {
+            return null;
+        }
+        if (git.getRepository().resolve(checkpoint.commitSha() + "^{commit}") == null) {
+            log.warn("Checkpoint commit {} not found, restarting sync from scratch", checkpoint.commitSha());
+            return null;
+        }
+        log.info("Resuming sync at commit {} (stage: {}, after: {})",
+                checkpoint.commitSha().substring(0, 7), checkpoint.stage(), checkpoint.lastPath());
+        return checkpoint;
+    }
+
+    /**
+     * 진행 단계와 대상 커밋을 체크포인트로 기록한다. 작업 없이 호출된 동기화(jobId null)는 기록하지 않는다.
+     */
+    private void checkpoint(UUID jobId, SyncStage stage, String commitSha) {
+        if (jobId == null) {
+            return;
+        }
+        syncJobRepository.updateStage(jobId, stage, commitSha, Instant.now());
+    }
+
     /**
      * 전체 스캔 동기화.
      * 최신 커밋의 모든 문서 파일을 스캔한다.
+     * 문서 처리는 {@link DocumentSyncPipeline}으로 병렬 수행한다.
+     *
+     * @param fetchedCommit 이미 fetch/정렬한 최신 커밋 (INCREMENTAL에서 fallback한 경우, 아니면 null)
      */
-    private String syncFullScan(UUID jobId, Git git, Repository repo, String branch, boolean enableEmbedding)
-            throws GitAPIException, IOException {
+    private String syncFullScan(UUID jobId, Git git, Repository repo, String branch, boolean enableEmbedding,
+                                SyncCheckpoint resumeFrom, String fetchedCommit) throws GitAPIException, IOException {
+
+        String latestCommit;
+        long fetchedBytes = 0;
+        if (resumeFrom != null) {
+            // 중단된 작업과 같은 커밋을 동기화 (fetch 생략)
+            latestCommit = resumeFrom.commitSha();
+        } else if (fetchedCommit != null) {
+            // INCREMENTAL이 이미 fetch한 커밋을 동기화 (다시 fetch하지 않음)
+            latestCommit = fetchedCommit;
+            checkpoint(jobId, SyncStage.DOCUMENTS, latestCommit);
+        } else {
+            // Fetch and align local branch with remote (checkout + reset, or ref update for bare mirrors)
+            fetchedBytes = gitService.fetch(git, repo, branch);
+            gitService.alignWithRemote(git, branch);
+
+            // Get latest commit
+            latestCommit = gitService.getLatestCommitSha(git, branch);
+            checkpoint(jobId, SyncStage.DOCUMENTS, latestCommit);
+        }
 
-        // Fetch, checkout, and reset to remote
-        gitService.fetch(git, repo, branch);
-        gitService.checkout(git, branch);
-        gitService.resetToRemote(git, branch);
+        log.info("FULL_SCAN: Syncing repository {} at commit {} (embedding: {}, fetched: {} bytes)",
+                repo.getFullName(), latestCommit.substring(0, 7), enableEmbedding, fetchedBytes);
 
-        // Get latest commit
-        String latestCommit = gitService.getLatestCommitSha(git, branch);
-        CommitInfo commitInfo = gitService.getCommitInfo(git, latestCommit);
+        // Scan document files with their blob IDs (Phase 12: 동적 설정 적용)
+        Map<String, String> documentBlobs = gitFileScanner.scanDocumentBlobs(git, latestCommit, repo.getSyncConfig());
+        log.info("FULL_SCAN: Found {} document files", documentBlobs.size());
 
-        log.info("FULL_SCAN: Syncing repository {} at commit {} (embedding: {})",
-                repo.getFullName(), latestCommit.substring(0, 7), enableEmbedding);
+        // Skip files whose blob is identical to the last synced content (one bulk lookup, no blob reads)
+        Map<String, String> storedBlobs = documentService.findLatestBlobIds(repo.getId());
+        List<String> changedPaths = documentBlobs.entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(storedBlobs.get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .toList();
+        int unchanged = documentBlobs.size() - changedPaths.size();
+        log.info("FULL_SCAN: {} changed, {} unchanged documents", changedPaths.size(), unchanged);
 
-        // Scan document files (Phase 12: 동적 설정 적용)
-        List<String> documentPaths = gitFileScanner.scanDocumentFiles(git, latestCommit, repo.getSyncConfig());
-        log.info("FULL_SCAN: Found {} document files", documentPaths.size());
+        // Resolve last modifying commit of changed paths in a single history pass
+        Map<String, CommitInfo> lastCommits = changedPaths.isEmpty()
+                ? Map.of()
+                : lastCommitIndexService.resolve(git, repo.getId(), latestCommit, changedPaths);
 
         // Update progress tracker
-        progressTracker.setTotal(jobId, documentPaths.size());
+        progressTracker.setTotal(jobId, changedPaths.size());
 
-        // Process each document
-        for (int i = 0; i < documentPaths.size(); i++) {
-            String path = documentPaths.get(i);
-            processDocument(git, repo, path, latestCommit, commitInfo, enableEmbedding);
-            progressTracker.update(jobId, i + 1, path);
+        // Process documents through the parallel pipeline
+        try {
+            documentSyncPipeline.run(jobId, git, repo, changedPaths, lastCommits, documentBlobs, enableEmbedding);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sync interrupted: " + repo.getFullName(), e);
         }
 
-        progressTracker.complete(jobId, "Full scan completed: " + documentPaths.size() + " documents");
+        progressTracker.complete(jobId, "Full scan completed: " + changedPaths.size() + " documents ("
+                + unchanged + " unchanged)");
         return latestCommit;
     }
 
     /**
      * 증분 동기화.
-     * 마지막 동기화 커밋 이후 변경된 문서만 처리한다.
+     * 마지막 동기화 커밋과 최신 커밋의 순 변경(net diff)만 계산하여 경로별 최종 상태만 처리한다.
+     * 같은 파일이 여러 커밋에서 수정되어도 한 번만 읽기/청킹/임베딩한다.
      */
-    private String syncIncremental(UUID jobId, Git git, Repository repo, String branch, String lastSyncedCommit, boolean enableEmbedding)
+    private String syncIncremental(UUID jobId, Git git, Repository repo, String branch, String lastSyncedCommit,
+                                   boolean enableEmbedding, SyncCheckpoint resumeFrom, PushChangeSet pushChanges)
             throws GitAPIException, IOException {
 
-        // Fetch, checkout, and reset to remote
-        gitService.fetch(git, repo, branch);
-        gitService.checkout(git, branch);
-        gitService.resetToRemote(git, branch);
-
-        // Get latest commit
-        String latestCommit = gitService.getLatestCommitSha(git, branch);
-
-        // lastSyncedCommit이 없으면 FULL_SCAN으로 fallback
+        // lastSyncedCommit이 없으면 FULL_SCAN으로 fallback (fetch는 FULL_SCAN에서 한 번만 수행)
         if (lastSyncedCommit == null || lastSyncedCommit.isBlank()) {
             log.warn("INCREMENTAL: No lastSyncedCommit, falling back to FULL_SCAN");
-            return syncFullScan(jobId, git, repo, branch, enableEmbedding);
+            return syncFullScan(jobId, git, repo, branch, enableEmbedding, resumeFrom, null);
+        }
+
+        String latestCommit;
+        long fetchedBytes = 0;
+        if (resumeFrom != null) {
+            // 중단된 작업과 같은 커밋을 동기화 (fetch 생략)
+            latestCommit = resumeFrom.commitSha();
+        } else {
+            // Fetch and align local branch with remote (checkout + reset, or ref update for bare mirrors)
+            fetchedBytes = gitService.fetch(git, repo, branch);
+            gitService.alignWithRemote(git, branch);
+
+            // Get latest commit
+            latestCommit = gitService.getLatestCommitSha(git, branch);
         }
 
         // 이미 최신 상태인지 확인
@@ -154,39 +271,161 @@ public class GitSyncService {
             return latestCommit;
         }
 
-        log.info("INCREMENTAL: Syncing from {} to {} (embedding: {})",
-                lastSyncedCommit.substring(0, 7), latestCommit.substring(0, 7), enableEmbedding);
+        // 이전 동기화 커밋을 찾을 수 없으면 (force push 등) FULL_SCAN으로 fallback
+        if (git.getRepository().resolve(lastSyncedCommit) == null) {
+            log.warn("INCREMENTAL: lastSyncedCommit {} not found, falling back to FULL_SCAN",
+                    lastSyncedCommit.substring(0, Math.min(7, lastSyncedCommit.length())));
+            return syncFullScan(jobId, git, repo, branch, enableEmbedding, resumeFrom,
+                    resumeFrom == null ? latestCommit : null);
+        }
 
-        // 변경된 커밋 순회
-        List<GitCommitWalker.CommitInfo> commits = gitCommitWalker.walkCommits(git, lastSyncedCommit, latestCommit);
-        log.info("INCREMENTAL: Found {} commits to process", commits.size());
+        if (resumeFrom == null) {
+            checkpoint(jobId, SyncStage.DOCUMENTS, latestCommit);
+        }
 
-        // 먼저 총 변경 파일 수 계산 (Phase 12: 동적 설정 적용)
-        int totalDocFiles = 0;
-        for (GitCommitWalker.CommitInfo commitInfo : commits) {
-            List<GitCommitWalker.ChangedFile> changedFiles = gitCommitWalker.getChangedFiles(git, commitInfo.sha());
-            totalDocFiles += gitFileScanner.filterDocumentFiles(changedFiles, repo.getSyncConfig()).size();
+        log.info("INCREMENTAL: Syncing from {} to {} (embedding: {}, fetched: {} bytes)",
+                lastSyncedCommit.substring(0, 7), latestCommit.substring(0, 7), enableEmbedding, fetchedBytes);
+
+        // 커밋별 재생 대신 두 커밋 간 순 변경을 한 번만 계산 (Phase 12: 동적 설정 적용)
+        // push 페이로드의 변경 목록이 같은 범위를 다루면 diff 계산을 생략한다
+        RepositorySyncConfig config = repo.getSyncConfig();
+        NetChanges changes;
+        if (pushChanges != null && lastSyncedCommit.equals(pushChanges.beforeSha())
+                && latestCommit.equals(pushChanges.afterSha())) {
+            log.info("INCREMENTAL: Using change list from push payload");
+            changes = collapsePushChanges(pushChanges, config);
+        } else {
+            List<GitCommitWalker.ChangedFile> netChanges = gitCommitWalker.getNetChangedFiles(git, lastSyncedCommit, latestCommit);
+            changes = collapseNetChanges(netChanges, config);
+        }
+        log.info("INCREMENTAL: {} documents to upsert, {} documents to delete",
+                changes.upsertPaths().size(), changes.deletedPaths().size());
+
+        // 재개 시 이미 커밋된 경로는 건너뛴다 (삭제 단계였으면 upsert 전체 생략)
+        List<String> upsertPaths = changes.upsertPaths();
+        if (resumeFrom != null) {
+            upsertPaths = resumeFrom.stage() == SyncStage.DELETIONS ? List.of() : resumeFrom.remaining(upsertPaths);
+            log.info("INCREMENTAL: Resuming with {} of {} documents to upsert",
+                    upsertPaths.size(), changes.upsertPaths().size());
         }
-        progressTracker.setTotal(jobId, totalDocFiles);
 
-        List<String> processedPaths = new ArrayList<>();
+        progressTracker.setTotal(jobId, upsertPaths.size() + changes.deletedPaths().size());
+
+        // 최종 상태만 처리 (작성자 정보는 마지막 수정 커밋 인덱스에서 조회)
+        Map<String, CommitInfo> lastCommits = lastCommitIndexService.resolve(
+                git, repo.getId(), latestCommit, changes.upsertPaths());
+        try {
+            documentSyncPipeline.run(jobId, git, repo, upsertPaths, lastCommits, Map.of(), enableEmbedding);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sync interrupted: " + repo.getFullName(), e);
+        }
 
-        // 각 커밋의 변경 파일 처리 (Phase 12: 동적 설정 적용)
-        for (GitCommitWalker.CommitInfo commitInfo : commits) {
-            List<GitCommitWalker.ChangedFile> changedFiles = gitCommitWalker.getChangedFiles(git, commitInfo.sha());
-            List<GitCommitWalker.ChangedFile> docFiles = gitFileScanner.filterDocumentFiles(changedFiles, repo.getSyncConfig());
+        // 선택: 중간 커밋의 버전 이력 기록 (청킹/임베딩 없음)
+        // 문서 단계에 포함되므로 중단되면 재개 시 다시 기록한다 (이미 기록된 버전은 건너뜀)
+        if (config.isRecordIntermediateVersions()
+                && (resumeFrom == null || resumeFrom.stage() == SyncStage.DOCUMENTS)) {
+            int recorded = recordIntermediateVersions(git, repo, lastSyncedCommit, latestCommit, lastCommits);
+            log.info("INCREMENTAL: Recorded {} intermediate document versions", recorded);
+        }
 
-            for (GitCommitWalker.ChangedFile changedFile : docFiles) {
-                processChangedDocument(git, repo, changedFile, commitInfo, enableEmbedding);
-                processedPaths.add(changedFile.path());
-                progressTracker.update(jobId, processedPaths.size(), changedFile.path());
-            }
+        // 삭제 처리는 멱등이므로 재개 시 단계 단위로 다시 수행한다
+        checkpoint(jobId, SyncStage.DELETIONS, latestCommit);
+        int processed = upsertPaths.size();
+        for (String path : changes.deletedPaths()) {
+            documentService.markDeleted(repo.getId(), path);
+            log.debug("Marked document as deleted: {}", path);
+            progressTracker.update(jobId, ++processed, path);
         }
 
-        progressTracker.complete(jobId, "Incremental sync completed: " + processedPaths.size() + " documents");
+        progressTracker.complete(jobId, "Incremental sync completed: " + processed + " documents");
         return latestCommit;
     }
 
+    /**
+     * 순 변경 목록을 문서 기준 upsert/delete 경로로 정리한다.
+     * 이름 변경은 이전 경로 삭제 + 새 경로 upsert로 분해하며,
+     * 문서 패턴에 맞지 않게 된 쪽 경로는 각각 제외한다.
+     */
+    private NetChanges collapseNetChanges(List<GitCommitWalker.ChangedFile> netChanges, RepositorySyncConfig config) {
+        CompiledSyncFilter filter = gitFileScanner.compileFilter(config);
+        Set<String> upsertPaths = new LinkedHashSet<>();
+        Set<String> deletedPaths = new LinkedHashSet<>();
+
+        for (GitCommitWalker.ChangedFile change : netChanges) {
+            switch (change.changeType()) {
+                case ADDED, MODIFIED -> {
+                    if (filter.matches(change.path())) {
+                        upsertPaths.add(change.path());
+                    }
+                }
+                case DELETED -> {
+                    if (filter.matches(change.path())) {
+                        deletedPaths.add(change.path());
+                    }
+                }
+                case RENAMED -> {
+                    if (filter.matches(change.oldPath())) {
+                        deletedPaths.add(change.oldPath());
+                    }
+                    if (filter.matches(change.path())) {
+                        upsertPaths.add(change.path());
+                    }
+                }
+            }
+        }
+
+        deletedPaths.removeAll(upsertPaths);
+        return new NetChanges(new ArrayList<>(upsertPaths), new ArrayList<>(deletedPaths));
+    }
+
+    /**
+     * push 페이로드의 변경 목록에서 문서 패턴에 맞는 경로만 남긴다.
+     * 변경 목록은 이미 경로별 최종 상태로 정리되어 있다.
+     */
+    private NetChanges collapsePushChanges(PushChangeSet pushChanges, RepositorySyncConfig config) {
+        CompiledSyncFilter filter = gitFileScanner.compileFilter(config);
+        return new NetChanges(
+                pushChanges.upsertPaths().stream().filter(filter::matches).toList(),
+                pushChanges.deletedPaths().stream().filter(filter::matches).toList()
+        );
+    }
+
+    /**
+     * 범위 내 중간 커밋에서 변경된 문서의 버전을 기록한다.
+     * 최종 상태는 이미 처리되었으므로 경로별 마지막 수정 커밋은 건너뛴다.
+     * 커밋마다 부모와의 트리 비교 한 번으로 변경된 blob ID를 얻어 내용을 바로 읽고,
+     * docst.sync.batch-size 버전마다 한 트랜잭션으로 저장한다.
+     *
+     * @return 기록된 버전 수
+     */
+    private int recordIntermediateVersions(Git git, Repository repo, String fromSha, String toSha,
+                                           Map<String, CommitInfo> lastCommits) throws IOException {
+        int versionsPerBatch = Math.max(1, batchSize);
+        int recorded = 0;
+        List<DocumentUpsert> pending = new ArrayList<>(versionsPerBatch);
+
+        for (GitCommitWalker.CommitInfo commit : gitCommitWalker.walkCommits(git, fromSha, toSha)) {
+            for (Map.Entry<String, ObjectId> changed : gitCommitWalker.getChangedBlobs(git, commit.sha()).entrySet()) {
+                String path = changed.getKey();
+                CommitInfo finalCommit = lastCommits.get(path);
+                if (finalCommit == null || finalCommit.sha().equals(commit.sha())) {
+                    continue;
+                }
+
+                pending.add(new DocumentUpsert(path, commit.sha(), gitService.readBlob(git, changed.getValue()),
+                        commit.authorName(), commit.authorEmail(), commit.committedAt(), commit.fullMessage(),
+                        changed.getValue().name()));
+                if (pending.size() >= versionsPerBatch) {
+                    recorded += documentService.recordHistoricalVersions(repo.getId(), pending);
+                    pending.clear();
+                }
+            }
+        }
+        recorded += documentService.recordHistoricalVersions(repo.getId(), pending);
+        return recorded;
+    }
+
     /**
      * 특정 커밋 동기화.
      * 지정된 커밋에서 변경된 문서만 추출하여 처리한다.
@@ -226,12 +465,14 @@ public class GitSyncService {
                 commitInfo.committedAt()
         );
 
-        // Process only changed documents
-        for (int i = 0; i < docFiles.size(); i++) {
-            GitCommitWalker.ChangedFile changedFile = docFiles.get(i);
-            processChangedDocument(git, repo, changedFile, walkerCommitInfo, enableEmbedding);
-            progressTracker.update(jobId, i + 1, changedFile.path());
-        }
+        // Process only changed documents (단일 커밋의 변경분이므로 한 트랜잭션으로 처리)
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < docFiles.size(); i++) {
+                GitCommitWalker.ChangedFile changedFile = docFiles.get(i);
+                processChangedDocument(git, repo, changedFile, walkerCommitInfo, enableEmbedding);
+                progressTracker.update(jobId, i + 1, changedFile.path());
+            }
+        });
 
         progressTracker.complete(jobId, "Specific commit sync completed: " + docFiles.size() + " documents");
         return targetCommitSha;
@@ -269,9 +510,7 @@ public class GitSyncService {
             }
 
             String content = contentOpt.get();
-            DocumentParser.ParsedDocument parsed = documentParser.parse(content);
-
-            com.docst.document.DocumentVersion newVersion = documentService.upsertDocument(
+            DocumentVersion newVersion = documentService.upsertDocument(
                     repo.getId(),
                     path,
                     actualCommitSha,  // 파일의 실제 마지막 커밋 사용
@@ -282,18 +521,18 @@ public class GitSyncService {
                     actualCommitInfo.message()
             );
 
-            // Chunk and embed the newly created document version
+            // Chunk the newly created document version and queue it for embedding
             if (newVersion != null) {
                 try {
                     // Step 1: Chunking (always performed)
                     chunkingService.chunkAndSave(newVersion);
                     log.debug("Chunked document version: {} for {}", newVersion.getId(), path);
 
-                    // Step 2: Embedding (Spring AI VectorStore) - conditional
+                    // Step 2: Embedding outbox (worker stores vectors after commit) - conditional
                     if (enableEmbedding) {
-                        int embeddedCount = embeddingService.embedDocumentVersion(newVersion);
-                        log.debug("Embedded {} chunks for document version: {} ({})",
-                            embeddedCount, newVersion.getId(), path);
+                        int enqueuedCount = embeddingOutboxService.enqueue(newVersion);
+                        log.debug("Queued {} chunks for embedding: document version {} ({})",
+                            enqueuedCount, newVersion.getId(), path);
                     } else {
                         log.debug("Embedding skipped for document version: {} ({})",
                             newVersion.getId(), path);
@@ -304,12 +543,12 @@ public class GitSyncService {
                     log.debug("Extracted links for document: {}", path);
 
                 } catch (Exception error) {
-                    log.error("Failed to chunk/embed/extract links for document: {}", path, error);
+                    log.error("Failed to chunk/enqueue/extract links for document: {}", path, error);
                     // Continue processing even if chunking/embedding/link extraction fails
                 }
             }
 
-            log.debug("Processed document: {} (title: {})", path, parsed.title());
+            log.debug("Processed document: {}", path);
 
         } catch (Exception e) {
             log.error("Failed to process document: {}", path, e);
@@ -361,4 +600,18 @@ public class GitSyncService {
             log.error("Failed to process changed document: {}", changedFile.path(), e);
         }
     }
+
+    /**
+     * 증분 동기화 대상 경로.
+     * upsert 경로는 경로 순으로 정렬한다. push 페이로드 순서로 처리한 작업을 로컬 diff로 재개해도
+     * 같은 순서가 되어야 체크포인트 커서 이후의 경로만 건너뛰지 않고 처리한다.
+     *
+     * @param upsertPaths 최종 상태를 반영할 문서 경로 (정렬됨)
+     * @param deletedPaths 삭제 처리할 문서 경로
+     */
+    private record NetChanges(List<String> upsertPaths, List<String> deletedPaths) {
+        NetChanges {
+            upsertPaths = upsertPaths.stream().sorted().toList();
+        }
+    }
 }
@@ -0,0 +1,232 @@
+package com.docst.sync.service;
+
+import com.docst.api.ApiModels.SyncMode;
+import com.docst.git.GitService;
+import com.docst.gitrepo.Repository;
+import com.docst.gitrepo.repository.RepositoryRepository;
+import com.docst.sync.SyncJob;
+import com.docst.sync.SyncJob.SyncStatus;
+import com.docst.sync.SyncTrigger;
+import com.docst.sync.repository.SyncJobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 원격 변경 폴러.
+ * 웹훅이 없는 레포지토리를 최신 상태로 유지하기 위해 주기적으로 원격 기본 브랜치의 커밋을 ls-remote로 확인하고,
+ * 마지막으로 동기화한 커밋과 다를 때만 INCREMENTAL 동기화를 예약한다.
+ * <ul>
+ *   <li>레포지토리마다 다음 확인 시각을 따로 두고, 간격에 ±jitter를 적용하여 확인 시점을 분산한다.</li>
+ *   <li>확인에 실패하면 간격을 2배씩 늘리고 (최대 docst.sync.poll.max-backoff), 성공하면 원래 간격으로 돌아간다.</li>
+ *   <li>ls-remote는 가상 스레드에서 실행하며 동시 확인 수를 제한한다. 스케줄러 스레드는 확인을 기다리지 않는다.</li>
+ *   <li>한 번도 동기화에 성공하지 않은 레포지토리는 확인하지 않는다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class RemoteChangePoller {
+
+    private final RepositoryRepository repositoryRepository;
+    private final SyncJobRepository syncJobRepository;
+    private final GitService gitService;
+    private final SyncService syncService;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final Duration interval;
+    private final double jitter;
+    private final Duration maxBackoff;
+    private final int timeoutSeconds;
+    private final Semaphore permits;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sync-poll-", 0).factory());
+
+    /** 레포지토리별 폴링 상태 */
+    private final Map<UUID, PollState> states = new ConcurrentHashMap<>();
+
+    /**
+     * RemoteChangePoller 생성자.
+     *
+     * @param enabled 폴링 활성화 여부
+     * @param interval 레포지토리별 기본 확인 간격
+     * @param jitter 간격에 적용할 무작위 비율 (0.2면 ±20%)
+     * @param maxBackoff 실패 시 최대 확인 간격
+     * @param timeoutSeconds ls-remote 타임아웃 (초)
+     * @param concurrency 동시에 실행할 ls-remote 수
+     */
+    public RemoteChangePoller(RepositoryRepository repositoryRepository,
+                              SyncJobRepository syncJobRepository,
+                              GitService gitService,
+                              SyncService syncService,
+                              MeterRegistry meterRegistry,
+                              @Value("${docst.sync.poll.enabled:false}") boolean enabled,
+                              @Value("${docst.sync.poll.interval:5m}") Duration interval,
+                              @Value("${docst.sync.poll.jitter:0.2}") double jitter,
+                              @Value("${docst.sync.poll.max-backoff:1h}") Duration maxBackoff,
+                              @Value("${docst.sync.poll.timeout-seconds:30}") int timeoutSeconds,
+                              @Value("${docst.sync.poll.concurrency:8}") int concurrency) {
+        this.repositoryRepository = repositoryRepository;
+        this.syncJobRepository = syncJobRepository;
+        this.gitService = gitService;
+        this.syncService = syncService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.jitter = Math.clamp(jitter, 0.0, 1.0);
+        this.maxBackoff = maxBackoff;
+        this.timeoutSeconds = timeoutSeconds;
+        this.permits = new Semaphore(Math.max(1, concurrency));
+    }
+
+    /**
+     * 확인 시각이 된 레포지토리를 찾아 ls-remote 확인을 시작한다.
+     */
+    @Scheduled(fixedDelayString = "${docst.sync.poll.tick:30000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        Set<UUID> activeIds = new HashSet<>(repositoryRepository.findActiveIds());
+        states.keySet().retainAll(activeIds);
+
+        for (UUID repositoryId : activeIds) {
+            // 새 레포지토리는 간격 안의 임의 시점에 처음 확인 (시작 직후 일제히 확인하지 않도록)
+            PollState state = states.computeIfAbsent(repositoryId, id -> new PollState(
+                    now.plusMillis(ThreadLocalRandom.current().nextLong(Math.max(1, interval.toMillis())))));
+            if (state.inFlight || now.isBefore(state.nextPollAt)) {
+                continue;
+            }
+            state.inFlight = true;
+            executor.execute(() -> poll(repositoryId, state));
+        }
+    }
+
+    /**
+     * 레포지토리 하나의 원격 커밋을 확인하고 필요하면 동기화를 예약한다.
+     */
+    private void poll(UUID repositoryId, PollState state) {
+        boolean acquired = false;
+        try {
+            permits.acquire();
+            acquired = true;
+            String result = check(repositoryId);
+            meterRegistry.counter("docst.sync.poll.checks", "result", result).increment();
+            state.failures = 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            state.failures++;
+            meterRegistry.counter("docst.sync.poll.checks", "result", "failed").increment();
+            log.warn("Remote poll failed for repository {} ({} consecutive failures): {}",
+                    repositoryId, state.failures, e.getMessage());
+        } finally {
+            if (acquired) {
+                permits.release();
+            }
+            state.nextPollAt = Instant.now().plus(nextDelay(interval, jitter, state.failures, maxBackoff,
+                    ThreadLocalRandom.current().nextDouble()));
+            state.inFlight = false;
+        }
+    }
+
+    /**
+     * 원격 기본 브랜치 커밋과 마지막 동기화 커밋을 비교한다.
+     *
+     * @return 확인 결과 메트릭 태그 (unchanged, changed, busy, skipped)
+     */
+    private String check(UUID repositoryId) throws Exception {
+        Optional<String> lastSyncedCommit = syncJobRepository
+                .findFirstByRepositoryIdAndStatusOrderByCreatedAtDesc(repositoryId, SyncStatus.SUCCEEDED)
+                .map(SyncJob::getLastSyncedCommit);
+        if (lastSyncedCommit.isEmpty()) {
+            return "skipped";
+        }
+
+        Repository repo = repositoryRepository.findWithCredentialById(repositoryId).orElse(null);
+        if (repo == null) {
+            return "skipped";
+        }
+
+        String branch = repo.getDefaultBranch();
+        Optional<String> remoteHead = gitService.lsRemoteHead(repo, branch, timeoutSeconds);
+        if (remoteHead.isEmpty()) {
+            throw new IllegalStateException("Remote branch not found: " + branch);
+        }
+        if (remoteHead.get().equals(lastSyncedCommit.get())) {
+            return "unchanged";
+        }
+
+        try {
+            log.info("Remote change detected for {} ({}): {} -> {}", repo.getFullName(), branch,
+                    lastSyncedCommit.get().substring(0, 7), remoteHead.get().substring(0, 7));
+            syncService.startSync(repositoryId, branch, SyncMode.INCREMENTAL, null, null, SyncTrigger.POLL);
+            return "changed";
+        } catch (IllegalStateException e) {
+            // 이미 대기/실행 중인 동기화가 변경을 가져간다
+            return "busy";
+        }
+    }
+
+    /**
+     * 다음 확인까지의 지연 시간을 계산한다.
+     * 실패 횟수만큼 간격을 2배씩 늘리고 (최대 maxBackoff), ±jitter 비율을 적용한다.
+     *
+     * @param interval 기본 간격
+     * @param jitter 무작위 비율 (0~1)
+     * @param failures 연속 실패 횟수
+     * @param maxBackoff 최대 간격
+     * @param random 0 이상 1 미만의 난수
+     * @return 지연 시간
+     */
+    static Duration nextDelay(Duration interval, double jitter, int failures, Duration maxBackoff, double random) {
+        long base = interval.toMillis();
+        if (failures > 0) {
+            long backoff = base << Math.min(failures, 20);
+            base = Math.max(base, Math.min(backoff, maxBackoff.toMillis()));
+        }
+        double factor = 1.0 + jitter * (2 * random - 1);
+        return Duration.ofMillis(Math.round(base * factor));
+    }
+
+    /**
+     * 애플리케이션 종료 시 진행 중인 확인을 중단한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 레포지토리별 폴링 상태. 한 번에 하나의 확인만 상태를 갱신한다.
+     */
+    private static final class PollState {
+        private volatile Instant nextPollAt;
+        private volatile boolean inFlight;
+        private volatile int failures;
+
+        private PollState(Instant nextPollAt) {
+            this.nextPollAt = nextPollAt;
+        }
+    }
+}
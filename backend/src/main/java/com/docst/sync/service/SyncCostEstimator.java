@@ -0,0 +1,212 @@
+package com.docst.sync.service;
+
+import com.docst.api.ApiModels.SyncEstimateResponse;
+import com.docst.chunking.ChunkResult;
+import com.docst.chunking.MarkdownChunker;
+import com.docst.document.ContentHash;
+import com.docst.document.repository.DocChunkRepository;
+import com.docst.document.service.DocumentService;
+import com.docst.git.GitFileScanner;
+import com.docst.git.GitService;
+import com.docst.gitrepo.Repository;
+import com.docst.gitrepo.repository.RepositoryRepository;
+import com.docst.sync.SyncJob.SyncStatus;
+import com.docst.sync.repository.SyncJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동기화 비용 추정 서비스 (dry-run).
+ * FULL_SCAN과 같은 스캔/blob ID 변경 감지/청킹을 수행하되 DB에는 아무것도 저장하지 않고,
+ * 처리될 문서 수와 새 청크의 토큰 수, 예상 임베딩 API 호출 수만 계산한다.
+ * 같은 텍스트의 벡터가 프로젝트에 이미 있는 청크는 동기화에서 벡터를 재사용하므로 임베딩 비용에서 제외한다.
+ * 운영자는 결과를 보고 무거운 동기화를 한가한 시간대에 예약할 수 있다.
+ * <p>
+ * 원격의 최신 커밋을 기준으로 추정하기 위해 fetch는 수행하지만 로컬 브랜치는 옮기지 않는다.
+ * 가져온 객체는 다음 동기화에서 그대로 재사용된다. 동기화가 진행 중이면 fetch 없이 로컬 브랜치 기준으로 추정한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncCostEstimator {
+
+    private final GitService gitService;
+    private final GitFileScanner gitFileScanner;
+    private final MarkdownChunker markdownChunker;
+    private final DocumentService documentService;
+    private final DocChunkRepository docChunkRepository;
+    private final RepositoryRepository repositoryRepository;
+    private final SyncJobRepository syncJobRepository;
+
+    /** 기존 벡터 조회 시 한 번에 조회할 내용 해시 수 */
+    private static final int HASH_LOOKUP_BATCH_SIZE = 1000;
+
+    /** 임베딩 API 요청 하나에 담기는 청크 수 */
+    @Value("${docst.embedding.batch-size:32}")
+    private int embeddingBatchSize;
+
+    /**
+     * FULL_SCAN 동기화 비용을 추정한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param branch 대상 브랜치 (null이면 기본 브랜치)
+     * @return 추정 결과
+     * @throws IllegalArgumentException 레포지토리가 존재하지 않을 경우
+     * @throws RuntimeException Git 작업 실패 시
+     */
+    public SyncEstimateResponse estimate(UUID repositoryId, String branch) {
+        Repository repo = repositoryRepository.findWithCredentialById(repositoryId)
+                .orElseThrow(() -> new IllegalArgumentException("Repository not found: " + repositoryId));
+        String targetBranch = branch != null ? branch : repo.getDefaultBranch();
+        long startedAt = System.nanoTime();
+
+        try (Git git = gitService.cloneOrOpen(repo)) {
+            boolean syncInProgress = syncJobRepository.existsByRepositoryIdAndStatusIn(repositoryId,
+                    List.of(SyncStatus.PENDING, SyncStatus.RUNNING));
+            if (!syncInProgress) {
+                gitService.fetch(git, repo, targetBranch);
+            }
+            String commitSha = resolveTip(git, targetBranch, !syncInProgress);
+
+            // FULL_SCAN과 같은 스캔과 blob ID 비교 (파일 내용은 읽지 않음)
+            Map<String, String> documentBlobs = gitFileScanner.scanDocumentBlobs(git, commitSha, repo.getSyncConfig());
+            Map<String, String> storedBlobs = documentService.findLatestBlobIds(repositoryId);
+
+            List<String> newPaths = documentBlobs.keySet().stream()
+                    .filter(path -> !storedBlobs.containsKey(path))
+                    .toList();
+            List<String> changedPaths = documentBlobs.entrySet().stream()
+                    .filter(entry -> storedBlobs.containsKey(entry.getKey())
+                            && !entry.getValue().equals(storedBlobs.get(entry.getKey())))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            int unchanged = documentBlobs.size() - newPaths.size() - changedPaths.size();
+            int deleted = (int) storedBlobs.keySet().stream().filter(path -> !documentBlobs.containsKey(path)).count();
+
+            // 새 버전이 생성될 문서만 청킹하여 청크별 내용 해시와 토큰 수 수집
+            Queue<ChunkCost> chunks = new ConcurrentLinkedQueue<>();
+            countChunks(git, newPaths, documentBlobs, repo.getSyncConfig().getSyncParallelism(), chunks);
+            countChunks(git, changedPaths, documentBlobs, repo.getSyncConfig().getSyncParallelism(), chunks);
+
+            // 기존 벡터를 재사용할 청크는 임베딩 호출/토큰에서 제외
+            Set<String> embeddedHashes = findEmbeddedHashes(repositoryId, chunks);
+            long reusableChunks = 0;
+            long tokens = 0;
+            for (ChunkCost chunk : chunks) {
+                if (embeddedHashes.contains(chunk.contentHash())) {
+                    reusableChunks++;
+                } else {
+                    tokens += chunk.tokens();
+                }
+            }
+
+            int batchSize = Math.max(1, embeddingBatchSize);
+            long embeddingCalls = (chunks.size() - reusableChunks + batchSize - 1) / batchSize;
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+            log.info("Sync estimate for {} at {}: {} new, {} changed, {} unchanged, {} deleted, "
+                            + "{} chunks ({} reusable), {} tokens ({} ms)",
+                    repo.getFullName(), commitSha.substring(0, 7), newPaths.size(), changedPaths.size(),
+                    unchanged, deleted, chunks.size(), reusableChunks, tokens, elapsedMillis);
+
+            return new SyncEstimateResponse(
+                    repositoryId,
+                    targetBranch,
+                    commitSha,
+                    documentBlobs.size(),
+                    newPaths.size(),
+                    changedPaths.size(),
+                    unchanged,
+                    deleted,
+                    chunks.size(),
+                    reusableChunks,
+                    tokens,
+                    embeddingCalls,
+                    elapsedMillis
+            );
+        } catch (GitAPIException | IOException e) {
+            log.error("Failed to estimate sync for repository: {}", repo.getFullName(), e);
+            throw new RuntimeException("Sync estimate failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sync estimate interrupted: " + repo.getFullName(), e);
+        }
+    }
+
+    /**
+     * 추정 기준 커밋을 결정한다. fetch했으면 원격 추적 브랜치를, 아니면 로컬 브랜치를 우선한다.
+     */
+    private String resolveTip(Git git, String branch, boolean preferRemote) throws IOException {
+        if (preferRemote) {
+            Ref remote = git.getRepository().findRef("refs/remotes/origin/" + branch);
+            if (remote != null) {
+                return remote.getObjectId().getName();
+            }
+        }
+        return gitService.getLatestCommitSha(git, branch);
+    }
+
+    /**
+     * 청크 내용 해시 중 프로젝트에 이미 임베딩된 해시를 조회한다. IN 목록이 너무 길지 않도록 나누어 조회한다.
+     */
+    private Set<String> findEmbeddedHashes(UUID repositoryId, Collection<ChunkCost> chunks) {
+        List<String> hashes = chunks.stream().map(ChunkCost::contentHash).distinct().toList();
+        Set<String> embedded = new HashSet<>();
+        for (int from = 0; from < hashes.size(); from += HASH_LOOKUP_BATCH_SIZE) {
+            List<String> slice = hashes.subList(from, Math.min(hashes.size(), from + HASH_LOOKUP_BATCH_SIZE));
+            embedded.addAll(docChunkRepository.findEmbeddedContentHashes(repositoryId, slice));
+        }
+        return embedded;
+    }
+
+    /**
+     * 문서를 읽고 청킹하여 청크별 내용 해시와 토큰 수를 수집한다. 동기화 병렬도만큼 동시에 처리한다.
+     */
+    private void countChunks(Git git, List<String> paths, Map<String, String> blobIds, int parallelism,
+                             Queue<ChunkCost> chunks) throws InterruptedException {
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("sync-estimate-", 0).factory())) {
+            for (String path : paths) {
+                permits.acquire();
+                executor.execute(() -> {
+                    try {
+                        String content = gitService.readBlob(git, ObjectId.fromString(blobIds.get(path)));
+                        if (content.isEmpty()) {
+                            return;
+                        }
+                        for (ChunkResult result : markdownChunker.chunk(content)) {
+                            chunks.add(new ChunkCost(ContentHash.hash(result.content()), result.tokenCount()));
+                        }
+                    } catch (Exception e) {
+                        log.warn("Failed to estimate document: {} - {}", path, e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    /** 추정 대상 청크 (내용 해시, 토큰 수) */
+    private record ChunkCost(String contentHash, int tokens) {}
+}
@@ -0,0 +1,53 @@
+package com.docst.sync.service;
+
+import com.docst.sync.SyncJob;
+import com.docst.sync.SyncJob.SyncStatus;
+import com.docst.sync.repository.SyncJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 중단된 동기화 작업 복구기.
+ * 동기화 작업은 프로세스 메모리에서 실행되므로, 재시작 시 PENDING/RUNNING 상태로 남은 작업은 실행 주체가 없다.
+ * 애플리케이션 시작 시 이런 작업을 찾아 {@link SyncService#resumeSync}로 체크포인트부터 재개한다.
+ * 단일 인스턴스 배포를 전제로 한다 (다른 인스턴스가 실행 중인 작업도 중단된 것으로 간주한다).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyncJobRecovery {
+
+    private final SyncJobRepository syncJobRepository;
+    private final SyncService syncService;
+
+    /**
+     * 애플리케이션 시작 시 중단된 작업을 재개한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        List<SyncJob> orphaned = new ArrayList<>(syncJobRepository.findByStatus(SyncStatus.RUNNING));
+        orphaned.addAll(syncJobRepository.findByStatus(SyncStatus.PENDING));
+        if (orphaned.isEmpty()) {
+            return;
+        }
+
+        log.info("Found {} interrupted sync jobs", orphaned.size());
+        int resumed = 0;
+        for (SyncJob job : orphaned) {
+            try {
+                if (syncService.resumeSync(job.getId())) {
+                    resumed++;
+                }
+            } catch (Exception e) {
+                log.error("Failed to resume sync job: {}", job.getId(), e);
+            }
+        }
+        log.info("Resumed {} of {} interrupted sync jobs", resumed, orphaned.size());
+    }
+}
@@ -0,0 +1,187 @@
+package com.docst.sync.service;
+
+import com.docst.api.ApiModels.SyncMode;
+import com.docst.sync.SyncTrigger;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 동기화 작업 스케줄러.
+ * 동기화 작업을 전용 스레드 풀에서 실행하고, 실행할 수 없는 작업은 우선순위 큐에 대기시킨다.
+ * <ul>
+ *   <li>전체 동시 실행 수는 docst.sync.scheduler.max-concurrent로 제한한다 (스레드 풀 크기와 같다).</li>
+ *   <li>프로젝트별 동시 실행 수는 docst.sync.scheduler.max-concurrent-per-project로 제한한다.</li>
+ *   <li>같은 레포지토리의 작업은 동시에 실행하지 않는다.</li>
+ *   <li>우선순위: {@link SyncTrigger} 순서 → FULL_SCAN이 아닌 작업 → 제출 순서.
+ *       웹훅 INCREMENTAL이 수동 FULL_SCAN보다 먼저 실행된다.</li>
+ * </ul>
+ * 지연 작업(진행 상황 정리 등)은 스레드를 점유하지 않도록 {@link TaskScheduler}로 예약한다.
+ */
+@Component
+@Slf4j
+public class SyncJobScheduler {
+
+    private static final Comparator<QueuedTask> PRIORITY = Comparator
+            .comparing((QueuedTask queued) -> queued.task().trigger())
+            .thenComparing(queued -> queued.task().mode() == SyncMode.FULL_SCAN)
+            .thenComparingLong(QueuedTask::sequence);
+
+    private final int maxConcurrent;
+    private final int maxConcurrentPerProject;
+    private final ExecutorService executor;
+    private final TaskScheduler taskScheduler;
+
+    /** 대기 중인 작업. 아래 상태와 함께 this로 동기화한다. */
+    private final NavigableSet<QueuedTask> queue = new TreeSet<>(PRIORITY);
+    private final Map<UUID, Integer> runningByProject = new HashMap<>();
+    private final Set<UUID> runningRepositories = new HashSet<>();
+    private int running;
+    private long sequence;
+
+    /**
+     * SyncJobScheduler 생성자.
+     *
+     * @param maxConcurrent 전체 동시 실행 작업 수
+     * @param maxConcurrentPerProject 프로젝트별 동시 실행 작업 수
+     * @param taskScheduler 지연 작업 예약용 스케줄러
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public SyncJobScheduler(@Value("${docst.sync.scheduler.max-concurrent:4}") int maxConcurrent,
+                            @Value("${docst.sync.scheduler.max-concurrent-per-project:2}") int maxConcurrentPerProject,
+                            TaskScheduler taskScheduler,
+                            MeterRegistry meterRegistry) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxConcurrentPerProject = Math.max(1, maxConcurrentPerProject);
+        this.executor = Executors.newFixedThreadPool(this.maxConcurrent,
+                Thread.ofPlatform().name("sync-job-", 0).factory());
+        this.taskScheduler = taskScheduler;
+        Gauge.builder("docst.sync.queue.depth", this, SyncJobScheduler::queueDepth)
+                .description("Number of sync jobs waiting for a free slot")
+                .register(meterRegistry);
+        Gauge.builder("docst.sync.running", this, SyncJobScheduler::runningCount)
+                .description("Number of sync jobs currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 동기화 작업을 제출한다. 실행 슬롯이 있으면 바로 실행하고, 없으면 큐에 대기시킨다.
+     *
+     * @param task 실행할 작업
+     */
+    public synchronized void submit(SyncTask task) {
+        queue.add(new QueuedTask(task, sequence++));
+        log.debug("Queued sync job {} (trigger: {}, mode: {}, queue depth: {})",
+                task.jobId(), task.trigger(), task.mode(), queue.size());
+        dispatch();
+    }
+
+    /**
+     * 지연 후 실행할 작업을 예약한다. 대기 중에는 스레드를 점유하지 않는다.
+     *
+     * @param action 실행할 작업
+     * @param delay 지연 시간
+     */
+    public void schedule(Runnable action, Duration delay) {
+        taskScheduler.schedule(action, Instant.now().plus(delay));
+    }
+
+    /**
+     * 큐에서 대기 중인 작업 수.
+     */
+    public synchronized int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * 실행 중인 작업 수.
+     */
+    public synchronized int runningCount() {
+        return running;
+    }
+
+    /**
+     * 애플리케이션 종료 시 실행 중인 작업을 중단한다.
+     * 중단된 작업은 다음 시작 시 {@link SyncJobRecovery}가 체크포인트부터 재개한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 우선순위 순으로 실행 가능한 작업을 꺼내 실행한다.
+     * 프로젝트 한도에 걸리거나 같은 레포지토리가 실행 중인 작업은 건너뛰고 다음 작업을 본다.
+     */
+    private void dispatch() {
+        Iterator<QueuedTask> iterator = queue.iterator();
+        while (running < maxConcurrent && iterator.hasNext()) {
+            SyncTask task = iterator.next().task();
+            if (runningRepositories.contains(task.repositoryId())
+                    || runningByProject.getOrDefault(task.projectId(), 0) >= maxConcurrentPerProject) {
+                continue;
+            }
+            iterator.remove();
+            running++;
+            runningByProject.merge(task.projectId(), 1, Integer::sum);
+            runningRepositories.add(task.repositoryId());
+            executor.execute(() -> run(task));
+        }
+    }
+
+    private void run(SyncTask task) {
+        try {
+            task.action().run();
+        } catch (Exception e) {
+            log.error("Sync job {} failed unexpectedly", task.jobId(), e);
+        } finally {
+            release(task);
+        }
+    }
+
+    private synchronized void release(SyncTask task) {
+        running--;
+        runningByProject.computeIfPresent(task.projectId(), (id, count) -> count > 1 ? count - 1 : null);
+        runningRepositories.remove(task.repositoryId());
+        dispatch();
+    }
+
+    /**
+     * 스케줄러에 제출되는 동기화 작업.
+     *
+     * @param jobId 동기화 작업 ID
+     * @param projectId 프로젝트 ID (프로젝트별 동시 실행 제한)
+     * @param repositoryId 레포지토리 ID (레포지토리별 직렬 실행)
+     * @param trigger 작업 시작 주체 (우선순위)
+     * @param mode 동기화 모드 (같은 주체 내 우선순위)
+     * @param action 실행할 작업
+     */
+    public record SyncTask(
+            UUID jobId,
+            UUID projectId,
+            UUID repositoryId,
+            SyncTrigger trigger,
+            SyncMode mode,
+            Runnable action
+    ) {}
+
+    private record QueuedTask(SyncTask task, long sequence) {}
+}
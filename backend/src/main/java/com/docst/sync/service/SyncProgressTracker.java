@@ -112,9 +112,9 @@ public class SyncProgressTracker {
     @Getter
     public static class Progress {
         private final UUID repositoryId;
-        private int totalDocs;
-        private int processedDocs;
-        private String message;
+        private volatile int totalDocs;
+        private volatile int processedDocs;
+        private volatile String message;
 
         public Progress(UUID repositoryId, int totalDocs, int processedDocs, String message) {
             this.repositoryId = repositoryId;
@@ -3,20 +3,25 @@ package com.docst.sync.service;
 import com.docst.api.ApiModels.SyncMode;
 import com.docst.gitrepo.Repository;
 import com.docst.gitrepo.repository.RepositoryRepository;
+import com.docst.sync.PushChangeSet;
+import com.docst.sync.SyncCheckpoint;
 import com.docst.sync.SyncJob;
 import com.docst.sync.SyncJob.SyncStatus;
+import com.docst.sync.SyncTrigger;
 import com.docst.sync.repository.SyncJobRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * 동기화 서비스.
@@ -31,6 +36,14 @@ public class SyncService {
     private final RepositoryRepository repositoryRepository;
     private final GitSyncService gitSyncService;
     private final SyncProgressTracker progressTracker;
+    private final SyncJobScheduler syncJobScheduler;
+
+    /** 완료 후 진행 상황을 유지하는 시간 (SSE가 마지막 상태를 읽을 시간 확보) */
+    private static final Duration PROGRESS_RETENTION = Duration.ofSeconds(2);
+
+    /** 재시작 후 재개를 시도할 최대 횟수 (반복해서 프로세스를 중단시키는 작업 방지) */
+    @Value("${docst.sync.max-resume-attempts:3}")
+    private int maxResumeAttempts;
 
     /**
      * ID로 동기화 작업을 조회한다.
@@ -111,11 +124,54 @@ public class SyncService {
      */
     @Transactional
     public SyncJob startSync(UUID repositoryId, String branch, SyncMode mode, String targetCommitSha, Boolean enableEmbedding) {
+        return startSync(repositoryId, branch, mode, targetCommitSha, enableEmbedding, SyncTrigger.MANUAL);
+    }
+
+    /**
+     * 레포지토리 동기화를 시작한다 (시작 주체 지정).
+     * 작업은 {@link SyncJobScheduler}에 제출되며, 시작 주체와 모드에 따라 큐에서의 우선순위가 정해진다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param branch 대상 브랜치 (null이면 기본 브랜치 사용)
+     * @param mode 동기화 모드 (null이면 FULL_SCAN)
+     * @param targetCommitSha 특정 커밋 SHA (SPECIFIC_COMMIT 모드에서 사용)
+     * @param enableEmbedding 임베딩 생성 여부 (null이면 true)
+     * @param trigger 작업 시작 주체
+     * @return 생성된 동기화 작업
+     * @throws IllegalArgumentException 레포지토리가 존재하지 않을 경우
+     * @throws IllegalStateException 이미 동기화가 진행 중일 경우
+     */
+    @Transactional
+    public SyncJob startSync(UUID repositoryId, String branch, SyncMode mode, String targetCommitSha,
+                             Boolean enableEmbedding, SyncTrigger trigger) {
+        return startSync(repositoryId, branch, mode, targetCommitSha, enableEmbedding, trigger, null);
+    }
+
+    /**
+     * 레포지토리 동기화를 시작한다 (push 변경 목록 지정).
+     * INCREMENTAL 동기화에서 변경 목록이 마지막 동기화 커밋부터 이어지면 로컬 diff 계산 대신 사용한다.
+     * 변경 목록은 메모리에만 전달되므로 재개된 작업은 diff를 다시 계산한다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param branch 대상 브랜치 (null이면 기본 브랜치 사용)
+     * @param mode 동기화 모드 (null이면 FULL_SCAN)
+     * @param targetCommitSha 특정 커밋 SHA (SPECIFIC_COMMIT 모드에서 사용)
+     * @param enableEmbedding 임베딩 생성 여부 (null이면 true)
+     * @param trigger 작업 시작 주체
+     * @param pushChanges push 웹훅의 변경 목록 (없으면 null)
+     * @return 생성된 동기화 작업
+     * @throws IllegalArgumentException 레포지토리가 존재하지 않을 경우
+     * @throws IllegalStateException 이미 동기화가 대기 중이거나 진행 중일 경우
+     */
+    @Transactional
+    public SyncJob startSync(UUID repositoryId, String branch, SyncMode mode, String targetCommitSha,
+                             Boolean enableEmbedding, SyncTrigger trigger, PushChangeSet pushChanges) {
         Repository repo = repositoryRepository.findById(repositoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Repository not found: " + repositoryId));
 
-        // Check if there's already a running sync
-        if (syncJobRepository.existsByRepositoryIdAndStatus(repositoryId, SyncStatus.RUNNING)) {
+        // Check if there's already a queued or running sync
+        if (syncJobRepository.existsByRepositoryIdAndStatusIn(repositoryId,
+                List.of(SyncStatus.PENDING, SyncStatus.RUNNING))) {
             throw new IllegalStateException("Sync already in progress for repository: " + repositoryId);
         }
 
@@ -126,27 +182,65 @@ public class SyncService {
         SyncJob job = new SyncJob(repo, targetBranch, syncMode, targetCommitSha, doEmbedding);
         job = syncJobRepository.save(job);
 
-        // 트랜잭션 커밋 후에 비동기 작업 시작 (job이 DB에 확실히 저장된 후 실행)
-        final UUID jobId = job.getId();
-        final boolean finalDoEmbedding = doEmbedding;
+        // 트랜잭션 커밋 후에 스케줄러에 제출 (job이 DB에 확실히 저장된 후 실행)
+        final SyncJobScheduler.SyncTask task = toTask(job, repo, trigger, pushChanges);
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                CompletableFuture.runAsync(() -> executeSync(jobId, finalDoEmbedding));
+                syncJobScheduler.submit(task);
             }
         });
 
         return job;
     }
 
+    /**
+     * 중단된 동기화 작업을 재개한다.
+     * 프로세스 재시작으로 PENDING/RUNNING 상태로 남은 작업을 점유한 뒤, 저장된 체크포인트부터 비동기로 실행한다.
+     * 재개 횟수가 docst.sync.max-resume-attempts에 도달한 작업은 실패 처리한다.
+     *
+     * @param jobId 동기화 작업 ID
+     * @return 재개를 시작했으면 true, 실패 처리했거나 이미 점유된 작업이면 false
+     * @throws IllegalArgumentException 작업이 존재하지 않을 경우
+     */
+    public boolean resumeSync(UUID jobId) {
+        SyncJob job = syncJobRepository.findByIdWithRepository(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Sync job not found: " + jobId));
+
+        if (job.getResumeCount() >= maxResumeAttempts) {
+            log.warn("Sync job {} exceeded {} resume attempts, marking as failed", jobId, maxResumeAttempts);
+            job.fail("Sync interrupted and not resumed after " + maxResumeAttempts + " attempts");
+            syncJobRepository.save(job);
+            return false;
+        }
+
+        if (syncJobRepository.claimForResume(jobId, job.getResumeCount()) == 0) {
+            log.debug("Sync job {} already claimed or finished", jobId);
+            return false;
+        }
+
+        log.info("Resuming sync job {} (attempt {}, checkpoint: {})",
+                jobId, job.getResumeCount() + 1, job.getCheckpoint());
+        syncJobScheduler.submit(toTask(job, job.getRepository(), SyncTrigger.RECOVERY, null));
+        return true;
+    }
+
+    private SyncJobScheduler.SyncTask toTask(SyncJob job, Repository repo, SyncTrigger trigger,
+                                             PushChangeSet pushChanges) {
+        UUID jobId = job.getId();
+        return new SyncJobScheduler.SyncTask(jobId, repo.getProject().getId(), repo.getId(),
+                trigger, job.getSyncMode(), () -> executeSync(jobId, pushChanges));
+    }
+
     /**
      * 동기화 작업을 실행한다.
      * 내부적으로 GitSyncService를 호출하여 실제 Git 동기화를 수행한다.
+     * 작업에 체크포인트가 있으면 (재개된 작업) 그 지점부터 이어서 동기화한다.
      *
      * @param jobId 동기화 작업 ID
-     * @param enableEmbedding 임베딩 생성 여부
+     * @param pushChanges push 웹훅의 변경 목록 (없으면 null)
      */
-    private void executeSync(UUID jobId, boolean enableEmbedding) {
+    private void executeSync(UUID jobId, PushChangeSet pushChanges) {
         // 비동기 스레드에서는 세션이 없으므로 Repository를 함께 fetch join으로 조회
         SyncJob job = syncJobRepository.findByIdWithRepository(jobId).orElse(null);
         if (job == null) {
@@ -155,6 +249,8 @@ public class SyncService {
         }
 
         Repository repo = job.getRepository();
+        boolean enableEmbedding = job.isEnableEmbedding();
+        SyncCheckpoint checkpoint = job.getCheckpoint();
 
         try {
             job.start();
@@ -183,25 +279,38 @@ public class SyncService {
                     job.getSyncMode(),
                     job.getTargetCommitSha(),
                     lastSyncedCommit,
-                    enableEmbedding
+                    enableEmbedding,
+                    checkpoint,
+                    pushChanges
             );
 
+            recordProgress(job);
             job.complete(lastCommit);
             syncJobRepository.save(job);
             log.info("Sync completed for repository: {} commit: {}", repo.getFullName(), lastCommit);
 
         } catch (Exception e) {
             log.error("Sync failed for job: {}", jobId, e);
+            recordProgress(job);
             job.fail(e.getMessage());
             syncJobRepository.save(job);
         } finally {
             // 완료 후 약간의 지연 후 진행 상황 정리 (SSE가 마지막 상태를 읽을 시간 확보)
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException ignored) {
-                Thread.currentThread().interrupt();
-            }
-            progressTracker.remove(jobId);
+            syncJobScheduler.schedule(() -> progressTracker.remove(jobId), PROGRESS_RETENTION);
+        }
+    }
+
+    /**
+     * 메모리 진행 상황을 작업 엔티티에 반영한다.
+     * 작업 엔티티는 실행 시작 시 조회한 것이므로, 저장 시 배치마다 기록된 진행률을 덮어쓰지 않도록 최신 값으로 맞춘다.
+     * 청크 수는 저장 대상이 아니지만, 완료된 엔티티가 배치마다 누적된 값을 보고하도록 DB에서 다시 읽는다.
+     */
+    private void recordProgress(SyncJob job) {
+        SyncProgressTracker.Progress progress = progressTracker.getProgress(job.getId());
+        if (progress != null) {
+            job.updateProgress(progress.getTotalDocs(), progress.getProcessedDocs());
         }
+        syncJobRepository.findChunkCounts(job.getId())
+                .ifPresent(counts -> job.updateChunkCounts(counts.getReusedChunks(), counts.getEmbeddedChunks()));
     }
 }
@@ -26,7 +26,7 @@ public class GitHubWebhookController {
      * @param event     이벤트 타입 (X-GitHub-Event 헤더)
      * @param delivery  Delivery ID (X-GitHub-Delivery 헤더)
      * @param payload   이벤트 페이로드 (JSON)
-     * @return 200 OK
+     * @return 202 Accepted (push는 병합 후 비동기로 동기화됨)
      */
     @PostMapping("/github")
     public ResponseEntity<Map<String, String>> handleGitHubWebhook(
@@ -46,7 +46,7 @@ public class GitHubWebhookController {
         // 이벤트 처리
         try {
             webhookService.processWebhookEvent(event, payload);
-            return ResponseEntity.ok(Map.of("status", "ok", "message", "Webhook processed"));
+            return ResponseEntity.accepted().body(Map.of("status", "accepted", "message", "Webhook accepted"));
         } catch (Exception e) {
             log.error("Failed to process webhook: event={}, delivery={}", event, delivery, e);
             return ResponseEntity.status(500).body(Map.of("error", "Failed to process webhook"));
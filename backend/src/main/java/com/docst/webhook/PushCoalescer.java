@@ -0,0 +1,163 @@
+package com.docst.webhook;
+
+import com.docst.api.ApiModels.SyncMode;
+import com.docst.sync.PushChangeSet;
+import com.docst.sync.SyncTrigger;
+import com.docst.sync.service.SyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Push 웹훅 병합기.
+ * 같은 레포지토리/브랜치에 연속으로 들어온 push를 하나의 대기 동기화로 합친다.
+ * <ul>
+ *   <li>push가 들어올 때마다 docst.webhook.debounce만큼 시작을 미룬다.
+ *       계속 push가 들어와도 첫 push 후 docst.webhook.max-delay가 지나면 시작한다.</li>
+ *   <li>대기 중인 동기화는 항상 가장 최근 push의 after 커밋을 대상으로 한다.</li>
+ *   <li>이어지는 push의 변경 목록은 합치고, 하나라도 목록이 없거나 이어지지 않으면 변경 목록 없이 동기화한다.</li>
+ *   <li>이미 동기화가 실행 중이면 대기 상태를 유지하고 debounce 후 다시 시도한다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class PushCoalescer {
+
+    private final SyncService syncService;
+    private final TaskScheduler taskScheduler;
+    private final Duration debounce;
+    private final Duration maxDelay;
+
+    /** 대기 중인 push. this로 동기화한다. */
+    private final Map<PushKey, PendingPush> pending = new HashMap<>();
+
+    /**
+     * PushCoalescer 생성자.
+     *
+     * @param syncService 동기화 서비스
+     * @param taskScheduler 지연 실행 스케줄러
+     * @param debounce 마지막 push 후 동기화 시작까지 기다리는 시간
+     * @param maxDelay 첫 push 후 동기화 시작까지 기다리는 최대 시간
+     */
+    public PushCoalescer(SyncService syncService,
+                         TaskScheduler taskScheduler,
+                         @Value("${docst.webhook.debounce:5s}") Duration debounce,
+                         @Value("${docst.webhook.max-delay:30s}") Duration maxDelay) {
+        this.syncService = syncService;
+        this.taskScheduler = taskScheduler;
+        this.debounce = debounce;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * push를 대기 동기화에 합친다.
+     *
+     * @param repositoryId 레포지토리 ID
+     * @param branch 브랜치
+     * @param afterSha push 이후 커밋 SHA
+     * @param changes push 페이로드의 변경 목록 (알 수 없으면 null)
+     */
+    public synchronized void submit(UUID repositoryId, String branch, String afterSha, PushChangeSet changes) {
+        PushKey key = new PushKey(repositoryId, branch);
+        PendingPush push = pending.get(key);
+        if (push == null) {
+            push = new PendingPush(afterSha, changes, Instant.now());
+            pending.put(key, push);
+        } else {
+            push.afterSha = afterSha;
+            push.changes = push.changes != null ? push.changes.merge(changes) : null;
+            push.count++;
+        }
+        log.debug("Coalesced push for {}@{} ({} pushes, target: {})", repositoryId, branch, push.count, afterSha);
+        reschedule(key, push);
+    }
+
+    /**
+     * 대기 중인 push 수.
+     */
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 시작 시각을 debounce만큼 미룬다. 첫 push 후 maxDelay를 넘기지는 않는다.
+     */
+    private void reschedule(PushKey key, PendingPush push) {
+        if (push.future != null) {
+            push.future.cancel(false);
+        }
+        Instant debounced = Instant.now().plus(debounce);
+        Instant deadline = push.firstReceivedAt.plus(maxDelay);
+        push.future = taskScheduler.schedule(() -> flush(key),
+                debounced.isBefore(deadline) ? debounced : deadline);
+    }
+
+    /**
+     * 대기 중인 push로 동기화를 시작한다.
+     */
+    private void flush(PushKey key) {
+        PendingPush push;
+        synchronized (this) {
+            push = pending.remove(key);
+        }
+        if (push == null) {
+            return;
+        }
+
+        try {
+            log.info("Triggering incremental sync for repository: {} branch: {} ({} pushes, target: {})",
+                    key.repositoryId(), key.branch(), push.count, push.afterSha);
+            syncService.startSync(key.repositoryId(), key.branch(), SyncMode.INCREMENTAL, null, null,
+                    SyncTrigger.WEBHOOK, push.changes);
+        } catch (IllegalStateException e) {
+            // 동기화 실행 중 → 대기 상태로 되돌리고 나중에 다시 시도
+            requeue(key, push);
+        } catch (Exception e) {
+            log.error("Failed to start sync for pushed repository: {}", key.repositoryId(), e);
+        }
+    }
+
+    /**
+     * 시작하지 못한 push를 대기 상태로 되돌린다.
+     * 그 사이 새 push가 들어왔으면 앞선 push로서 합친다.
+     */
+    private synchronized void requeue(PushKey key, PendingPush push) {
+        PendingPush newer = pending.get(key);
+        if (newer != null) {
+            newer.changes = push.changes != null ? push.changes.merge(newer.changes) : null;
+            newer.count += push.count;
+            return;
+        }
+        log.debug("Sync already running for {}@{}, retrying in {}", key.repositoryId(), key.branch(), debounce);
+        push.firstReceivedAt = Instant.now();
+        pending.put(key, push);
+        reschedule(key, push);
+    }
+
+    private record PushKey(UUID repositoryId, String branch) {}
+
+    /**
+     * 병합 중인 push 상태.
+     */
+    private static final class PendingPush {
+        private String afterSha;
+        private PushChangeSet changes;
+        private Instant firstReceivedAt;
+        private int count = 1;
+        private ScheduledFuture<?> future;
+
+        private PendingPush(String afterSha, PushChangeSet changes, Instant firstReceivedAt) {
+            this.afterSha = afterSha;
+            this.changes = changes;
+            this.firstReceivedAt = firstReceivedAt;
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.docst.webhook;
 
 import com.docst.gitrepo.Repository;
 import com.docst.gitrepo.repository.RepositoryRepository;
-import com.docst.sync.service.SyncService;
+import com.docst.sync.PushChangeSet;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -28,9 +28,15 @@ import java.util.Optional;
 public class WebhookService {
 
     private final RepositoryRepository repositoryRepository;
-    private final SyncService syncService;
+    private final PushCoalescer pushCoalescer;
     private final ObjectMapper objectMapper;
 
+    /** 새 브랜치 push의 before SHA */
+    private static final String ZERO_SHA = "0000000000000000000000000000000000000000";
+
+    /** GitHub push 페이로드에 포함되는 최대 커밋 수 (이 이상이면 목록이 잘렸을 수 있음) */
+    private static final int MAX_PAYLOAD_COMMITS = 2048;
+
     @Value("${docst.webhook.github.secret:}")
     private String webhookSecret;
 
@@ -109,7 +115,8 @@ public class WebhookService {
 
     /**
      * Push 이벤트를 처리한다.
-     * 레포지토리에 새로운 커밋이 푸시되면 자동으로 동기화를 실행한다.
+     * 레포지토리에 새로운 커밋이 푸시되면 {@link PushCoalescer}에 넘겨 동기화를 예약한다.
+     * 연속된 push는 하나의 동기화로 합쳐지므로 이 메서드는 동기화를 기다리지 않고 바로 반환한다.
      *
      * @param payload Push 이벤트 페이로드
      */
@@ -132,13 +139,19 @@ public class WebhookService {
             String ref = json.path("ref").asText(); // "refs/heads/main"
             String branch = ref.replace("refs/heads/", "");
 
+            // 브랜치 삭제 push는 동기화할 커밋이 없음
+            if (json.path("deleted").asBoolean(false)) {
+                log.info("Ignoring branch deletion push: repository={}, branch={}", fullName, branch);
+                return;
+            }
+
             // 커밋 정보 추출
-            JsonNode headCommitNode = json.path("head_commit");
-            String commitSha = headCommitNode.path("id").asText();
-            String commitMessage = headCommitNode.path("message").asText();
+            String beforeSha = json.path("before").asText();
+            String afterSha = json.path("after").asText();
+            String commitMessage = json.path("head_commit").path("message").asText();
 
             log.info("Received push event: repository={}, branch={}, commit={}, message={}",
-                    fullName, branch, commitSha.substring(0, 7), commitMessage);
+                    fullName, branch, afterSha.substring(0, Math.min(7, afterSha.length())), commitMessage);
 
             // 해당 레포지토리 찾기
             Optional<Repository> repoOpt = repositoryRepository.findByOwnerAndName(owner, repoName);
@@ -156,13 +169,37 @@ public class WebhookService {
                 return;
             }
 
-            // 비동기 동기화 실행
-            log.info("Triggering incremental sync for repository: {}", fullName);
-            syncService.startSync(repository.getId(), branch);
+            // 같은 브랜치의 연속 push와 합쳐 동기화 예약
+            pushCoalescer.submit(repository.getId(), branch, afterSha, parseChangeSet(json, beforeSha, afterSha));
 
         } catch (Exception e) {
             log.error("Failed to handle push event", e);
             throw new RuntimeException("Failed to process push event", e);
         }
     }
+
+    /**
+     * Push 페이로드의 commits[].added/modified/removed로 변경 목록을 만든다.
+     * 강제 push, 새 브랜치, 커밋 목록이 비었거나 잘린 경우에는 before..after 순 변경과 같다고 볼 수 없으므로 null을 반환한다.
+     *
+     * @return 변경 목록 (사용할 수 없으면 null)
+     */
+    private PushChangeSet parseChangeSet(JsonNode json, String beforeSha, String afterSha) {
+        JsonNode commits = json.path("commits");
+        if (json.path("forced").asBoolean(false)
+                || ZERO_SHA.equals(beforeSha)
+                || !commits.isArray()
+                || commits.isEmpty()
+                || commits.size() >= MAX_PAYLOAD_COMMITS) {
+            return null;
+        }
+
+        PushChangeSet.Builder builder = PushChangeSet.builder(beforeSha);
+        for (JsonNode commit : commits) {
+            commit.path("added").forEach(path -> builder.upsert(path.asText()));
+            commit.path("modified").forEach(path -> builder.upsert(path.asText()));
+            commit.path("removed").forEach(path -> builder.delete(path.asText()));
+        }
+        return builder.build(afterSha);
+    }
 }
@@ -0,0 +1,17 @@
+-- 경로별 마지막 수정 커밋 인덱스
+-- 히스토리를 한 번 순회하여 만든 path -> commit 맵을 (repository, commit) 단위로 저장한다.
+
+CREATE TABLE dm_last_commit_index (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    repository_id UUID NOT NULL REFERENCES dm_repository(id) ON DELETE CASCADE,
+    commit_sha VARCHAR(40) NOT NULL,
+    paths JSONB NOT NULL DEFAULT '{}'::jsonb,
+    commits JSONB NOT NULL DEFAULT '{}'::jsonb,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    UNIQUE (repository_id, commit_sha)
+);
+
+CREATE INDEX idx_dm_last_commit_index_repo_created
+    ON dm_last_commit_index(repository_id, created_at DESC);
+
+COMMENT ON TABLE dm_last_commit_index IS 'Per-path last modifying commit index, keyed by repository and tip commit';
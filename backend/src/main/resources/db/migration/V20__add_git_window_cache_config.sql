@@ -0,0 +1,12 @@
+-- ============================================================
+-- V20: JGit WindowCache 설정 키 추가
+-- 목적: pack 파일 캐시 크기를 Admin UI에서 조정할 수 있도록 설정 추가
+-- ============================================================
+
+INSERT INTO dm_system_config (config_key, config_value, config_type, description)
+VALUES
+  ('git.window-cache.packed-git-limit-mb', '256', 'INTEGER', 'JGit pack 파일 윈도우 캐시 최대 크기 (MB)'),
+  ('git.window-cache.delta-base-cache-limit-mb', '64', 'INTEGER', 'JGit delta base 캐시 최대 크기 (MB)'),
+  ('git.window-cache.stream-file-threshold-mb', '50', 'INTEGER', '이 크기 이상의 blob은 메모리에 올리지 않고 스트리밍 (MB)'),
+  ('git.window-cache.packed-git-open-files', '256', 'INTEGER', '동시에 열어 둘 수 있는 pack 파일 수')
+ON CONFLICT (config_key) DO NOTHING;
@@ -0,0 +1,8 @@
+-- Git blob ID 기반 변경 감지
+-- FULL_SCAN 시 트리 엔트리의 blob ID와 저장된 값을 비교하여 변경 없는 파일은 내용을 읽지 않는다
+
+ALTER TABLE dm_document_version ADD COLUMN blob_id VARCHAR(64);
+ALTER TABLE dm_document ADD COLUMN latest_blob_id VARCHAR(64);
+
+COMMENT ON COLUMN dm_document_version.blob_id IS 'Git blob object ID of the version content';
+COMMENT ON COLUMN dm_document.latest_blob_id IS 'Git blob object ID of the latest synced content (null if unknown)';
@@ -0,0 +1,5 @@
+-- 동기화 진행률 영속화
+-- 문서 배치가 커밋될 때마다 처리 건수를 기록하여 프로세스 재시작 후에도 진행 상황을 확인할 수 있도록 한다
+
+ALTER TABLE dm_sync_job ADD COLUMN total_documents INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE dm_sync_job ADD COLUMN processed_documents INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- 동기화 작업 체크포인트
+-- 프로세스 재시작 시 RUNNING 상태로 남은 작업을 마지막 체크포인트부터 재개하기 위한 컬럼
+
+ALTER TABLE dm_sync_job ADD COLUMN enable_embedding BOOLEAN NOT NULL DEFAULT TRUE;
+ALTER TABLE dm_sync_job ADD COLUMN checkpoint_stage VARCHAR(20);
+ALTER TABLE dm_sync_job ADD COLUMN checkpoint_commit VARCHAR(64);
+ALTER TABLE dm_sync_job ADD COLUMN checkpoint_path TEXT;
+ALTER TABLE dm_sync_job ADD COLUMN checkpoint_at TIMESTAMPTZ;
+ALTER TABLE dm_sync_job ADD COLUMN resume_count INTEGER NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN dm_sync_job.checkpoint_stage IS 'Last reached sync stage (DOCUMENTS, DELETIONS)';
+COMMENT ON COLUMN dm_sync_job.checkpoint_commit IS 'Commit being synced; a resumed job finishes this snapshot';
+COMMENT ON COLUMN dm_sync_job.checkpoint_path IS 'Last document path committed by the sync pipeline';
@@ -0,0 +1,20 @@
+-- 임베딩 아웃박스
+-- 동기화는 청크와 같은 트랜잭션으로 임베딩 대기 행만 기록하고, 별도 워커가 배치로 임베딩한다.
+
+CREATE TABLE dm_embedding_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    doc_chunk_id UUID NOT NULL REFERENCES dm_doc_chunk(id) ON DELETE CASCADE,
+    repository_id UUID NOT NULL REFERENCES dm_repository(id) ON DELETE CASCADE,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    UNIQUE (doc_chunk_id)
+);
+
+COMMENT ON TABLE dm_embedding_outbox IS 'Chunks waiting to be embedded into the vector store';
+COMMENT ON COLUMN dm_embedding_outbox.attempts IS 'Number of times the row has been claimed by a worker';
+COMMENT ON COLUMN dm_embedding_outbox.next_attempt_at IS 'Earliest time the row can be claimed (lease expiry or retry backoff)';
+
+-- 처리 대상 조회용
+CREATE INDEX idx_embedding_outbox_next_attempt ON dm_embedding_outbox(next_attempt_at);
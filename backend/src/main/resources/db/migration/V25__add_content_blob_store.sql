@@ -0,0 +1,34 @@
+-- 내용 주소 기반 문서 내용 저장소
+-- 문서 버전은 내용을 직접 저장하지 않고 내용 해시로 dm_blob을 참조한다.
+-- 브랜치/포크/레포지토리 간 동일한 파일과 되돌린 변경은 한 번만 저장된다.
+
+CREATE TABLE dm_blob (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    content TEXT NOT NULL,
+    byte_size INTEGER NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+COMMENT ON TABLE dm_blob IS 'Content-addressed document content shared by all document versions with the same content';
+COMMENT ON COLUMN dm_blob.content_hash IS 'SHA-256 of the UTF-8 content (base64url, no padding)';
+
+-- 해시가 없는 버전의 해시 계산 (DocumentService.hashContent와 같은 형식)
+UPDATE dm_document_version
+SET content_hash = rtrim(translate(encode(sha256(convert_to(content, 'UTF8')), 'base64'), '+/', '-_'), '=')
+WHERE content_hash IS NULL AND content IS NOT NULL;
+
+INSERT INTO dm_blob (content_hash, content, byte_size, created_at)
+SELECT DISTINCT ON (content_hash) content_hash, content, octet_length(content), created_at
+FROM dm_document_version
+WHERE content IS NOT NULL
+ORDER BY content_hash, created_at;
+
+-- 내용이 없는 버전은 해시도 없음
+UPDATE dm_document_version SET content_hash = NULL WHERE content IS NULL;
+
+ALTER TABLE dm_document_version DROP COLUMN content;
+ALTER TABLE dm_document_version
+    ADD CONSTRAINT fk_document_version_blob FOREIGN KEY (content_hash) REFERENCES dm_blob(content_hash);
+
+-- 같은 내용의 버전 조회 (청크/임베딩 재사용, 고아 blob 정리)
+CREATE INDEX idx_document_version_content_hash ON dm_document_version(content_hash);
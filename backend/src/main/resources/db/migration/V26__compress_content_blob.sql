@@ -0,0 +1,22 @@
+-- 문서 내용 압축 저장
+-- 내용은 애플리케이션에서 Markdown 사전 기반 Deflate로 압축해 BYTEA로 저장한다 (ContentCodec).
+-- 기존 내용은 압축하지 않은 UTF-8(codec 0, compression_level 0)로 옮기고, 재압축 작업이 점진적으로 압축한다.
+
+ALTER TABLE dm_blob
+    ADD COLUMN data BYTEA,
+    ADD COLUMN codec SMALLINT NOT NULL DEFAULT 0,
+    ADD COLUMN compression_level SMALLINT NOT NULL DEFAULT 0;
+
+UPDATE dm_blob SET data = convert_to(content, 'UTF8');
+
+ALTER TABLE dm_blob ALTER COLUMN data SET NOT NULL;
+ALTER TABLE dm_blob DROP COLUMN content;
+
+-- 이미 압축된 값을 TOAST가 다시 압축하지 않도록 (큰 값은 압축 없이 out-of-line 저장)
+ALTER TABLE dm_blob ALTER COLUMN data SET STORAGE EXTERNAL;
+
+COMMENT ON COLUMN dm_blob.data IS 'Content encoded with the codec (0 = UTF-8, 1 = deflate with markdown dictionary v1)';
+COMMENT ON COLUMN dm_blob.compression_level IS 'Deflate level used for the data (0 = not compressed yet)';
+
+-- 재압축 대상 조회용
+CREATE INDEX idx_blob_compression_level ON dm_blob(compression_level);
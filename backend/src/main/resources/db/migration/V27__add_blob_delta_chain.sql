@@ -0,0 +1,13 @@
+-- 역방향 델타 저장 (docst.blob.delta.enabled)
+-- 최신 버전에서 밀려난 내용은 같은 문서의 다음 버전 내용(base_hash)에 대한 델타로 저장할 수 있다.
+-- 전체 내용으로 저장된 blob의 delta_run은 이 blob을 기준으로 복원되는 델타 체인의 최대 길이(상한)이다.
+
+ALTER TABLE dm_blob
+    ADD COLUMN base_hash VARCHAR(64) REFERENCES dm_blob(content_hash),
+    ADD COLUMN delta_run SMALLINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN dm_blob.base_hash IS 'Blob this delta (codec 2) is applied to, NULL for full content';
+COMMENT ON COLUMN dm_blob.delta_run IS 'Upper bound of delta hops resolving to this full blob (keyframe bound)';
+
+-- 기준 blob으로 사용 중인지 확인 (정리 작업)
+CREATE INDEX idx_blob_base_hash ON dm_blob(base_hash) WHERE base_hash IS NOT NULL;
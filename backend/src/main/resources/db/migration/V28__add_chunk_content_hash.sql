@@ -0,0 +1,20 @@
+-- 청크 단위 임베딩 재사용
+-- 청크 내용 해시로 같은 텍스트의 청크를 찾아, 문서가 바뀌어도 바뀌지 않은 청크는 이전 버전의 벡터를 복사한다.
+-- 임베딩 API에는 새로 생기거나 바뀐 청크만 보낸다.
+
+ALTER TABLE dm_doc_chunk ADD COLUMN content_hash VARCHAR(64);
+
+-- 기존 청크의 해시 계산 (ContentHash.hash와 같은 형식)
+UPDATE dm_doc_chunk
+SET content_hash = rtrim(translate(encode(sha256(convert_to(content, 'UTF8')), 'base64'), '+/', '-_'), '=');
+
+ALTER TABLE dm_doc_chunk ALTER COLUMN content_hash SET NOT NULL;
+
+COMMENT ON COLUMN dm_doc_chunk.content_hash IS 'SHA-256 of the UTF-8 chunk content (base64url, no padding)';
+
+-- 같은 텍스트의 임베딩된 청크 조회
+CREATE INDEX idx_doc_chunk_content_hash ON dm_doc_chunk(content_hash);
+
+-- 동기화 결과: 기존 벡터를 재사용할 청크 수와 임베딩 API로 보낼 청크 수
+ALTER TABLE dm_sync_job ADD COLUMN reused_chunks INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE dm_sync_job ADD COLUMN embedded_chunks INTEGER NOT NULL DEFAULT 0;
@@ -229,4 +229,31 @@ class MarkdownChunkerTest {
             assertTrue(chunk.tokenCount() > 0, "All chunks should have token counts");
         });
     }
+
+    @Test
+    @DisplayName("큰 단일 섹션 → 블록 토큰 합계로 분할하고 다음 청크에 오버랩 포함")
+    void chunk_largeSingleSection_splitsWithOverlap() {
+        StringBuilder content = new StringBuilder("# Changelog\n\n");
+        for (int i = 0; i < 500; i++) {
+            content.append("Release 1.").append(i).append(": fixed document sync for docs/guide-")
+                    .append(i).append(".md.\n\n");
+        }
+
+        List<ChunkResult> results = chunker.chunk(content.toString());
+
+        assertTrue(results.size() > 1, "Should produce multiple chunks");
+        for (ChunkResult chunk : results) {
+            int actual = tokenCounter.countTokens(chunk.content());
+            assertTrue(chunk.tokenCount() <= config.getMaxTokens() + 32, "Chunk should stay near maxTokens");
+            assertTrue(Math.abs(chunk.tokenCount() - actual) <= actual / 10,
+                    "Summed token count should be close to the actual count");
+        }
+        for (int i = 0; i + 1 < results.size(); i++) {
+            String[] paragraphs = results.get(i).content().split("\n\n");
+            String lastParagraph = paragraphs[paragraphs.length - 1];
+            assertTrue(results.get(i + 1).content().startsWith(lastParagraph) ||
+                       results.get(i + 1).content().contains("\n\n" + lastParagraph),
+                    "Next chunk should start with the overlap of the previous chunk");
+        }
+    }
 }
@@ -0,0 +1,165 @@
+package com.docst.chunking;
+
+import com.docst.chunking.ReChunkingService.ReChunkingResult;
+import com.docst.document.ContentHash;
+import com.docst.document.repository.DocChunkBatchWriter;
+import com.docst.document.repository.DocChunkBatchWriter.ChunkRow;
+import com.docst.document.repository.DocChunkRepository;
+import com.docst.document.repository.DocChunkRepository.ChunkedVersion;
+import com.docst.document.service.ContentBlobService;
+import com.docst.embedding.DocstEmbeddingService;
+import com.docst.embedding.EmbeddingOutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReChunkingService 단위 테스트.
+ * 기존 청크와 새 청크를 내용 해시로 맞춰 바뀐 청크만 기록하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReChunkingService")
+class ReChunkingServiceTest {
+
+    private static final String CONTENT = """
+            # Guide
+
+            Introduction to the guide with enough words to stand alone as a chunk.
+
+            ## Install
+
+            Run the installer and follow the prompts until the setup completes.
+
+            ## Usage
+
+            Call the API with a project ID and read the response carefully.
+            """;
+    private static final String CONTENT_HASH = ContentHash.hash(CONTENT);
+
+    @Mock private DocChunkRepository docChunkRepository;
+    @Mock private DocChunkBatchWriter docChunkBatchWriter;
+    @Mock private ContentBlobService contentBlobService;
+    @Mock private EmbeddingOutboxService embeddingOutboxService;
+    @Mock private DocstEmbeddingService embeddingService;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private ChunkedVersion version;
+
+    @Captor private ArgumentCaptor<Collection<UUID>> idsCaptor;
+    @Captor private ArgumentCaptor<List<ChunkRow>> rowsCaptor;
+
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID versionId = UUID.randomUUID();
+    private final UUID repositoryId = UUID.randomUUID();
+
+    private MarkdownChunker chunker;
+    private ReChunkingService service;
+
+    @BeforeEach
+    void setUp() {
+        ChunkingConfig config = new ChunkingConfig();
+        config.setMaxTokens(20);
+        config.setMinTokens(1);
+        config.setOverlapTokens(0);
+        chunker = new MarkdownChunker(new TokenCounter(), config);
+        service = new ReChunkingService(docChunkRepository, docChunkBatchWriter, contentBlobService, chunker,
+                embeddingOutboxService, embeddingService, transactionTemplate, 100, 2);
+
+        when(version.getVersionId()).thenReturn(versionId);
+        when(version.getContentHash()).thenReturn(CONTENT_HASH);
+        when(docChunkRepository.countChunkedVersions(projectId)).thenReturn(1L);
+        when(docChunkRepository.findChunkedVersions(eq(projectId), any(), anyInt()))
+                .thenReturn(List.of(version))
+                .thenReturn(List.of());
+        when(contentBlobService.getContent(CONTENT_HASH)).thenReturn(CONTENT);
+    }
+
+    @Test
+    @DisplayName("같은 텍스트의 청크는 유지/이동하고, 새 청크만 추가해 임베딩 대기열에 넣는다")
+    void reChunk_keepsMatchingChunks_insertsAndEnqueuesOnlyNewChunks() {
+        List<ChunkResult> fresh = chunker.chunk(CONTENT);
+        assertThat(fresh).hasSizeGreaterThan(1);
+
+        // 기존: [이전 설정의 청크, 새 첫 청크와 같은 텍스트(인덱스 1)]
+        UUID staleId = UUID.randomUUID();
+        UUID keptId = UUID.randomUUID();
+        ChunkResult first = fresh.get(0);
+        List<ChunkRow> existing = List.of(
+                new ChunkRow(staleId, versionId, 0, "# Guide", null, "stale-hash", 40),
+                new ChunkRow(keptId, versionId, 1, first.headingPath(), null,
+                        ContentHash.hash(first.content()), first.tokenCount()));
+        when(version.getRepositoryId()).thenReturn(repositoryId);
+        when(docChunkBatchWriter.findChunks(List.of(versionId))).thenReturn(Map.of(versionId, existing));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        ReChunkingResult result = service.reChunkProjectAsync(projectId).join();
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.changedVersions()).isEqualTo(1);
+        assertThat(result.deletedChunks()).isEqualTo(1);
+        assertThat(result.insertedChunks()).isEqualTo(fresh.size() - 1);
+
+        verify(docChunkBatchWriter).deleteChunks(idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactly(staleId);
+
+        verify(docChunkBatchWriter).moveChunks(rowsCaptor.capture());
+        assertThat(rowsCaptor.getValue()).singleElement()
+                .satisfies(row -> {
+                    assertThat(row.id()).isEqualTo(keptId);
+                    assertThat(row.chunkIndex()).isZero();
+                });
+
+        verify(docChunkBatchWriter).insertChunks(rowsCaptor.capture());
+        List<ChunkRow> inserted = rowsCaptor.getValue();
+        assertThat(inserted).extracting(ChunkRow::content)
+                .containsExactlyElementsOf(fresh.subList(1, fresh.size()).stream().map(ChunkResult::content).toList());
+
+        List<UUID> insertedIds = new ArrayList<>(inserted.stream().map(ChunkRow::id).toList());
+        verify(embeddingOutboxService).enqueueChunks(insertedIds, repositoryId);
+        verify(embeddingService).deleteEmbeddings(List.of(staleId));
+        assertThat(service.getStatus(projectId).getKeptChunks()).isEqualTo(1);
+        assertThat(service.getStatus(projectId).isInProgress()).isFalse();
+    }
+
+    @Test
+    @DisplayName("청크가 바뀌지 않은 문서 버전은 아무것도 기록하지 않는다")
+    void reChunk_unchangedVersion_writesNothing() {
+        List<ChunkRow> existing = new ArrayList<>();
+        List<ChunkResult> fresh = chunker.chunk(CONTENT);
+        for (int i = 0; i < fresh.size(); i++) {
+            ChunkResult chunk = fresh.get(i);
+            existing.add(new ChunkRow(UUID.randomUUID(), versionId, i, chunk.headingPath(), null,
+                    ContentHash.hash(chunk.content()), chunk.tokenCount()));
+        }
+        when(docChunkBatchWriter.findChunks(List.of(versionId))).thenReturn(Map.of(versionId, existing));
+
+        ReChunkingResult result = service.reChunkProjectAsync(projectId).join();
+
+        assertThat(result.success()).isTrue();
+        assertThat(result.changedVersions()).isZero();
+        assertThat(service.getStatus(projectId).getProcessedVersions()).isEqualTo(1);
+        verifyNoInteractions(transactionTemplate, embeddingOutboxService, embeddingService);
+    }
+}
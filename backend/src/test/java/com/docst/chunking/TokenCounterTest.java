@@ -129,4 +129,32 @@ class TokenCounterTest {
         int count2 = tokenCounter.countTokens(text);
         assertEquals(count1, count2, "Token count should be consistent");
     }
+
+    @Test
+    @DisplayName("최대 토큰 수를 넘는 텍스트 → 최대 토큰 수 이하의 접두사로 잘림")
+    void truncate_longText_returnsPrefixWithinLimit() {
+        String text = "The quick brown fox jumps over the lazy dog. ".repeat(20);
+        String truncated = tokenCounter.truncate(text, 10);
+
+        assertTrue(text.startsWith(truncated), "Truncated text should be a prefix");
+        assertTrue(tokenCounter.countTokens(truncated) <= 10, "Truncated text should fit in max tokens");
+        assertTrue(truncated.length() > 0 && truncated.length() < text.length());
+    }
+
+    @Test
+    @DisplayName("최대 토큰 수 이하 텍스트 → 원본 그대로 반환")
+    void truncate_shortText_returnsOriginal() {
+        String text = "Hello, world!";
+        assertSame(text, tokenCounter.truncate(text, 100));
+    }
+
+    @Test
+    @DisplayName("멀티바이트 문자 텍스트 자르기 → 깨진 문자 없이 접두사 반환")
+    void truncate_multibyteText_keepsCompleteCharacters() {
+        String text = "안녕하세요 👋 세계 🌍 测试 テスト ".repeat(10);
+        for (int maxTokens = 1; maxTokens <= 20; maxTokens++) {
+            String truncated = tokenCounter.truncate(text, maxTokens);
+            assertTrue(text.startsWith(truncated), "Truncated text should be a prefix: " + maxTokens);
+        }
+    }
 }
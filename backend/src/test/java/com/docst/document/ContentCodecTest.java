@@ -0,0 +1,103 @@
+package com.docst.document;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ContentCodec 단위 테스트.
+ */
+@DisplayName("ContentCodec")
+class ContentCodecTest {
+
+    private static final String MARKDOWN = """
+            # 개요
+
+            문서 동기화와 검색 설정을 설명합니다.
+
+            ## 설치
+
+            ```bash
+            ./gradlew bootRun
+            ```
+
+            | 항목 | 설명 |
+            |------|------|
+            | sync | 레포지토리 동기화 |
+            """.repeat(5);
+
+    @Test
+    @DisplayName("압축 후 복원하면 원래 내용과 같다")
+    void encode_decode_roundTrip() {
+        ContentCodec.Encoded encoded = ContentCodec.encode(MARKDOWN, 6);
+
+        assertThat(encoded.codec()).isEqualTo(ContentCodec.DEFLATE_MARKDOWN_V1);
+        assertThat(encoded.data().length).isLessThan(encoded.byteSize());
+        assertThat(encoded.byteSize()).isEqualTo(MARKDOWN.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(ContentCodec.decode(encoded.codec(), encoded.data(), encoded.byteSize())).isEqualTo(MARKDOWN);
+    }
+
+    @Test
+    @DisplayName("높은 레벨로 다시 압축해도 같은 내용으로 복원된다")
+    void encode_coldLevel_roundTrip() {
+        ContentCodec.Encoded encoded = ContentCodec.encode(MARKDOWN, 9);
+
+        assertThat(encoded.level()).isEqualTo(9);
+        assertThat(ContentCodec.decode(encoded.codec(), encoded.data(), encoded.byteSize())).isEqualTo(MARKDOWN);
+    }
+
+    @Test
+    @DisplayName("압축해도 작아지지 않는 내용과 빈 내용은 RAW로 저장한다")
+    void encode_incompressible_storesRaw() {
+        ContentCodec.Encoded tiny = ContentCodec.encode("a", 6);
+        ContentCodec.Encoded empty = ContentCodec.encode("", 6);
+
+        assertThat(tiny.codec()).isEqualTo(ContentCodec.RAW);
+        assertThat(ContentCodec.decode(tiny.codec(), tiny.data(), tiny.byteSize())).isEqualTo("a");
+        assertThat(empty.codec()).isEqualTo(ContentCodec.RAW);
+        assertThat(ContentCodec.decode(empty.codec(), empty.data(), empty.byteSize())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("델타를 기준 내용에 적용하면 이전 버전 내용이 복원된다")
+    void encodeDelta_applyDelta_roundTrip() {
+        String newer = MARKDOWN + "\n## 추가 섹션\n\n새 내용\n";
+        String older = MARKDOWN.replace("레포지토리 동기화", "동기화") + "끝 줄 (개행 없음)";
+
+        ContentCodec.Encoded delta = ContentCodec.encodeDelta(newer, older, 9);
+
+        assertThat(delta).isNotNull();
+        assertThat(delta.codec()).isEqualTo(ContentCodec.DELTA);
+        assertThat(delta.data().length).isLessThan(ContentCodec.encode(older, 9).data().length);
+        assertThat(ContentCodec.applyDelta(newer, delta.data(), delta.byteSize())).isEqualTo(older);
+    }
+
+    @Test
+    @DisplayName("다른 기준 내용에 델타를 적용하면 IllegalStateException")
+    void applyDelta_wrongBase_throws() {
+        ContentCodec.Encoded delta = ContentCodec.encodeDelta(MARKDOWN, MARKDOWN + "추가\n", 6);
+
+        assertThat(delta).isNotNull();
+        assertThatThrownBy(() -> ContentCodec.applyDelta("짧은 내용", delta.data(), delta.byteSize()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ContentCodec.decode(ContentCodec.DELTA, delta.data(), delta.byteSize()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("손상된 데이터나 알 수 없는 코덱이면 IllegalStateException")
+    void decode_corrupted_throws() {
+        ContentCodec.Encoded encoded = ContentCodec.encode(MARKDOWN, 6);
+        byte[] truncated = Arrays.copyOf(encoded.data(), encoded.data().length / 2);
+
+        assertThatThrownBy(() -> ContentCodec.decode(encoded.codec(), truncated, encoded.byteSize()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ContentCodec.decode(99, encoded.data(), encoded.byteSize()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
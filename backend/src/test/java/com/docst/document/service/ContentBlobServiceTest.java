@@ -0,0 +1,134 @@
+package com.docst.document.service;
+
+import com.docst.document.ContentCodec;
+import com.docst.document.ContentCodec.Encoded;
+import com.docst.document.ContentHash;
+import com.docst.document.repository.ContentBlobRepository;
+import com.docst.document.repository.ContentBlobRepository.ChainLink;
+import com.docst.document.repository.DocumentBatchWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * ContentBlobService 단위 테스트.
+ * 전체 내용 blob은 행 하나만 조회하고, 델타 blob일 때만 기준 체인을 조회하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContentBlobService")
+class ContentBlobServiceTest {
+
+    private static final String BASE = IntStream.range(0, 50)
+            .mapToObj(i -> "Line " + i + " of the guide with enough text to compress.")
+            .collect(Collectors.joining("\n", "# Guide\n\n", "\n"));
+    private static final String CONTENT = BASE.replace("Line 25 of", "Changed line 25 of");
+
+    @Mock private ContentBlobRepository contentBlobRepository;
+    @Mock private DocumentBatchWriter documentBatchWriter;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private ContentBlobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ContentBlobService(contentBlobRepository, documentBatchWriter, transactionTemplate,
+                6, 9, 200, 500, Duration.ofMinutes(30), true, 16, DataSize.ofMegabytes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("전체 내용 blob → 델타 체인을 조회하지 않는다")
+    void getContent_fullBlob_readsSingleRow() {
+        String hash = ContentHash.hash(CONTENT);
+        Encoded encoded = ContentCodec.encode(CONTENT, 6);
+        when(contentBlobRepository.findLink(hash))
+                .thenReturn(Optional.of(new Link(hash, null, encoded.data(), encoded.codec(), encoded.byteSize())));
+
+        assertThat(service.getContent(hash)).isEqualTo(CONTENT);
+        verify(contentBlobRepository, never()).findChain(any());
+    }
+
+    @Test
+    @DisplayName("델타 blob → 기준 체인을 조회해 복원하고 결과를 캐시한다")
+    void getContent_deltaBlob_materializesFromBaseChain() {
+        String baseHash = ContentHash.hash(BASE);
+        String hash = ContentHash.hash(CONTENT);
+        Encoded base = ContentCodec.encode(BASE, 6);
+        Encoded delta = ContentCodec.encodeDelta(BASE, CONTENT, 9);
+        assertThat(delta).isNotNull();
+        when(contentBlobRepository.findLink(hash))
+                .thenReturn(Optional.of(new Link(hash, baseHash, delta.data(), ContentCodec.DELTA, delta.byteSize())));
+        when(contentBlobRepository.findChain(baseHash))
+                .thenReturn(List.of(new Link(baseHash, null, base.data(), base.codec(), base.byteSize())));
+
+        assertThat(service.getContent(hash)).isEqualTo(CONTENT);
+        assertThat(service.getContent(hash)).isEqualTo(CONTENT);
+
+        verify(contentBlobRepository, times(1)).findLink(hash);
+        verify(contentBlobRepository, times(1)).findChain(baseHash);
+    }
+
+    @Test
+    @DisplayName("blob 없음 → IllegalArgumentException")
+    void getContent_missingBlob_throws() {
+        when(contentBlobRepository.findLink("missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getContent("missing"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private record Link(String contentHash, String baseHash, byte[] data, int codec, int byteSize)
+            implements ChainLink {
+
+        @Override
+        public String getContentHash() {
+            return contentHash;
+        }
+
+        @Override
+        public String getBaseHash() {
+            return baseHash;
+        }
+
+        @Override
+        public byte[] getData() {
+            return data;
+        }
+
+        @Override
+        public int getCodec() {
+            return codec;
+        }
+
+        @Override
+        public int getByteSize() {
+            return byteSize;
+        }
+
+        @Override
+        public int getDeltaRun() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.docst.document.service;
+
+import com.docst.chunking.ChunkingConfig;
+import com.docst.chunking.MarkdownChunker;
+import com.docst.chunking.TokenCounter;
+import com.docst.document.ContentHash;
+import com.docst.document.Document;
+import com.docst.document.repository.DocumentBatchWriter;
+import com.docst.document.repository.DocumentBatchWriter.DocumentRow;
+import com.docst.document.repository.DocumentBatchWriter.VersionRow;
+import com.docst.document.repository.DocumentRepository;
+import com.docst.document.repository.DocumentVersionRepository;
+import com.docst.document.service.DocumentService.DocumentUpsert;
+import com.docst.document.service.DocumentService.UpsertedDocument;
+import com.docst.git.DocumentAnalyzer;
+import com.docst.gitrepo.repository.RepositoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * DocumentService 일괄 저장 단위 테스트.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DocumentService.upsertDocuments")
+class DocumentServiceBulkUpsertTest {
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private DocumentVersionRepository documentVersionRepository;
+
+    @Mock
+    private RepositoryRepository repositoryRepository;
+
+    @Mock
+    private DocumentBatchWriter documentBatchWriter;
+
+    @Mock
+    private ContentBlobService contentBlobService;
+
+    @Spy
+    private DocumentAnalyzer documentAnalyzer = new DocumentAnalyzer(
+            new MarkdownChunker(new TokenCounter(), new ChunkingConfig()), DataSize.ofMegabytes(1));
+
+    @InjectMocks
+    private DocumentService documentService;
+
+    private static final UUID REPO_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("기존 문서는 ID를 재사용하고, 같은 내용이면 버전을 만들지 않는다")
+    void upsertDocuments_reusesIdsAndSkipsUnchanged() {
+        // Given
+        UUID existingId = UUID.randomUUID();
+        when(repositoryRepository.existsById(REPO_ID)).thenReturn(true);
+        when(documentBatchWriter.findDocumentIds(eq(REPO_ID), any())).thenReturn(Map.of("a.md", existingId));
+        when(documentBatchWriter.findDocumentsWithContentHash(anyMap())).thenReturn(Set.of(existingId));
+        when(documentBatchWriter.insertVersions(any())).thenAnswer(invocation -> {
+            List<VersionRow> rows = invocation.getArgument(0);
+            return rows.stream().map(VersionRow::id).collect(Collectors.toSet());
+        });
+        when(documentRepository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<UUID> ids = invocation.getArgument(0);
+            return StreamSupport.stream(ids.spliterator(), false)
+                    .map(id -> document(id, "b.md"))
+                    .toList();
+        });
+
+        // When
+        List<UpsertedDocument> result = documentService.upsertDocuments(REPO_ID, List.of(
+                upsert("a.md", "# A"),
+                upsert("b.md", "# B")));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DocumentRow>> documentRows = ArgumentCaptor.forClass(List.class);
+        verify(documentBatchWriter).upsertDocuments(documentRows.capture());
+        assertThat(documentRows.getValue()).extracting(DocumentRow::path).containsExactly("a.md", "b.md");
+        assertThat(documentRows.getValue().getFirst().id()).isEqualTo(existingId);
+        assertThat(documentRows.getValue().getFirst().title()).isEqualTo("A");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<VersionRow>> versionRows = ArgumentCaptor.forClass(List.class);
+        verify(documentBatchWriter).insertVersions(versionRows.capture());
+        assertThat(versionRows.getValue()).hasSize(1);
+        assertThat(versionRows.getValue().getFirst().documentId()).isEqualTo(documentRows.getValue().get(1).id());
+        assertThat(versionRows.getValue().getFirst().contentHash()).isEqualTo(ContentHash.hash("# B"));
+
+        // 버전이 참조하는 내용만 blob으로 저장
+        verify(contentBlobService).storeAll(Map.of(ContentHash.hash("# B"), "# B"));
+
+        assertThat(result).extracting(UpsertedDocument::path).containsExactly("b.md");
+        verify(documentRepository).flush();
+    }
+
+    @Test
+    @DisplayName("같은 커밋의 버전이 이미 있어 추가되지 않으면 결과에서 제외한다")
+    void upsertDocuments_excludesConflictingVersions() {
+        // Given
+        when(repositoryRepository.existsById(REPO_ID)).thenReturn(true);
+        when(documentBatchWriter.findDocumentIds(eq(REPO_ID), any())).thenReturn(Map.of());
+        when(documentBatchWriter.findDocumentsWithContentHash(anyMap())).thenReturn(Set.of());
+        when(documentBatchWriter.insertVersions(any())).thenReturn(Set.of());
+        when(documentRepository.findAllById(any())).thenReturn(List.of());
+
+        // When
+        List<UpsertedDocument> result = documentService.upsertDocuments(REPO_ID, List.of(upsert("a.md", "# A")));
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("레포지토리가 없으면 IllegalArgumentException")
+    void upsertDocuments_repositoryNotFound() {
+        when(repositoryRepository.existsById(REPO_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> documentService.upsertDocuments(REPO_ID, List.of(upsert("a.md", "# A"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(documentBatchWriter);
+    }
+
+    private static DocumentUpsert upsert(String path, String content) {
+        return new DocumentUpsert(path, "abc1234", content, "author", "author@example.com",
+                Instant.parse("2025-01-01T00:00:00Z"), "message", null);
+    }
+
+    private static Document document(UUID id, String path) {
+        Document document = mock(Document.class);
+        when(document.getId()).thenReturn(id);
+        when(document.getPath()).thenReturn(path);
+        return document;
+    }
+}
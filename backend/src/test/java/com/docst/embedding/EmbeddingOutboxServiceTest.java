@@ -0,0 +1,34 @@
+package com.docst.embedding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EmbeddingOutboxService 단위 테스트.
+ * 임베딩 실패 시 재시도 지연 계산 검증
+ */
+class EmbeddingOutboxServiceTest {
+
+    private static final Duration BASE = Duration.ofSeconds(30);
+    private static final Duration MAX = Duration.ofHours(1);
+
+    @Test
+    @DisplayName("첫 실패 → 기본 지연")
+    void retryDelay_firstAttempt_usesBase() {
+        assertEquals(BASE, EmbeddingOutboxService.retryDelay(BASE, MAX, 1));
+        assertEquals(BASE, EmbeddingOutboxService.retryDelay(BASE, MAX, 0));
+    }
+
+    @Test
+    @DisplayName("반복 실패 → 2배씩 증가, 상한에서 멈춤")
+    void retryDelay_repeatedFailures_backsOffExponentially() {
+        assertEquals(Duration.ofMinutes(1), EmbeddingOutboxService.retryDelay(BASE, MAX, 2));
+        assertEquals(Duration.ofMinutes(4), EmbeddingOutboxService.retryDelay(BASE, MAX, 4));
+        assertEquals(MAX, EmbeddingOutboxService.retryDelay(BASE, MAX, 10));
+        assertEquals(MAX, EmbeddingOutboxService.retryDelay(BASE, MAX, 1000));
+    }
+}
@@ -0,0 +1,113 @@
+package com.docst.git;
+
+import com.docst.gitrepo.RepositorySyncConfig;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompiledSyncFilter 단위 테스트.
+ * 경로 분류 규칙과 TreeWalk 하위 트리 건너뛰기 검증
+ */
+class CompiledSyncFilterTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    @DisplayName("기본 설정 → 확장자는 대소문자 무시, OpenAPI/Swagger 스펙 포함")
+    void matches_defaultConfig() {
+        CompiledSyncFilter filter = CompiledSyncFilter.compile(RepositorySyncConfig.defaultConfig());
+
+        assertTrue(filter.matches("README.md"));
+        assertTrue(filter.matches("docs/GUIDE.MD"));
+        assertTrue(filter.matches("api/openapi.yaml"));
+        assertTrue(filter.matches("api/petstore-swagger.json"));
+        assertFalse(filter.matches("src/Main.java"));
+    }
+
+    @Test
+    @DisplayName("제외 경로 → 세그먼트 단위로 판정")
+    void matches_excludePaths_useSegmentBoundaries() {
+        CompiledSyncFilter filter = CompiledSyncFilter.compile(RepositorySyncConfig.defaultConfig());
+
+        assertFalse(filter.matches("node_modules/pkg/README.md"));
+        assertFalse(filter.matches("web/node_modules/pkg/README.md"));
+        assertFalse(filter.matches("build/report.md"));
+        assertTrue(filter.matches("building.md"));
+        assertTrue(filter.matches("docs/build-guide.md"));
+    }
+
+    @Test
+    @DisplayName("포함 경로 → 지정 경로 하위만 허용 (앞뒤 슬래시 무시)")
+    void matches_includePaths() {
+        CompiledSyncFilter filter = CompiledSyncFilter.compile(config(List.of("md"), List.of("docs/"), List.of(), List.of()));
+
+        assertTrue(filter.matches("docs/guide.md"));
+        assertFalse(filter.matches("docs2/guide.md"));
+        assertFalse(filter.matches("README.md"));
+    }
+
+    @Test
+    @DisplayName("커스텀 패턴 → 잘못된 패턴은 무시하고 나머지는 적용")
+    void matches_customPatterns() {
+        CompiledSyncFilter filter = CompiledSyncFilter.compile(
+                config(List.of(), List.of(), List.of(), List.of(".*\\.txt", "([unclosed")));
+
+        assertTrue(filter.matches("notes/todo.txt"));
+        assertFalse(filter.matches("README.md"));
+    }
+
+    @Test
+    @DisplayName("TreeFilter → 제외 경로 하위 트리에 진입하지 않음")
+    void toTreeFilter_prunesExcludedSubtrees() throws Exception {
+        RevCommit commit;
+        try (Git git = Git.init().setDirectory(workDir.toFile()).setInitialBranch("main").call()) {
+            write("README.md");
+            write("docs/guide.md");
+            write("node_modules/pkg/README.md");
+            write("web/dist/index.md");
+            git.add().addFilepattern(".").call();
+            commit = git.commit().setMessage("init")
+                    .setAuthor("tester", "tester@example.com")
+                    .setCommitter("tester", "tester@example.com")
+                    .call();
+
+            CompiledSyncFilter filter = CompiledSyncFilter.compile(RepositorySyncConfig.defaultConfig());
+            List<String> visited = new ArrayList<>();
+            try (TreeWalk treeWalk = new TreeWalk(git.getRepository())) {
+                treeWalk.addTree(commit.getTree());
+                treeWalk.setRecursive(true);
+                treeWalk.setFilter(filter.toTreeFilter());
+                while (treeWalk.next()) {
+                    visited.add(treeWalk.getPathString());
+                }
+            }
+
+            assertEquals(List.of("README.md", "docs/guide.md"), visited);
+        }
+    }
+
+    private RepositorySyncConfig config(List<String> extensions, List<String> includePaths,
+                                        List<String> excludePaths, List<String> customPatterns) {
+        return new RepositorySyncConfig(extensions, includePaths, excludePaths, false, false,
+                customPatterns, null, null, null, null);
+    }
+
+    private void write(String path) throws Exception {
+        Path file = workDir.resolve(path);
+        Files.createDirectories(file.getParent() != null ? file.getParent() : workDir);
+        Files.writeString(file, "# " + path, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+package com.docst.git;
+
+import com.docst.chunking.ChunkingConfig;
+import com.docst.chunking.MarkdownChunker;
+import com.docst.chunking.TokenCounter;
+import com.docst.document.DocumentLink.LinkType;
+import com.docst.git.DocumentAnalyzer.DocumentAnalysis;
+import com.docst.git.DocumentAnalyzer.ParsedLink;
+import com.docst.git.DocumentAnalyzer.Section;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * DocumentAnalyzer 단위 테스트.
+ */
+@DisplayName("DocumentAnalyzer")
+class DocumentAnalyzerTest {
+
+    private static final String MARKDOWN = """
+            소개 문단
+
+            # 개요
+
+            [설치 가이드](./install.md)와 [[glossary|용어집]]을 참고하세요.
+
+            ## API
+
+            - [외부 문서](https://example.com/docs)
+            - [위로](#개요)
+
+            ```markdown
+            [코드 안의 링크](./ignored.md)
+            # 코드 안의 헤딩
+            ```
+            """;
+
+    private DocumentAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new DocumentAnalyzer(new MarkdownChunker(new TokenCounter(), new ChunkingConfig()),
+                DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    @DisplayName("한 번의 분석으로 제목, 섹션, 링크, 청크를 만든다")
+    void analyze_extractsTitleSectionsLinksAndChunks() {
+        DocumentAnalysis analysis = analyzer.analyze(MARKDOWN);
+
+        assertThat(analysis.title()).isEqualTo("개요");
+        assertThat(analysis.sections())
+                .extracting(Section::heading, Section::level, Section::startLine)
+                .containsExactly(tuple("", 0, 0), tuple("개요", 1, 2), tuple("API", 2, 6));
+        assertThat(analysis.links())
+                .extracting(ParsedLink::linkText, ParsedLink::linkType, ParsedLink::anchorText, ParsedLink::lineNumber)
+                .containsExactly(
+                        tuple("./install.md", LinkType.INTERNAL, "설치 가이드", 5),
+                        tuple("glossary", LinkType.WIKI, "용어집", 5),
+                        tuple("https://example.com/docs", LinkType.EXTERNAL, "외부 문서", 9),
+                        tuple("#개요", LinkType.ANCHOR, "위로", 10));
+        assertThat(analysis.chunks()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("H1 헤딩이 없으면 제목은 null이다")
+    void analyze_withoutH1_titleIsNull() {
+        DocumentAnalysis analysis = analyzer.analyze("## 소제목\n\n본문\n");
+
+        assertThat(analysis.title()).isNull();
+        assertThat(analysis.sections()).extracting(Section::heading).containsExactly("소제목");
+    }
+
+    @Test
+    @DisplayName("같은 내용은 캐시된 분석 결과를 반환한다")
+    void analyze_sameContent_returnsCachedResult() {
+        DocumentAnalysis first = analyzer.analyze(MARKDOWN);
+        DocumentAnalysis second = analyzer.analyze(new String(MARKDOWN.toCharArray()));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("빈 내용은 빈 분석 결과를 반환한다")
+    void analyze_emptyContent_returnsEmpty() {
+        DocumentAnalysis analysis = analyzer.analyze("");
+
+        assertThat(analysis.title()).isNull();
+        assertThat(analysis.sections()).isEmpty();
+        assertThat(analysis.links()).isEmpty();
+        assertThat(analysis.chunks()).isEmpty();
+    }
+}
@@ -0,0 +1,93 @@
+package com.docst.git;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GitCommitWalker 단위 테스트.
+ * 임시 Git 레포지토리에서 커밋별 변경 blob 조회 검증
+ */
+class GitCommitWalkerTest {
+
+    @TempDir
+    Path workDir;
+
+    private Git git;
+    private GitCommitWalker walker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        git = Git.init().setDirectory(workDir.toFile()).setInitialBranch("main").call();
+        walker = new GitCommitWalker();
+    }
+
+    @Test
+    @DisplayName("최초 커밋 → 모든 파일의 blob 반환")
+    void getChangedBlobs_initialCommit_returnsAllFiles() throws Exception {
+        RevCommit first = commit("first", "README.md", "a", "docs/guide.md", "b");
+
+        Map<String, ObjectId> blobs = walker.getChangedBlobs(git, first.getName());
+
+        assertEquals(2, blobs.size());
+        assertEquals("a", read(blobs.get("README.md")));
+        assertEquals("b", read(blobs.get("docs/guide.md")));
+    }
+
+    @Test
+    @DisplayName("이후 커밋 → 추가/수정된 파일의 새 blob만 반환, 삭제/미변경 파일 제외")
+    void getChangedBlobs_laterCommit_returnsOnlyAddedAndModifiedFiles() throws Exception {
+        commit("first", "README.md", "a", "docs/guide.md", "b", "docs/old.md", "c");
+        write("docs/guide.md", "b2");
+        write("docs/new.md", "d");
+        git.add().addFilepattern("docs").call();
+        git.rm().addFilepattern("docs/old.md").call();
+        RevCommit second = git.commit()
+                .setMessage("second")
+                .setAuthor("tester", "tester@example.com")
+                .setCommitter("tester", "tester@example.com")
+                .call();
+
+        Map<String, ObjectId> blobs = walker.getChangedBlobs(git, second.getName());
+
+        assertEquals(2, blobs.size());
+        assertEquals("b2", read(blobs.get("docs/guide.md")));
+        assertEquals("d", read(blobs.get("docs/new.md")));
+        assertFalse(blobs.containsKey("README.md"));
+        assertFalse(blobs.containsKey("docs/old.md"));
+    }
+
+    private RevCommit commit(String message, String... pathAndContent) throws Exception {
+        for (int i = 0; i < pathAndContent.length; i += 2) {
+            write(pathAndContent[i], pathAndContent[i + 1]);
+            git.add().addFilepattern(pathAndContent[i]).call();
+        }
+        return git.commit()
+                .setMessage(message)
+                .setAuthor("tester", "tester@example.com")
+                .setCommitter("tester", "tester@example.com")
+                .call();
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = workDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private String read(ObjectId blobId) throws IOException {
+        return new String(git.getRepository().open(blobId).getBytes(), StandardCharsets.UTF_8);
+    }
+}
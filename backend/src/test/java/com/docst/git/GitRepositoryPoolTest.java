@@ -0,0 +1,194 @@
+package com.docst.git;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GitRepositoryPool 단위 테스트.
+ * 핸들 재사용, LRU 정리, 무효화, 동시 대여 동작 검증
+ */
+class GitRepositoryPoolTest {
+
+    @TempDir
+    Path rootDir;
+
+    private GitRepositoryPool pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.closeAll();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 레포지토리를 두 번 빌림 → 동일한 JGit Repository 재사용")
+    void acquire_sameRepository_reusesHandle() throws Exception {
+        pool = new GitRepositoryPool(4, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        UUID id = UUID.randomUUID();
+        Path dir = initRepository(id);
+
+        Repository first;
+        try (Git git = pool.acquire(id, dir.toFile())) {
+            first = git.getRepository();
+        }
+        try (Git git = pool.acquire(id, dir.toFile())) {
+            assertSame(first, git.getRepository());
+        }
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    @DisplayName("풀 크기 초과 → 가장 오래된 유휴 핸들 정리")
+    void acquire_overMaxSize_evictsLeastRecentlyUsed() throws Exception {
+        pool = new GitRepositoryPool(1, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        Path firstDir = initRepository(firstId);
+        Path secondDir = initRepository(secondId);
+
+        Repository first;
+        try (Git git = pool.acquire(firstId, firstDir.toFile())) {
+            first = git.getRepository();
+        }
+        try (Git git = pool.acquire(secondId, secondDir.toFile())) {
+            assertEquals(1, pool.size());
+        }
+        try (Git git = pool.acquire(firstId, firstDir.toFile())) {
+            assertNotSame(first, git.getRepository());
+        }
+    }
+
+    @Test
+    @DisplayName("사용 중 무효화 → 반환 후 새 핸들로 다시 열림")
+    void invalidate_whileInUse_reopensOnNextAcquire() throws Exception {
+        pool = new GitRepositoryPool(4, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        UUID id = UUID.randomUUID();
+        Path dir = initRepository(id);
+
+        Git leased = pool.acquire(id, dir.toFile());
+        Repository original = leased.getRepository();
+        pool.invalidate(id);
+        assertEquals(0, pool.size());
+        leased.close();
+
+        try (Git git = pool.acquire(id, dir.toFile())) {
+            assertNotSame(original, git.getRepository());
+        }
+    }
+
+    @Test
+    @DisplayName("유휴 시간 초과 → 주기 정리에서 닫힘")
+    void evictIdle_removesExpiredHandles() throws Exception {
+        pool = new GitRepositoryPool(4, Duration.ZERO, new SimpleMeterRegistry());
+        UUID id = UUID.randomUUID();
+        Path dir = initRepository(id);
+
+        pool.acquire(id, dir.toFile()).close();
+        pool.evictIdle();
+
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    @DisplayName("레포지토리를 여는 중 → 다른 레포지토리 대여가 막히지 않음")
+    void acquire_whileOpeningAnother_doesNotBlock() throws Exception {
+        UUID slowId = UUID.randomUUID();
+        UUID fastId = UUID.randomUUID();
+        Path slowDir = initRepository(slowId);
+        Path fastDir = initRepository(fastId);
+        CountDownLatch opening = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        pool = new BlockingPool(slowDir.toFile(), opening, proceed);
+
+        CompletableFuture<Git> slow = CompletableFuture.supplyAsync(() -> acquireUnchecked(slowId, slowDir));
+        assertTrue(opening.await(5, TimeUnit.SECONDS));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> pool.acquire(fastId, fastDir.toFile()).close());
+
+        proceed.countDown();
+        slow.get(5, TimeUnit.SECONDS).close();
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    @DisplayName("같은 레포지토리를 동시에 엶 → 먼저 등록된 핸들을 함께 사용")
+    void acquire_concurrentOpen_sharesFirstPublishedHandle() throws Exception {
+        UUID id = UUID.randomUUID();
+        Path dir = initRepository(id);
+        CountDownLatch opening = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        pool = new BlockingPool(dir.toFile(), opening, proceed);
+
+        CompletableFuture<Git> slow = CompletableFuture.supplyAsync(() -> acquireUnchecked(id, dir));
+        assertTrue(opening.await(5, TimeUnit.SECONDS));
+
+        try (Git first = pool.acquire(id, dir.toFile())) {
+            proceed.countDown();
+            try (Git second = slow.get(5, TimeUnit.SECONDS)) {
+                assertSame(first.getRepository(), second.getRepository());
+            }
+        }
+        assertEquals(1, pool.size());
+    }
+
+    private Git acquireUnchecked(UUID id, Path dir) {
+        try {
+            return pool.acquire(id, dir.toFile());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path initRepository(UUID id) throws Exception {
+        Path dir = rootDir.resolve(id.toString());
+        Git.init().setDirectory(dir.toFile()).setInitialBranch("main").call().close();
+        return dir;
+    }
+
+    /**
+     * 지정한 디렉토리를 처음 열 때 신호를 보내고 진행 허가를 기다리는 풀.
+     */
+    private static final class BlockingPool extends GitRepositoryPool {
+        private final File blockedDir;
+        private final CountDownLatch opening;
+        private final CountDownLatch proceed;
+
+        private BlockingPool(File blockedDir, CountDownLatch opening, CountDownLatch proceed) {
+            super(4, Duration.ofMinutes(10), new SimpleMeterRegistry());
+            this.blockedDir = blockedDir;
+            this.opening = opening;
+            this.proceed = proceed;
+        }
+
+        @Override
+        Repository open(File localDir) throws IOException {
+            if (localDir.equals(blockedDir) && opening.getCount() > 0) {
+                opening.countDown();
+                try {
+                    proceed.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            return super.open(localDir);
+        }
+    }
+}
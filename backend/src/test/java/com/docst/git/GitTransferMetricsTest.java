@@ -0,0 +1,80 @@
+package com.docst.git;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.transport.URIish;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GitTransferMetrics 단위 테스트.
+ * fetch 전후의 pack 파일 목록으로 전송량을 계산하는지 검증
+ */
+class GitTransferMetricsTest {
+
+    @TempDir
+    Path rootDir;
+
+    private Git origin;
+    private GitTransferMetrics metrics;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        origin = Git.init().setDirectory(rootDir.resolve("origin").toFile()).setInitialBranch("main").call();
+        metrics = new GitTransferMetrics(new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("fetch → 새로 받은 pack 파일 크기만 집계")
+    void newPackBytes_countsOnlyPacksReceivedByFetch() throws Exception {
+        commit("first", "README.md", "a");
+        try (Git mirror = Git.init().setBare(true).setDirectory(rootDir.resolve("mirror").toFile()).call()) {
+            mirror.remoteAdd().setName("origin").setUri(new URIish(rootDir.resolve("origin").toString())).call();
+            mirror.fetch().setRemote("origin").call();
+
+            Set<String> before = metrics.packNames(mirror.getRepository());
+            long bytesBefore = packBytes(mirror);
+            assertFalse(before.isEmpty());
+
+            commit("second", "docs/guide.md", "b");
+            mirror.fetch().setRemote("origin").call();
+
+            long bytes = metrics.newPackBytes(mirror.getRepository(), before);
+            assertTrue(bytes > 0);
+            assertEquals(packBytes(mirror) - bytesBefore, bytes);
+            assertEquals(0L, metrics.newPackBytes(mirror.getRepository(), metrics.packNames(mirror.getRepository())));
+        }
+    }
+
+    private long packBytes(Git git) throws IOException {
+        Path packDir = git.getRepository().getDirectory().toPath().resolve("objects").resolve("pack");
+        try (Stream<Path> files = Files.list(packDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".pack"))
+                    .mapToLong(file -> file.toFile().length())
+                    .sum();
+        }
+    }
+
+    private void commit(String message, String path, String content) throws Exception {
+        Path file = rootDir.resolve("origin").resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        origin.add().addFilepattern(path).call();
+        origin.commit()
+                .setMessage(message)
+                .setAuthor("tester", "tester@example.com")
+                .setCommitter("tester", "tester@example.com")
+                .call();
+    }
+}
@@ -0,0 +1,93 @@
+package com.docst.git;
+
+import com.docst.git.GitService.CommitInfo;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LastCommitIndexer 단위 테스트.
+ * 임시 Git 레포지토리에서 경로별 마지막 수정 커밋 계산 검증
+ */
+class LastCommitIndexerTest {
+
+    @TempDir
+    Path workDir;
+
+    private Git git;
+    private LastCommitIndexer indexer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        git = Git.init().setDirectory(workDir.toFile()).setInitialBranch("main").call();
+        indexer = new LastCommitIndexer();
+    }
+
+    @Test
+    @DisplayName("여러 경로 → 각 경로를 마지막으로 수정한 커밋 반환")
+    void index_returnsLastModifyingCommitPerPath() throws Exception {
+        RevCommit first = commit("first", "README.md", "a", "docs/guide.md", "b");
+        RevCommit second = commit("second", "docs/guide.md", "b2");
+        RevCommit third = commit("third", "other.txt", "x");
+
+        Map<String, CommitInfo> result = indexer.index(
+                git.getRepository(), third.getName(), List.of("README.md", "docs/guide.md"), null);
+
+        assertEquals(first.getName(), result.get("README.md").sha());
+        assertEquals(second.getName(), result.get("docs/guide.md").sha());
+    }
+
+    @Test
+    @DisplayName("중단 커밋 지정 → 이후 커밋에서 변경된 경로만 반환")
+    void index_withStopCommit_returnsOnlyChangedPaths() throws Exception {
+        RevCommit base = commit("base", "README.md", "a", "docs/guide.md", "b");
+        RevCommit next = commit("next", "docs/guide.md", "b2");
+
+        Map<String, CommitInfo> result = indexer.index(
+                git.getRepository(), next.getName(), List.of("README.md", "docs/guide.md"), base.getName());
+
+        assertFalse(result.containsKey("README.md"));
+        assertEquals(next.getName(), result.get("docs/guide.md").sha());
+    }
+
+    @Test
+    @DisplayName("히스토리에 없는 경로 → 결과에서 제외")
+    void index_unknownPath_isOmitted() throws Exception {
+        RevCommit commit = commit("only", "README.md", "a");
+
+        Map<String, CommitInfo> result = indexer.index(
+                git.getRepository(), commit.getName(), List.of("missing.md"), null);
+
+        assertTrue(result.isEmpty());
+    }
+
+    private RevCommit commit(String message, String... pathAndContent) throws Exception {
+        for (int i = 0; i < pathAndContent.length; i += 2) {
+            write(pathAndContent[i], pathAndContent[i + 1]);
+            git.add().addFilepattern(pathAndContent[i]).call();
+        }
+        return git.commit()
+                .setMessage(message)
+                .setAuthor("tester", "tester@example.com")
+                .setCommitter("tester", "tester@example.com")
+                .call();
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = workDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,132 @@
+package com.docst.gitrepo.service;
+
+import com.docst.git.GitService.CommitInfo;
+import com.docst.git.LastCommitIndexer;
+import com.docst.gitrepo.LastCommitIndex;
+import com.docst.gitrepo.LastCommitIndex.CommitEntry;
+import com.docst.gitrepo.repository.LastCommitIndexRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * LastCommitIndexService 단위 테스트.
+ * 이전 인덱스를 증분 확장할 때 저장되는 인덱스가 이전 인덱스의 모든 경로를 이어받는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LastCommitIndexService")
+class LastCommitIndexServiceTest {
+
+    @TempDir
+    Path workDir;
+
+    @Mock private LastCommitIndexRepository lastCommitIndexRepository;
+
+    private final UUID repositoryId = UUID.randomUUID();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private Git git;
+    private LastCommitIndexService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        git = Git.init().setDirectory(workDir.toFile()).setInitialBranch("main").call();
+        service = new LastCommitIndexService(new LastCommitIndexer(), lastCommitIndexRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("변경 경로만 요청 → 저장되는 인덱스는 이전 인덱스의 경로를 모두 담는다")
+    void resolve_extendsBase_persistsMergedIndex() throws Exception {
+        RevCommit first = commit("first", "README.md", "a", "docs/guide.md", "b");
+        RevCommit second = commit("second", "docs/guide.md", "b2");
+        LastCommitIndex base = new LastCommitIndex(null, first.getName(),
+                Map.of("README.md", first.getName(), "docs/guide.md", first.getName()),
+                Map.of(first.getName(), entry(first)));
+        when(lastCommitIndexRepository.findByRepositoryIdAndCommitSha(repositoryId, second.getName()))
+                .thenReturn(Optional.empty());
+        when(lastCommitIndexRepository.findFirstByRepositoryIdOrderByCreatedAtDesc(repositoryId))
+                .thenReturn(Optional.of(base));
+
+        Map<String, CommitInfo> result = service.resolve(git, repositoryId, second.getName(), List.of("docs/guide.md"));
+
+        assertThat(result).containsOnlyKeys("docs/guide.md");
+        assertThat(result.get("docs/guide.md").sha()).isEqualTo(second.getName());
+
+        ArgumentCaptor<String> pathsCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> commitsCaptor = ArgumentCaptor.forClass(String.class);
+        verify(lastCommitIndexRepository).insertIfAbsent(eq(repositoryId), eq(second.getName()),
+                pathsCaptor.capture(), commitsCaptor.capture(), any());
+        Map<String, String> paths = objectMapper.readValue(pathsCaptor.getValue(),
+                new TypeReference<Map<String, String>>() {});
+        Map<String, CommitEntry> commits = objectMapper.readValue(commitsCaptor.getValue(),
+                new TypeReference<Map<String, CommitEntry>>() {});
+        assertThat(paths).containsOnly(
+                Map.entry("README.md", first.getName()),
+                Map.entry("docs/guide.md", second.getName()));
+        assertThat(commits).containsOnlyKeys(first.getName(), second.getName());
+        verify(lastCommitIndexRepository).deleteOlderThan(repositoryId, base.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("같은 커밋의 인덱스가 동시에 저장됨 → 예외 없이 조회 결과를 반환한다")
+    void resolve_concurrentInsert_returnsResolvedPaths() throws Exception {
+        RevCommit first = commit("first", "README.md", "a");
+        when(lastCommitIndexRepository.findByRepositoryIdAndCommitSha(repositoryId, first.getName()))
+                .thenReturn(Optional.empty());
+        when(lastCommitIndexRepository.findFirstByRepositoryIdOrderByCreatedAtDesc(repositoryId))
+                .thenReturn(Optional.empty());
+        when(lastCommitIndexRepository.insertIfAbsent(eq(repositoryId), eq(first.getName()), any(), any(), any()))
+                .thenReturn(0);
+
+        Map<String, CommitInfo> result = service.resolve(git, repositoryId, first.getName(), List.of("README.md"));
+
+        assertThat(result.get("README.md").sha()).isEqualTo(first.getName());
+        verify(lastCommitIndexRepository, never()).save(any());
+    }
+
+    private CommitEntry entry(RevCommit commit) {
+        return new CommitEntry(commit.getAuthorIdent().getName(), commit.getAuthorIdent().getEmailAddress(),
+                commit.getAuthorIdent().getWhenAsInstant(), commit.getFullMessage());
+    }
+
+    private RevCommit commit(String message, String... pathAndContent) throws Exception {
+        for (int i = 0; i < pathAndContent.length; i += 2) {
+            write(pathAndContent[i], pathAndContent[i + 1]);
+            git.add().addFilepattern(pathAndContent[i]).call();
+        }
+        return git.commit()
+                .setMessage(message)
+                .setAuthor("tester", "tester@example.com")
+                .setCommitter("tester", "tester@example.com")
+                .call();
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = workDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+}
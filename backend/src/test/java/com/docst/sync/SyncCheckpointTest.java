@@ -0,0 +1,43 @@
+package com.docst.sync;
+
+import com.docst.sync.SyncJob.SyncStage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SyncCheckpoint 단위 테스트.
+ * 재개 시 체크포인트 커서 이후의 경로만 남기는지 검증
+ */
+class SyncCheckpointTest {
+
+    private static final String COMMIT = "2222222222222222222222222222222222222222";
+
+    @Test
+    @DisplayName("커서 없음 → 전체 경로 반환")
+    void remaining_withoutLastPath_returnsAllPaths() {
+        SyncCheckpoint checkpoint = new SyncCheckpoint(SyncStage.DOCUMENTS, COMMIT, null);
+
+        assertEquals(List.of("a.md", "b.md"), checkpoint.remaining(List.of("a.md", "b.md")));
+    }
+
+    @Test
+    @DisplayName("정렬된 경로 → 커서 다음 경로부터 반환")
+    void remaining_returnsPathsAfterLastPath() {
+        SyncCheckpoint checkpoint = new SyncCheckpoint(SyncStage.DOCUMENTS, COMMIT, "docs/b.md");
+
+        assertEquals(List.of("docs/c.md", "guide.md"),
+                checkpoint.remaining(List.of("README.md", "docs/a.md", "docs/b.md", "docs/c.md", "guide.md")));
+    }
+
+    @Test
+    @DisplayName("커서 경로가 목록에 없음 → 처음부터 다시 처리하지 않고 커서 뒤 경로만 반환")
+    void remaining_lastPathMissing_returnsPathsAfterCursor() {
+        SyncCheckpoint checkpoint = new SyncCheckpoint(SyncStage.DOCUMENTS, COMMIT, "docs/b.md");
+
+        assertEquals(List.of("docs/c.md"), checkpoint.remaining(List.of("docs/a.md", "docs/c.md")));
+    }
+}
@@ -0,0 +1,168 @@
+package com.docst.sync.service;
+
+import com.docst.api.ApiModels.SyncMode;
+import com.docst.chunking.ChunkingService;
+import com.docst.document.service.DocumentLinkService;
+import com.docst.document.service.DocumentService;
+import com.docst.embedding.EmbeddingOutboxService;
+import com.docst.git.CompiledSyncFilter;
+import com.docst.git.DocumentAnalyzer;
+import com.docst.git.DocumentAnalyzer.DocumentAnalysis;
+import com.docst.git.GitCommitWalker;
+import com.docst.git.GitCommitWalker.ChangeType;
+import com.docst.git.GitCommitWalker.ChangedFile;
+import com.docst.git.GitFileScanner;
+import com.docst.git.GitService;
+import com.docst.git.GitService.CommitInfo;
+import com.docst.gitrepo.Repository;
+import com.docst.gitrepo.RepositorySyncConfig;
+import com.docst.gitrepo.repository.RepositoryRepository;
+import com.docst.gitrepo.service.LastCommitIndexService;
+import com.docst.sync.SyncJob.SyncStage;
+import com.docst.sync.repository.SyncJobRepository;
+import jakarta.persistence.EntityManager;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * GitSyncService 단위 테스트.
+ * 문서 배치가 롤백되면 체크포인트와 마지막 동기화 커밋이 롤백된 문서를 지나가지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GitSyncService")
+class GitSyncServiceTest {
+
+    private static final String BRANCH = "main";
+    private static final String LAST_SYNCED = "1111111111111111111111111111111111111111";
+    private static final String LATEST = "2222222222222222222222222222222222222222";
+    private static final String BLOB = "3333333333333333333333333333333333333333";
+    private static final String PATH = "docs/guide.md";
+    private static final String CONTENT = "# Guide";
+
+    @Mock private GitService gitService;
+    @Mock private GitFileScanner gitFileScanner;
+    @Mock private GitCommitWalker gitCommitWalker;
+    @Mock private DocumentService documentService;
+    @Mock private RepositoryRepository repositoryRepository;
+    @Mock private SyncProgressTracker progressTracker;
+    @Mock private ChunkingService chunkingService;
+    @Mock private EmbeddingOutboxService embeddingOutboxService;
+    @Mock private DocumentLinkService documentLinkService;
+    @Mock private LastCommitIndexService lastCommitIndexService;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private SyncJobRepository syncJobRepository;
+    @Mock private DocumentAnalyzer documentAnalyzer;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private EntityManager entityManager;
+    @Mock private Repository repo;
+    @Mock private Git git;
+    @Mock private org.eclipse.jgit.lib.Repository gitRepository;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID repositoryId = UUID.randomUUID();
+
+    private GitSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        // @Value가 주입되지 않으므로 배치 크기 0 → 문서 1개마다 배치
+        DocumentSyncPipeline pipeline = new DocumentSyncPipeline(gitService, documentAnalyzer, documentService,
+                chunkingService, embeddingOutboxService, documentLinkService, progressTracker, syncJobRepository,
+                transactionManager, entityManager);
+        service = new GitSyncService(gitService, gitFileScanner, gitCommitWalker, documentService,
+                repositoryRepository, progressTracker, chunkingService, embeddingOutboxService, documentLinkService,
+                pipeline, lastCommitIndexService, transactionTemplate, syncJobRepository);
+    }
+
+    @Test
+    @DisplayName("INCREMENTAL: 배치가 롤백되면 작업을 실패시키고 진행 커서와 삭제 단계로 넘어가지 않는다")
+    void syncIncremental_batchRolledBack_failsWithoutAdvancingCheckpoint() throws Exception {
+        RepositorySyncConfig config = RepositorySyncConfig.defaultConfig();
+        when(repo.getId()).thenReturn(repositoryId);
+        when(repo.getSyncConfig()).thenReturn(config);
+        when(repositoryRepository.findWithCredentialById(repositoryId)).thenReturn(Optional.of(repo));
+        when(gitService.cloneOrOpen(repo)).thenReturn(git);
+        when(gitService.getLocalPath(repositoryId)).thenReturn(Path.of("/tmp/docst-test"));
+        when(gitService.getLatestCommitSha(git, BRANCH)).thenReturn(LATEST);
+        when(git.getRepository()).thenReturn(gitRepository);
+        when(gitRepository.resolve(LAST_SYNCED)).thenReturn(ObjectId.fromString(LAST_SYNCED));
+        when(gitCommitWalker.getNetChangedFiles(git, LAST_SYNCED, LATEST))
+                .thenReturn(List.of(new ChangedFile(PATH, ChangeType.MODIFIED, null)));
+        when(gitFileScanner.compileFilter(config)).thenReturn(CompiledSyncFilter.compile(config));
+        when(lastCommitIndexService.resolve(git, repositoryId, LATEST, List.of(PATH))).thenReturn(Map.of(
+                PATH, new CommitInfo(LATEST, "author", "author@example.com", Instant.now(), "Update guide")));
+        when(gitService.findBlobId(git, LATEST, PATH)).thenReturn(Optional.of(ObjectId.fromString(BLOB)));
+        when(gitService.readBlob(git, ObjectId.fromString(BLOB))).thenReturn(CONTENT);
+        when(documentAnalyzer.analyze(CONTENT))
+                .thenReturn(new DocumentAnalysis("Guide", List.of(), List.of(), List.of()));
+
+        // 문서 저장 실패로 배치 트랜잭션이 rollback-only가 된다
+        SimpleTransactionStatus batch = new SimpleTransactionStatus(true);
+        when(transactionManager.getTransaction(any())).thenReturn(batch);
+        when(documentService.upsertDocuments(eq(repositoryId), anyList())).thenAnswer(invocation -> {
+            batch.setRollbackOnly();
+            throw new DataIntegrityViolationException("duplicate key");
+        });
+
+        assertThatThrownBy(() -> service.syncRepository(jobId, repositoryId, BRANCH, SyncMode.INCREMENTAL,
+                null, LAST_SYNCED, false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(PATH);
+
+        verify(transactionManager, atLeastOnce()).rollback(batch);
+        verify(transactionManager, never()).commit(any());
+        verify(syncJobRepository).updateStage(eq(jobId), eq(SyncStage.DOCUMENTS), eq(LATEST), any());
+        verify(syncJobRepository, never()).updateStage(eq(jobId), eq(SyncStage.DELETIONS), any(), any());
+        verify(syncJobRepository, never()).updateProgress(any(), anyInt(), anyInt(), any(), any());
+        verify(progressTracker, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("INCREMENTAL: 이전 동기화 커밋을 찾을 수 없어 FULL_SCAN으로 fallback → fetch는 한 번만 수행한다")
+    void syncIncremental_fallbackToFullScan_fetchesOnce() throws Exception {
+        RepositorySyncConfig config = RepositorySyncConfig.defaultConfig();
+        when(repo.getId()).thenReturn(repositoryId);
+        when(repo.getSyncConfig()).thenReturn(config);
+        when(repositoryRepository.findWithCredentialById(repositoryId)).thenReturn(Optional.of(repo));
+        when(gitService.cloneOrOpen(repo)).thenReturn(git);
+        when(gitService.getLocalPath(repositoryId)).thenReturn(Path.of("/tmp/docst-test"));
+        when(gitService.getLatestCommitSha(git, BRANCH)).thenReturn(LATEST);
+        when(git.getRepository()).thenReturn(gitRepository);
+        when(gitRepository.resolve(LAST_SYNCED)).thenReturn(null);
+        when(gitFileScanner.scanDocumentBlobs(git, LATEST, config)).thenReturn(Map.of());
+        when(documentService.findLatestBlobIds(repositoryId)).thenReturn(Map.of());
+
+        String result = service.syncRepository(jobId, repositoryId, BRANCH, SyncMode.INCREMENTAL,
+                null, LAST_SYNCED, false);
+
+        assertThat(result).isEqualTo(LATEST);
+        verify(gitService, times(1)).fetch(git, repo, BRANCH);
+        verify(gitService, times(1)).alignWithRemote(git, BRANCH);
+        verify(syncJobRepository).updateStage(eq(jobId), eq(SyncStage.DOCUMENTS), eq(LATEST), any());
+    }
+}
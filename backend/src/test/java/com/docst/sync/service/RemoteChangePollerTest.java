@@ -0,0 +1,36 @@
+package com.docst.sync.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RemoteChangePoller 단위 테스트.
+ * 확인 간격의 jitter와 실패 시 backoff 계산 검증
+ */
+class RemoteChangePollerTest {
+
+    private static final Duration INTERVAL = Duration.ofMinutes(5);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    @Test
+    @DisplayName("실패 없음 → 기본 간격에 ±jitter 적용")
+    void nextDelay_noFailures_appliesJitter() {
+        assertEquals(Duration.ofMinutes(4), RemoteChangePoller.nextDelay(INTERVAL, 0.2, 0, MAX_BACKOFF, 0.0));
+        assertEquals(Duration.ofMinutes(5), RemoteChangePoller.nextDelay(INTERVAL, 0.2, 0, MAX_BACKOFF, 0.5));
+        assertTrue(RemoteChangePoller.nextDelay(INTERVAL, 0.2, 0, MAX_BACKOFF, 0.999)
+                .compareTo(Duration.ofMinutes(6)) < 0);
+    }
+
+    @Test
+    @DisplayName("연속 실패 → 간격 2배씩 증가, 최대 backoff에서 멈춤")
+    void nextDelay_failures_backsOffExponentially() {
+        assertEquals(Duration.ofMinutes(10), RemoteChangePoller.nextDelay(INTERVAL, 0.0, 1, MAX_BACKOFF, 0.5));
+        assertEquals(Duration.ofMinutes(40), RemoteChangePoller.nextDelay(INTERVAL, 0.0, 3, MAX_BACKOFF, 0.5));
+        assertEquals(MAX_BACKOFF, RemoteChangePoller.nextDelay(INTERVAL, 0.0, 10, MAX_BACKOFF, 0.5));
+        assertEquals(MAX_BACKOFF, RemoteChangePoller.nextDelay(INTERVAL, 0.0, 100, MAX_BACKOFF, 0.5));
+    }
+}
@@ -0,0 +1,116 @@
+package com.docst.sync.service;
+
+import com.docst.api.ApiModels.SyncMode;
+import com.docst.sync.SyncTrigger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SyncJobScheduler 단위 테스트.
+ * 우선순위, 프로젝트별 동시 실행 제한, 레포지토리별 순차 실행 검증
+ */
+class SyncJobSchedulerTest {
+
+    private SyncJobScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업 → 웹훅 INCREMENTAL이 수동 FULL_SCAN보다 먼저 실행")
+    void submit_ordersByTriggerThenMode() throws Exception {
+        scheduler = newScheduler(1, 1);
+        UUID projectId = UUID.randomUUID();
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        scheduler.submit(task(projectId, SyncTrigger.MANUAL, SyncMode.FULL_SCAN, () -> await(blocker)));
+        scheduler.submit(task(projectId, SyncTrigger.MANUAL, SyncMode.FULL_SCAN, record(order, "manual-full", done)));
+        scheduler.submit(task(projectId, SyncTrigger.MANUAL, SyncMode.INCREMENTAL, record(order, "manual-incr", done)));
+        scheduler.submit(task(projectId, SyncTrigger.WEBHOOK, SyncMode.INCREMENTAL, record(order, "webhook-incr", done)));
+        assertEquals(3, scheduler.queueDepth());
+
+        blocker.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("webhook-incr", "manual-incr", "manual-full"), order);
+    }
+
+    @Test
+    @DisplayName("프로젝트 한도 초과 → 다른 프로젝트 작업이 먼저 실행")
+    void submit_perProjectLimit_letsOtherProjectsRun() throws Exception {
+        scheduler = newScheduler(2, 1);
+        UUID busyProject = UUID.randomUUID();
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch otherRan = new CountDownLatch(1);
+
+        scheduler.submit(task(busyProject, SyncTrigger.MANUAL, SyncMode.FULL_SCAN, () -> await(blocker)));
+        scheduler.submit(task(busyProject, SyncTrigger.WEBHOOK, SyncMode.INCREMENTAL, () -> {}));
+        scheduler.submit(task(UUID.randomUUID(), SyncTrigger.MANUAL, SyncMode.FULL_SCAN, otherRan::countDown));
+
+        assertTrue(otherRan.await(5, TimeUnit.SECONDS));
+        assertEquals(1, scheduler.queueDepth());
+        blocker.countDown();
+    }
+
+    @Test
+    @DisplayName("같은 레포지토리 작업 → 동시에 실행하지 않음")
+    void submit_sameRepository_runsSequentially() throws Exception {
+        scheduler = newScheduler(4, 4);
+        UUID projectId = UUID.randomUUID();
+        UUID repositoryId = UUID.randomUUID();
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch secondRan = new CountDownLatch(1);
+
+        scheduler.submit(new SyncJobScheduler.SyncTask(UUID.randomUUID(), projectId, repositoryId,
+                SyncTrigger.MANUAL, SyncMode.FULL_SCAN, () -> await(blocker)));
+        scheduler.submit(new SyncJobScheduler.SyncTask(UUID.randomUUID(), projectId, repositoryId,
+                SyncTrigger.WEBHOOK, SyncMode.INCREMENTAL, secondRan::countDown));
+
+        assertEquals(1, scheduler.runningCount());
+        assertEquals(1, scheduler.queueDepth());
+
+        blocker.countDown();
+        assertTrue(secondRan.await(5, TimeUnit.SECONDS));
+    }
+
+    private SyncJobScheduler newScheduler(int maxConcurrent, int maxConcurrentPerProject) {
+        return new SyncJobScheduler(maxConcurrent, maxConcurrentPerProject,
+                mock(TaskScheduler.class), new SimpleMeterRegistry());
+    }
+
+    private SyncJobScheduler.SyncTask task(UUID projectId, SyncTrigger trigger, SyncMode mode, Runnable action) {
+        return new SyncJobScheduler.SyncTask(UUID.randomUUID(), projectId, UUID.randomUUID(), trigger, mode, action);
+    }
+
+    private Runnable record(List<String> order, String name, CountDownLatch done) {
+        return () -> {
+            order.add(name);
+            done.countDown();
+        };
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
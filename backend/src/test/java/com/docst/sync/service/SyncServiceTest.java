@@ -0,0 +1,103 @@
+package com.docst.sync.service;
+
+import com.docst.api.ApiModels.SyncMode;
+import com.docst.gitrepo.Repository;
+import com.docst.gitrepo.repository.RepositoryRepository;
+import com.docst.project.Project;
+import com.docst.sync.SyncJob;
+import com.docst.sync.SyncJob.SyncStatus;
+import com.docst.sync.repository.SyncJobRepository;
+import com.docst.sync.repository.SyncJobRepository.ChunkCounts;
+import jakarta.persistence.Column;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * SyncService 단위 테스트.
+ * 실행 시작 시 조회한 작업 엔티티를 저장해도 배치마다 누적된 청크 수가 유지되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncService")
+class SyncServiceTest {
+
+    private static final String LATEST = "2222222222222222222222222222222222222222";
+
+    @Mock private SyncJobRepository syncJobRepository;
+    @Mock private RepositoryRepository repositoryRepository;
+    @Mock private GitSyncService gitSyncService;
+    @Mock private SyncProgressTracker progressTracker;
+    @Mock private SyncJobScheduler syncJobScheduler;
+    @Mock private Repository repo;
+    @Mock private Project project;
+    @Mock private ChunkCounts chunkCounts;
+
+    @Captor private ArgumentCaptor<SyncJobScheduler.SyncTask> taskCaptor;
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID repositoryId = UUID.randomUUID();
+
+    private SyncService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SyncService(syncJobRepository, repositoryRepository, gitSyncService, progressTracker,
+                syncJobScheduler);
+        ReflectionTestUtils.setField(service, "maxResumeAttempts", 3);
+    }
+
+    @Test
+    @DisplayName("동기화 완료 → 배치마다 누적된 재사용/임베딩 청크 수를 0으로 덮어쓰지 않는다")
+    void executeSync_complete_keepsChunkCountsAccumulatedByBatches() throws Exception {
+        when(repo.getId()).thenReturn(repositoryId);
+        when(repo.getProject()).thenReturn(project);
+        when(project.getId()).thenReturn(UUID.randomUUID());
+        SyncJob job = new SyncJob(repo, "main", SyncMode.INCREMENTAL, null);
+        ReflectionTestUtils.setField(job, "id", jobId);
+        when(syncJobRepository.findByIdWithRepository(jobId)).thenReturn(Optional.of(job));
+        when(syncJobRepository.claimForResume(jobId, 0)).thenReturn(1);
+        when(gitSyncService.syncRepository(eq(jobId), eq(repositoryId), eq("main"), eq(SyncMode.INCREMENTAL),
+                isNull(), isNull(), anyBoolean(), isNull(), isNull())).thenReturn(LATEST);
+
+        // 파이프라인이 배치 트랜잭션에서 addChunkCounts로 누적한 값
+        when(chunkCounts.getReusedChunks()).thenReturn(3);
+        when(chunkCounts.getEmbeddedChunks()).thenReturn(7);
+        when(syncJobRepository.findChunkCounts(jobId)).thenReturn(Optional.of(chunkCounts));
+
+        assertThat(service.resumeSync(jobId)).isTrue();
+        verify(syncJobScheduler).submit(taskCaptor.capture());
+        taskCaptor.getValue().action().run();
+
+        assertThat(job.getStatus()).isEqualTo(SyncStatus.SUCCEEDED);
+        assertThat(job.getLastSyncedCommit()).isEqualTo(LATEST);
+        assertThat(job.getReusedChunks()).isEqualTo(3);
+        assertThat(job.getEmbeddedChunks()).isEqualTo(7);
+        verify(syncJobRepository, atLeastOnce()).save(job);
+        verify(syncJobScheduler).schedule(any(), any());
+    }
+
+    @Test
+    @DisplayName("청크 수 컬럼은 엔티티 저장 시 갱신하지 않는다 (JPQL 누적 전용)")
+    void chunkCountColumns_areNotUpdatable() throws Exception {
+        assertThat(SyncJob.class.getDeclaredField("reusedChunks").getAnnotation(Column.class).updatable())
+                .isFalse();
+        assertThat(SyncJob.class.getDeclaredField("embeddedChunks").getAnnotation(Column.class).updatable())
+                .isFalse();
+    }
+}
@@ -0,0 +1,94 @@
+package com.docst.webhook;
+
+import com.docst.api.ApiModels.SyncMode;
+import com.docst.sync.PushChangeSet;
+import com.docst.sync.SyncTrigger;
+import com.docst.sync.service.SyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * PushCoalescer 단위 테스트.
+ * 연속 push 병합과 변경 목록 합치기 검증
+ */
+class PushCoalescerTest {
+
+    private SyncService syncService;
+    private TaskScheduler taskScheduler;
+    private PushCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        syncService = mock(SyncService.class);
+        taskScheduler = mock(TaskScheduler.class);
+        doReturn(mock(ScheduledFuture.class)).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        coalescer = new PushCoalescer(syncService, taskScheduler, Duration.ofSeconds(5), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("연속 push → 최신 커밋 대상 동기화 한 번, 변경 목록 병합")
+    void submit_consecutivePushes_startsSingleSync() {
+        UUID repoId = UUID.randomUUID();
+        coalescer.submit(repoId, "main", "b", PushChangeSet.builder("a").upsert("docs/a.md").upsert("docs/b.md").build("b"));
+        coalescer.submit(repoId, "main", "c", PushChangeSet.builder("b").delete("docs/b.md").upsert("docs/c.md").build("c"));
+
+        lastScheduled().run();
+
+        ArgumentCaptor<PushChangeSet> changes = ArgumentCaptor.forClass(PushChangeSet.class);
+        verify(syncService, times(1)).startSync(eq(repoId), eq("main"), eq(SyncMode.INCREMENTAL), isNull(), isNull(),
+                eq(SyncTrigger.WEBHOOK), changes.capture());
+        assertEquals("a", changes.getValue().beforeSha());
+        assertEquals("c", changes.getValue().afterSha());
+        assertEquals(List.of("docs/a.md", "docs/c.md"), changes.getValue().upsertPaths());
+        assertEquals(List.of("docs/b.md"), changes.getValue().deletedPaths());
+        assertEquals(0, coalescer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("이어지지 않는 push → 변경 목록 없이 동기화")
+    void submit_gapBetweenPushes_dropsChangeList() {
+        UUID repoId = UUID.randomUUID();
+        coalescer.submit(repoId, "main", "b", PushChangeSet.builder("a").upsert("docs/a.md").build("b"));
+        coalescer.submit(repoId, "main", "d", PushChangeSet.builder("c").upsert("docs/d.md").build("d"));
+
+        lastScheduled().run();
+
+        verify(syncService).startSync(eq(repoId), eq("main"), eq(SyncMode.INCREMENTAL), isNull(), isNull(),
+                eq(SyncTrigger.WEBHOOK), isNull());
+    }
+
+    @Test
+    @DisplayName("동기화 실행 중 → 대기 상태 유지 후 재시도")
+    void flush_syncInProgress_requeues() {
+        UUID repoId = UUID.randomUUID();
+        when(syncService.startSync(any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("Sync already in progress"));
+        coalescer.submit(repoId, "main", "b", null);
+
+        lastScheduled().run();
+
+        assertEquals(1, coalescer.pendingCount());
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private Runnable lastScheduled() {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, atLeastOnce()).schedule(captor.capture(), any(Instant.class));
+        List<Runnable> scheduled = captor.getAllValues();
+        return scheduled.get(scheduled.size() - 1);
+    }
+}
@@ -39,6 +39,8 @@ import type {
   RagDefaults,
   ReEmbeddingTriggerResponse,
   ReEmbeddingStatusResponse,
+  ReChunkingTriggerResponse,
+  ReChunkingStatusResponse,
   UpdateDocumentRequest,
   UpdateDocumentResponse,
   PushResult,
@@ -365,6 +367,14 @@ export const ragConfigApi = {
 
   getReEmbedStatus: (projectId: string): Promise<ReEmbeddingStatusResponse> =>
     request(`/api/projects/${projectId}/rag-config/re-embed/status`),
+
+  triggerReChunk: (projectId: string): Promise<ReChunkingTriggerResponse> =>
+    request(`/api/projects/${projectId}/rag-config/re-chunk`, {
+      method: 'POST',
+    }),
+
+  getReChunkStatus: (projectId: string): Promise<ReChunkingStatusResponse> =>
+    request(`/api/projects/${projectId}/rag-config/re-chunk/status`),
 };
 
 export { ApiError };
@@ -245,6 +245,8 @@ export interface SyncJob {
   startedAt: string | null;
   finishedAt: string | null;
   createdAt: string;
+  reusedChunks: number;
+  embeddedChunks: number;
 }
 
 export interface SyncRequest {
@@ -550,6 +552,26 @@ export interface ReEmbeddingStatusResponse {
   errorMessage?: string;
 }
 
+export interface ReChunkingTriggerResponse {
+  projectId: string;
+  message: string;
+  inProgress: boolean;
+}
+
+export interface ReChunkingStatusResponse {
+  projectId: string;
+  inProgress: boolean;
+  totalVersions: number;
+  processedVersions: number;
+  progress: number;
+  changedVersions: number;
+  keptChunks: number;
+  insertedChunks: number;
+  deletedChunks: number;
+  failedCount: number;
+  errorMessage?: string;
+}
+
 // ===== Health Check =====
 export interface HealthCheckResponse {
   status: 'UP' | 'DEGRADED' | 'DOWN';
@@ -708,6 +730,10 @@ export interface RepositorySyncConfig {
   scanOpenApi: boolean;
   scanSwagger: boolean;
   customPatterns: string[];
+  syncParallelism: number;
+  embeddingParallelism: number;
+  recordIntermediateVersions: boolean;
+  cloneDepth: number;
 }
 
 export interface UpdateRepositorySyncConfigRequest {
@@ -717,6 +743,10 @@ export interface UpdateRepositorySyncConfigRequest {
   scanOpenApi?: boolean;
   scanSwagger?: boolean;
   customPatterns?: string[];
+  syncParallelism?: number;
+  embeddingParallelism?: number;
+  recordIntermediateVersions?: boolean;
+  cloneDepth?: number;
 }
 
 export interface FolderTreeItem {